@@ -21,6 +21,7 @@ import io.harness.ff.FeatureFlagConfig;
 import io.harness.govern.ProviderModule;
 import io.harness.health.HealthService;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.metrics.MetricRegistryModule;
 import io.harness.mongo.AbstractMongoModule;
 import io.harness.mongo.MongoConfig;
 import io.harness.morphia.MorphiaModule;
@@ -123,6 +124,8 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
     });
 
     modules.add(MorphiaModule.getInstance());
+    // The registry of the admin metrics endpoint
+    modules.add(new MetricRegistryModule(environment.metrics()));
     modules.add(new ChangeDataCaptureModule(changeDataCaptureServiceConfig));
     if (changeDataCaptureServiceConfig.isDebeziumEnabled()) {
       modules.add(new AbstractCfModule() {
@@ -14,6 +14,7 @@ import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.changestreamsframework.ChangeType;
 import io.harness.timescaledb.TimeScaleDBService;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -31,6 +32,10 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractChangeDataHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  // Replaced by the registry of the service on injection, the default serves the handlers created without it
+  @Inject private MetricRegistry metricRegistry = new MetricRegistry();
+  private final ChangeDataBatchWriter batchWriter = new ChangeDataBatchWriter(
+      getClass().getSimpleName(), () -> timeScaleDBService, this::dbOperation, () -> metricRegistry);
 
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
@@ -292,17 +297,12 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
     switch (changeEvent.getChangeType()) {
       case INSERT:
         if (columnValueMapping != null) {
-          if (shouldUpdateOnConflict()) {
-            dbOperation(updateSQL(
-                tableName, columnValueMapping, Collections.singletonMap("id", changeEvent.getUuid()), primaryKeys));
-          } else {
-            dbOperation(insertSQL(tableName, columnValueMapping));
-          }
+          batchWriter.write(tableName, columnValueMapping, primaryKeys, shouldUpdateOnConflict());
         }
         break;
       case UPDATE:
         if (columnValueMapping != null) {
-          dbOperation(updateSQL(tableName, columnValueMapping, Collections.emptyMap(), primaryKeys));
+          batchWriter.write(tableName, columnValueMapping, primaryKeys, true);
         }
         break;
       case DELETE:
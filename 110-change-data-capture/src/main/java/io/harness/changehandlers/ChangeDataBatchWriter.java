@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.changehandlers.AbstractChangeDataHandler.insertSQL;
+import static io.harness.changehandlers.AbstractChangeDataHandler.updateSQL;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the rows the change events of one handler insert or upsert, grouping the rows of the events processed at the
+ * same time into multi-row parameterized statements.
+ *
+ * The rows are grouped by statement shape: table, columns and conflict handling. The thread holding the lock of a
+ * shape writes all the rows queued for it, the threads waiting on the lock find their row written once they get it.
+ * A call returns only once its own row is written, so the resume token of an event is still saved after its rows.
+ * A row on its own is written as it always was, and a batch that fails is written again row by row, so that a bad
+ * event does not fail the others.
+ *
+ * The batch sizes, the batches written again row by row, the rows written or failed and the time rows wait to be
+ * written are recorded in the metric registry under cdc_batch_writer and the handler name.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Slf4j
+class ChangeDataBatchWriter {
+  static final int MAX_BATCH_ROWS = 500;
+  // Postgres takes up to 65535 bind parameters per statement
+  private static final int MAX_BATCH_PARAMETERS = 65535;
+  private static final long STATS_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+  private static final String METRIC_PREFIX = "cdc_batch_writer";
+
+  private final String handlerName;
+  private final Supplier<TimeScaleDBService> timeScaleDBService;
+  private final Predicate<String> singleRowOperation;
+  private final Supplier<MetricRegistry> metricRegistry;
+  private final String batchRowsMetric;
+  private final String fallbackBatchesMetric;
+  private final String writtenRowsMetric;
+  private final String failedRowsMetric;
+  private final String rowLatencyMetric;
+  private final ConcurrentMap<StatementShape, PendingRows> pendingRows = new ConcurrentHashMap<>();
+
+  private final AtomicLong writtenRows = new AtomicLong();
+  private final AtomicLong failedRows = new AtomicLong();
+  private final AtomicLong statements = new AtomicLong();
+  private final AtomicLong totalLagMs = new AtomicLong();
+  private final AtomicLong statsSince = new AtomicLong(System.currentTimeMillis());
+
+  @Value
+  private static class StatementShape {
+    String tableName;
+    List<String> columns;
+    // Empty for a plain insert
+    List<String> conflictKeys;
+  }
+
+  private static class PendingRow {
+    private final Map<String, String> columnValueMapping;
+    private final Map<String, String> values;
+    private final long queuedAt = System.currentTimeMillis();
+    private Boolean written;
+
+    PendingRow(Map<String, String> columnValueMapping, Map<String, String> values) {
+      this.columnValueMapping = columnValueMapping;
+      this.values = values;
+    }
+  }
+
+  private static class PendingRows {
+    private final Queue<PendingRow> rows = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+  }
+
+  /**
+   * @param singleRowOperation runs a literal statement with the retries of the handler
+   * @param metricRegistry the registry the metrics of the writer are recorded in, looked up on each write since the
+   *     handlers are injected after they create their writer
+   */
+  ChangeDataBatchWriter(String handlerName, Supplier<TimeScaleDBService> timeScaleDBService,
+      Predicate<String> singleRowOperation, Supplier<MetricRegistry> metricRegistry) {
+    this.handlerName = handlerName;
+    this.timeScaleDBService = timeScaleDBService;
+    this.singleRowOperation = singleRowOperation;
+    this.metricRegistry = metricRegistry;
+    batchRowsMetric = metricName("batch_rows");
+    fallbackBatchesMetric = metricName("fallback_batches");
+    writtenRowsMetric = metricName("written_rows");
+    failedRowsMetric = metricName("failed_rows");
+    rowLatencyMetric = metricName("row_latency");
+  }
+
+  @VisibleForTesting
+  String metricName(String metric) {
+    return MetricRegistry.name(METRIC_PREFIX, handlerName, metric);
+  }
+
+  /**
+   * Inserts the row, or upserts it on the primary keys if updateOnConflict is set. The columns with a null or blank
+   * value are left out, as by {@link AbstractChangeDataHandler#insertSQL}.
+   *
+   * @return true once the row is written, false if it could not be
+   */
+  boolean write(
+      String tableName, Map<String, String> columnValueMapping, List<String> primaryKeys, boolean updateOnConflict) {
+    Map<String, String> values = new TreeMap<>();
+    columnValueMapping.forEach((column, value) -> {
+      if (value != null && !value.equals("")) {
+        values.put(column, value);
+      }
+    });
+    StatementShape shape = new StatementShape(tableName, new ArrayList<>(values.keySet()),
+        updateOnConflict ? new ArrayList<>(primaryKeys) : Collections.emptyList());
+    PendingRow row = new PendingRow(columnValueMapping, values);
+    PendingRows pending = pendingRows.computeIfAbsent(shape, k -> new PendingRows());
+    pending.rows.add(row);
+
+    pending.lock.lock();
+    try {
+      // The row is queued ahead of the ones added after it, it is written by the time the queue is drained
+      while (row.written == null) {
+        writeBatch(shape, drain(pending.rows, maxBatchRows(shape)));
+      }
+      return row.written;
+    } finally {
+      pending.lock.unlock();
+      logStatsIfDue();
+    }
+  }
+
+  @VisibleForTesting
+  int queuedRows() {
+    return pendingRows.values().stream().mapToInt(pending -> pending.rows.size()).sum();
+  }
+
+  @VisibleForTesting
+  static String batchSQL(String tableName, List<String> columns, List<String> conflictKeys, int rowCount) {
+    String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(",", "(", ")"));
+    StringBuilder batchSQLBuilder = new StringBuilder(
+        String.format("INSERT INTO %s (%s) VALUES %s", tableName, String.join(",", columns), placeholders));
+    for (int i = 1; i < rowCount; i++) {
+      batchSQLBuilder.append(',').append(placeholders);
+    }
+    if (!conflictKeys.isEmpty()) {
+      batchSQLBuilder.append(String.format(" ON CONFLICT (%s) DO UPDATE SET ", String.join(",", conflictKeys)));
+      batchSQLBuilder.append(
+          columns.stream().map(column -> column + "=EXCLUDED." + column).collect(Collectors.joining(",")));
+    }
+    return batchSQLBuilder.toString();
+  }
+
+  private void writeBatch(StatementShape shape, List<PendingRow> batch) {
+    MetricRegistry metrics = metricRegistry.get();
+    metrics.histogram(batchRowsMetric).update(batch.size());
+    try {
+      if (batch.size() == 1 || !writeMultiRow(shape, batch)) {
+        if (batch.size() > 1) {
+          metrics.meter(fallbackBatchesMetric).mark();
+        }
+        for (PendingRow row : batch) {
+          row.written = singleRowOperation.test(singleRowSQL(shape, row));
+          statements.incrementAndGet();
+        }
+      }
+    } finally {
+      // The rows are out of the queue, their callers must not wait on them should the write have thrown
+      long now = System.currentTimeMillis();
+      long written = 0;
+      for (PendingRow row : batch) {
+        if (row.written == null) {
+          row.written = false;
+        }
+        written += row.written ? 1 : 0;
+        (row.written ? writtenRows : failedRows).incrementAndGet();
+        totalLagMs.addAndGet(now - row.queuedAt);
+        metrics.timer(rowLatencyMetric).update(now - row.queuedAt, TimeUnit.MILLISECONDS);
+      }
+      metrics.meter(writtenRowsMetric).mark(written);
+      metrics.meter(failedRowsMetric).mark(batch.size() - written);
+    }
+  }
+
+  private boolean writeMultiRow(StatementShape shape, List<PendingRow> batch) {
+    TimeScaleDBService dbService = timeScaleDBService.get();
+    if (!dbService.isValid()) {
+      return false;
+    }
+    Collection<PendingRow> distinctRows =
+        shape.getConflictKeys().isEmpty() ? batch : latestByConflictKeys(shape, batch);
+    String query = batchSQL(shape.getTableName(), shape.getColumns(), shape.getConflictKeys(), distinctRows.size());
+    try (Connection dbConnection = dbService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(query)) {
+      int index = 1;
+      for (PendingRow row : distinctRows) {
+        for (String column : shape.getColumns()) {
+          // Sent untyped like the quoted literals of the single row statements, for the server to cast
+          statement.setObject(index++, row.values.get(column), Types.OTHER);
+        }
+      }
+      statement.execute();
+      statements.incrementAndGet();
+    } catch (SQLException e) {
+      log.warn("Failed to write a batch of {} rows into {}, writing them one by one", batch.size(),
+          shape.getTableName(), e);
+      return false;
+    }
+    batch.forEach(row -> row.written = true);
+    return true;
+  }
+
+  // A statement cannot upsert the same row twice, the latest values of a row are the ones it would end up with anyway
+  private static Collection<PendingRow> latestByConflictKeys(StatementShape shape, List<PendingRow> batch) {
+    Map<List<String>, PendingRow> latest = new LinkedHashMap<>();
+    for (PendingRow row : batch) {
+      List<String> key = shape.getConflictKeys().stream().map(row.values::get).collect(Collectors.toList());
+      latest.remove(key);
+      latest.put(key, row);
+    }
+    return latest.values();
+  }
+
+  private static String singleRowSQL(StatementShape shape, PendingRow row) {
+    if (shape.getConflictKeys().isEmpty()) {
+      return insertSQL(shape.getTableName(), row.columnValueMapping);
+    }
+    return updateSQL(shape.getTableName(), row.columnValueMapping, new HashMap<>(), shape.getConflictKeys());
+  }
+
+  private static int maxBatchRows(StatementShape shape) {
+    return Math.max(1, Math.min(MAX_BATCH_ROWS, MAX_BATCH_PARAMETERS / Math.max(1, shape.getColumns().size())));
+  }
+
+  private static List<PendingRow> drain(Queue<PendingRow> rows, int maxRows) {
+    List<PendingRow> batch = new ArrayList<>();
+    PendingRow row;
+    while (batch.size() < maxRows && (row = rows.poll()) != null) {
+      batch.add(row);
+    }
+    return batch;
+  }
+
+  private void logStatsIfDue() {
+    long since = statsSince.get();
+    long now = System.currentTimeMillis();
+    if (now - since < STATS_INTERVAL_MS || !statsSince.compareAndSet(since, now)) {
+      return;
+    }
+    long written = writtenRows.getAndSet(0);
+    long failed = failedRows.getAndSet(0);
+    long lagMs = totalLagMs.getAndSet(0);
+    long rows = written + failed;
+    log.info("ChangeDataBatchWriter stats, handler={}, written={}, failed={}, statements={}, rowsPerSecond={}, "
+            + "avgLagMs={}",
+        handlerName, written, failed, statements.getAndSet(0), rows * 1000 / (now - since),
+        rows == 0 ? 0 : lagMs / rows);
+  }
+}
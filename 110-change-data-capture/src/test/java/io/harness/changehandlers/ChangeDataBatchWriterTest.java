@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.codahale.metrics.MetricRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ChangeDataBatchWriterTest extends CategoryTest {
+  private static final String TABLE = "cd_stage_execution";
+
+  private final TimeScaleDBService timeScaleDBService = mock(TimeScaleDBService.class);
+  private final Connection connection = mock(Connection.class);
+  private final PreparedStatement statement = mock(PreparedStatement.class);
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final List<String> singleRowQueries = new CopyOnWriteArrayList<>();
+  private final CountDownLatch firstRowWritten = new CountDownLatch(1);
+  private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+  private ChangeDataBatchWriter batchWriter;
+
+  @Before
+  public void setUp() throws SQLException {
+    doReturn(true).when(timeScaleDBService).isValid();
+    doReturn(connection).when(timeScaleDBService).getDBConnection();
+    doReturn(statement).when(connection).prepareStatement(anyString());
+    // The first row holds the lock until released, so that the rows written meanwhile pile up
+    batchWriter = new ChangeDataBatchWriter("handler", () -> timeScaleDBService, query -> {
+      if (singleRowQueries.isEmpty()) {
+        singleRowQueries.add(query);
+        awaitQuietly(firstRowWritten);
+        return true;
+      }
+      singleRowQueries.add(query);
+      return true;
+    }, () -> metricRegistry);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchSQL() {
+    assertThat(ChangeDataBatchWriter.batchSQL(TABLE, List.of("id", "name"), List.of("id"), 2))
+        .isEqualTo("INSERT INTO cd_stage_execution (id,name) VALUES (?,?),(?,?) "
+            + "ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,name=EXCLUDED.name");
+    assertThat(ChangeDataBatchWriter.batchSQL(TABLE, List.of("id"), Collections.emptyList(), 1))
+        .isEqualTo("INSERT INTO cd_stage_execution (id) VALUES (?)");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConcurrentRowsAreWrittenInOneStatement() throws Exception {
+    List<Future<Boolean>> results = writeWhileFirstRowIsPending("id1", "id2", "id3", "id3");
+
+    assertThat(results).allMatch(this::getQuietly);
+    assertThat(singleRowQueries).hasSize(1);
+    assertThat(singleRowQueries.get(0)).startsWith("INSERT INTO cd_stage_execution (").contains("'id0'");
+    // The two rows of id3 are folded into the latest one, a statement cannot upsert a row twice
+    verify(connection).prepareStatement("INSERT INTO cd_stage_execution (id,name) VALUES (?,?),(?,?),(?,?) "
+        + "ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,name=EXCLUDED.name");
+    verify(statement).setObject(1, "id1", Types.OTHER);
+    verify(statement).setObject(5, "id3", Types.OTHER);
+    verify(statement).execute();
+    assertThat(metricRegistry.histogram(batchWriter.metricName("batch_rows")).getSnapshot().getValues())
+        .containsExactly(1, 4);
+    assertThat(metricRegistry.meter(batchWriter.metricName("written_rows")).getCount()).isEqualTo(5);
+    assertThat(metricRegistry.timer(batchWriter.metricName("row_latency")).getCount()).isEqualTo(5);
+    assertThat(metricRegistry.meter(batchWriter.metricName("fallback_batches")).getCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedBatchIsWrittenRowByRow() throws Exception {
+    doThrow(new SQLException("failed")).when(statement).execute();
+
+    List<Future<Boolean>> results = writeWhileFirstRowIsPending("id1", "id2");
+
+    assertThat(results).allMatch(this::getQuietly);
+    assertThat(singleRowQueries).hasSize(3);
+    assertThat(singleRowQueries.subList(1, 3)).anyMatch(query -> query.contains("'id1'"));
+    assertThat(singleRowQueries.subList(1, 3)).anyMatch(query -> query.contains("'id2'"));
+    assertThat(metricRegistry.meter(batchWriter.metricName("fallback_batches")).getCount()).isEqualTo(1);
+    assertThat(metricRegistry.meter(batchWriter.metricName("failed_rows")).getCount()).isZero();
+  }
+
+  private List<Future<Boolean>> writeWhileFirstRowIsPending(String... ids) throws InterruptedException {
+    List<Future<Boolean>> results = new ArrayList<>();
+    results.add(executorService.submit(() -> write("id0")));
+    while (singleRowQueries.isEmpty()) {
+      Thread.sleep(10);
+    }
+    for (String id : ids) {
+      results.add(executorService.submit(() -> write(id)));
+      // In order, the folded rows keep the latest values
+      while (batchWriter.queuedRows() < results.size() - 1) {
+        Thread.sleep(10);
+      }
+    }
+    firstRowWritten.countDown();
+    return results;
+  }
+
+  private boolean write(String id) {
+    Map<String, String> columnValueMapping = new HashMap<>();
+    columnValueMapping.put("id", id);
+    columnValueMapping.put("name", "name-" + id);
+    return batchWriter.write(TABLE, columnValueMapping, List.of("id"), true);
+  }
+
+  private boolean getQuietly(Future<Boolean> result) {
+    try {
+      return result.get(30, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
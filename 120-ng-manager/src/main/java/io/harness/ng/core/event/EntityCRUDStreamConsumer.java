@@ -56,7 +56,9 @@ import io.harness.annotations.dev.ProductModule;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.RedisKeyedMessageDispatcher;
 import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
@@ -79,7 +81,9 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
-  private final Consumer redisConsumer;
+  // Messages of different entity types or accounts are processed in parallel, the ones of an entity keep their order
+  private static final int DISPATCH_PARALLELISM = 8;
+  private final RedisKeyedMessageDispatcher messageDispatcher;
   private final Map<String, MessageProcessor> processorMap;
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
@@ -123,9 +127,11 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
       @Named(DEPLOYMENT_ACCOUNTS + ENTITY_CRUD) MessageListener deploymentAccountsCRUDStreamListener,
       @Named(DEPLOYMENT_SUMMARY_NG + ENTITY_CRUD) MessageListener deploymentSummaryNGCRUDStreamListener,
       @Named(INSTANCE_DEPLOYMENT_INFO + ENTITY_CRUD) MessageListener instanceDeploymentInfoCRUDStreamListener,
-      @Named(INSTANCE_NG + ENTITY_CRUD) MessageListener instanceNGCRUDStreamListener, QueueController queueController) {
-    this.redisConsumer = redisConsumer;
+      @Named(INSTANCE_NG + ENTITY_CRUD) MessageListener instanceNGCRUDStreamListener, QueueController queueController,
+      RedisEventMetricPublisher redisEventMetricPublisher) {
     this.queueController = queueController;
+    this.messageDispatcher = new RedisKeyedMessageDispatcher(redisConsumer, ENTITY_CRUD,
+        RedisKeyedMessageDispatcher.ENTITY_ORDERING_KEY, DISPATCH_PARALLELISM, redisEventMetricPublisher);
     messageListenersList = new ArrayList<>();
     messageListenersList.add(projectEntityCRUDStreamListener);
     messageListenersList.add(gitSyncProjectCleanup);
@@ -188,6 +194,7 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
       log.error("Entity crud stream consumer unexpectedly stopped", ex);
     } finally {
       SecurityContextBuilder.unsetCompleteContext();
+      messageDispatcher.shutdown();
     }
   }
 
@@ -200,17 +207,17 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
     }
   }
 
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
+  private void pollAndProcessMessages() throws InterruptedException {
+    messageDispatcher.readAndProcess(Duration.ofSeconds(WAIT_TIME_IN_SECONDS), this::handleDispatchedMessage);
+  }
+
+  // Dispatched messages are handled on the dispatcher threads, which need the same context as the consumer thread
+  private boolean handleDispatchedMessage(Message message) {
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+    try {
+      return handleMessage(message);
+    } finally {
+      SecurityContextBuilder.unsetCompleteContext();
     }
   }
 
@@ -13,7 +13,9 @@ import static io.harness.eventsframework.EventsFrameworkConstants.SETUP_USAGE;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.RedisKeyedMessageDispatcher;
 import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
@@ -30,15 +32,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SetupUsageStreamConsumer extends RedisTraceConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
-  private final Consumer redisConsumer;
+  // Messages of different accounts are processed in parallel, the ones of an account keep their order
+  private static final int DISPATCH_PARALLELISM = 8;
+  private final RedisKeyedMessageDispatcher messageDispatcher;
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
 
   @Inject
   public SetupUsageStreamConsumer(@Named(SETUP_USAGE) Consumer redisConsumer,
-      @Named(SETUP_USAGE) MessageListener setupUsageChangeEventMessageProcessor, QueueController queueController) {
-    this.redisConsumer = redisConsumer;
+      @Named(SETUP_USAGE) MessageListener setupUsageChangeEventMessageProcessor, QueueController queueController,
+      RedisEventMetricPublisher redisEventMetricPublisher) {
     this.queueController = queueController;
+    this.messageDispatcher = new RedisKeyedMessageDispatcher(redisConsumer, SETUP_USAGE,
+        RedisKeyedMessageDispatcher.ACCOUNT_ORDERING_KEY, DISPATCH_PARALLELISM, redisEventMetricPublisher);
     messageListenersList = new ArrayList<>();
     messageListenersList.add(setupUsageChangeEventMessageProcessor);
   }
@@ -63,6 +69,7 @@ public class SetupUsageStreamConsumer extends RedisTraceConsumer {
       log.error("Setup Usage consumer unexpectedly stopped", ex);
     } finally {
       SecurityContextBuilder.unsetCompleteContext();
+      messageDispatcher.shutdown();
     }
   }
 
@@ -75,17 +82,17 @@ public class SetupUsageStreamConsumer extends RedisTraceConsumer {
     }
   }
 
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
+  private void pollAndProcessMessages() throws InterruptedException {
+    messageDispatcher.readAndProcess(Duration.ofSeconds(WAIT_TIME_IN_SECONDS), this::handleDispatchedMessage);
+  }
+
+  // Dispatched messages are handled on the dispatcher threads, which need the same context as the consumer thread
+  private boolean handleDispatchedMessage(Message message) {
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+    try {
+      return handleMessage(message);
+    } finally {
+      SecurityContextBuilder.unsetCompleteContext();
     }
   }
 
@@ -25,7 +25,26 @@ public enum DelegateMetric {
       DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
   DELEGATE_CONNECTED("delegate_connected", "Delegate connected", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
   RESOURCE_CONSUMPTION_ABOVE_THRESHOLD("delegate_resource_consumption_above_threshold",
-      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
+      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_BUFFERED_BYTES("log_streaming_buffered_bytes", "Bytes of task logs waiting to be streamed",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_DROPPED_LINES("log_streaming_dropped_lines", "Task log lines dropped because the buffer was full",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_FLUSH_LATENCY("log_streaming_flush_latency", "Longest flush of the task logs since the last poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  DELEGATE_LOG_QUEUE_DEPTH("delegate_log_queue_depth", "Task logs waiting to be processed by the delegate log service",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  DELEGATE_LOG_DROPPED("delegate_log_dropped", "Task logs dropped because the log queue was full since the last poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  EVENT_TAILER_SKIPPED_MESSAGES("event_tailer_skipped_messages",
+      "Events skipped because the event service rejected them since the last poll", DelegateMetricType.GAUGE,
+      DELEGATE_NAME_LABEL),
+  K8S_WATCH_CACHED_OBJECTS("k8s_watch_cached_objects", "Kubernetes objects cached by the cluster watches",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  K8S_WATCH_RESTARTS("k8s_watch_restarts", "Kubernetes watches started by the cluster watches since the last poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  K8S_WATCH_API_CALLS("k8s_watch_api_calls", "Kubernetes api server calls of the cluster watches since the last poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
 
   private final String metricName;
   private final String description;
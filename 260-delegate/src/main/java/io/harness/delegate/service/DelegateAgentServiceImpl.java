@@ -49,6 +49,15 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
 import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_CONNECTED;
+import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_LOG_DROPPED;
+import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_LOG_QUEUE_DEPTH;
+import static io.harness.delegate.metrics.DelegateMetric.EVENT_TAILER_SKIPPED_MESSAGES;
+import static io.harness.delegate.metrics.DelegateMetric.K8S_WATCH_API_CALLS;
+import static io.harness.delegate.metrics.DelegateMetric.K8S_WATCH_CACHED_OBJECTS;
+import static io.harness.delegate.metrics.DelegateMetric.K8S_WATCH_RESTARTS;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_BUFFERED_BYTES;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_DROPPED_LINES;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_FLUSH_LATENCY;
 import static io.harness.delegate.metrics.DelegateMetric.RESOURCE_CONSUMPTION_ABOVE_THRESHOLD;
 import static io.harness.delegate.metrics.DelegateMetric.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_COMPLETED;
@@ -132,6 +141,7 @@ import io.harness.delegate.service.common.DelegateTaskExecutionData;
 import io.harness.delegate.service.common.ManagerCallHelper;
 import io.harness.delegate.service.handlermapping.HandlerMappingServer;
 import io.harness.delegate.service.handlermapping.context.Context;
+import io.harness.delegate.service.tasklogging.DelegateLogServiceImpl;
 import io.harness.delegate.task.ActivityAccess;
 import io.harness.delegate.task.Cd1ApplicationAccess;
 import io.harness.delegate.task.TaskParameters;
@@ -156,6 +166,7 @@ import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.network.FibonacciBackOff;
 import io.harness.network.Http;
 import io.harness.perpetualtask.PerpetualTaskWorker;
+import io.harness.perpetualtask.k8s.watch.K8sWatchServiceDelegate;
 import io.harness.reflection.ExpressionReflectionUtils;
 import io.harness.rest.RestResponse;
 import io.harness.security.TokenGenerator;
@@ -363,6 +374,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private EncryptionService encryptionService;
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
+  @Inject(optional = true) @Nullable private K8sWatchServiceDelegate k8sWatchServiceDelegate;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceAgentClient delegateServiceAgentClient;
@@ -2857,6 +2869,30 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = taskExecutor.getActiveCount();
     metricRegistry.recordGaugeValue(
         TASKS_CURRENTLY_EXECUTING.getMetricName(), new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    metricRegistry.recordGaugeValue(LOG_STREAMING_BUFFERED_BYTES.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.getBufferedBytes());
+    metricRegistry.recordGaugeValue(LOG_STREAMING_DROPPED_LINES.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.getDroppedLines());
+    metricRegistry.recordGaugeValue(LOG_STREAMING_FLUSH_LATENCY.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.getAndResetMaxFlushLatencyMillis());
+    if (delegateLogService instanceof DelegateLogServiceImpl) {
+      metricRegistry.recordGaugeValue(DELEGATE_LOG_QUEUE_DEPTH.getMetricName(), new String[] {DELEGATE_NAME},
+          ((DelegateLogServiceImpl) delegateLogService).getPendingLogCount());
+      metricRegistry.recordGaugeValue(DELEGATE_LOG_DROPPED.getMetricName(), new String[] {DELEGATE_NAME},
+          ((DelegateLogServiceImpl) delegateLogService).getAndResetDroppedLogCount());
+    }
+    if (chronicleEventTailer != null) {
+      metricRegistry.recordGaugeValue(EVENT_TAILER_SKIPPED_MESSAGES.getMetricName(), new String[] {DELEGATE_NAME},
+          chronicleEventTailer.getAndResetSkippedMessageCount());
+    }
+    if (k8sWatchServiceDelegate != null) {
+      metricRegistry.recordGaugeValue(K8S_WATCH_CACHED_OBJECTS.getMetricName(), new String[] {DELEGATE_NAME},
+          k8sWatchServiceDelegate.getCachedObjectCount());
+      metricRegistry.recordGaugeValue(K8S_WATCH_RESTARTS.getMetricName(), new String[] {DELEGATE_NAME},
+          k8sWatchServiceDelegate.getAndResetWatchRestarts());
+      metricRegistry.recordGaugeValue(K8S_WATCH_API_CALLS.getMetricName(), new String[] {DELEGATE_NAME},
+          k8sWatchServiceDelegate.getAndResetApiCalls());
+    }
   }
 
   public void sendTaskResponse(final String taskId, final DelegateTaskResponse taskResponse) {
@@ -64,10 +64,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.validation.executable.ValidateOnExecution;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
@@ -92,6 +97,18 @@ public class DelegateLogServiceImpl implements DelegateLogService {
    * Maximum number of entries to keep in the #activityLogSize Map 10^6
    */
   static final int MAX_ACTIVITIES = 1000000;
+  /**
+   * Number of entries an account batches before they are dispatched without waiting for the batch to expire
+   */
+  static final int MAX_BATCH_SIZE = 1000;
+  /**
+   * Queue depth at which the pending entries are processed without waiting for the next tick
+   */
+  private static final int PROCESS_TRIGGER_SIZE = 500;
+  /**
+   * Queue depth beyond which the logs saved are dropped, until the processing thread catches up
+   */
+  static final int MAX_PENDING_LOGS = 100000;
   public static final String TRUNCATION_MESSAGE = "\nThe Above Log Message Has Been Truncated Due To Size Limit\n";
 
   private final String LOGS_COMMON_MESSAGE_ERROR = "Unexpected Cache eviction accountId={}, logs={}, removalCause={}";
@@ -104,6 +121,7 @@ public class DelegateLogServiceImpl implements DelegateLogService {
   private final Subject<LogSanitizer> logSanitizerSubject = new Subject<>();
   private VerificationServiceClient verificationServiceClient;
   private final KryoSerializer kryoSerializer;
+  // Only touched by processPendingLogs, which runs on one thread at a time
   private HashMap<String, Integer> activityLogSize = new LinkedHashMap<String, Integer>() {
     @Override
     protected boolean removeEldestEntry(Map.Entry eldest) {
@@ -112,6 +130,14 @@ public class DelegateLogServiceImpl implements DelegateLogService {
   };
   @Inject private CVNextGenServiceClient cvNextGenServiceClient;
 
+  // Callers only enqueue, sanitizing, size accounting and batching happen on the processing thread in queue order
+  private final Queue<Runnable> pendingLogs = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingLogCount = new AtomicInteger();
+  private final AtomicLong droppedLogCount = new AtomicLong();
+  private final AtomicBoolean processingTriggered = new AtomicBoolean();
+  private final Object processingLock = new Object();
+  private final ScheduledExecutorService processingExecutor;
+
   @Inject
   public DelegateLogServiceImpl(DelegateAgentManagerClient delegateAgentManagerClient,
       @Named("asyncExecutor") ExecutorService executorService, VerificationServiceClient verificationServiceClient,
@@ -141,28 +167,49 @@ public class DelegateLogServiceImpl implements DelegateLogService {
 
     this.kryoSerializer = kryoSerializer;
 
-    Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("delegate-log-service").build())
-        .scheduleAtFixedRate(
-            ()
-                -> {
-              this.cache.cleanUp();
-              this.apiCallLogCache.cleanUp();
-              this.cvActivityLogCache.cleanUp();
-            },
-            1000, 1000,
-            TimeUnit.MILLISECONDS); // periodic cleanup for expired keys
+    this.processingExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("delegate-log-service").build());
+    // Expired batches are dispatched by the cleanup at the end of every run
+    processingExecutor.scheduleWithFixedDelay(this::processPendingLogs, 100, 100, TimeUnit.MILLISECONDS);
   }
 
   @Override
-  public synchronized void save(String accountId, Log logObject) {
+  public void save(String accountId, Log logObject) {
+    // The caller may reuse its log once this returns, the processing thread works on a copy
+    Log logCopy = copyOf(logObject);
     if (isNotEmpty(accountId)) {
-      logObject.setAccountId(accountId);
+      logCopy.setAccountId(accountId);
     }
 
-    if (isBlank(logObject.getActivityId()) || isBlank(logObject.getCommandUnitName())) {
+    if (isBlank(logCopy.getActivityId()) || isBlank(logCopy.getCommandUnitName())) {
       log.info("Logging stack while saving the execution logObject ", new Exception(""));
     }
 
+    // The final line of a command unit carries its status, it is never dropped
+    CommandExecutionStatus status = logCopy.getCommandExecutionStatus();
+    enqueue(() -> sanitizeAndSave(accountId, logCopy), status == null || status == RUNNING);
+  }
+
+  private static Log copyOf(Log logObject) {
+    Log logCopy = new Log();
+    logCopy.setUuid(logObject.getUuid());
+    logCopy.setAppId(logObject.getAppId());
+    logCopy.setCreatedBy(logObject.getCreatedBy());
+    logCopy.setCreatedAt(logObject.getCreatedAt());
+    logCopy.setLastUpdatedBy(logObject.getLastUpdatedBy());
+    logCopy.setLastUpdatedAt(logObject.getLastUpdatedAt());
+    logCopy.setActivityId(logObject.getActivityId());
+    logCopy.setHostName(logObject.getHostName());
+    logCopy.setCommandUnitName(logObject.getCommandUnitName());
+    logCopy.setLogLine(logObject.getLogLine());
+    logCopy.setLinesCount(logObject.getLinesCount());
+    logCopy.setLogLevel(logObject.getLogLevel());
+    logCopy.setCommandExecutionStatus(logObject.getCommandExecutionStatus());
+    logCopy.setAccountId(logObject.getAccountId());
+    return logCopy;
+  }
+
+  private void sanitizeAndSave(String accountId, Log logObject) {
     String line =
         logSanitizerSubject.fireProcess(LogSanitizer::sanitizeLog, logObject.getActivityId(), logObject.getLogLine());
     if (logObject.getLogLevel() == LogLevel.ERROR) {
@@ -196,26 +243,23 @@ public class DelegateLogServiceImpl implements DelegateLogService {
 
   @VisibleForTesting
   void insertLogToCache(String accountId, Log logObject) {
-    Optional.ofNullable(cache.get(accountId, s -> new ArrayList<>())).ifPresent(logs -> logs.add(logObject));
+    addToBatch(cache, accountId, logObject);
   }
 
   @Override
-  public synchronized void save(String accountId, ThirdPartyApiCallLog thirdPartyApiCallLog) {
+  public void save(String accountId, ThirdPartyApiCallLog thirdPartyApiCallLog) {
     thirdPartyApiCallLog.setUuid(null);
-
-    Optional.ofNullable(apiCallLogCache.get(accountId, s -> new ArrayList<>()))
-        .ifPresent(logs -> logs.add(thirdPartyApiCallLog));
+    enqueue(() -> addToBatch(apiCallLogCache, accountId, thirdPartyApiCallLog), true);
   }
 
   @Override
-  public synchronized void save(String accountId, CVNGLogDTO cvngLogDTO) {
-    Optional.ofNullable(cvngLogCache.get(accountId, s -> new ArrayList<>())).ifPresent(logs -> logs.add(cvngLogDTO));
+  public void save(String accountId, CVNGLogDTO cvngLogDTO) {
+    enqueue(() -> addToBatch(cvngLogCache, accountId, cvngLogDTO), true);
   }
 
   @Override
-  public synchronized void save(String accountId, CVActivityLog cvActivityLog) {
-    Optional.ofNullable(cvActivityLogCache.get(accountId, s -> new ArrayList<>()))
-        .ifPresent(cvActivityLogs -> cvActivityLogs.add(cvActivityLog));
+  public void save(String accountId, CVActivityLog cvActivityLog) {
+    enqueue(() -> addToBatch(cvActivityLogCache, accountId, cvActivityLog), true);
   }
 
   @Override
@@ -225,7 +269,66 @@ public class DelegateLogServiceImpl implements DelegateLogService {
 
   @Override
   public void unregisterLogSanitizer(LogSanitizer sanitizer) {
-    logSanitizerSubject.unregister(sanitizer);
+    // Goes through the queue, so that the logs saved before it are still sanitized with it
+    enqueue(() -> logSanitizerSubject.unregister(sanitizer), false);
+  }
+
+  public int getPendingLogCount() {
+    return pendingLogCount.get();
+  }
+
+  /**
+   * @return the number of logs dropped because the queue was full since the last call
+   */
+  public long getAndResetDroppedLogCount() {
+    return droppedLogCount.getAndSet(0);
+  }
+
+  private void enqueue(Runnable pendingLog, boolean droppable) {
+    if (droppable && pendingLogCount.get() >= MAX_PENDING_LOGS) {
+      if (droppedLogCount.getAndIncrement() == 0) {
+        log.warn("Dropping task logs, {} logs are already waiting to be processed", MAX_PENDING_LOGS);
+      }
+      return;
+    }
+    pendingLogs.add(pendingLog);
+    if (pendingLogCount.incrementAndGet() >= PROCESS_TRIGGER_SIZE && processingTriggered.compareAndSet(false, true)) {
+      processingExecutor.execute(this::processPendingLogs);
+    }
+  }
+
+  /**
+   * Applies everything queued so far, in order, then dispatches the batches that are full or expired.
+   */
+  @VisibleForTesting
+  void processPendingLogs() {
+    synchronized (processingLock) {
+      processingTriggered.set(false);
+      Runnable pendingLog;
+      while ((pendingLog = pendingLogs.poll()) != null) {
+        pendingLogCount.decrementAndGet();
+        try {
+          pendingLog.run();
+        } catch (Exception e) {
+          log.error("Failed to process a pending log", e);
+        }
+      }
+      cache.cleanUp();
+      apiCallLogCache.cleanUp();
+      cvngLogCache.cleanUp();
+      cvActivityLogCache.cleanUp();
+    }
+  }
+
+  private static <T> void addToBatch(Cache<String, List<T>> batches, String accountId, T entry) {
+    List<T> batch = batches.get(accountId, s -> new ArrayList<>());
+    if (batch == null) {
+      return;
+    }
+    batch.add(entry);
+    if (batch.size() >= MAX_BATCH_SIZE) {
+      batches.invalidate(accountId);
+    }
   }
 
   private void dispatchCommandExecutionLogs(String accountId, List<Log> logs, RemovalCause removalCause) {
@@ -57,6 +57,7 @@ public class EventPublisherClientFactory implements Provider<EventPublisherClien
   private final String clientCertificateFilePath;
   private final String clientCertificateKeyFilePath;
   private final boolean trustAllCertificates;
+  private final boolean compressRequests;
   private final OkHttpClient httpClient;
 
   @Inject
@@ -70,6 +71,7 @@ public class EventPublisherClientFactory implements Provider<EventPublisherClien
     this.clientCertificateFilePath = configuration.getClientCertificateFilePath();
     this.clientCertificateKeyFilePath = configuration.getClientCertificateKeyFilePath();
     this.trustAllCertificates = configuration.isTrustAllCertificates();
+    this.compressRequests = configuration.isCompressEventPublishRequests();
     this.httpClient = this.trustAllCertificates ? this.getUnsafeOkHttpClient() : this.getSafeOkHttpClient();
   }
 
@@ -127,8 +129,12 @@ public class EventPublisherClientFactory implements Provider<EventPublisherClien
 
     SSLContext sslContext = sslContextBuilder.build();
 
-    return Http.getOkHttpClientWithProxyAuthSetup()
-        .hostnameVerifier(new NoopHostnameVerifier())
+    OkHttpClient.Builder builder = Http.getOkHttpClientWithProxyAuthSetup();
+    if (compressRequests) {
+      // Compressed once, ahead of the retries below
+      builder.addInterceptor(new GzipRequestInterceptor());
+    }
+    return builder.hostnameVerifier(new NoopHostnameVerifier())
         .sslSocketFactory(sslContext.getSocketFactory(), trustManager)
         .connectionPool(Http.connectionPool)
         .retryOnConnectionFailure(true)
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventpublisherclient;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Gzips the request bodies large enough to gain from it. The events of a batch repeat the same pod, node and
+ * workload metadata, which compresses well.
+ *
+ * The compressed body is buffered so that its length is known, and so that it can be sent again on retries.
+ */
+@OwnedBy(HarnessTeam.CE)
+class GzipRequestInterceptor implements Interceptor {
+  static final long MIN_COMPRESSED_BYTES = 1024;
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    RequestBody body = request.body();
+    if (body == null || request.header("Content-Encoding") != null || body.contentLength() < MIN_COMPRESSED_BYTES) {
+      return chain.proceed(request);
+    }
+    Buffer compressed = new Buffer();
+    try (BufferedSink gzipSink = Okio.buffer(new GzipSink(compressed))) {
+      body.writeTo(gzipSink);
+    }
+    RequestBody compressedBody = RequestBody.create(body.contentType(), compressed.readByteString());
+    return chain.proceed(
+        request.newBuilder().header("Content-Encoding", "gzip").method(request.method(), compressedBody).build());
+  }
+}
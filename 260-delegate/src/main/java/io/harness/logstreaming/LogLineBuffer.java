@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lines buffered for one log key, bounded by the approximate number of bytes they hold.
+ *
+ * Writers reserve their bytes with a CAS on the byte count and append to a lock-free queue, so they never wait on
+ * each other or on a flush in progress. Only one thread drains at a time, which keeps the lines of a key in order
+ * across pushes.
+ */
+class LogLineBuffer {
+  // Rough per line cost of the LogLine object, its timestamp and the json framing once pushed
+  private static final int LINE_OVERHEAD_BYTES = 64;
+
+  private final ConcurrentLinkedQueue<LogLine> lines = new ConcurrentLinkedQueue<>();
+  private final AtomicLong bufferedBytes = new AtomicLong();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  // Shared by the buffers of all the task clients, for the metrics
+  private final AtomicLong totalBufferedBytes;
+
+  LogLineBuffer(AtomicLong totalBufferedBytes) {
+    this.totalBufferedBytes = totalBufferedBytes;
+  }
+
+  static long sizeOf(LogLine logLine) {
+    return LINE_OVERHEAD_BYTES + (logLine.getMessage() == null ? 0 : logLine.getMessage().length());
+  }
+
+  /**
+   * @return false if the line does not fit in the budget. A line is always accepted by an empty buffer, so that a
+   *     single line larger than the budget still goes through.
+   */
+  boolean offer(LogLine logLine, long size, long maxBufferedBytes) {
+    long current;
+    do {
+      current = bufferedBytes.get();
+      if (current > 0 && current + size > maxBufferedBytes) {
+        return false;
+      }
+    } while (!bufferedBytes.compareAndSet(current, current + size));
+    totalBufferedBytes.addAndGet(size);
+    lines.add(logLine);
+    return true;
+  }
+
+  /**
+   * @return the size of the dropped line, 0 if there was none
+   */
+  long dropOldest() {
+    LogLine dropped = lines.poll();
+    if (dropped == null) {
+      return 0;
+    }
+    long size = sizeOf(dropped);
+    release(size);
+    return size;
+  }
+
+  boolean tryStartDraining() {
+    return draining.compareAndSet(false, true);
+  }
+
+  void finishDraining() {
+    draining.set(false);
+  }
+
+  /**
+   * Takes the oldest lines up to roughly maxBytes. Only to be called between tryStartDraining and finishDraining.
+   */
+  List<LogLine> drain(long maxBytes) {
+    List<LogLine> batch = new ArrayList<>();
+    long batchBytes = 0;
+    LogLine logLine;
+    while (batchBytes < maxBytes && (logLine = lines.poll()) != null) {
+      long size = sizeOf(logLine);
+      release(size);
+      batchBytes += size;
+      batch.add(logLine);
+    }
+    return batch;
+  }
+
+  boolean isDrained() {
+    return lines.isEmpty() && !draining.get();
+  }
+
+  private void release(long size) {
+    bufferedBytes.addAndGet(-size);
+    totalBufferedBytes.addAndGet(-size);
+  }
+}
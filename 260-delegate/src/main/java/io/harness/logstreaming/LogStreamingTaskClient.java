@@ -36,18 +36,18 @@ import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
@@ -82,7 +82,30 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  /**
+   * What a writer does when the buffer of its log key is full.
+   */
+  public enum OverflowPolicy {
+    /** Drop the line being written. */
+    DROP_NEWEST,
+    /** Drop the oldest buffered lines until the new one fits. */
+    DROP_OLDEST,
+    /** Push the buffered lines from the writing thread, slowing the task down to the pace of the log service. */
+    BLOCK
+  }
+
+  private static final long MAX_PUSH_BYTES = 1024 * 1024;
+  private static final long MAX_BLOCK_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private static final AtomicLong bufferedBytes = new AtomicLong();
+  private static final AtomicLong droppedLines = new AtomicLong();
+  private static final AtomicLong maxFlushLatencyMillis = new AtomicLong();
+
+  @Default private final Map<String, LogLineBuffer> logCache = new ConcurrentHashMap<>();
+  // Keys whose stream was closed, the lines still written to them are dropped
+  @Default private final Set<String> closedLogKeys = ConcurrentHashMap.newKeySet();
+  @Default private final long maxBufferedBytesPerKey = 10 * 1024 * 1024;
+  @Default private final OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
 
   private Set<String> markers;
 
@@ -93,6 +116,7 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
       log.warn("Unable to open log stream for account {} due to empty token", accountId);
       return;
     }
+    closedLogKeys.remove(logKey);
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.openLogStream(token, accountId, logKey));
     } catch (Exception ex) {
@@ -104,30 +128,28 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
-
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
     // Waiting for finite time allow log upload to finish.
     long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
-        }
-      }
+    LogLineBuffer buffer = logCache.get(logKey);
+    while (buffer != null && !buffer.isDrained() && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
+      log.debug("For {} the logs are not drained yet. sleeping...", logKey);
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
     }
-    if (logCache.containsKey(logKey)) {
+    if (buffer != null && !buffer.isDrained()) {
       log.warn("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
           logCache.size());
     }
+    // Marked before the removal, so that a late write cannot map a new buffer that nobody flushes
+    closedLogKeys.add(logKey);
+    logCache.remove(logKey);
+    if (buffer != null) {
+      discard(buffer);
+    }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
     } catch (Exception ex) {
@@ -152,29 +174,101 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine, getMarkers());
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
+    LogLineBuffer buffer =
+        logCache.computeIfAbsent(logKey, key -> closedLogKeys.contains(key) ? null : new LogLineBuffer(bufferedBytes));
+    if (buffer == null) {
+      log.debug("Dropping a log line written after the stream of {} was closed", logKey);
+      droppedLines.incrementAndGet();
+      return;
+    }
+    long size = LogLineBuffer.sizeOf(logLine);
+    long blockedSince = System.nanoTime();
+    while (!buffer.offer(logLine, size, maxBufferedBytesPerKey)) {
+      if (overflowPolicy == OverflowPolicy.DROP_NEWEST
+          || (overflowPolicy == OverflowPolicy.BLOCK && System.nanoTime() - blockedSince > MAX_BLOCK_NANOS)) {
+        droppedLines.incrementAndGet();
+        return;
+      }
+      if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+        droppedLines.incrementAndGet();
+        if (buffer.dropOldest() == 0) {
+          // The budget is held by lines being added or drained right now, nothing is left to drop but the new one
+          return;
+        }
+      } else if (!flush(logKey, buffer)) {
+        // Somebody else is pushing the lines of this key, give them a moment to free up the buffer
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+      }
+    }
+    if (logCache.get(logKey) != buffer) {
+      // The stream was closed while the line was being added
+      discard(buffer);
+    }
+  }
+
+  // Whatever is left is lost, release it from the buffered bytes
+  private static void discard(LogLineBuffer buffer) {
+    if (buffer.tryStartDraining()) {
+      try {
+        droppedLines.addAndGet(buffer.drain(Long.MAX_VALUE).size());
+      } finally {
+        buffer.finishDraining();
       }
-      logCache.get(logKey).add(logLine);
     }
   }
 
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
+    long startTime = currentTimeMillis();
+    for (Map.Entry<String, LogLineBuffer> entry : logCache.entrySet()) {
+      flush(entry.getKey(), entry.getValue());
+    }
+    maxFlushLatencyMillis.accumulateAndGet(currentTimeMillis() - startTime, Math::max);
+  }
+
+  /**
+   * Pushes everything buffered for the key in requests of at most MAX_PUSH_BYTES.
+   *
+   * @return false if another thread is already pushing the lines of the key
+   */
+  private boolean flush(String logKey, LogLineBuffer buffer) {
+    if (!buffer.tryStartDraining()) {
+      return false;
+    }
+    try {
+      List<LogLine> logLines;
+      while (!(logLines = buffer.drain(MAX_PUSH_BYTES)).isEmpty()) {
         try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
+          SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
         } catch (Exception ex) {
-          log.warn("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
+          log.warn("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
         }
-        iterator.remove();
       }
-      logCache.notifyAll();
+    } finally {
+      buffer.finishDraining();
     }
+    return true;
+  }
+
+  /**
+   * Bytes buffered by all the task clients of this process.
+   */
+  public static long getBufferedBytes() {
+    return bufferedBytes.get();
+  }
+
+  /**
+   * Lines dropped by all the task clients of this process because their buffer was full.
+   */
+  public static long getDroppedLines() {
+    return droppedLines.get();
+  }
+
+  /**
+   * The longest a dispatch of all the keys of a task client took since the last call.
+   */
+  public static long getAndResetMaxFlushLatencyMillis() {
+    return maxFlushLatencyMillis.getAndSet(0);
   }
 
   @NotNull
@@ -45,6 +45,7 @@ import io.harness.perpetualtask.k8s.watch.Owner;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableMap;
+import io.kubernetes.client.informer.cache.Store;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -109,12 +110,15 @@ public class K8sMetricCollector {
     this.lastMetricPublished = lastMetricPublished;
   }
 
-  public void collectAndPublishMetrics(
-      K8sMetricsClient k8sMetricsClient, Instant now, CoreV1Api coreV1Api, K8sControllerFetcher controllerFetcher) {
+  /**
+   * @param podStore the pods cached by the pod watcher, looked up before asking the api server for them
+   */
+  public void collectAndPublishMetrics(K8sMetricsClient k8sMetricsClient, Instant now, CoreV1Api coreV1Api,
+      K8sControllerFetcher controllerFetcher, @Nullable Store<V1Pod> podStore) {
     collectNodeMetrics(k8sMetricsClient);
     List<PodMetrics> podMetricsList = k8sMetricsClient.podMetrics().list().getObject().getItems();
     collectPodMetrics(podMetricsList);
-    collectContainerStates(podMetricsList, coreV1Api, controllerFetcher);
+    collectContainerStates(podMetricsList, coreV1Api, controllerFetcher, podStore);
     collectPVMetrics(k8sMetricsClient);
     if (now.isAfter(this.lastMetricPublished.plus(AGGREGATION_WINDOW))) {
       publishPending(now);
@@ -194,8 +198,8 @@ public class K8sMetricCollector {
       aggregates.update(podCpuNano, podMemoryBytes, podMetrics.getTimestamp());
     }
   }
-  private void collectContainerStates(
-      List<PodMetrics> podMetricsList, CoreV1Api coreV1Api, K8sControllerFetcher controllerFetcher) {
+  private void collectContainerStates(List<PodMetrics> podMetricsList, CoreV1Api coreV1Api,
+      K8sControllerFetcher controllerFetcher, @Nullable Store<V1Pod> podStore) {
     for (PodMetrics podMetrics : podMetricsList) {
       if (isEmpty(podMetrics.getContainers())) {
         // Nothing to aggregate. Continue with the next podMetrics in the list.
@@ -203,7 +207,7 @@ public class K8sMetricCollector {
       }
       String namespace = podMetrics.getMetadata().getNamespace();
       String podName = podMetrics.getMetadata().getName();
-      Pair<String, String> workloadInfo = getWorkloadInfo(namespace, podName, coreV1Api, controllerFetcher);
+      Pair<String, String> workloadInfo = getWorkloadInfo(namespace, podName, coreV1Api, controllerFetcher, podStore);
       if (workloadInfo == null) {
         continue;
       }
@@ -227,15 +231,20 @@ public class K8sMetricCollector {
     }
   }
 
-  private Pair<String, String> getWorkloadInfo(
-      String namespace, String podName, CoreV1Api coreV1Api, K8sControllerFetcher controllerFetcher) {
+  private Pair<String, String> getWorkloadInfo(String namespace, String podName, CoreV1Api coreV1Api,
+      K8sControllerFetcher controllerFetcher, @Nullable Store<V1Pod> podStore) {
     String key = namespace + "/" + podName;
-    return workloadInfoCache.get(key, k -> findWorkloadInfo(namespace, podName, coreV1Api, controllerFetcher));
+    return workloadInfoCache.get(
+        key, k -> findWorkloadInfo(namespace, podName, coreV1Api, controllerFetcher, podStore));
   }
 
-  private Pair<String, String> findWorkloadInfo(
-      String namespace, String podName, CoreV1Api coreV1Api, K8sControllerFetcher controllerFetcher) {
-    V1Pod pod = getPod(coreV1Api, namespace, podName);
+  private Pair<String, String> findWorkloadInfo(String namespace, String podName, CoreV1Api coreV1Api,
+      K8sControllerFetcher controllerFetcher, @Nullable Store<V1Pod> podStore) {
+    // The store is keyed the same way as the workload info cache
+    V1Pod pod = podStore != null ? podStore.getByKey(namespace + "/" + podName) : null;
+    if (pod == null) {
+      pod = getPod(coreV1Api, namespace, podName);
+    }
     if (pod == null) {
       return null;
     }
@@ -136,7 +136,8 @@ public class K8SWatchTaskExecutor implements PerpetualTaskExecutor {
                           .build();
                   return new K8sMetricCollector(eventPublisher, clusterDetails, heartbeatTime);
                 })
-            .collectAndPublishMetrics(k8sMetricsClient, now, new CoreV1Api(apiClient), controllerFetcher);
+            .collectAndPublishMetrics(k8sMetricsClient, now, new CoreV1Api(apiClient), controllerFetcher,
+                k8sWatchServiceDelegate.getPodStore(watchId));
 
       } catch (JsonSyntaxException ex) {
         ApiExceptionLogger.logErrorIfNotSeenRecently(
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask.k8s.watch;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Counts the calls made to the api servers of the watched clusters, and how many of them (re)start a watch.
+ */
+@OwnedBy(HarnessTeam.CE)
+class K8sApiCallCounter implements Interceptor {
+  private final AtomicLong apiCalls = new AtomicLong();
+  private final AtomicLong watchRestarts = new AtomicLong();
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    apiCalls.incrementAndGet();
+    if ("true".equals(chain.request().url().queryParameter("watch"))) {
+      watchRestarts.incrementAndGet();
+    }
+    return chain.proceed(chain.request());
+  }
+
+  long getAndResetApiCalls() {
+    return apiCalls.getAndSet(0);
+  }
+
+  long getAndResetWatchRestarts() {
+    return watchRestarts.getAndSet(0);
+  }
+}
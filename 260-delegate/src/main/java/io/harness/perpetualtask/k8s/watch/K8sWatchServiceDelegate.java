@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Store;
@@ -30,13 +31,17 @@ import io.kubernetes.client.openapi.models.V1DaemonSet;
 import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.kubernetes.client.openapi.models.V1PersistentVolume;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1ReplicaSet;
 import io.kubernetes.client.openapi.models.V1StatefulSet;
 import java.io.Closeable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.SneakyThrows;
 import lombok.Value;
@@ -55,12 +60,18 @@ public class K8sWatchServiceDelegate {
           .put("Job", V1Job.class)
           .put("CronJob", V1CronJob.class)
           .build();
+  private static final ImmutableList<Class<? extends KubernetesObject>> CACHED_TYPES =
+      ImmutableList.<Class<? extends KubernetesObject>>builder()
+          .add(V1Pod.class, V1Node.class, V1PersistentVolume.class, V1PersistentVolumeClaim.class, V1Namespace.class)
+          .addAll(KNOWN_WORKLOAD_TYPES.values())
+          .build();
 
   private final WatcherFactory watcherFactory;
   private final SharedInformerFactoryFactory sharedInformerFactoryFactory;
   private final ApiClientFactory apiClientFactory;
 
   private final Map<String, WatcherGroup> watchMap; // <id, Watch>
+  private final K8sApiCallCounter apiCallCounter = new K8sApiCallCounter();
 
   @Inject
   public K8sWatchServiceDelegate(WatcherFactory watcherFactory,
@@ -77,6 +88,19 @@ public class K8sWatchServiceDelegate {
     String watchId;
     SharedInformerFactory sharedInformerFactory;
     K8sControllerFetcher controllerFetcher;
+    Store<V1Pod> podStore;
+
+    long cachedObjectCount() {
+      long count = 0;
+      for (Class<? extends KubernetesObject> type : CACHED_TYPES) {
+        SharedIndexInformer<? extends KubernetesObject> informer =
+            sharedInformerFactory.getExistingSharedIndexInformer(type);
+        if (informer != null) {
+          count += informer.getIndexer().listKeys().size();
+        }
+      }
+      return count;
+    }
 
     @Override
     public void close() {
@@ -94,11 +118,33 @@ public class K8sWatchServiceDelegate {
     return (watch != null) ? watch.controllerFetcher : null;
   }
 
+  /**
+   * @return the pods of the cluster as last seen by its pod watcher, to look them up without calling the api server
+   */
+  @Nullable
+  public Store<V1Pod> getPodStore(String clusterId) {
+    WatcherGroup watch = watchMap.get(clusterId);
+    return (watch != null) ? watch.podStore : null;
+  }
+
+  public long getCachedObjectCount() {
+    return watchMap.values().stream().mapToLong(WatcherGroup::cachedObjectCount).sum();
+  }
+
+  public long getAndResetApiCalls() {
+    return apiCallCounter.getAndResetApiCalls();
+  }
+
+  public long getAndResetWatchRestarts() {
+    return apiCallCounter.getAndResetWatchRestarts();
+  }
+
   public String create(K8sWatchTaskParams params, KubernetesConfig kubernetesConfig) {
     String watchId = params.getClusterId();
     if (K8sWatcherHelper.shouldCreateWatcher(watchId)) {
       log.info("Creating watch with id: {}", watchId);
       ApiClient apiClient = apiClientFactory.getClient(kubernetesConfig);
+      apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().addInterceptor(apiCallCounter).build());
       DefaultK8sMetricsClient k8sMetricsClient = new DefaultK8sMetricsClient(apiClient);
 
       String kubeSystemUid = getKubeSystemUid(k8sMetricsClient);
@@ -116,13 +162,15 @@ public class K8sWatchServiceDelegate {
           sharedInformerFactoryFactory.createSharedInformerFactory(apiClient, clusterDetails);
 
       PVCFetcher pvcFetcher = watcherFactory.createPVCFetcher(apiClient, sharedInformerFactory);
-      SharedInformer<V1PersistentVolumeClaim> pvcInformer =
+      SharedIndexInformer<V1PersistentVolumeClaim> pvcInformer =
           sharedInformerFactory.getExistingSharedIndexInformer(V1PersistentVolumeClaim.class);
+      dropManagedFields(pvcInformer);
       pvcInformer.run();
 
       NamespaceFetcher namespaceFetcher = watcherFactory.createNamespaceFetcher(apiClient, sharedInformerFactory);
-      SharedInformer<V1Namespace> namespaceInformer =
+      SharedIndexInformer<V1Namespace> namespaceInformer =
           sharedInformerFactory.getExistingSharedIndexInformer(V1Namespace.class);
+      dropManagedFields(namespaceInformer);
       namespaceInformer.run();
 
       Map<String, Store<?>> stores = KNOWN_WORKLOAD_TYPES.entrySet().stream().collect(Collectors.toMap(
@@ -139,6 +187,12 @@ public class K8sWatchServiceDelegate {
       watcherFactory.createPodWatcher(
           apiClient, clusterDetails, controllerFetcher, sharedInformerFactory, pvcFetcher, namespaceFetcher);
 
+      for (Class<? extends KubernetesObject> type : CACHED_TYPES) {
+        // The pvc and namespace informers are already running, a transform can only be set ahead
+        if (type != V1PersistentVolumeClaim.class && type != V1Namespace.class) {
+          dropManagedFields(sharedInformerFactory.getExistingSharedIndexInformer(type));
+        }
+      }
       log.info("Starting AllRegisteredInformers for watch {}", watchId);
       sharedInformerFactory.startAllRegisteredInformers();
 
@@ -149,12 +203,29 @@ public class K8sWatchServiceDelegate {
               .watchId(watchId)
               .sharedInformerFactory(sharedInformerFactory)
               .controllerFetcher(controllerFetcher)
+              .podStore(sharedInformerFactory.getExistingSharedIndexInformer(V1Pod.class).getIndexer())
               .build());
     }
 
     return watchId;
   }
 
+  /**
+   * The managed fields take up a large share of every object, and none of the watchers reads them, so they are not
+   * kept in the caches.
+   */
+  private static void dropManagedFields(@Nullable SharedIndexInformer<?> informer) {
+    if (informer == null) {
+      return;
+    }
+    informer.setTransform(object -> {
+      if (object instanceof KubernetesObject && ((KubernetesObject) object).getMetadata() != null) {
+        ((KubernetesObject) object).getMetadata().setManagedFields(null);
+      }
+      return object;
+    });
+  }
+
   @SneakyThrows
   private void blockingWaitForFetchersToSync(ImmutableList<SharedInformer<?>> informers) {
     int cnt = 0;
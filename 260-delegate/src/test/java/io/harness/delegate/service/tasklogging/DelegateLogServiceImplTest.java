@@ -32,8 +32,11 @@ import io.harness.rule.OwnerRule;
 import io.harness.serializer.KryoSerializer;
 
 import software.wings.beans.dto.Log;
+import software.wings.delegatetasks.GenericLogSanitizer;
+import software.wings.delegatetasks.LogSanitizer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
@@ -72,6 +75,7 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     logs.add(buildLog(100, SUCCESS));
 
     logs.forEach(log -> delegateLogService.save("accountId", log));
+    delegateLogService.processPendingLogs();
 
     verify(delegateLogService, times(21)).insertLogToCache(eq("accountId"), logCaptor.capture());
     assertLogLinesLength(logCaptor.getAllValues(), 1100);
@@ -97,6 +101,7 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     logs.add(buildLog(100, SUCCESS, "activityId-3"));
 
     logs.forEach(log -> delegateLogService.save("accountId", log));
+    delegateLogService.processPendingLogs();
     verify(delegateLogService, times(58)).insertLogToCache(eq("accountId"), logCaptor.capture());
     assertLogLinesLength(logCaptor.getAllValues(), 13500);
   }
@@ -113,6 +118,7 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     logs.add(buildLog(100, SUCCESS));
 
     logs.forEach(log -> delegateLogService.save("accountId", log));
+    delegateLogService.processPendingLogs();
 
     verify(delegateLogService, times(1001)).insertLogToCache(eq("accountId"), logCaptor.capture());
     assertLogLinesLength(logCaptor.getAllValues(), ACTIVITY_LOGS_TOTAL_SIZE + 100 + TRUNCATION_MESSAGE.length());
@@ -141,6 +147,7 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     logs.add(buildLog(100, SUCCESS, "activityId-3"));
 
     logs.forEach(log -> delegateLogService.save("accountId", log));
+    delegateLogService.processPendingLogs();
 
     verify(delegateLogService, times(3 * 1001)).insertLogToCache(eq("accountId"), logCaptor.capture());
 
@@ -178,6 +185,7 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     logs.add(buildLog(ACTIVITY_STATUS_LOGLINE_LIMIT + 50, SUCCESS));
 
     logs.forEach(log -> delegateLogService.save("accountId", log));
+    delegateLogService.processPendingLogs();
 
     verify(delegateLogService, times(1001)).insertLogToCache(eq("accountId"), logCaptor.capture());
     assertLogLinesLength(logCaptor.getAllValues(),
@@ -186,6 +194,44 @@ public class DelegateLogServiceImplTest extends CategoryTest {
     assertThat(finalLogLine).hasSize(ACTIVITY_STATUS_LOGLINE_LIMIT + TRUNCATION_MESSAGE.length());
   }
 
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void sanitizeLogsSavedBeforeTheSanitizerIsUnregistered() {
+    LogSanitizer sanitizer = new GenericLogSanitizer(Collections.singleton("secretValue"));
+    delegateLogService.registerLogSanitizer(sanitizer);
+    Log logObject = buildLog(0);
+    logObject.setLogLine("password is secretValue");
+
+    delegateLogService.save("accountId", logObject);
+    delegateLogService.unregisterLogSanitizer(sanitizer);
+    delegateLogService.processPendingLogs();
+
+    verify(delegateLogService).insertLogToCache(eq("accountId"), logCaptor.capture());
+    assertThat(logCaptor.getValue().getLogLine()).doesNotContain("secretValue");
+    assertThat(delegateLogService.getPendingLogCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void saveDoesNotModifyTheCallersLog() {
+    delegateLogService.registerLogSanitizer(new GenericLogSanitizer(Collections.singleton("secretValue")));
+    Log logObject = buildLog(0);
+    logObject.setLogLine("password is secretValue");
+    logObject.setAccountId(null);
+
+    delegateLogService.save("accountId", logObject);
+    delegateLogService.processPendingLogs();
+
+    verify(delegateLogService).insertLogToCache(eq("accountId"), logCaptor.capture());
+    assertThat(logCaptor.getValue()).isNotSameAs(logObject);
+    assertThat(logCaptor.getValue().getLogLine()).doesNotContain("secretValue");
+    assertThat(logCaptor.getValue().getAccountId()).isEqualTo("accountId");
+    assertThat(logObject.getLogLine()).isEqualTo("password is secretValue");
+    assertThat(logObject.getAccountId()).isNull();
+  }
+
   private void assertLogLinesLength(List<Log> logs, int desiredLength) {
     int actualLength = logs.stream().map(Log::getLogLine).map(String::length).reduce(Integer::sum).orElse(0);
     assertThat(actualLength).isEqualTo(desiredLength);
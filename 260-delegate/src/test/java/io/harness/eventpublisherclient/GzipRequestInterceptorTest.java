@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventpublisherclient;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.IOException;
+import java.util.Collections;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class GzipRequestInterceptorTest extends CategoryTest {
+  private static final MediaType PROTOBUF = MediaType.parse("application/x-protobuf");
+
+  private final GzipRequestInterceptor interceptor = new GzipRequestInterceptor();
+  private Interceptor.Chain chain;
+
+  @Before
+  public void setUp() throws IOException {
+    chain = mock(Interceptor.Chain.class);
+    when(chain.proceed(any())).thenReturn(null);
+  }
+
+  private Request proceededRequest(Request request) throws IOException {
+    when(chain.request()).thenReturn(request);
+    interceptor.intercept(chain);
+    ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+    verify(chain).proceed(captor.capture());
+    return captor.getValue();
+  }
+
+  private static Request post(String content) {
+    return new Request.Builder()
+        .url("https://events.harness.io/k8sevent/publish")
+        .post(RequestBody.create(PROTOBUF, content))
+        .build();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLargeBodyIsGzipped() throws IOException {
+    String content = String.join("", Collections.nCopies(200, "pod-metadata"));
+
+    Request proceeded = proceededRequest(post(content));
+
+    assertThat(proceeded.header("Content-Encoding")).isEqualTo("gzip");
+    assertThat(proceeded.body().contentType()).isEqualTo(PROTOBUF);
+    assertThat(proceeded.body().contentLength()).isLessThan(content.length());
+    Buffer sent = new Buffer();
+    proceeded.body().writeTo(sent);
+    assertThat(Okio.buffer(new GzipSource(sent)).readUtf8()).isEqualTo(content);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSmallBodyIsSentAsIs() throws IOException {
+    Request request = post("small");
+
+    assertThat(proceededRequest(request)).isSameAs(request);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEncodedBodyIsSentAsIs() throws IOException {
+    Request request = post(String.join("", Collections.nCopies(200, "pod-metadata")))
+                          .newBuilder()
+                          .header("Content-Encoding", "identity")
+                          .build();
+
+    assertThat(proceededRequest(request)).isSameAs(request);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRequestWithoutBodyIsSentAsIs() throws IOException {
+    Request request = new Request.Builder().url("https://events.harness.io/k8sevent/publish").build();
+
+    assertThat(proceededRequest(request)).isSameAs(request);
+  }
+}
@@ -8,6 +8,7 @@
 package io.harness.logstreaming;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.TMACARI;
 import static io.harness.rule.OwnerRule.VITALIE;
@@ -20,7 +21,10 @@ import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -238,4 +242,87 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     List<LogLine> logLines = captor.getValue();
     assertThat(logLines.get(0).getMessage()).contains("1;91");
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropNewestLineWhenBufferIsFull() {
+    LogStreamingTaskClient client = boundedClient(LogStreamingTaskClient.OverflowPolicy.DROP_NEWEST);
+    LogLine first = LogLine.builder().level(LogLevel.INFO).message("first").build();
+    LogLine second = LogLine.builder().level(LogLevel.INFO).message("second").build();
+
+    client.writeLogLine(first, null);
+    client.writeLogLine(second, null);
+    client.dispatchLogs();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).containsExactly(first);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropOldestLineWhenBufferIsFull() {
+    LogStreamingTaskClient client = boundedClient(LogStreamingTaskClient.OverflowPolicy.DROP_OLDEST);
+    LogLine first = LogLine.builder().level(LogLevel.INFO).message("first").build();
+    LogLine second = LogLine.builder().level(LogLevel.INFO).message("second").build();
+
+    client.writeLogLine(first, null);
+    client.writeLogLine(second, null);
+    client.dispatchLogs();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).containsExactly(second);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldPushFromWriterWhenBufferIsFull() {
+    LogStreamingTaskClient client = boundedClient(LogStreamingTaskClient.OverflowPolicy.BLOCK);
+    LogLine first = LogLine.builder().level(LogLevel.INFO).message("first").build();
+    LogLine second = LogLine.builder().level(LogLevel.INFO).message("second").build();
+
+    client.writeLogLine(first, null);
+    client.writeLogLine(second, null);
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).containsExactly(first);
+
+    client.dispatchLogs();
+    verify(logStreamingClientMock, times(2))
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).containsExactly(second);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropLinesWrittenAfterTheStreamIsClosed() {
+    completeLogStreamingTaskClient.openStream(null);
+    completeLogStreamingTaskClient.closeStream(null);
+    sleep(ofMillis(500));
+    verify(logStreamingClientMock).closeLogStream(TOKEN, ACCOUNT_ID, BASE_LOG_KEY, true);
+
+    completeLogStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("late").build(), null);
+    completeLogStreamingTaskClient.dispatchLogs();
+
+    verify(logStreamingClientMock, never()).pushMessage(any(), any(), any(), any());
+  }
+
+  private LogStreamingTaskClient boundedClient(LogStreamingTaskClient.OverflowPolicy overflowPolicy) {
+    // A budget of one byte holds a single line
+    return LogStreamingTaskClient.builder()
+        .logStreamingClient(logStreamingClientMock)
+        .accountId(ACCOUNT_ID)
+        .token(TOKEN)
+        .logStreamingSanitizer(logStreamingSanitizerMock)
+        .baseLogKey(BASE_LOG_KEY)
+        .logService(logServiceMock)
+        .maxBufferedBytesPerKey(1)
+        .overflowPolicy(overflowPolicy)
+        .build();
+  }
 }
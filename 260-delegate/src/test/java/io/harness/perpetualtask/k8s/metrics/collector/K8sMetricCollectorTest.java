@@ -9,6 +9,7 @@ package io.harness.perpetualtask.k8s.metrics.collector;
 
 import static io.harness.annotations.dev.HarnessTeam.CE;
 import static io.harness.rule.OwnerRule.AVMOHAN;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -53,6 +54,7 @@ import com.google.gson.Gson;
 import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Durations;
+import io.kubernetes.client.informer.cache.Cache;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodBuilder;
 import io.kubernetes.client.openapi.models.V1PodList;
@@ -180,12 +182,48 @@ public class K8sMetricCollectorTest extends CategoryTest {
         .when(eventPublisher)
         .publishMessage(messageArgumentCaptor.capture(), any(Timestamp.class),
             eq(Collections.singletonMap(CcmConstants.CLUSTER_ID_IDENTIFIER, CLUSTER_DETAILS.getClusterId())));
-    k8sMetricCollector.collectAndPublishMetrics(k8sMetricsClient, now, k8sMetricsClient, controllerFetcher);
+    k8sMetricCollector.collectAndPublishMetrics(k8sMetricsClient, now, k8sMetricsClient, controllerFetcher, null);
     verifyNoInteractions(eventPublisher);
     Mockito.verify(controllerFetcher).getTopLevelOwner(pod1);
     Mockito.verify(controllerFetcher).getTopLevelOwner(pod2);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldLookUpPodsInPodStore() {
+    Instant now = Instant.now();
+    stubFor(get(urlPathEqualTo("/apis/metrics.k8s.io/v1beta1/nodes"))
+                .willReturn(aResponse().withStatus(200).withBody(
+                    new Gson().toJson(NodeMetricsList.builder().items(ImmutableList.of()).build()))));
+    stubFor(get(urlPathEqualTo("/apis/metrics.k8s.io/v1beta1/pods"))
+                .willReturn(aResponse().withStatus(200).withBody(new Gson().toJson(
+                    PodMetricsList.builder()
+                        .item(PodMetrics.builder()
+                                  .name("pod1")
+                                  .namespace("ns1")
+                                  .timestamp("2019-11-26T07:00:32Z")
+                                  .window("30s")
+                                  .container(PodMetrics.Container.builder()
+                                                 .name("p1-ctr1")
+                                                 .usage(Usage.builder().cpu("41181421n").memory("139304Ki").build())
+                                                 .build())
+                                  .build())
+                        .build()))));
+    V1Pod pod1 = new V1PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").endMetadata().build();
+    Cache<V1Pod> podStore = new Cache<>();
+    podStore.add(pod1);
+    io.harness.perpetualtask.k8s.watch.Owner owner =
+        io.harness.perpetualtask.k8s.watch.Owner.newBuilder().setKind("Deployment").setName("nginx").build();
+    when(controllerFetcher.getTopLevelOwner(pod1)).thenReturn(owner);
+
+    k8sMetricCollector = new K8sMetricCollector(eventPublisher, CLUSTER_DETAILS, now.minus(10, ChronoUnit.MINUTES));
+    k8sMetricCollector.collectAndPublishMetrics(k8sMetricsClient, now, k8sMetricsClient, controllerFetcher, podStore);
+
+    Mockito.verify(controllerFetcher).getTopLevelOwner(pod1);
+    verify(0, getRequestedFor(urlPathEqualTo("/api/v1/namespaces/ns1/pods")));
+  }
+
   @Test
   @Owner(developers = AVMOHAN)
   @Category(UnitTests.class)
@@ -320,9 +358,9 @@ public class K8sMetricCollectorTest extends CategoryTest {
         .publishMessage(messageArgumentCaptor.capture(), any(Timestamp.class),
             eq(Collections.singletonMap(CcmConstants.CLUSTER_ID_IDENTIFIER, CLUSTER_DETAILS.getClusterId())));
     k8sMetricCollector.collectAndPublishMetrics(
-        k8sMetricsClient, now.plus(30, ChronoUnit.SECONDS), k8sMetricsClient, controllerFetcher);
+        k8sMetricsClient, now.plus(30, ChronoUnit.SECONDS), k8sMetricsClient, controllerFetcher, null);
     k8sMetricCollector.collectAndPublishMetrics(
-        k8sMetricsClient, now.plus(30, ChronoUnit.MINUTES), k8sMetricsClient, controllerFetcher);
+        k8sMetricsClient, now.plus(30, ChronoUnit.MINUTES), k8sMetricsClient, controllerFetcher, null);
 
     verify(2, getRequestedFor(urlMatching("^/api/v1/nodes/node[12]-name/proxy/stats/summary" + URL_REGEX_SUFFIX)));
 
@@ -58,6 +58,14 @@ if [[ "" != "QUERY_BATCH_SIZE" ]]; then
   export QUERY_BATCH_SIZE; yq -i '.eventDataBatchQueryConfig.queryBatchSize=env(QUERY_BATCH_SIZE)' $CONFIG_FILE
 fi
 
+if [[ "" != "$ENABLE_WRITE_BUFFER" ]]; then
+  export ENABLE_WRITE_BUFFER; yq -i '.eventDataBatchQueryConfig.enableWriteBuffer=env(ENABLE_WRITE_BUFFER)' $CONFIG_FILE
+fi
+
+if [[ "" != "$WRITE_BUFFER_CAPACITY" ]]; then
+  export WRITE_BUFFER_CAPACITY; yq -i '.eventDataBatchQueryConfig.writeBufferCapacity=env(WRITE_BUFFER_CAPACITY)' $CONFIG_FILE
+fi
+
 if [[ "$STACK_DRIVER_LOGGING_ENABLED" == "true" ]]; then
   yq -i 'del(.logging.appenders[0])' $CONFIG_FILE
   yq -i '.logging.appenders[0].stackdriverLogEnabled=true' $CONFIG_FILE
@@ -17,4 +17,7 @@ import lombok.Data;
 public class EventDataBatchQueryConfig {
   private int queryBatchSize;
   private boolean enableBatchWrite;
+  // Persists the messages of concurrent publish requests together, acknowledging them once written
+  private boolean enableWriteBuffer;
+  private int writeBufferCapacity;
 }
@@ -25,12 +25,17 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Singleton
 public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherImplBase {
+  // Requests of a stream read and not acknowledged yet, the delegate is held back by flow control beyond that
+  private static final int MAX_IN_FLIGHT_STREAM_REQUESTS = 4;
+
   private final EventPublisherService eventPublisherService;
 
   @Inject
@@ -44,16 +49,126 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
     log.info(
         "Received publish request with {} messages via grpc for accountId: {}", request.getMessagesCount(), accountId);
     String delegateId = request.getMessages(0).getAttributesMap().getOrDefault(DELEGATE_ID, "");
+    CompletableFuture<Void> persisted;
     try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
-      try {
-        eventPublisherService.publish(accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
-        responseObserver.onNext(PublishResponse.newBuilder().build());
-        responseObserver.onCompleted();
+      persisted = eventPublisherService.publishAsync(
+          accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
+    } catch (Exception e) {
+      persisted = new CompletableFuture<>();
+      persisted.completeExceptionally(e);
+    }
+    // The request thread is not held while the messages wait for the write buffer to flush them
+    persisted.whenComplete((ignored, throwable) -> {
+      if (throwable != null) {
+        try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR);
+             AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+          log.error("Exception in Event Publisher Service", throwable);
+        }
+        responseObserver.onError(Status.INTERNAL.withCause(throwable).asException());
+        return;
+      }
+      responseObserver.onNext(PublishResponse.newBuilder().build());
+      responseObserver.onCompleted();
+    });
+  }
+
+  /**
+   * No client calls this yet, delegates publish with {@link #publish} or over rest. The delegate's chronicle event
+   * tailer is the client it is meant for, with several batches in flight on one stream.
+   */
+  @Override
+  public StreamObserver<PublishRequest> publishStream(StreamObserver<PublishResponse> responseObserver) {
+    String accountId = requireNonNull(ACCOUNT_ID_CTX_KEY.get(Context.current()));
+    ServerCallStreamObserver<PublishResponse> serverCallStreamObserver =
+        (ServerCallStreamObserver<PublishResponse>) responseObserver;
+    serverCallStreamObserver.disableAutoRequest();
+    serverCallStreamObserver.request(MAX_IN_FLIGHT_STREAM_REQUESTS);
+    PublishStreamObserver publishStreamObserver = new PublishStreamObserver(accountId, serverCallStreamObserver);
+    serverCallStreamObserver.setOnCancelHandler(publishStreamObserver::onCancel);
+    return publishStreamObserver;
+  }
+
+  private class PublishStreamObserver implements StreamObserver<PublishRequest> {
+    private final String accountId;
+    private final ServerCallStreamObserver<PublishResponse> responseObserver;
+    // Guarded by this, the response observer is not thread safe and the acknowledgements come from other threads
+    private int inFlightRequests;
+    private boolean completed;
+    private boolean closed;
+
+    PublishStreamObserver(String accountId, ServerCallStreamObserver<PublishResponse> responseObserver) {
+      this.accountId = accountId;
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void onNext(PublishRequest request) {
+      String delegateId = request.getMessagesCount() == 0
+          ? ""
+          : request.getMessages(0).getAttributesMap().getOrDefault(DELEGATE_ID, "");
+      synchronized (this) {
+        if (completed || closed) {
+          // Failed or cancelled, the delegate sends the request again on a new stream
+          return;
+        }
+        inFlightRequests++;
+      }
+      CompletableFuture<Void> persisted;
+      try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR);
+           AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+        log.info("Received publish request with {} messages via grpc stream for accountId: {}",
+            request.getMessagesCount(), accountId);
+        persisted = eventPublisherService.publishAsync(
+            accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
       } catch (Exception e) {
-        log.error("Exception in Event Publisher Service", e);
-        responseObserver.onError(Status.INTERNAL.withCause(e).asException());
+        persisted = new CompletableFuture<>();
+        persisted.completeExceptionally(e);
+      }
+      persisted.whenComplete((ignored, throwable) -> acknowledge(request.getSequence(), throwable));
+    }
+
+    private synchronized void acknowledge(long sequence, Throwable throwable) {
+      inFlightRequests--;
+      if (closed) {
+        return;
+      }
+      if (throwable != null) {
+        // The delegate sends the requests not acknowledged again on a new stream
+        log.error("Exception in Event Publisher Service", throwable);
+        closed = true;
+        responseObserver.onError(Status.INTERNAL.withCause(throwable).asException());
+        return;
+      }
+      responseObserver.onNext(PublishResponse.newBuilder().setSequence(sequence).build());
+      if (completed && inFlightRequests == 0) {
+        closed = true;
+        responseObserver.onCompleted();
+      } else {
+        responseObserver.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      log.warn("Publish stream of accountId: {} failed", accountId, throwable);
+      synchronized (this) {
+        closed = true;
+      }
+    }
+
+    private synchronized void onCancel() {
+      log.warn("Publish stream of accountId: {} was cancelled", accountId);
+      closed = true;
+    }
+
+    @Override
+    public synchronized void onCompleted() {
+      completed = true;
+      if (!closed && inFlightRequests == 0) {
+        closed = true;
+        responseObserver.onCompleted();
       }
     }
   }
-}
\ No newline at end of file
+}
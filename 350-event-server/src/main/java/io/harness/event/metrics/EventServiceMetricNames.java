@@ -12,4 +12,6 @@ public class EventServiceMetricNames {
   public static final String POD_COUNT = "evsvc_podCount";
   public static final String NODE_COUNT = "evsvc_nodeCount";
   public static final String PV_COUNT = "evsvc_pvCount";
+  public static final String WRITE_BUFFER_QUEUED_MESSAGE_COUNT = "evsvc_writeBufferQueuedMessageCount";
+  public static final String WRITE_BUFFER_MAX_FLUSH_LATENCY = "evsvc_writeBufferMaxFlushLatency";
 }
@@ -7,6 +7,8 @@
 
 package io.harness.event.metrics;
 
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.service.intfc.EventPublisherService;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 
@@ -16,11 +18,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EventServiceMetricsPublisher implements MetricsPublisher {
   @Inject private MetricService metricService;
+  @Inject private EventPublisherService eventPublisherService;
 
   @Override
   public void recordMetrics() {
-    // NOOP for now.
-    // This method gets called once every minute. It can be used to capture instantaneous value of LastValue type
+    // This method gets called periodically. It can be used to capture instantaneous value of LastValue type
     // of metrics.
+    try (WriteBufferMetricsContext ignore = new WriteBufferMetricsContext(EventServiceConfig.SERVICE_ID)) {
+      metricService.recordMetric(
+          EventServiceMetricNames.WRITE_BUFFER_QUEUED_MESSAGE_COUNT, eventPublisherService.getQueuedMessageCount());
+      metricService.recordMetric(
+          EventServiceMetricNames.WRITE_BUFFER_MAX_FLUSH_LATENCY, eventPublisherService.getAndResetMaxFlushLatencyMs());
+    } catch (Exception e) {
+      log.error("Exception while recording the write buffer metrics", e);
+    }
   }
 }
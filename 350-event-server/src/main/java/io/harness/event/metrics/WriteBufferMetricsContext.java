@@ -0,0 +1,16 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.metrics;
+
+import io.harness.metrics.AutoMetricContext;
+
+public class WriteBufferMetricsContext extends AutoMetricContext {
+  public WriteBufferMetricsContext(String serviceId) {
+    put("serviceId", serviceId);
+  }
+}
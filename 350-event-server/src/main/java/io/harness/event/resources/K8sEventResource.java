@@ -24,10 +24,13 @@ import io.dropwizard.jersey.protobuf.ProtocolBufferMediaType;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import java.util.concurrent.CompletableFuture;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,19 +54,29 @@ public class K8sEventResource {
   @Timed
   @ExceptionMetered
   @ApiOperation(value = "publish", nickname = "publish")
-  public Response publish(
-      @QueryParam("accountId") String accountId, @RequestBody(description = "Publish Request") PublishRequest request) {
+  public void publish(@QueryParam("accountId") String accountId,
+      @RequestBody(description = "Publish Request") PublishRequest request, @Suspended AsyncResponse asyncResponse) {
     log.info(
         "Received publish request with {} messages via rest for accountId: {}", request.getMessagesCount(), accountId);
     String delegateId = request.getMessages(0).getAttributesMap().getOrDefault(DELEGATE_ID, "");
+    CompletableFuture<Void> persisted;
     try {
-      eventPublisherService.publish(accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
-      return Response.ok(PublishResponse.newBuilder().build()).build();
+      persisted = eventPublisherService.publishAsync(
+          accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
     } catch (Exception e) {
-      log.error("Exception in Event Publisher Service", e);
-      return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-          .entity(PublishResponse.newBuilder().build())
-          .build();
+      persisted = new CompletableFuture<>();
+      persisted.completeExceptionally(e);
     }
+    // The request thread is released while the messages wait for the write buffer to flush them
+    persisted.whenComplete((ignored, throwable) -> {
+      if (throwable != null) {
+        log.error("Exception in Event Publisher Service", throwable);
+        asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                 .entity(PublishResponse.newBuilder().build())
+                                 .build());
+        return;
+      }
+      asyncResponse.resume(Response.ok(PublishResponse.newBuilder().build()).build());
+    });
   }
 }
@@ -9,6 +9,8 @@ package io.harness.event.service.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.CE;
 
+import static com.mongodb.ErrorCategory.DUPLICATE_KEY;
+
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ccm.commons.entities.events.PublishedMessage;
 import io.harness.ccm.commons.entities.events.PublishedMessage.PublishedMessageKeys;
@@ -21,8 +23,10 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
+import com.mongodb.ErrorCategory;
 import java.time.Instant;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -63,6 +67,28 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
     return batchQueryExecutor(publishedMessages, publishedMessageInsertQueryFn, PublishedMessage.class);
   }
 
+  @Override
+  public void bulkInsertPublishedMessagesIgnoringDuplicateKeys(final List<PublishedMessage> publishedMessages) {
+    final int bulkWriteLimit = eventServiceConfig.getEventDataBatchQueryConfig().getQueryBatchSize();
+    for (final List<PublishedMessage> publishedMessagesPartitioned :
+        Lists.partition(publishedMessages, bulkWriteLimit)) {
+      final BulkWriteOperation bulkWriteOperation =
+          hPersistence.getCollection(PublishedMessage.class).initializeUnorderedBulkOperation();
+      publishedMessagesPartitioned.forEach(
+          publishedMessage -> publishedMessageInsertQueryFn.addQueryFor(bulkWriteOperation, publishedMessage));
+      try {
+        bulkWriteOperation.execute();
+      } catch (final BulkWriteException ex) {
+        // Unordered, the other messages are inserted, only the ones sent again by the delegate are left out
+        if (ex.getWriteErrors().stream().anyMatch(
+                error -> ErrorCategory.fromErrorCode(error.getCode()) != DUPLICATE_KEY)) {
+          throw ex;
+        }
+        log.info("Skipped {} published messages already persisted", ex.getWriteErrors().size());
+      }
+    }
+  }
+
   private <T> boolean batchQueryExecutor(
       final List<T> itemsList, final EventBatchQueryFnFactory<T> eventBatchQueryFnFactory, final Class clazz) {
     final int bulkWriteLimit = eventServiceConfig.getEventDataBatchQueryConfig().getQueryBatchSize();
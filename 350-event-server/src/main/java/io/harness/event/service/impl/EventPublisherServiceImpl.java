@@ -28,8 +28,8 @@ import io.harness.grpc.utils.AnyUtils;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.perpetualtask.k8s.watch.K8SClusterSyncEvent;
-import io.harness.persistence.HPersistence;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -38,18 +38,20 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Singleton
 @Slf4j
 public class EventPublisherServiceImpl implements EventPublisherService {
-  private final HPersistence hPersistence;
   private final EventServiceConfig eventServiceConfig;
   private final LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
   private final MessageProcessorRegistry messageProcessorRegistry;
   private final MetricService metricService;
   private final EventDataBulkWriteService eventDataBulkWriteService;
+  private final PublishedMessageWriteBuffer writeBuffer;
 
   private static final String POD_UTILIZATION = "io.harness.event.payloads.PodMetric";
   private static final String NODE_UTILIZATION = "io.harness.event.payloads.NodeMetric";
@@ -58,23 +60,92 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   private static final String K8S_WORKLOAD_SPEC = "io.harness.perpetualtask.k8s.watch.K8sWorkloadSpec";
 
   @Inject
-  public EventPublisherServiceImpl(final HPersistence hPersistence, final EventServiceConfig eventServiceConfig,
+  public EventPublisherServiceImpl(final EventServiceConfig eventServiceConfig,
       LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
       MessageProcessorRegistry messageProcessorRegistry, MetricService metricService,
       EventDataBulkWriteService eventDataBulkWriteService) {
-    this.hPersistence = hPersistence;
     this.eventServiceConfig = eventServiceConfig;
     this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
     this.messageProcessorRegistry = messageProcessorRegistry;
     this.metricService = metricService;
     this.eventDataBulkWriteService = eventDataBulkWriteService;
+    this.writeBuffer = new PublishedMessageWriteBuffer(
+        this::persistBuffered, () -> eventServiceConfig.getEventDataBatchQueryConfig().getWriteBufferCapacity());
   }
 
   @Override
   public void publish(String accountId, String delegateId, List<PublishMessage> messagesList, int messageCount) {
-    final boolean enableBatchWrite = eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite();
+    if (eventServiceConfig.getEventDataBatchQueryConfig().isEnableWriteBuffer()) {
+      try {
+        publishAsync(accountId, delegateId, messagesList, messageCount).join();
+      } catch (CompletionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw e;
+      }
+      return;
+    }
+    List<PublishedMessage> withoutCategory = new ArrayList<>();
+    List<PublishedMessage> withCategory = new ArrayList<>();
+    toPublishedMessages(accountId, messagesList, withoutCategory, withCategory);
+    if (isNotEmpty(withoutCategory)) {
+      try {
+        persist(withoutCategory);
+      } catch (Exception e) {
+        log.warn("Encountered error while persisting messages", e);
+        throw e;
+      }
+    }
+
+    updateLastReceivedPublishedMessages(withoutCategory);
+    process(withCategory);
+    log.info("Published messages persisted. withCategory:{}, withoutCategory:{}", withCategory.size(),
+        withoutCategory.size());
+
+    publishMetrics(accountId, messagesList, withoutCategory, withCategory);
+  }
+
+  @Override
+  public CompletableFuture<Void> publishAsync(
+      String accountId, String delegateId, List<PublishMessage> messagesList, int messageCount) {
+    if (!eventServiceConfig.getEventDataBatchQueryConfig().isEnableWriteBuffer()) {
+      try {
+        publish(accountId, delegateId, messagesList, messageCount);
+        return CompletableFuture.completedFuture(null);
+      } catch (Exception e) {
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        return failed;
+      }
+    }
     List<PublishedMessage> withoutCategory = new ArrayList<>();
     List<PublishedMessage> withCategory = new ArrayList<>();
+    toPublishedMessages(accountId, messagesList, withoutCategory, withCategory);
+    // The processors do not depend on the messages without a category, they need not wait for them to be persisted
+    process(withCategory);
+    publishMetrics(accountId, messagesList, withoutCategory, withCategory);
+    if (isEmpty(withoutCategory)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    int withCategoryCount = withCategory.size();
+    int withoutCategoryCount = withoutCategory.size();
+    return writeBuffer.add(withoutCategory).thenRun(()
+        -> log.info("Published messages persisted. withCategory:{}, withoutCategory:{}", withCategoryCount,
+            withoutCategoryCount));
+  }
+
+  @Override
+  public int getQueuedMessageCount() {
+    return writeBuffer.getQueuedMessageCount();
+  }
+
+  @Override
+  public long getAndResetMaxFlushLatencyMs() {
+    return writeBuffer.getAndResetMaxFlushLatencyMs();
+  }
+
+  private void toPublishedMessages(String accountId, List<PublishMessage> messagesList,
+      List<PublishedMessage> withoutCategory, List<PublishedMessage> withCategory) {
+    final boolean enableBatchWrite = eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite();
     messagesList.stream()
         .map(publishMessage -> toPublishedMessage(accountId, enableBatchWrite, publishMessage))
         .filter(Objects::nonNull)
@@ -85,25 +156,31 @@ public class EventPublisherServiceImpl implements EventPublisherService {
             withCategory.add(publishedMessage);
           }
         });
-    if (isNotEmpty(withoutCategory)) {
-      try {
-        if (enableBatchWrite) {
-          eventDataBulkWriteService.bulkInsertPublishedMessages(withoutCategory);
-        } else {
-          hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
-        }
-      } catch (Exception e) {
-        log.warn("Encountered error while persisting messages", e);
-        throw e;
-      }
+  }
+
+  private void persist(List<PublishedMessage> publishedMessages) {
+    if (eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite()) {
+      eventDataBulkWriteService.bulkInsertPublishedMessages(publishedMessages);
+    } else {
+      // The messages keep the id the delegate gave them, so the ones it sends again are skipped
+      eventDataBulkWriteService.bulkInsertPublishedMessagesIgnoringDuplicateKeys(publishedMessages);
     }
+  }
 
+  private void persistBuffered(List<PublishedMessage> publishedMessages) {
+    persist(publishedMessages);
+    updateLastReceivedPublishedMessages(publishedMessages);
+  }
+
+  private void updateLastReceivedPublishedMessages(List<PublishedMessage> publishedMessages) {
     try {
-      lastReceivedPublishedMessageRepository.updateLastReceivedPublishedMessages(withoutCategory);
+      lastReceivedPublishedMessageRepository.updateLastReceivedPublishedMessages(publishedMessages);
     } catch (Exception e) {
       log.warn("Error while persisting last received data", e);
     }
+  }
 
+  private void process(List<PublishedMessage> withCategory) {
     try {
       withCategory.forEach(publishedMessage -> {
         MessageProcessor processor =
@@ -113,9 +190,10 @@ public class EventPublisherServiceImpl implements EventPublisherService {
     } catch (Exception e) {
       log.warn("Error while processing messages", e);
     }
-    log.info("Published messages persisted. withCategory:{}, withoutCategory:{}", withCategory.size(),
-        withoutCategory.size());
+  }
 
+  private void publishMetrics(String accountId, List<PublishMessage> messagesList,
+      List<PublishedMessage> withoutCategory, List<PublishedMessage> withCategory) {
     withoutCategory.forEach(this::publishMetric);
     withCategory.forEach(this::publishMetric);
     messagesList.forEach(msg -> publishMetric(msg, accountId));
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers the published messages to persist so that the ones received from all the delegates meanwhile are written
+ * together, while a single thread writes the previous ones.
+ *
+ * A message is acknowledged only once the write it is part of succeeds, so a delegate keeps and sends again whatever
+ * was lost with the buffer. Messages are refused once the buffer holds as many as its capacity.
+ */
+@OwnedBy(CE)
+@Slf4j
+class PublishedMessageWriteBuffer {
+  private final Consumer<List<PublishedMessage>> writer;
+  private final IntSupplier capacity;
+  private final Queue<PendingMessages> pendingMessages = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queuedMessageCount = new AtomicInteger();
+  private final AtomicLong maxFlushLatencyMs = new AtomicLong();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("published-message-flusher-%d").setDaemon(true).build());
+
+  private static class PendingMessages {
+    private final List<PublishedMessage> messages;
+    private final CompletableFuture<Void> persisted = new CompletableFuture<>();
+
+    PendingMessages(List<PublishedMessage> messages) {
+      this.messages = messages;
+    }
+  }
+
+  /**
+   * @param writer persists the messages, throwing if it could not
+   */
+  PublishedMessageWriteBuffer(Consumer<List<PublishedMessage>> writer, IntSupplier capacity) {
+    this.writer = writer;
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return completes once the messages are persisted, or exceptionally if they could not be or the buffer is full
+   */
+  CompletableFuture<Void> add(List<PublishedMessage> messages) {
+    int queued = queuedMessageCount.addAndGet(messages.size());
+    if (queued > messages.size() && queued > capacity.getAsInt()) {
+      queuedMessageCount.addAndGet(-messages.size());
+      CompletableFuture<Void> refused = new CompletableFuture<>();
+      refused.completeExceptionally(new IllegalStateException(
+          String.format("Published message write buffer is full with %d messages", queued - messages.size())));
+      return refused;
+    }
+    PendingMessages pending = new PendingMessages(messages);
+    pendingMessages.add(pending);
+    if (flushScheduled.compareAndSet(false, true)) {
+      flushExecutor.execute(this::flush);
+    }
+    return pending.persisted;
+  }
+
+  int getQueuedMessageCount() {
+    return queuedMessageCount.get();
+  }
+
+  long getAndResetMaxFlushLatencyMs() {
+    return maxFlushLatencyMs.getAndSet(0);
+  }
+
+  private void flush() {
+    // Cleared before draining, the messages added from now on get a flush of their own if this one misses them
+    flushScheduled.set(false);
+    List<PendingMessages> batch = new ArrayList<>();
+    PendingMessages pending;
+    while ((pending = pendingMessages.poll()) != null) {
+      batch.add(pending);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<PublishedMessage> messages = new ArrayList<>();
+    batch.forEach(batchPending -> messages.addAll(batchPending.messages));
+    long start = System.currentTimeMillis();
+    Exception failure = null;
+    try {
+      writer.accept(messages);
+    } catch (Exception e) {
+      log.warn("Failed to persist {} buffered messages", messages.size(), e);
+      failure = e;
+    }
+    // Accounted before the callers are told, so that they see the buffer without their messages
+    queuedMessageCount.addAndGet(-messages.size());
+    maxFlushLatencyMs.accumulateAndGet(System.currentTimeMillis() - start, Math::max);
+    for (PendingMessages batchPending : batch) {
+      if (failure == null) {
+        batchPending.persisted.complete(null);
+      } else {
+        batchPending.persisted.completeExceptionally(failure);
+      }
+    }
+  }
+}
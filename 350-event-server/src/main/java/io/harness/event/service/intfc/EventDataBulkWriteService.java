@@ -17,4 +17,9 @@ import java.util.List;
 @OwnedBy(CE)
 public interface EventDataBulkWriteService {
   boolean bulkInsertPublishedMessages(List<PublishedMessage> publishedMessages);
+
+  /**
+   * Inserts the messages with unordered bulk writes, the ones whose id is already there are left as they are.
+   */
+  void bulkInsertPublishedMessagesIgnoringDuplicateKeys(List<PublishedMessage> publishedMessages);
 }
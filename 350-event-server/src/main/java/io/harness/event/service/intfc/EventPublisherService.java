@@ -10,8 +10,25 @@ package io.harness.event.service.intfc;
 import io.harness.event.PublishMessage;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface EventPublisherService {
   void publish(String accountId, String delegateId, List<PublishMessage> messagesList, int messageCount)
       throws Exception;
+
+  /**
+   * Returns once the messages are accepted, the future completes when they are persisted.
+   */
+  CompletableFuture<Void> publishAsync(
+      String accountId, String delegateId, List<PublishMessage> messagesList, int messageCount);
+
+  /**
+   * Number of messages accepted and not persisted yet.
+   */
+  int getQueuedMessageCount();
+
+  /**
+   * Longest write of accepted messages since the previous call, in milliseconds.
+   */
+  long getAndResetMaxFlushLatencyMs();
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.grpc.IdentifierKeys.DELEGATE_ID;
+import static io.harness.grpc.auth.DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.EventPublisherGrpc;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+import io.harness.event.service.intfc.EventPublisherService;
+import io.harness.rule.Owner;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class EventPublisherServerImplTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final int MAX_IN_FLIGHT_STREAM_REQUESTS = 4;
+
+  @Rule public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  // The persist of each request read by the server, in the order they were read
+  private final BlockingQueue<CompletableFuture<Void>> persists = new LinkedBlockingQueue<>();
+  private EventPublisherGrpc.EventPublisherStub stub;
+
+  @Before
+  public void setUp() throws Exception {
+    EventPublisherService eventPublisherService = mock(EventPublisherService.class);
+    when(eventPublisherService.publishAsync(eq(ACCOUNT_ID), eq("delegateId"), anyList(), anyInt()))
+        .thenAnswer(invocation -> {
+          CompletableFuture<Void> persisted = new CompletableFuture<>();
+          persists.add(persisted);
+          return persisted;
+        });
+
+    // Stands in for the delegate authentication, which puts the account of the caller in the context
+    ServerInterceptor accountInterceptor = new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+          ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        return Contexts.interceptCall(Context.current().withValue(ACCOUNT_ID_CTX_KEY, ACCOUNT_ID), call, headers, next);
+      }
+    };
+    String serverName = InProcessServerBuilder.generateName();
+    EventPublisherServerImpl eventPublisherServer = new EventPublisherServerImpl(eventPublisherService);
+    grpcCleanup.register(InProcessServerBuilder.forName(serverName)
+                             .addService(ServerInterceptors.intercept(eventPublisherServer, accountInterceptor))
+                             .build()
+                             .start());
+    stub = EventPublisherGrpc.newStub(grpcCleanup.register(InProcessChannelBuilder.forName(serverName).build()));
+  }
+
+  private static PublishRequest request(long sequence) {
+    return PublishRequest.newBuilder()
+        .setSequence(sequence)
+        .addMessages(PublishMessage.newBuilder().putAttributes(DELEGATE_ID, "delegateId").build())
+        .build();
+  }
+
+  private CompletableFuture<Void> nextPersist() throws InterruptedException {
+    CompletableFuture<Void> persisted = persists.poll(10, TimeUnit.SECONDS);
+    assertThat(persisted).isNotNull();
+    return persisted;
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRequestsAreReadOnlyAsFastAsTheyAreAcknowledged() throws Exception {
+    ResponseRecorder responses = new ResponseRecorder();
+    StreamObserver<PublishRequest> requests = stub.publishStream(responses);
+    for (long sequence = 1; sequence <= 6; sequence++) {
+      requests.onNext(request(sequence));
+    }
+
+    List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+    for (int i = 0; i < MAX_IN_FLIGHT_STREAM_REQUESTS; i++) {
+      inFlight.add(nextPersist());
+    }
+    assertThat(persists.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+    // Each acknowledgement lets one more request in
+    inFlight.get(0).complete(null);
+    inFlight.add(nextPersist());
+    assertThat(persists.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+    inFlight.get(1).complete(null);
+    inFlight.add(nextPersist());
+    requests.onCompleted();
+    inFlight.forEach(persisted -> persisted.complete(null));
+
+    assertThat(responses.closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(Status.Code.OK);
+    assertThat(responses.sequences).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStreamIsCompletedOnceTheRequestsInFlightAreAcknowledged() throws Exception {
+    ResponseRecorder responses = new ResponseRecorder();
+    StreamObserver<PublishRequest> requests = stub.publishStream(responses);
+    requests.onNext(request(1));
+    requests.onNext(request(2));
+    CompletableFuture<Void> first = nextPersist();
+    CompletableFuture<Void> second = nextPersist();
+    requests.onCompleted();
+
+    first.complete(null);
+    Thread.sleep(200);
+    assertThat(responses.closed).isNotDone();
+    assertThat(responses.sequences).containsExactly(1L);
+
+    second.complete(null);
+    assertThat(responses.closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(Status.Code.OK);
+    assertThat(responses.sequences).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedPersistFailsTheStream() throws Exception {
+    ResponseRecorder responses = new ResponseRecorder();
+    StreamObserver<PublishRequest> requests = stub.publishStream(responses);
+    requests.onNext(request(1));
+    requests.onNext(request(2));
+    CompletableFuture<Void> first = nextPersist();
+    CompletableFuture<Void> second = nextPersist();
+
+    first.completeExceptionally(new IllegalStateException("mongo is down"));
+    assertThat(responses.closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(Status.Code.INTERNAL);
+
+    // The delegate sends the second request again on a new stream, its late acknowledgement goes nowhere
+    second.complete(null);
+    Thread.sleep(200);
+    assertThat(responses.sequences).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUnaryPublishIsAnsweredOncePersisted() throws Exception {
+    ResponseRecorder responses = new ResponseRecorder();
+    stub.publish(request(1), responses);
+    CompletableFuture<Void> persisted = nextPersist();
+    Thread.sleep(200);
+    assertThat(responses.closed).isNotDone();
+
+    persisted.complete(null);
+    assertThat(responses.closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(Status.Code.OK);
+    assertThat(responses.sequences).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUnaryPublishFailsWhenPersistFails() throws Exception {
+    ResponseRecorder responses = new ResponseRecorder();
+    stub.publish(request(1), responses);
+
+    nextPersist().completeExceptionally(new IllegalStateException("mongo is down"));
+    assertThat(responses.closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(Status.Code.INTERNAL);
+  }
+
+  private static class ResponseRecorder implements StreamObserver<PublishResponse> {
+    private final List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+    private final CompletableFuture<Status> closed = new CompletableFuture<>();
+
+    @Override
+    public void onNext(PublishResponse response) {
+      sequences.add(response.getSequence());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      closed.complete(Status.fromThrowable(throwable));
+    }
+
+    @Override
+    public void onCompleted() {
+      closed.complete(Status.OK);
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.event.grpc;
 import static io.harness.event.payloads.Lifecycle.EventType.EVENT_TYPE_START;
 import static io.harness.event.payloads.Lifecycle.EventType.EVENT_TYPE_STOP;
 import static io.harness.rule.OwnerRule.AVMOHAN;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.SAHILDEEP;
 
 import static java.util.stream.Collectors.toList;
@@ -34,7 +35,6 @@ import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
 import io.harness.grpc.auth.DelegateAuthServerInterceptor;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.metrics.service.api.MetricService;
-import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
 import com.google.common.collect.ImmutableMap;
@@ -48,6 +48,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -67,7 +68,6 @@ public class EventPublisherServiceImplTest extends CategoryTest {
   @Mock private EventDataBulkWriteService eventDataBulkWriteService;
   @Mock private EventDataBatchQueryConfig eventDataBatchQueryConfig;
   @Mock private EventServiceConfig eventServiceConfig;
-  @Mock private HPersistence hPersistence;
   @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
   @Mock private MessageProcessorRegistry messageProcessorRegistry;
   @Mock private MetricService metricService;
@@ -107,7 +107,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
               .build();
       publisherService.publish(
           TEST_ACC_ID, TEST_DEL_ID, publishRequest.getMessagesList(), publishRequest.getMessagesCount());
-      verify(hPersistence).saveIgnoringDuplicateKeys(captor.capture());
+      verify(eventDataBulkWriteService).bulkInsertPublishedMessagesIgnoringDuplicateKeys(captor.capture());
       List<PublishedMessage> captured = captor.getValue();
       updateToDefaultUUIDs(captured);
       assertThat(captured).containsExactlyElementsOf(
@@ -178,7 +178,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
     RuntimeException exception = new RuntimeException("Persistence error");
     when(eventServiceConfig.getEventDataBatchQueryConfig()).thenReturn(eventDataBatchQueryConfig);
     when(eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite()).thenReturn(false);
-    doThrow(exception).when(hPersistence).saveIgnoringDuplicateKeys(anyList());
+    doThrow(exception).when(eventDataBulkWriteService).bulkInsertPublishedMessagesIgnoringDuplicateKeys(anyList());
     PublishRequest publishRequest =
         PublishRequest.newBuilder()
             .addAllMessages(testMessages()
@@ -209,6 +209,43 @@ public class EventPublisherServiceImplTest extends CategoryTest {
         TEST_ACC_ID, TEST_DEL_ID, publishRequest.getMessagesList(), publishRequest.getMessagesCount());
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldPersistMessagesThroughWriteBuffer() throws Exception {
+    when(eventServiceConfig.getEventDataBatchQueryConfig()).thenReturn(eventDataBatchQueryConfig);
+    when(eventServiceConfig.getEventDataBatchQueryConfig().isEnableWriteBuffer()).thenReturn(true);
+    when(eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite()).thenReturn(true);
+    @SuppressWarnings("unchecked") // Casting as we can't use List<PublishedMessage> as the class type.
+    ArgumentCaptor<List<PublishedMessage>> captor = ArgumentCaptor.forClass(List.class);
+    List<PublishMessage> messages = testMessages()
+                                        .stream()
+                                        .map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build())
+                                        .collect(toList());
+
+    publisherService.publishAsync(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size()).get(30, TimeUnit.SECONDS);
+
+    verify(eventDataBulkWriteService).bulkInsertPublishedMessages(captor.capture());
+    assertThat(captor.getValue()).hasSize(messages.size());
+    verify(lastReceivedPublishedMessageRepository).updateLastReceivedPublishedMessages(captor.getValue());
+    assertThat(publisherService.getQueuedMessageCount()).isZero();
+  }
+
+  @Test(expected = RuntimeException.class)
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRespondErrorWhenPersistThroughWriteBufferFail() {
+    RuntimeException exception = new RuntimeException("Persistence error");
+    when(eventServiceConfig.getEventDataBatchQueryConfig()).thenReturn(eventDataBatchQueryConfig);
+    when(eventServiceConfig.getEventDataBatchQueryConfig().isEnableWriteBuffer()).thenReturn(true);
+    doThrow(exception).when(eventDataBulkWriteService).bulkInsertPublishedMessagesIgnoringDuplicateKeys(anyList());
+    List<PublishMessage> messages = testMessages()
+                                        .stream()
+                                        .map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build())
+                                        .collect(toList());
+    publisherService.publish(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size());
+  }
+
   private List<Message> testMessages() {
     return Arrays.asList(Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-1").build(),
         Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-2").build(),
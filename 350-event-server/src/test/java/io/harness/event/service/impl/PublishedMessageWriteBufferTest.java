@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.service.impl;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PublishedMessageWriteBufferTest extends CategoryTest {
+  private final List<List<PublishedMessage>> writes = new CopyOnWriteArrayList<>();
+  private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+  private final CountDownLatch firstWriteReleased = new CountDownLatch(1);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMessagesAddedDuringWriteArePersistedTogether() throws Exception {
+    PublishedMessageWriteBuffer writeBuffer = new PublishedMessageWriteBuffer(this::write, () -> 10);
+
+    CompletableFuture<Void> first = writeBuffer.add(messages("m0"));
+    assertThat(firstWriteStarted.await(30, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<Void> second = writeBuffer.add(messages("m1", "m2"));
+    CompletableFuture<Void> third = writeBuffer.add(messages("m3"));
+    assertThat(writeBuffer.getQueuedMessageCount()).isEqualTo(4);
+    assertThat(second).isNotDone();
+    firstWriteReleased.countDown();
+
+    CompletableFuture.allOf(first, second, third).get(30, TimeUnit.SECONDS);
+    assertThat(writes).hasSize(2);
+    assertThat(writes.get(1)).extracting(PublishedMessage::getUuid).containsExactly("m1", "m2", "m3");
+    assertThat(writeBuffer.getQueuedMessageCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMessagesAreRefusedWhenBufferIsFull() throws Exception {
+    PublishedMessageWriteBuffer writeBuffer = new PublishedMessageWriteBuffer(this::write, () -> 2);
+
+    // Accepted as the buffer is empty, even though larger than its capacity
+    CompletableFuture<Void> first = writeBuffer.add(messages("m0", "m1", "m2"));
+    assertThat(firstWriteStarted.await(30, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<Void> refused = writeBuffer.add(messages("m3"));
+    firstWriteReleased.countDown();
+
+    first.get(30, TimeUnit.SECONDS);
+    assertThatThrownBy(refused::get).isInstanceOf(ExecutionException.class).hasMessageContaining("full");
+    assertThat(writes).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedWriteFailsAllItsMessages() {
+    RuntimeException exception = new RuntimeException("Persistence error");
+    PublishedMessageWriteBuffer writeBuffer = new PublishedMessageWriteBuffer(messages -> {
+      throw exception;
+    }, () -> 10);
+
+    CompletableFuture<Void> persisted = writeBuffer.add(messages("m0"));
+
+    assertThatThrownBy(() -> persisted.get(30, TimeUnit.SECONDS)).hasCause(exception);
+    assertThat(writeBuffer.getQueuedMessageCount()).isZero();
+  }
+
+  private void write(List<PublishedMessage> messages) {
+    writes.add(messages);
+    if (writes.size() == 1) {
+      firstWriteStarted.countDown();
+      try {
+        firstWriteReleased.await(30, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static List<PublishedMessage> messages(String... uuids) {
+    List<PublishedMessage> messages = new ArrayList<>();
+    for (String uuid : uuids) {
+      messages.add(PublishedMessage.builder().uuid(uuid).attributes(Collections.emptyMap()).build());
+    }
+    return messages;
+  }
+}
@@ -167,6 +167,8 @@ import io.harness.secrets.SecretMigrationEventListener;
 import io.harness.serializer.AnnotationAwareJsonSubtypeResolver;
 import io.harness.serializer.CurrentGenRegistrars;
 import io.harness.serializer.KryoRegistrar;
+import io.harness.service.impl.DelegateCacheImpl;
+import io.harness.service.impl.DelegateCacheInvalidationService;
 import io.harness.service.impl.DelegateNgTokenServiceImpl;
 import io.harness.service.impl.DelegateSyncServiceImpl;
 import io.harness.service.impl.DelegateTokenServiceImpl;
@@ -1224,6 +1226,10 @@ public class WingsApplication extends Application<MainConfiguration> {
     environment.lifecycle().manage(injector.getInstance(UserAccountLevelDataMigrationJob.class));
     environment.lifecycle().manage(injector.getInstance(UpdateHeartBeatIntervalAndResetPerpetualTaskJob.class));
     environment.lifecycle().manage(injector.getInstance(StaleAuditCleanupJob.class));
+    environment.lifecycle().manage(injector.getInstance(DelegateCacheImpl.class));
+    if (configuration.isDelegateCacheChangeStreamEnabled()) {
+      environment.lifecycle().manage(injector.getInstance(DelegateCacheInvalidationService.class));
+    }
   }
 
   private void registerManagedBeansManager(
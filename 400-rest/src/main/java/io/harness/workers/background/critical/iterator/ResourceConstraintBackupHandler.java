@@ -25,6 +25,7 @@ import io.harness.iterator.PersistenceIteratorFactory;
 import io.harness.iterator.PersistenceIteratorFactory.PumpExecutorOptions;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
+import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
 import io.harness.workers.background.AccountStatusBasedEntityProcessController;
@@ -91,6 +92,22 @@ public class ResourceConstraintBackupHandler
                            .persistenceProvider(persistenceProvider));
   }
 
+  @Override
+  protected MongoPersistenceIteratorBuilder<ResourceConstraintInstance,
+      MorphiaFilterExpander<ResourceConstraintInstance>>
+  partitionedIteratorBuilder() {
+    return MongoPersistenceIterator
+        .<ResourceConstraintInstance, MorphiaFilterExpander<ResourceConstraintInstance>>builder()
+        .clazz(ResourceConstraintInstance.class)
+        .fieldName(ResourceConstraintInstanceKeys.nextIteration)
+        .filterExpander(q -> q.field(ResourceConstraintInstanceKeys.state).in(NOT_FINISHED_STATES))
+        .acceptableNoAlertDelay(ACCEPTABLE_NO_ALERT_DELAY)
+        .acceptableExecutionTime(ACCEPTABLE_EXECUTION_TIME)
+        .handler(this)
+        .entityProcessController(new AccountStatusBasedEntityProcessController<>(accountService))
+        .persistenceProvider(persistenceProvider);
+  }
+
   @Override
   public void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
     iteratorName = handlerName;
@@ -254,6 +254,8 @@ public class MainConfiguration extends Configuration implements AssetsBundleConf
   @JsonProperty(value = "lockNotifyResponseCleanup") private boolean lockNotifyResponseCleanup;
   @JsonProperty(value = "enableRedisForDelegateService", defaultValue = "false")
   private boolean enableRedisForDelegateService;
+  // If enabled, delegate cache entries are invalidated from a mongo change stream as soon as the source changes
+  @JsonProperty(value = "delegateCacheChangeStreamEnabled") private boolean delegateCacheChangeStreamEnabled;
   @JsonProperty("runScheduleJobsInManagerIteratorOnly") private boolean runScheduleJobsInManagerIteratorOnly;
   @JsonProperty("notificationClient")
   @ConfigSecret
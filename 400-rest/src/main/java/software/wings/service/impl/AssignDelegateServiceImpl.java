@@ -41,10 +41,12 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.FeatureName;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.delegate.beans.DelegateActivity;
 import io.harness.delegate.beans.DelegateEntityOwner;
+import io.harness.delegate.beans.DelegateGroup;
 import io.harness.delegate.beans.DelegateInstanceStatus;
 import io.harness.delegate.beans.DelegateProfile;
 import io.harness.delegate.beans.DelegateProfileScopingRule;
@@ -81,6 +83,7 @@ import software.wings.service.intfc.EnvironmentService;
 import software.wings.service.intfc.InfrastructureMappingService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -94,6 +97,8 @@ import io.dropwizard.util.Lists;
 import java.nio.channels.Selector;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -208,6 +213,9 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  private final Cache<String, DelegateEligibilityIndex> eligibilityIndexes =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(1, TimeUnit.HOURS).build();
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
@@ -332,16 +340,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   }
 
   private boolean canAssignDelegateScopes(Delegate delegate, DelegateTask task) {
-    TaskGroup taskGroup;
-    if (task.getTaskDataV2() != null) {
-      taskGroup = isNotBlank(task.getTaskDataV2().getTaskType())
-          ? TaskType.valueOf(task.getTaskDataV2().getTaskType()).getTaskGroup()
-          : null;
-    } else {
-      taskGroup = isNotBlank(task.getData().getTaskType())
-          ? TaskType.valueOf(task.getData().getTaskType()).getTaskGroup()
-          : null;
-    }
+    TaskGroup taskGroup = getTaskGroup(task);
 
     String appId =
         task.getSetupAbstractions() == null ? null : task.getSetupAbstractions().get(Cd1SetupFields.APP_ID_FIELD);
@@ -354,6 +353,16 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return canAssignDelegateScopes(delegate, appId, envId, infrastructureMappingId, taskGroup);
   }
 
+  private TaskGroup getTaskGroup(DelegateTask task) {
+    if (task.getTaskDataV2() != null) {
+      return isNotBlank(task.getTaskDataV2().getTaskType())
+          ? TaskType.valueOf(task.getTaskDataV2().getTaskType()).getTaskGroup()
+          : null;
+    }
+    return isNotBlank(task.getData().getTaskType()) ? TaskType.valueOf(task.getData().getTaskType()).getTaskGroup()
+                                                    : null;
+  }
+
   private boolean canAssignDelegateScopesV2(Delegate delegate, DelegateTask task) {
     TaskGroup taskGroup = isNotBlank(task.getTaskDataV2().getTaskType())
         ? TaskType.valueOf(task.getTaskDataV2().getTaskType()).getTaskGroup()
@@ -1057,12 +1066,18 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return eligibleDelegateIds;
       }
 
-      eligibleDelegateIds =
-          delegates.stream()
-              .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
-              .map(Delegate::getUuid)
-              .collect(Collectors.toList());
+      if (featureFlagService.isEnabled(FeatureName.DEL_ELIGIBILITY_INDEX, task.getAccountId())) {
+        String taskType = task.getData().getTaskType();
+        eligibleDelegateIds = filterEligibleDelegatesWithIndex(
+            task, delegates, taskType, CAN_NOT_ASSIGN_TASK_GROUP + " {" + taskType + "} ", false);
+      } else {
+        eligibleDelegateIds = delegates.stream()
+                                  .filter(delegate
+                                      -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                          && canAssignTask(delegate.getUuid(), task))
+                                  .map(Delegate::getUuid)
+                                  .collect(Collectors.toList());
+      }
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -1103,12 +1118,18 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
-      eligibleDelegateIds = delegates.stream()
-                                .filter(delegate
-                                    -> delegate.getStatus() != DelegateInstanceStatus.DELETED
-                                        && canAssignTaskV2(delegate.getUuid(), task))
-                                .map(Delegate::getUuid)
-                                .collect(Collectors.toList());
+      if (featureFlagService.isEnabled(FeatureName.DEL_ELIGIBILITY_INDEX, task.getAccountId())) {
+        String taskType = task.getTaskDataV2().getTaskType();
+        eligibleDelegateIds = filterEligibleDelegatesWithIndex(
+            task, delegates, taskType, String.format("%s %s", taskType, CAN_NOT_ASSIGN_TASK_GROUP), true);
+      } else {
+        eligibleDelegateIds = delegates.stream()
+                                  .filter(delegate
+                                      -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                          && canAssignTaskV2(delegate.getUuid(), task))
+                                  .map(Delegate::getUuid)
+                                  .collect(Collectors.toList());
+      }
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -1124,6 +1145,110 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
+  /**
+   * Same outcome as checking every delegate with canAssignTask or canAssignTaskV2, non assignable reasons included,
+   * but the task types, scopes and selectors are matched on the eligibility index of the account. Scopes are
+   * evaluated once per distinct scope and profiles once per profile instead of once per delegate.
+   */
+  @VisibleForTesting
+  List<String> filterEligibleDelegatesWithIndex(DelegateTask task, List<Delegate> delegates, String taskType,
+      String taskTypeMismatchMessage, boolean listSelectorsInMismatchMessage) {
+    String accountId = task.getAccountId();
+    DelegateEligibilityIndex index = getEligibilityIndex(accountId);
+
+    List<Delegate> candidates = new ArrayList<>();
+    for (Delegate delegate : delegates) {
+      if (delegate.getStatus() == DelegateInstanceStatus.DELETED) {
+        continue;
+      }
+      Delegate cachedDelegate = delegateCache.get(accountId, delegate.getUuid());
+      if (cachedDelegate != null) {
+        indexDelegate(index, cachedDelegate);
+        candidates.add(cachedDelegate);
+      }
+    }
+    int[] ordinals = index.ordinals(candidates.stream().map(Delegate::getUuid).collect(toList()));
+    BitSet candidateOrdinals = new BitSet();
+    Arrays.stream(ordinals).filter(ordinal -> ordinal >= 0).forEach(candidateOrdinals::set);
+
+    BitSet withTaskType = taskType == null ? new BitSet() : index.withTaskType(taskType);
+    withTaskType.and(candidateOrdinals);
+
+    Map<String, String> setupAbstractions = task.getSetupAbstractions();
+    String appId = setupAbstractions == null ? null : setupAbstractions.get(Cd1SetupFields.APP_ID_FIELD);
+    String envId = setupAbstractions == null ? null : setupAbstractions.get(Cd1SetupFields.ENV_ID_FIELD);
+    String infraMappingId =
+        setupAbstractions == null ? null : setupAbstractions.get(Cd1SetupFields.INFRASTRUCTURE_MAPPING_ID_FIELD);
+    TaskGroup taskGroup = withTaskType.isEmpty() ? null : getTaskGroup(task);
+    BitSet withinScopes = index.withinScopes(withTaskType,
+        scope -> isDelegateAllowedForScope(scopeMatch(scope, appId, envId, infraMappingId, taskGroup, accountId)),
+        scope
+        -> ScopeMatchResult.SCOPE_MATCHED == scopeMatch(scope, appId, envId, infraMappingId, taskGroup, accountId));
+
+    List<SelectorCapability> selectorCapabilities = isEmpty(task.getExecutionCapabilities())
+        ? emptyList()
+        : delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities());
+    BitSet withSelectors = null;
+    String selectorMismatchMessage = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+    if (isNotEmpty(selectorCapabilities)) {
+      Set<String> selectors = selectorCapabilities.stream()
+                                  .map(SelectorCapability::getSelectors)
+                                  .flatMap(Collection::stream)
+                                  .collect(Collectors.toSet());
+      withSelectors = index.withSelectors(trimmedLowercaseSet(selectors));
+      if (listSelectorsInMismatchMessage) {
+        selectorMismatchMessage = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors;
+      }
+    }
+
+    Map<String, Boolean> profileScopesMatched = new HashMap<>();
+    List<String> eligibleDelegateIds = new ArrayList<>();
+    for (int i = 0; i < ordinals.length; i++) {
+      Delegate delegate = candidates.get(i);
+      int ordinal = ordinals[i];
+      if (ordinal < 0) {
+        continue;
+      }
+      String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+      if (!withTaskType.get(ordinal)) {
+        addNonAssignableDelegate(task, taskTypeMismatchMessage, delegateName);
+      } else if (!withinScopes.get(ordinal)) {
+        addNonAssignableDelegate(task, CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, delegateName);
+      } else if (!profileScopesMatched.computeIfAbsent(delegate.getDelegateProfileId(),
+                     profileId -> canAssignDelegateProfileScopes(delegate, setupAbstractions, task.getUuid()))) {
+        addNonAssignableDelegate(task, CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP, delegateName);
+      } else if (withSelectors != null && !withSelectors.get(ordinal)) {
+        addNonAssignableDelegate(task, selectorMismatchMessage, delegateName);
+      } else {
+        eligibleDelegateIds.add(delegate.getUuid());
+      }
+    }
+    return eligibleDelegateIds;
+  }
+
+  private DelegateEligibilityIndex getEligibilityIndex(String accountId) {
+    DelegateEligibilityIndex index =
+        eligibilityIndexes.asMap().computeIfAbsent(accountId, key -> new DelegateEligibilityIndex());
+    index.retainOnly(getAccountDelegates(accountId));
+    return index;
+  }
+
+  // Delegates are re-indexed only when the cache hands out a new copy of them, their group or their profile
+  private void indexDelegate(DelegateEligibilityIndex index, Delegate delegate) {
+    DelegateGroup delegateGroup =
+        delegateCache.getDelegateGroup(delegate.getAccountId(), delegate.getDelegateGroupId());
+    DelegateProfile delegateProfile =
+        delegateCache.getDelegateProfile(delegate.getAccountId(), delegate.getDelegateProfileId());
+    if (!index.isCurrent(delegate, delegateGroup, delegateProfile)) {
+      index.put(delegate, delegateGroup, delegateProfile,
+          trimmedLowercaseSet(delegateService.retrieveDelegateSelectors(delegate, true)));
+    }
+  }
+
+  private void addNonAssignableDelegate(DelegateTask task, String reason, String delegateName) {
+    task.getNonAssignableDelegates().computeIfAbsent(reason, key -> new ArrayList<>()).add(delegateName);
+  }
+
   @Override
   public List<String> getConnectedDelegateList(List<String> delegates, DelegateTask delegateTask) {
     if (isEmpty(delegates)) {
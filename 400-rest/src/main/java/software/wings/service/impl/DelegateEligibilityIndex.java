@@ -0,0 +1,242 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateGroup;
+import io.harness.delegate.beans.DelegateProfile;
+import io.harness.delegate.beans.DelegateScope;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Bitsets over the delegates of one account, by supported task type, selector and scope, so that matching a task
+ * against all of them takes a few bitset intersections instead of a walk over every delegate.
+ *
+ * A delegate is indexed from the copies of itself, its group and its profile held by the delegate cache, and is
+ * re-indexed on its own as soon as any of those copies is reloaded, e.g. on a heartbeat or a registration.
+ * Scopes are indexed by value, so that each distinct scope is evaluated once per task whatever the number of
+ * delegates sharing it.
+ */
+@OwnedBy(HarnessTeam.DEL)
+class DelegateEligibilityIndex {
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private final List<IndexedDelegate> indexedDelegates = new ArrayList<>();
+  private final BitSet freeOrdinals = new BitSet();
+
+  private final Map<String, BitSet> byTaskType = new HashMap<>();
+  private final Map<String, BitSet> bySelector = new HashMap<>();
+  private final BitSet withAnySelector = new BitSet();
+  private final BitSet withoutIncludeScopes = new BitSet();
+  private final Map<DelegateScope, BitSet> byIncludeScope = new HashMap<>();
+  private final Map<DelegateScope, BitSet> byExcludeScope = new HashMap<>();
+
+  private List<Delegate> lastAccountDelegates;
+
+  @Value
+  private static class IndexedDelegate {
+    Delegate delegate;
+    DelegateGroup delegateGroup;
+    DelegateProfile delegateProfile;
+    Set<String> selectors;
+  }
+
+  /**
+   * @return true if the delegate is indexed from these very copies, in which case it does not need to be put again
+   */
+  synchronized boolean isCurrent(Delegate delegate, DelegateGroup delegateGroup, DelegateProfile delegateProfile) {
+    Integer ordinal = ordinals.get(delegate.getUuid());
+    if (ordinal == null) {
+      return false;
+    }
+    IndexedDelegate indexed = indexedDelegates.get(ordinal);
+    return indexed.getDelegate() == delegate && indexed.getDelegateGroup() == delegateGroup
+        && indexed.getDelegateProfile() == delegateProfile;
+  }
+
+  /**
+   * @param selectors the trimmed lowercase selectors of the delegate
+   */
+  synchronized void put(
+      Delegate delegate, DelegateGroup delegateGroup, DelegateProfile delegateProfile, Set<String> selectors) {
+    remove(delegate.getUuid());
+    int ordinal = freeOrdinals.isEmpty() ? indexedDelegates.size() : freeOrdinals.nextSetBit(0);
+    IndexedDelegate indexed = new IndexedDelegate(delegate, delegateGroup, delegateProfile, selectors);
+    if (ordinal == indexedDelegates.size()) {
+      indexedDelegates.add(indexed);
+    } else {
+      freeOrdinals.clear(ordinal);
+      indexedDelegates.set(ordinal, indexed);
+    }
+    ordinals.put(delegate.getUuid(), ordinal);
+
+    if (delegate.getSupportedTaskTypes() != null) {
+      delegate.getSupportedTaskTypes().forEach(taskType -> set(byTaskType, taskType, ordinal));
+    }
+    selectors.forEach(selector -> set(bySelector, selector, ordinal));
+    withAnySelector.set(ordinal, !selectors.isEmpty());
+
+    List<DelegateScope> includeScopes = nonNullScopes(delegate.getIncludeScopes());
+    withoutIncludeScopes.set(ordinal, includeScopes.isEmpty());
+    includeScopes.forEach(scope -> set(byIncludeScope, scope, ordinal));
+    nonNullScopes(delegate.getExcludeScopes()).forEach(scope -> set(byExcludeScope, scope, ordinal));
+  }
+
+  /**
+   * Drops the delegates that are no longer in the account. Does nothing unless the list changed since the last call.
+   */
+  synchronized void retainOnly(List<Delegate> accountDelegates) {
+    if (accountDelegates == lastAccountDelegates) {
+      return;
+    }
+    lastAccountDelegates = accountDelegates;
+    Set<String> delegateIds =
+        accountDelegates.stream().filter(Objects::nonNull).map(Delegate::getUuid).collect(Collectors.toSet());
+    List<String> removed =
+        ordinals.keySet().stream().filter(delegateId -> !delegateIds.contains(delegateId)).collect(Collectors.toList());
+    removed.forEach(this::remove);
+  }
+
+  /**
+   * @return the ordinal of each delegate, -1 for the ones that are not indexed
+   */
+  synchronized int[] ordinals(List<String> delegateIds) {
+    int[] result = new int[delegateIds.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ordinals.getOrDefault(delegateIds.get(i), -1);
+    }
+    return result;
+  }
+
+  synchronized BitSet withTaskType(String taskType) {
+    return copy(byTaskType.get(taskType));
+  }
+
+  /**
+   * @param selectors trimmed lowercase, every one of them has to be matched
+   */
+  synchronized BitSet withSelectors(Set<String> selectors) {
+    BitSet matching = (BitSet) withAnySelector.clone();
+    for (String selector : selectors) {
+      BitSet withSelector = bySelector.get(selector);
+      if (withSelector == null) {
+        return new BitSet();
+      }
+      matching.and(withSelector);
+    }
+    return matching;
+  }
+
+  /**
+   * Narrows the given delegates down to the ones whose scopes let the task in: no include scope or one that allows
+   * the task, and no exclude scope that matches it. The predicates run outside of the index lock since they may
+   * have to look up the entities the task is for.
+   */
+  BitSet withinScopes(
+      BitSet delegates, Predicate<DelegateScope> includeScopeAllows, Predicate<DelegateScope> excludeScopeMatches) {
+    BitSet matching = (BitSet) delegates.clone();
+    BitSet included;
+    Map<DelegateScope, BitSet> includeScopes;
+    Map<DelegateScope, BitSet> excludeScopes;
+    synchronized (this) {
+      included = copy(withoutIncludeScopes);
+      includeScopes = scopesOf(byIncludeScope, delegates);
+      excludeScopes = scopesOf(byExcludeScope, delegates);
+    }
+
+    BitSet undecided = (BitSet) delegates.clone();
+    undecided.andNot(included);
+    for (Map.Entry<DelegateScope, BitSet> includeScope : includeScopes.entrySet()) {
+      if (includeScope.getValue().intersects(undecided) && includeScopeAllows.test(includeScope.getKey())) {
+        included.or(includeScope.getValue());
+        undecided.andNot(includeScope.getValue());
+      }
+    }
+    matching.and(included);
+
+    for (Map.Entry<DelegateScope, BitSet> excludeScope : excludeScopes.entrySet()) {
+      if (excludeScope.getValue().intersects(matching) && excludeScopeMatches.test(excludeScope.getKey())) {
+        matching.andNot(excludeScope.getValue());
+      }
+    }
+    return matching;
+  }
+
+  synchronized int size() {
+    return ordinals.size();
+  }
+
+  private void remove(String delegateId) {
+    Integer ordinal = ordinals.remove(delegateId);
+    if (ordinal == null) {
+      return;
+    }
+    IndexedDelegate indexed = indexedDelegates.get(ordinal);
+    indexedDelegates.set(ordinal, null);
+    freeOrdinals.set(ordinal);
+
+    Delegate delegate = indexed.getDelegate();
+    if (delegate.getSupportedTaskTypes() != null) {
+      delegate.getSupportedTaskTypes().forEach(taskType -> clear(byTaskType, taskType, ordinal));
+    }
+    indexed.getSelectors().forEach(selector -> clear(bySelector, selector, ordinal));
+    withAnySelector.clear(ordinal);
+    withoutIncludeScopes.clear(ordinal);
+    nonNullScopes(delegate.getIncludeScopes()).forEach(scope -> clear(byIncludeScope, scope, ordinal));
+    nonNullScopes(delegate.getExcludeScopes()).forEach(scope -> clear(byExcludeScope, scope, ordinal));
+  }
+
+  private static <K> void set(Map<K, BitSet> index, K key, int ordinal) {
+    index.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+  }
+
+  private static <K> void clear(Map<K, BitSet> index, K key, int ordinal) {
+    BitSet bitSet = index.get(key);
+    if (bitSet != null) {
+      bitSet.clear(ordinal);
+      if (bitSet.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  private static Map<DelegateScope, BitSet> scopesOf(Map<DelegateScope, BitSet> byScope, BitSet delegates) {
+    Map<DelegateScope, BitSet> scopes = new HashMap<>();
+    byScope.forEach((scope, scoped) -> {
+      if (scoped.intersects(delegates)) {
+        scopes.put(scope, copy(scoped));
+      }
+    });
+    return scopes;
+  }
+
+  private static List<DelegateScope> nonNullScopes(Collection<DelegateScope> scopes) {
+    if (isEmpty(scopes)) {
+      return new ArrayList<>();
+    }
+    return scopes.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+  }
+
+  private static BitSet copy(BitSet bitSet) {
+    return bitSet == null ? new BitSet() : (BitSet) bitSet.clone();
+  }
+}
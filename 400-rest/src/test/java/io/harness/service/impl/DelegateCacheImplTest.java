@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateGroup;
+import io.harness.mongo.changestreams.ChangeEvent;
+import io.harness.mongo.changestreams.ChangeType;
+import io.harness.persistence.HPersistence;
+import io.harness.persistence.PersistentEntity;
+import io.harness.rule.Owner;
+
+import software.wings.WingsBaseTest;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateCacheImplTest extends WingsBaseTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  @Inject private DelegateCacheImpl delegateCache;
+  @Inject private HPersistence persistence;
+
+  private final DelegateCacheInvalidationService invalidationService = new DelegateCacheInvalidationService();
+  // The cache is a singleton, fresh ids keep the tests apart
+  private final String delegateId = generateUuid();
+  private final String delegateGroupId = generateUuid();
+
+  @Before
+  public void setUp() throws IllegalAccessException {
+    FieldUtils.writeField(invalidationService, "delegateCache", delegateCache, true);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReloadDelegateAfterChangeEvent() {
+    persistence.save(createDelegate(delegateId, "before"));
+    assertThat(delegateCache.get(ACCOUNT_ID, delegateId).getDescription()).isEqualTo("before");
+
+    persistence.save(createDelegate(delegateId, "after"));
+    assertThat(delegateCache.get(ACCOUNT_ID, delegateId).getDescription()).isEqualTo("before");
+
+    invalidationService.onDelegateChange(changeEvent(Delegate.class, delegateId, ChangeType.UPDATE, null));
+    assertThat(delegateCache.get(ACCOUNT_ID, delegateId).getDescription()).isEqualTo("after");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReloadGroupMembersWhenDelegateJoins() {
+    persistence.save(createDelegate(delegateId, null));
+    assertThat(delegateCache.getDelegatesForGroup(ACCOUNT_ID, delegateGroupId)).hasSize(1);
+
+    Delegate joined = createDelegate(generateUuid(), null);
+    persistence.save(joined);
+    assertThat(delegateCache.getDelegatesForGroup(ACCOUNT_ID, delegateGroupId)).hasSize(1);
+
+    invalidationService.onDelegateChange(changeEvent(Delegate.class, joined.getUuid(), ChangeType.INSERT, joined));
+    assertThat(delegateCache.getDelegatesForGroup(ACCOUNT_ID, delegateGroupId)).hasSize(2);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropDeletedGroupWithoutAccount() {
+    persistence.save(DelegateGroup.builder().uuid(delegateGroupId).accountId(ACCOUNT_ID).name("group").build());
+    assertThat(delegateCache.getDelegateGroup(ACCOUNT_ID, delegateGroupId)).isNotNull();
+
+    persistence.delete(DelegateGroup.class, delegateGroupId);
+    assertThat(delegateCache.getDelegateGroup(ACCOUNT_ID, delegateGroupId)).isNotNull();
+
+    invalidationService.onDelegateGroupChange(
+        changeEvent(DelegateGroup.class, delegateGroupId, ChangeType.DELETE, null));
+    assertThat(delegateCache.getDelegateGroup(ACCOUNT_ID, delegateGroupId)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFindGroupCreatedAfterMissedLookup() {
+    assertThat(delegateCache.getDelegateGroup(ACCOUNT_ID, delegateGroupId)).isNull();
+
+    persistence.save(DelegateGroup.builder().uuid(delegateGroupId).accountId(ACCOUNT_ID).name("group").build());
+    assertThat(delegateCache.getDelegateGroup(ACCOUNT_ID, delegateGroupId)).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldServeMissingProfileAsNull() {
+    String delegateProfileId = generateUuid();
+    assertThat(delegateCache.getDelegateProfile(ACCOUNT_ID, delegateProfileId)).isNull();
+    assertThat(delegateCache.getDelegateProfile(ACCOUNT_ID, delegateProfileId)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRecordCacheStats() {
+    persistence.save(createDelegate(delegateId, null));
+    CacheStats before = delegateCache.getCacheStats().get("delegate");
+    delegateCache.get(ACCOUNT_ID, delegateId);
+    delegateCache.get(ACCOUNT_ID, delegateId);
+
+    CacheStats stats = delegateCache.getCacheStats().get("delegate").minus(before);
+    assertThat(stats.missCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(3);
+    assertThat(stats.loadSuccessCount()).isEqualTo(1);
+  }
+
+  private Delegate createDelegate(String uuid, String description) {
+    return Delegate.builder()
+        .uuid(uuid)
+        .accountId(ACCOUNT_ID)
+        .ng(true)
+        .delegateGroupId(delegateGroupId)
+        .description(description)
+        .build();
+  }
+
+  private <T extends PersistentEntity> ChangeEvent<T> changeEvent(
+      Class<T> entityType, String uuid, ChangeType changeType, T fullDocument) {
+    return ChangeEvent.<T>builder()
+        .token("token")
+        .entityType(entityType)
+        .uuid(uuid)
+        .changeType(changeType)
+        .fullDocument(fullDocument)
+        .build();
+  }
+}
@@ -8,8 +8,10 @@
 package io.harness.workers.background.critical.iterator;
 
 import static io.harness.rule.OwnerRule.ABHINAV_MITTAL;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.YOGESH;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -76,6 +78,13 @@ public class ResourceConstraintBackupHandlerTest extends WingsBaseTest {
             eq(ResourceConstraintBackupHandler.class), any(MongoPersistenceIteratorBuilder.class));
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSupportsPartitionedMode() {
+    assertThat(resourceConstraintBackupHandler.supportsPartitionedMode()).isTrue();
+  }
+
   @Test
   @Owner(developers = YOGESH)
   @Category(UnitTests.class)
@@ -2672,6 +2672,97 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     return Lists.newArrayList(delegate1, delegate2, delegate3, delegate4);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldMatchDelegatesWithIndexLikeOneByOne() throws ExecutionException {
+    DelegateScope httpScope = DelegateScope.builder().taskTypes(ImmutableList.of(TaskGroup.HTTP)).build();
+    DelegateScope scriptScope = DelegateScope.builder().taskTypes(ImmutableList.of(TaskGroup.SCRIPT)).build();
+    List<Delegate> delegates = asList(createIndexedDelegate("eligible", null, null, "sel1", "sel2"),
+        createIndexedDelegate("includedByScope", ImmutableList.of(scriptScope, httpScope), null, "sel1"),
+        createIndexedDelegate("notIncludedByScope", ImmutableList.of(scriptScope), null, "sel1"),
+        createIndexedDelegate("excludedByScope", null, ImmutableList.of(httpScope), "sel1"),
+        createIndexedDelegate("otherSelector", null, ImmutableList.of(scriptScope), "sel2"),
+        createIndexedDelegate("noSelector", null, null));
+    Delegate unsupported = createIndexedDelegate("unsupported", null, null, "sel1");
+    unsupported.setSupportedTaskTypes(singletonList(TaskType.SCRIPT.name()));
+    Delegate deleted = createIndexedDelegate("deleted", null, null, "sel1");
+    deleted.setStatus(DelegateInstanceStatus.DELETED);
+    List<Delegate> accountDelegates = new ArrayList<>(delegates);
+    accountDelegates.add(unsupported);
+    accountDelegates.add(deleted);
+    accountDelegates.forEach(delegate -> when(delegateCache.get(ACCOUNT_ID, delegate.getUuid())).thenReturn(delegate));
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(accountDelegates);
+    when(delegateService.retrieveDelegateSelectors(any(Delegate.class), eq(true)))
+        .thenAnswer(invocation -> new HashSet<>(invocation.getArgument(0, Delegate.class).getTags()));
+
+    for (String selector : asList("sel1", " SEL2 ")) {
+      DelegateTask legacyTask = createSelectorTask(selector);
+      List<String> expected = accountDelegates.stream()
+                                  .filter(delegate
+                                      -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                          && assignDelegateService.canAssignTask(delegate.getUuid(), legacyTask))
+                                  .map(Delegate::getUuid)
+                                  .collect(toList());
+
+      DelegateTask indexedTask = createSelectorTask(selector);
+      assertThat(assignDelegateService.filterEligibleDelegatesWithIndex(indexedTask, accountDelegates,
+                     TaskType.HTTP.name(), DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_TASK_GROUP + " {HTTP} ",
+                     false))
+          .isNotEmpty()
+          .isEqualTo(expected);
+      assertThat(indexedTask.getNonAssignableDelegates()).isEqualTo(legacyTask.getNonAssignableDelegates());
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReindexDelegateWhenCacheReloadsIt() throws ExecutionException {
+    Delegate delegate = createIndexedDelegate("host", null, null, "sel1");
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid())).thenReturn(delegate);
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(singletonList(delegate));
+    when(delegateService.retrieveDelegateSelectors(any(Delegate.class), eq(true)))
+        .thenAnswer(invocation -> new HashSet<>(invocation.getArgument(0, Delegate.class).getTags()));
+    assertThat(filterWithIndex(createSelectorTask("sel2"), delegate)).isEmpty();
+
+    Delegate reloaded = createIndexedDelegate("host", null, null, "sel2");
+    reloaded.setUuid(delegate.getUuid());
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid())).thenReturn(reloaded);
+    assertThat(filterWithIndex(createSelectorTask("sel2"), delegate)).containsExactly(delegate.getUuid());
+  }
+
+  private List<String> filterWithIndex(DelegateTask task, Delegate delegate) {
+    return assignDelegateService.filterEligibleDelegatesWithIndex(task, singletonList(delegate), TaskType.HTTP.name(),
+        DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_TASK_GROUP + " {HTTP} ", false);
+  }
+
+  private Delegate createIndexedDelegate(
+      String hostName, List<DelegateScope> includeScopes, List<DelegateScope> excludeScopes, String... tags) {
+    return createDelegateBuilder()
+        .uuid(generateUuid())
+        .accountId(ACCOUNT_ID)
+        .hostName(hostName)
+        .supportedTaskTypes(supportedTasks)
+        .includeScopes(includeScopes)
+        .excludeScopes(excludeScopes)
+        .tags(asList(tags))
+        .build();
+  }
+
+  private DelegateTask createSelectorTask(String selector) {
+    return DelegateTask.builder()
+        .uuid(generateUuid())
+        .accountId(ACCOUNT_ID)
+        .nonAssignableDelegates(new HashMap<>())
+        .data(TaskData.builder().taskType(TaskType.HTTP.name()).build())
+        .executionCapabilities(singletonList(SelectorCapability.builder()
+                                                 .selectors(Collections.singleton(selector))
+                                                 .selectorOrigin("step")
+                                                 .build()))
+        .build();
+  }
+
   private Delegate createNGDelegate() {
     Delegate delegate = createDelegateBuilder().build();
     delegate.setOwner(DelegateEntityOwner.builder().identifier("orgId/projectId").build());
@@ -30,6 +30,7 @@ import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.beans.DelegateAccountMetricContext;
+import io.harness.metrics.beans.DelegateCacheMetricContext;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 import io.harness.perpetualtask.PerpetualTaskState;
@@ -39,6 +40,7 @@ import io.harness.persistence.HPersistence;
 import io.harness.service.intfc.DelegateCache;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheStats;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import dev.morphia.aggregation.Accumulator;
@@ -46,6 +48,9 @@ import dev.morphia.aggregation.AggregationPipeline;
 import dev.morphia.query.Query;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -59,6 +64,13 @@ public class DelegateMetricsPublisher implements MetricsPublisher {
 
   public static final String ACTIVE_DELEGATE_TASK = "active_delegate_task";
 
+  public static final String DELEGATE_CACHE_HIT = "delegate_cache_hit";
+  public static final String DELEGATE_CACHE_MISS = "delegate_cache_miss";
+  public static final String DELEGATE_CACHE_LOAD_FAILURE = "delegate_cache_load_failure";
+  public static final String DELEGATE_CACHE_EVICTION = "delegate_cache_eviction";
+  public static final String DELEGATE_CACHE_LOAD_TIME = "delegate_cache_load_time";
+  private static final CacheStats NO_CACHE_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
   private final MetricService metricService;
   private final HPersistence persistence;
 
@@ -69,6 +81,9 @@ public class DelegateMetricsPublisher implements MetricsPublisher {
   private final String delegateTaskMetrics = System.getenv("PUBLISH_DELEGATE_TASK_METRICS");
   private final boolean publishDelegateTaskMetrics = StringUtils.contains(delegateTaskMetrics, "true");
 
+  // Cache stats are cumulative, only what changed since the last run is published
+  private final Map<String, CacheStats> publishedCacheStats = new HashMap<>();
+
   @Override
   public void recordMetrics() {
     sendDelegateMetrics();
@@ -81,6 +96,9 @@ public class DelegateMetricsPublisher implements MetricsPublisher {
     }
     long startTime = Instant.now().toEpochMilli();
 
+    // The caches are local to every instance, so these are published outside of the lock
+    recordDelegateCacheMetrics();
+
     if (publishDelegateTaskMetrics) {
       // Try to acquire a distributed lock and publish the metrics if lock is available.
       String lockName = DelegateMetricsPublisher.class.getName() + "-"
@@ -128,6 +146,25 @@ public class DelegateMetricsPublisher implements MetricsPublisher {
     }
   }
 
+  private void recordDelegateCacheMetrics() {
+    try {
+      delegateCache.getCacheStats().forEach((cacheName, cacheStats) -> {
+        CacheStats interval = cacheStats.minus(publishedCacheStats.getOrDefault(cacheName, NO_CACHE_STATS));
+        publishedCacheStats.put(cacheName, cacheStats);
+        try (DelegateCacheMetricContext ignore = new DelegateCacheMetricContext(cacheName)) {
+          metricService.recordMetric(DELEGATE_CACHE_HIT, interval.hitCount());
+          metricService.recordMetric(DELEGATE_CACHE_MISS, interval.missCount());
+          metricService.recordMetric(DELEGATE_CACHE_LOAD_FAILURE, interval.loadExceptionCount());
+          metricService.recordMetric(DELEGATE_CACHE_EVICTION, interval.evictionCount());
+          metricService.recordMetric(
+              DELEGATE_CACHE_LOAD_TIME, TimeUnit.NANOSECONDS.toMillis((long) interval.averageLoadPenalty()));
+        }
+      });
+    } catch (Exception e) {
+      log.warn("Exception occurred during publishing delegate cache metrics.", e);
+    }
+  }
+
   private void recordPerpetualTaskMetrics() {
     try {
       long perpetualTaskCount = persistence.createQuery(PerpetualTaskRecord.class, excludeAuthority).count();
@@ -37,22 +37,28 @@ import io.harness.service.intfc.DelegateCache;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.MongoTimeoutException;
+import io.dropwizard.lifecycle.Managed;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import javax.validation.executable.ValidateOnExecution;
@@ -66,7 +72,7 @@ import org.redisson.api.RLocalCachedMap;
 @ValidateOnExecution
 @Slf4j
 @OwnedBy(HarnessTeam.DEL)
-public class DelegateCacheImpl implements DelegateCache {
+public class DelegateCacheImpl implements DelegateCache, Managed {
   private static final int MAX_DELEGATE_META_INFO_ENTRIES = 10000;
   private static final String MONGO_TIMEOUT_MESSAGE = "Failed to connect to mongodb when fetching delegate from cache.";
 
@@ -82,51 +88,68 @@ public class DelegateCacheImpl implements DelegateCache {
 
   @Inject DelegateRedissonCacheManager delegateRedissonCacheManager;
 
+  // Entries read after their refresh interval are reloaded here while the old value is still served, so hot keys
+  // never block task assignment on mongo. The expiries stay what they were before the refresh, as the change stream
+  // invalidation is off by default and nothing older than that may be served. The loaders return an Optional, so a
+  // refresh also replaces the entry of a deleted entity.
+  private final ExecutorService cacheRefreshExecutor = Executors.newFixedThreadPool(
+      2, new ThreadFactoryBuilder().setNameFormat("delegate-cache-refresh-%d").setDaemon(true).build());
+
   private LoadingCache<String, Optional<Delegate>> delegateCache =
       CacheBuilder.newBuilder()
           .maximumSize(MAX_DELEGATE_META_INFO_ENTRIES)
+          .refreshAfterWrite(30, TimeUnit.SECONDS)
           .expireAfterWrite(1, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Optional<Delegate>>() {
+          .recordStats()
+          .build(CacheLoader.asyncReloading(new CacheLoader<String, Optional<Delegate>>() {
             @Override
             public Optional<Delegate> load(String delegateId) {
               return Optional.ofNullable(
                   persistence.createQuery(Delegate.class).filter(DelegateKeys.uuid, delegateId).get());
             }
-          });
+          }, cacheRefreshExecutor));
 
-  private LoadingCache<ImmutablePair<String, String>, DelegateGroup> delegateGroupCache =
+  private LoadingCache<ImmutablePair<String, String>, Optional<DelegateGroup>> delegateGroupCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
+          .refreshAfterWrite(15, TimeUnit.SECONDS)
           .expireAfterWrite(30, TimeUnit.SECONDS)
-          .build(new CacheLoader<ImmutablePair<String, String>, DelegateGroup>() {
+          .recordStats()
+          .build(CacheLoader.asyncReloading(new CacheLoader<ImmutablePair<String, String>, Optional<DelegateGroup>>() {
             @Override
-            public DelegateGroup load(ImmutablePair<String, String> delegateGroupKey) {
-              return persistence.createQuery(DelegateGroup.class)
-                  .filter(DelegateGroupKeys.accountId, delegateGroupKey.getLeft())
-                  .filter(DelegateGroupKeys.uuid, delegateGroupKey.getRight())
-                  .get();
+            public Optional<DelegateGroup> load(ImmutablePair<String, String> delegateGroupKey) {
+              return Optional.ofNullable(persistence.createQuery(DelegateGroup.class)
+                                             .filter(DelegateGroupKeys.accountId, delegateGroupKey.getLeft())
+                                             .filter(DelegateGroupKeys.uuid, delegateGroupKey.getRight())
+                                             .get());
             }
-          });
+          }, cacheRefreshExecutor));
 
-  private LoadingCache<ImmutablePair<String, String>, DelegateProfile> delegateProfilesCache =
+  private LoadingCache<ImmutablePair<String, String>, Optional<DelegateProfile>> delegateProfilesCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
+          .refreshAfterWrite(15, TimeUnit.SECONDS)
           .expireAfterWrite(30, TimeUnit.SECONDS)
-          .build(new CacheLoader<ImmutablePair<String, String>, DelegateProfile>() {
-            @Override
-            public DelegateProfile load(ImmutablePair<String, String> delegateProfileKey) {
-              return persistence.createQuery(DelegateProfile.class)
-                  .filter(DelegateProfileKeys.accountId, delegateProfileKey.getLeft())
-                  .filter(DelegateProfileKeys.uuid, delegateProfileKey.getRight())
-                  .get();
-            }
-          });
+          .recordStats()
+          .build(CacheLoader.asyncReloading(
+              new CacheLoader<ImmutablePair<String, String>, Optional<DelegateProfile>>() {
+                @Override
+                public Optional<DelegateProfile> load(ImmutablePair<String, String> delegateProfileKey) {
+                  return Optional.ofNullable(persistence.createQuery(DelegateProfile.class)
+                                                 .filter(DelegateProfileKeys.accountId, delegateProfileKey.getLeft())
+                                                 .filter(DelegateProfileKeys.uuid, delegateProfileKey.getRight())
+                                                 .get());
+                }
+              },
+              cacheRefreshExecutor));
 
   private LoadingCache<ImmutablePair<String, String>, List<Delegate>> delegatesFromGroupCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
+          .refreshAfterWrite(2, TimeUnit.MINUTES)
           .expireAfterWrite(5, TimeUnit.MINUTES)
-          .build(new CacheLoader<ImmutablePair<String, String>, List<Delegate>>() {
+          .recordStats()
+          .build(CacheLoader.asyncReloading(new CacheLoader<ImmutablePair<String, String>, List<Delegate>>() {
             @Override
             public List<Delegate> load(ImmutablePair<String, String> delegateGroupKey) {
               return persistence.createQuery(Delegate.class)
@@ -135,23 +158,26 @@ public class DelegateCacheImpl implements DelegateCache {
                   .filter(DelegateKeys.delegateGroupId, delegateGroupKey.getRight())
                   .asList();
             }
-          });
+          }, cacheRefreshExecutor));
 
   private LoadingCache<String, Set<String>> activeDelegateSupportedTaskTypesCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
+          .refreshAfterWrite(5, TimeUnit.MINUTES)
           .expireAfterWrite(10, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Set<String>>() {
+          .recordStats()
+          .build(CacheLoader.asyncReloading(new CacheLoader<String, Set<String>>() {
             @Override
             public Set<String> load(@NotNull String accountId) {
               return getIntersectionOfSupportedTaskTypes(accountId);
             }
-          });
+          }, cacheRefreshExecutor));
 
   private LoadingCache<String, Long> optionalDelegateTasksCountCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
           .expireAfterWrite(1, TimeUnit.MINUTES)
+          .recordStats()
           .build(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
@@ -163,6 +189,7 @@ public class DelegateCacheImpl implements DelegateCache {
       CacheBuilder.newBuilder()
           .maximumSize(10000)
           .expireAfterWrite(1, TimeUnit.MINUTES)
+          .recordStats()
           .build(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
@@ -174,6 +201,7 @@ public class DelegateCacheImpl implements DelegateCache {
       CacheBuilder.newBuilder()
           .maximumSize(10000)
           .expireAfterWrite(1, TimeUnit.MINUTES)
+          .recordStats()
           .build(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
@@ -193,7 +221,8 @@ public class DelegateCacheImpl implements DelegateCache {
       Delegate delegate = delegateCache.get(delegateId).orElse(null);
 
       if (forceRefresh || delegate == null) {
-        delegateCache.refresh(delegateId);
+        // Not refresh, which reloads in the background now and would hand back the cached copy
+        delegateCache.invalidate(delegateId);
       }
 
       delegate = delegateCache.get(delegateId).orElse(null);
@@ -234,7 +263,7 @@ public class DelegateCacheImpl implements DelegateCache {
       if (enableRedisForDelegateService) {
         return getDelegateGroupRedisCache(accountId, delegateGroupId);
       }
-      return delegateGroupCache.get(ImmutablePair.of(accountId, delegateGroupId));
+      return getPresent(delegateGroupCache, ImmutablePair.of(accountId, delegateGroupId));
     } catch (ExecutionException | CacheLoader.InvalidCacheLoadException e) {
       return null;
     }
@@ -247,7 +276,7 @@ public class DelegateCacheImpl implements DelegateCache {
     }
 
     try {
-      return delegateProfilesCache.get(ImmutablePair.of(accountId, delegateProfileId));
+      return getPresent(delegateProfilesCache, ImmutablePair.of(accountId, delegateProfileId));
     } catch (ExecutionException | CacheLoader.InvalidCacheLoadException e) {
       return null;
     }
@@ -255,7 +284,53 @@ public class DelegateCacheImpl implements DelegateCache {
 
   @Override
   public void invalidateDelegateProfileCache(String accountId, String delegateProfileId) {
-    delegateProfilesCache.invalidate(ImmutablePair.of(accountId, delegateProfileId));
+    invalidateByAccountAndId(delegateProfilesCache, accountId, delegateProfileId);
+  }
+
+  @Override
+  public void invalidateDelegate(String delegateId) {
+    Optional<Delegate> cached = delegateCache.getIfPresent(delegateId);
+    delegateCache.invalidate(delegateId);
+    // The cached copy is all there is to go by once the delegate is deleted
+    if (cached != null && cached.isPresent()) {
+      invalidateDelegatesForGroup(cached.get().getAccountId(), cached.get().getDelegateGroupId());
+      invalidateDelegateSupportedTaskTypes(cached.get().getAccountId());
+    }
+  }
+
+  @Override
+  public void invalidateDelegatesForGroup(String accountId, String delegateGroupId) {
+    if (isBlank(accountId) || isBlank(delegateGroupId)) {
+      return;
+    }
+    delegatesFromGroupCache.invalidate(ImmutablePair.of(accountId, delegateGroupId));
+  }
+
+  @Override
+  public void invalidateDelegateSupportedTaskTypes(String accountId) {
+    if (isBlank(accountId)) {
+      return;
+    }
+    activeDelegateSupportedTaskTypesCache.invalidate(accountId);
+  }
+
+  @Override
+  public void invalidateDelegateGroup(String accountId, String delegateGroupId) {
+    invalidateByAccountAndId(delegateGroupCache, accountId, delegateGroupId);
+  }
+
+  @Override
+  public Map<String, CacheStats> getCacheStats() {
+    Map<String, CacheStats> cacheStats = new LinkedHashMap<>();
+    cacheStats.put("delegate", delegateCache.stats());
+    cacheStats.put("delegate_group", delegateGroupCache.stats());
+    cacheStats.put("delegate_profile", delegateProfilesCache.stats());
+    cacheStats.put("delegates_from_group", delegatesFromGroupCache.stats());
+    cacheStats.put("delegate_supported_task_types", activeDelegateSupportedTaskTypesCache.stats());
+    cacheStats.put("optional_task_count", optionalDelegateTasksCountCache.stats());
+    cacheStats.put("important_task_count", importantDelegateTasksCountCache.stats());
+    cacheStats.put("parked_task_count", parkedDelegateTasksCountCache.stats());
+    return cacheStats;
   }
 
   @Override
@@ -355,6 +430,38 @@ public class DelegateCacheImpl implements DelegateCache {
     return new ArrayList<>(delegates.values());
   }
 
+  @Override
+  public void start() {
+    // Nothing to start, the caches load on demand
+  }
+
+  @Override
+  public void stop() {
+    cacheRefreshExecutor.shutdownNow();
+  }
+
+  // A missing entity is not kept, like the loads that used to fail on it, so it is found as soon as it is created
+  private static <K, V> V getPresent(LoadingCache<K, Optional<V>> cache, K key) throws ExecutionException {
+    Optional<V> value = cache.get(key);
+    if (!value.isPresent()) {
+      cache.invalidate(key);
+    }
+    return value.orElse(null);
+  }
+
+  // Deletes come without the account, ids are unique so the entry can be found by the id alone
+  private static void invalidateByAccountAndId(
+      LoadingCache<ImmutablePair<String, String>, ?> cache, String accountId, String id) {
+    if (isBlank(id)) {
+      return;
+    }
+    if (isBlank(accountId)) {
+      cache.asMap().keySet().removeIf(key -> id.equals(key.getRight()));
+      return;
+    }
+    cache.invalidate(ImmutablePair.of(accountId, id));
+  }
+
   private Set<String> getIntersectionOfSupportedTaskTypes(@NotNull String accountId) {
     List<Delegate> delegateList = getActiveDelegates(accountId);
     Set<String> supportedTaskTypes = new HashSet<>();
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.Delegate.DelegateKeys;
+import io.harness.delegate.beans.DelegateGroup;
+import io.harness.delegate.beans.DelegateProfile;
+import io.harness.mongo.MongoConfig;
+import io.harness.mongo.changestreams.ChangeEvent;
+import io.harness.mongo.changestreams.ChangeEventFactory;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.mongo.metrics.HarnessConnectionPoolListener;
+import io.harness.service.intfc.DelegateCache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import io.dropwizard.lifecycle.Managed;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Drops the entries of {@link DelegateCache} as soon as the delegates, delegate groups and delegate profiles they
+ * were loaded from change in mongo, whichever instance made the change.
+ *
+ * Heartbeats are filtered out in the change stream itself, they would otherwise invalidate every delegate every
+ * minute. Should the stream fail, the caches fall back to their refresh intervals.
+ */
+@OwnedBy(HarnessTeam.DEL)
+@Singleton
+@Slf4j
+public class DelegateCacheInvalidationService implements Managed {
+  private static final List<String> HEARTBEAT_FIELDS = List.of(DelegateKeys.lastHeartBeat, DelegateKeys.validUntil,
+      DelegateKeys.capabilitiesCheckNextIteration, DelegateKeys.taskExpiryCheckNextIteration,
+      DelegateKeys.delegateDisconnectDetectorNextIteration);
+
+  @Inject private DelegateCache delegateCache;
+  @Inject private MongoConfig mongoConfig;
+  @Inject private HarnessConnectionPoolListener harnessConnectionPoolListener;
+  @Inject private ChangeEventFactory changeEventFactory;
+
+  private ChangeTracker changeTracker;
+
+  @Override
+  public void start() {
+    changeTracker = new ChangeTracker(mongoConfig, harnessConnectionPoolListener, changeEventFactory, null);
+    changeTracker.start(Set.of(
+        new ChangeTrackingInfo<>(Delegate.class, this::onDelegateChange, null, skipHeartbeatUpdates()),
+        new ChangeTrackingInfo<>(DelegateGroup.class, this::onDelegateGroupChange, null, null),
+        new ChangeTrackingInfo<>(DelegateProfile.class, this::onDelegateProfileChange, null, null)));
+  }
+
+  @Override
+  public void stop() {
+    if (changeTracker != null) {
+      changeTracker.stop();
+    }
+  }
+
+  @VisibleForTesting
+  void onDelegateChange(ChangeEvent<Delegate> changeEvent) {
+    try {
+      delegateCache.invalidateDelegate(changeEvent.getUuid());
+      // The delegate may have just joined a group, which the cached copy knows nothing about
+      Delegate delegate = changeEvent.getFullDocument();
+      if (delegate != null) {
+        delegateCache.invalidateDelegatesForGroup(delegate.getAccountId(), delegate.getDelegateGroupId());
+        delegateCache.invalidateDelegateSupportedTaskTypes(delegate.getAccountId());
+      }
+    } catch (Exception e) {
+      log.error("Failed to invalidate the cache entries of delegate {}", changeEvent.getUuid(), e);
+    }
+  }
+
+  @VisibleForTesting
+  void onDelegateGroupChange(ChangeEvent<DelegateGroup> changeEvent) {
+    try {
+      DelegateGroup delegateGroup = changeEvent.getFullDocument();
+      delegateCache.invalidateDelegateGroup(
+          delegateGroup == null ? null : delegateGroup.getAccountId(), changeEvent.getUuid());
+    } catch (Exception e) {
+      log.error("Failed to invalidate the cache entry of delegate group {}", changeEvent.getUuid(), e);
+    }
+  }
+
+  @VisibleForTesting
+  void onDelegateProfileChange(ChangeEvent<DelegateProfile> changeEvent) {
+    try {
+      DelegateProfile delegateProfile = changeEvent.getFullDocument();
+      delegateCache.invalidateDelegateProfileCache(
+          delegateProfile == null ? null : delegateProfile.getAccountId(), changeEvent.getUuid());
+    } catch (Exception e) {
+      log.error("Failed to invalidate the cache entry of delegate profile {}", changeEvent.getUuid(), e);
+    }
+  }
+
+  // Keeps the updates that touch anything besides the heartbeat and iterator fields
+  private static List<Bson> skipHeartbeatUpdates() {
+    Document updatedFields = new Document("$map",
+        new Document("input", new Document("$objectToArray", "$updateDescription.updatedFields"))
+            .append("in", "$$this.k"));
+    Document otherFieldsUpdated = new Document("$gt",
+        List.of(new Document("$size", new Document("$setDifference", List.of(updatedFields, HEARTBEAT_FIELDS))), 0));
+    return List.of(Aggregates.match(Filters.or(Filters.ne("operationType", "update"),
+        Filters.exists("updateDescription.removedFields.0"), Filters.expr(otherFieldsUpdated))));
+  }
+}
@@ -312,7 +312,7 @@ public class DelegateTaskServiceImpl implements DelegateTaskService {
     if (async) {
       String waitId = delegateTask.getWaitId();
       if (waitId != null) {
-        waitNotifyEngine.doneWith(waitId, response.getResponse());
+        waitNotifyEngine.doneWithCoalesced(waitId, response.getResponse());
       } else {
         log.error("Async task has no wait ID");
       }
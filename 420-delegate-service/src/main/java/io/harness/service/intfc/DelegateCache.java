@@ -14,6 +14,7 @@ import io.harness.delegate.beans.DelegateGroup;
 import io.harness.delegate.beans.DelegateProfile;
 import io.harness.delegate.beans.DelegateTaskRank;
 
+import com.google.common.cache.CacheStats;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,8 +30,25 @@ public interface DelegateCache {
 
   DelegateProfile getDelegateProfile(String accountId, String delegateProfileId);
 
+  /**
+   * A blank accountId drops the profile whatever account it is cached under.
+   */
   void invalidateDelegateProfileCache(String accountId, String delegateProfileId);
 
+  /**
+   * Also drops the group membership and supported task types of the account the cached delegate belongs to.
+   */
+  void invalidateDelegate(String delegateId);
+
+  void invalidateDelegatesForGroup(String accountId, String delegateGroupId);
+
+  void invalidateDelegateSupportedTaskTypes(String accountId);
+
+  /**
+   * A blank accountId drops the group whatever account it is cached under.
+   */
+  void invalidateDelegateGroup(String accountId, String delegateGroupId);
+
   List<Delegate> getDelegatesForGroup(String accountId, String delegateGroupId);
 
   Set<String> getDelegateSupportedTaskTypes(@NotNull String accountId);
@@ -48,4 +66,9 @@ public interface DelegateCache {
   void removeFromAbortedTaskList(String accountId, String delegateTaskId);
 
   List<Delegate> getAllDelegatesFromRedisCache();
+
+  /**
+   * @return the stats of the in memory caches of this instance, by cache name
+   */
+  Map<String, CacheStats> getCacheStats();
 }
@@ -39,8 +39,10 @@ public class InputSetMergeHelper {
 
   public String mergeInputSetIntoPipelineForGivenStages(String pipelineYaml, String inputSetPipelineCompYaml,
       boolean appendInputSetValidator, List<String> stageIdentifiers) {
-    return MergeHelper.mergeRuntimeInputValuesIntoOriginalYaml(
-        pipelineYaml, removeNonRequiredStages(inputSetPipelineCompYaml, stageIdentifiers), appendInputSetValidator);
+    // The input set is merged as the tree the stages were removed from, rather than written out and read again
+    return MergeHelper.mergeRuntimeInputValuesIntoOriginalYaml(pipelineYaml,
+        removeNonRequiredStages(YamlUtils.readAsJsonNode(inputSetPipelineCompYaml), stageIdentifiers),
+        appendInputSetValidator);
   }
 
   public JsonNode mergeInputSets(
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.tasks.ResponseData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group commit for notify responses.
+ *
+ * Callers enqueue their response and block until it is persisted. Whichever caller finds no flush in progress
+ * becomes the leader and flushes everything queued so far in one batch, while the responses that arrive during
+ * that flush pile up for the next one. A lone caller is flushed immediately, so there is no added latency when
+ * idle, and bursts turn into a few bulk writes instead of one write per response.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.DEL)
+class NotifyResponseCoalescer {
+  private final Function<Map<String, ResponseData>, Collection<String>> flusher;
+  private final int maxBatchSize;
+
+  private final Object lock = new Object();
+  private final List<Entry> pending = new ArrayList<>();
+  private boolean flushing;
+
+  private static class Entry {
+    private final String correlationId;
+    private final ResponseData response;
+    private boolean done;
+    private boolean persisted;
+
+    Entry(String correlationId, ResponseData response) {
+      this.correlationId = correlationId;
+      this.response = response;
+    }
+  }
+
+  NotifyResponseCoalescer(Function<Map<String, ResponseData>, Collection<String>> flusher, int maxBatchSize) {
+    this.flusher = flusher;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * @return true if the response was persisted, false if it was a duplicate or the flush failed
+   */
+  boolean submit(String correlationId, ResponseData response) throws InterruptedException {
+    Entry entry = new Entry(correlationId, response);
+    synchronized (lock) {
+      pending.add(entry);
+    }
+
+    while (true) {
+      List<Entry> batch;
+      synchronized (lock) {
+        while (!entry.done && flushing) {
+          lock.wait();
+        }
+        if (entry.done) {
+          return entry.persisted;
+        }
+        flushing = true;
+        batch = drain();
+      }
+
+      Set<String> persisted = null;
+      try {
+        persisted = new HashSet<>(flush(batch));
+      } finally {
+        synchronized (lock) {
+          for (Entry flushed : batch) {
+            flushed.persisted = persisted != null && persisted.contains(flushed.correlationId);
+            flushed.done = true;
+          }
+          flushing = false;
+          lock.notifyAll();
+        }
+      }
+    }
+  }
+
+  // A second response for the same correlation id stays queued, so that it is rejected as a duplicate by the
+  // next flush exactly like it would be without coalescing.
+  private List<Entry> drain() {
+    Map<String, Entry> batch = new LinkedHashMap<>();
+    for (Iterator<Entry> iterator = pending.iterator(); iterator.hasNext() && batch.size() < maxBatchSize;) {
+      Entry entry = iterator.next();
+      if (!batch.containsKey(entry.correlationId)) {
+        batch.put(entry.correlationId, entry);
+        iterator.remove();
+      }
+    }
+    return new ArrayList<>(batch.values());
+  }
+
+  private Collection<String> flush(List<Entry> batch) {
+    Map<String, ResponseData> responses = new LinkedHashMap<>();
+    for (Entry entry : batch) {
+      responses.put(entry.correlationId, entry.response);
+    }
+    log.debug("Flushing {} coalesced notify responses", responses.size());
+    return flusher.apply(responses);
+  }
+}
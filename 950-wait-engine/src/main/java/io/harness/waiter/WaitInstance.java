@@ -54,6 +54,8 @@ public class WaitInstance implements WaitEngineEntity {
 
   NotifyCallback callback;
   @Builder.Default Long callbackProcessingAt = 0L;
+  // Set by the bulk notify path once an instance is claimed for its notify event, so only one flush sends it
+  Long notificationClaimedAt;
 
   ProgressCallback progressCallback;
 
@@ -38,6 +38,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -52,12 +53,16 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final int MAX_COALESCED_RESPONSES = 500;
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
 
+  private final NotifyResponseCoalescer responseCoalescer =
+      new NotifyResponseCoalescer(this::doneWithAll, MAX_COALESCED_RESPONSES);
+
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
   }
@@ -178,6 +183,70 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Same as doneWith, but concurrent callers are coalesced into a single doneWithAll.
+   * Blocks until the response is persisted.
+   */
+  public String doneWithCoalesced(String correlationId, ResponseData response) {
+    Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+
+    try {
+      return responseCoalescer.submit(correlationId, response) ? correlationId : null;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted while waiting to notify for correlationId {}", correlationId, exception);
+    }
+    return null;
+  }
+
+  /**
+   * Stores all the responses with one bulk insert, then releases every wait instance waiting on them
+   * with one bulk update and notifies the ones that have nothing left to wait on.
+   *
+   * @return the correlation ids whose response was stored, duplicates are left out
+   */
+  public List<String> doneWithAll(Map<String, ResponseData> responses) {
+    Preconditions.checkArgument(isNotEmpty(responses), "responses are null or empty");
+
+    if (log.isDebugEnabled()) {
+      log.debug("done with notify request received for the correlationIds : {}", responses.keySet());
+    }
+
+    try {
+      final Stopwatch stopwatch = Stopwatch.createStarted();
+      List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+      for (Map.Entry<String, ResponseData> entry : responses.entrySet()) {
+        Preconditions.checkArgument(isNotBlank(entry.getKey()), "correlationId is null or empty");
+        notifyResponses.add(NotifyResponse.builder()
+                                .uuid(entry.getKey())
+                                .createdAt(currentTimeMillis())
+                                .usingKryoWithoutReference(true)
+                                .responseData(referenceFalseKryoSerializer.asDeflatedBytes(entry.getValue()))
+                                .error(entry.getValue() instanceof ErrorResponseData)
+                                .build());
+      }
+
+      long saveStartTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+      List<String> savedCorrelationIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+      long saveEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+      if (savedCorrelationIds.size() != notifyResponses.size()) {
+        log.warn("Unexpected rate of DuplicateKeyException, stored {} of {} responses", savedCorrelationIds.size(),
+            notifyResponses.size());
+      }
+      handleNotifyResponses(savedCorrelationIds);
+
+      if (log.isDebugEnabled()) {
+        log.debug("Process {} NotifyResponses mongo saveTime {} totalTime {}", notifyResponses.size(),
+            saveEndTime - saveStartTime, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+      }
+      return savedCorrelationIds;
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", responses.size(), exception);
+    }
+    return Collections.emptyList();
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (WaitInstanceLogContext ignore = new WaitInstanceLogContext(waitInstance.getUuid(), OVERRIDE_NESTS)) {
       String publisher = waitInstance.getPublisher();
@@ -204,6 +273,20 @@ public class WaitNotifyEngine {
     }
   }
 
+  public void handleNotifyResponses(List<String> uuids) {
+    if (isEmpty(uuids)) {
+      return;
+    }
+    for (WaitInstance waitInstance : persistenceWrapper.modifyAndFetchCompletedWaitInstances(uuids)) {
+      // One failed event must not keep the rest of the batch from being notified
+      try {
+        sendNotification(waitInstance);
+      } catch (Exception exception) {
+        log.error("Failed to send notify event for waitInstance {}", waitInstance.getUuid(), exception);
+      }
+    }
+  }
+
   public boolean doneWithWithoutCallback(@NonNull String correlationId) {
     try {
       WaitInstance waitInstance;
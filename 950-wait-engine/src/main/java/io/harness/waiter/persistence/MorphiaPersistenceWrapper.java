@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 
+import static java.lang.System.currentTimeMillis;
 import static java.util.stream.Collectors.toList;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -32,15 +33,20 @@ import io.harness.waiter.WaitInstance.WaitInstanceKeys;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
 import com.mongodb.WriteConcern;
 import dev.morphia.FindAndModifyOptions;
 import dev.morphia.Key;
+import dev.morphia.Morphia;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,9 +55,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @OwnedBy(HarnessTeam.DEL)
 public class MorphiaPersistenceWrapper implements PersistenceWrapper {
+  private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
   @Inject private HPersistence hPersistence;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
+  @Inject private Morphia morphia;
 
   private FindAndModifyOptions findAndModifyOptions =
       new FindAndModifyOptions().writeConcern(WriteConcern.MAJORITY).upsert(false).returnNew(false);
@@ -191,6 +200,77 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return new ArrayList<>();
+    }
+
+    BulkWriteOperation bulkWriteOperation =
+        hPersistence.getCollection(NotifyResponse.class).initializeUnorderedBulkOperation();
+    for (NotifyResponse notifyResponse : notifyResponses) {
+      bulkWriteOperation.insert(morphia.toDBObject(notifyResponse));
+    }
+
+    Set<Integer> failedIndexes = new HashSet<>();
+    try {
+      bulkWriteOperation.execute();
+    } catch (BulkWriteException exception) {
+      for (BulkWriteError error : exception.getWriteErrors()) {
+        if (error.getCode() != DUPLICATE_KEY_ERROR_CODE) {
+          log.error("Failed to save notify response {}: {}", notifyResponses.get(error.getIndex()).getUuid(),
+              error.getMessage());
+        }
+        failedIndexes.add(error.getIndex());
+      }
+    }
+
+    List<String> savedIds = new ArrayList<>();
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!failedIndexes.contains(i)) {
+        savedIds.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return savedIds;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds) {
+    if (isEmpty(correlationIds)) {
+      return new ArrayList<>();
+    }
+
+    hPersistence.update(hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                            .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                            .in(correlationIds),
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, correlationIds));
+
+    // Instances already picked up for their callback are left out, their listener does not need a second event.
+    // Every completed instance is claimed with its own findAndModify, so concurrent flushes that released the same
+    // instance never both return it.
+    long now = currentTimeMillis();
+    final Query<WaitInstance> completedQuery = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                                   .field(WaitInstanceKeys.correlationIds)
+                                                   .in(correlationIds)
+                                                   .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                                   .sizeEq(0)
+                                                   .field(WaitInstanceKeys.callbackProcessingAt)
+                                                   .lessThan(now)
+                                                   .field(WaitInstanceKeys.notificationClaimedAt)
+                                                   .doesNotExist();
+    final UpdateOperations<WaitInstance> claimOperations =
+        hPersistence.createUpdateOperations(WaitInstance.class).set(WaitInstanceKeys.notificationClaimedAt, now);
+
+    List<WaitInstance> completedInstances = new ArrayList<>();
+    WaitInstance waitInstance;
+    while ((waitInstance = hPersistence.findAndModify(completedQuery, claimOperations, HPersistence.returnNewOptions))
+        != null) {
+      completedInstances.add(waitInstance);
+    }
+    return completedInstances;
+  }
+
   @Override
   public WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId) {
     final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,22 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Inserts the responses with one unordered bulk write, responses for an already answered correlation id are
+   * skipped.
+   *
+   * @return the correlation ids of the inserted responses
+   */
+  List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes the correlation ids from every wait instance waiting on them with one multi update.
+   *
+   * @return the wait instances on these correlation ids that are not waiting on anything anymore, each instance is
+   *     claimed atomically and returned to a single caller only
+   */
+  List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
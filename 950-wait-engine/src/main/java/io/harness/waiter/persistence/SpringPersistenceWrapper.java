@@ -13,9 +13,11 @@ import static io.harness.springdata.PersistenceUtils.DEFAULT_RETRY_POLICY;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 
+import static java.lang.System.currentTimeMillis;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -44,7 +46,9 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +58,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -197,6 +203,67 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return savedEntity.getUuid();
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return new ArrayList<>();
+    }
+
+    Set<Integer> failedIndexes = new HashSet<>();
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException exception) {
+      exception.getErrors().forEach(error -> {
+        if (!isDuplicateKeyCode(error.getCode())) {
+          log.error("Failed to save notify response {}: {}", notifyResponses.get(error.getIndex()).getUuid(),
+              error.getMessage());
+        }
+        failedIndexes.add(error.getIndex());
+      });
+    }
+
+    List<String> savedIds = new ArrayList<>();
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!failedIndexes.contains(i)) {
+        savedIds.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return savedIds;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds) {
+    if (isEmpty(correlationIds)) {
+      return new ArrayList<>();
+    }
+
+    // Uses - waitingOnCorrelationIds_1 idx
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(correlationIds));
+    Update update =
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, correlationIds.toArray(new String[0]));
+    mongoTemplate.updateMulti(query, update, WaitInstance.class);
+
+    // Uses - correlationIds_1 idx
+    // Instances already picked up for their callback are left out, their listener does not need a second event.
+    // Every completed instance is claimed with its own findAndModify, so concurrent flushes that released the same
+    // instance never both return it.
+    long now = currentTimeMillis();
+    Query completedQuery = query(where(WaitInstanceKeys.correlationIds).in(correlationIds))
+                               .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).size(0))
+                               .addCriteria(where(WaitInstanceKeys.callbackProcessingAt).lt(now))
+                               .addCriteria(where(WaitInstanceKeys.notificationClaimedAt).exists(false));
+    Update claimUpdate = new Update().set(WaitInstanceKeys.notificationClaimedAt, now);
+
+    List<WaitInstance> completedInstances = new ArrayList<>();
+    WaitInstance waitInstance;
+    while ((waitInstance = mongoTemplate.findAndModify(
+                completedQuery, claimUpdate, SpringDataMongoUtils.returnNewOptions, WaitInstance.class))
+        != null) {
+      completedInstances.add(waitInstance);
+    }
+    return completedInstances;
+  }
+
   @Override
   public WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId) {
     Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationId));
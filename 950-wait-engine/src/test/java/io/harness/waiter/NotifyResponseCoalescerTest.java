@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.tasks.ResponseData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class NotifyResponseCoalescerTest extends CategoryTest {
+  private static ResponseData response(String data) {
+    return StringNotifyResponseData.builder().data(data).build();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLoneSubmitIsFlushedImmediately() throws InterruptedException {
+    List<Map<String, ResponseData>> flushes = Collections.synchronizedList(new ArrayList<>());
+    NotifyResponseCoalescer coalescer = new NotifyResponseCoalescer(responses -> {
+      flushes.add(responses);
+      return responses.keySet();
+    }, 10);
+
+    assertThat(coalescer.submit("id1", response("data1"))).isTrue();
+    assertThat(flushes).hasSize(1);
+    assertThat(flushes.get(0)).containsOnlyKeys("id1");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConcurrentSubmitsAreCoalesced() throws Exception {
+    CountDownLatch firstFlushStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+    List<Map<String, ResponseData>> flushes = Collections.synchronizedList(new ArrayList<>());
+    NotifyResponseCoalescer coalescer = new NotifyResponseCoalescer(responses -> {
+      flushes.add(responses);
+      if (flushes.size() == 1) {
+        firstFlushStarted.countDown();
+        try {
+          releaseFirstFlush.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return responses.keySet();
+    }, 10);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      Future<Boolean> leader = executorService.submit(() -> coalescer.submit("id0", response("data0")));
+      assertThat(firstFlushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // These queue up behind the flush in progress and are written together by the next one
+      List<Future<Boolean>> followers = new ArrayList<>();
+      for (int i = 1; i <= 3; i++) {
+        String id = "id" + i;
+        followers.add(executorService.submit(() -> coalescer.submit(id, response(id))));
+      }
+      Thread.sleep(200);
+      releaseFirstFlush.countDown();
+
+      assertThat(leader.get(10, TimeUnit.SECONDS)).isTrue();
+      for (Future<Boolean> follower : followers) {
+        assertThat(follower.get(10, TimeUnit.SECONDS)).isTrue();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(flushes).hasSize(2);
+    assertThat(flushes.get(0)).containsOnlyKeys("id0");
+    assertThat(flushes.get(1)).containsOnlyKeys("id1", "id2", "id3");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDuplicateIsFlushedSeparatelyAndRejected() throws InterruptedException {
+    Set<String> stored = new HashSet<>();
+    List<Map<String, ResponseData>> flushes = new ArrayList<>();
+    NotifyResponseCoalescer coalescer = new NotifyResponseCoalescer(responses -> {
+      flushes.add(responses);
+      Collection<String> saved = new ArrayList<>();
+      for (String id : responses.keySet()) {
+        if (stored.add(id)) {
+          saved.add(id);
+        }
+      }
+      return saved;
+    }, 10);
+
+    assertThat(coalescer.submit("id1", response("data1"))).isTrue();
+    assertThat(coalescer.submit("id1", response("data1"))).isFalse();
+    assertThat(flushes).hasSize(2);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedFlushReleasesCallers() throws InterruptedException {
+    NotifyResponseCoalescer coalescer = new NotifyResponseCoalescer(responses -> {
+      if (responses.containsKey("bad")) {
+        throw new IllegalStateException("flush failed");
+      }
+      return responses.keySet();
+    }, 10);
+
+    try {
+      coalescer.submit("bad", response("bad"));
+    } catch (IllegalStateException expected) {
+      // The leader sees the failure of its own flush
+    }
+    // The coalescer is not left in the flushing state
+    assertThat(coalescer.submit("good", response("good"))).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchIsCappedAtMaxBatchSize() throws Exception {
+    CountDownLatch firstFlushStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+    List<Map<String, ResponseData>> flushes = Collections.synchronizedList(new ArrayList<>());
+    NotifyResponseCoalescer coalescer = new NotifyResponseCoalescer(responses -> {
+      flushes.add(responses);
+      if (flushes.size() == 1) {
+        firstFlushStarted.countDown();
+        try {
+          releaseFirstFlush.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return responses.keySet();
+    }, 2);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(6);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      futures.add(executorService.submit(() -> coalescer.submit("id0", response("data0"))));
+      assertThat(firstFlushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+      for (int i = 1; i <= 5; i++) {
+        String id = "id" + i;
+        futures.add(executorService.submit(() -> coalescer.submit(id, response(id))));
+      }
+      Thread.sleep(200);
+      releaseFirstFlush.countDown();
+
+      for (Future<Boolean> future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(flushes).hasSize(4);
+    flushes.forEach(flush -> assertThat(flush.size()).isLessThanOrEqualTo(2));
+  }
+}
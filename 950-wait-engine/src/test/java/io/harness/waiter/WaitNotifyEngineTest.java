@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -245,6 +246,70 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWaitForCorrelationIdsDoneWithCoalesced() throws Exception {
+    List<String> correlationIds = new ArrayList<>();
+    Map<String, ResponseData> responses = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      String uuid = generateUuid();
+      correlationIds.add(uuid);
+      responses.put(uuid, StringNotifyResponseData.builder().data("response-" + uuid).build());
+    }
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), correlationIds.toArray(new String[0]));
+
+      List<String> results = Collections.synchronizedList(new ArrayList<>());
+      Concurrent.test(correlationIds.size(), i -> {
+        String correlationId = correlationIds.get(i);
+        results.add(waitNotifyEngine.doneWithCoalesced(correlationId, responses.get(correlationId)));
+      });
+      assertThat(results).containsExactlyInAnyOrderElementsOf(correlationIds);
+
+      // A duplicate response is not stored again
+      String first = correlationIds.get(0);
+      assertThat(waitNotifyEngine.doneWithCoalesced(first, responses.get(first))).isNull();
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(correlationIds.size()).containsAllEntriesOf(responses);
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWaitForCorrelationIdsDoneWithAll() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2, uuid3);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1))).containsExactly(uuid1);
+      // A duplicate response is not stored again
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1))).isEmpty();
+
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      ResponseData data3 = StringNotifyResponseData.builder().data("response-" + uuid3).build();
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid2, data2, uuid3, data3))).containsExactly(uuid2, uuid3);
+
+      NotifyResponse notifyResponse = persistence.get(NotifyResponse.class, uuid3);
+      assertThat(notifyResponse).isNotNull();
+      assertThat(referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())).isEqualTo(data3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(3).containsAllEntriesOf(of(uuid1, data1, uuid2, data2, uuid3, data3));
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
   @Test
   @SpringWaiter
   @Owner(developers = PRASHANT, intermittent = true)
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.ARCHIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
@@ -149,6 +150,36 @@ public class SpringPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(modifiedWaitInstance.getWaitingOnCorrelationIds()).isEmpty();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+
+  public void testModifyAndFetchCompletedWaitInstancesClaimsOnce() {
+    String waitInstanceId = generateUuid();
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    final WaitInstance waitInstance = WaitInstance.builder()
+                                          .uuid(waitInstanceId)
+                                          .callback(new TestNotifyCallback())
+                                          .publisher(TEST_PUBLISHER)
+                                          .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                          .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+                                          .build();
+    mongoTemplate.save(waitInstance);
+
+    assertThat(persistenceWrapper.modifyAndFetchCompletedWaitInstances(Collections.singletonList(correlationId1)))
+        .isEmpty();
+    List<WaitInstance> completed =
+        persistenceWrapper.modifyAndFetchCompletedWaitInstances(Collections.singletonList(correlationId2));
+    assertThat(completed).hasSize(1);
+    assertThat(completed.get(0).getUuid()).isEqualTo(waitInstanceId);
+    assertThat(completed.get(0).getNotificationClaimedAt()).isNotNull();
+
+    // A second flush releasing the same ids finds the instance already claimed
+    assertThat(persistenceWrapper.modifyAndFetchCompletedWaitInstances(Arrays.asList(correlationId1, correlationId2)))
+        .isEmpty();
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
@@ -27,6 +27,7 @@ import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -120,6 +121,19 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageId, messageData);
   }
 
+  /**
+   * Moves a message read from the stream to the dead letter queue, the caller still has to acknowledge it.
+   */
+  public void moveMessageToDeadLetterQueue(Message message) {
+    Map<String, String> messageData = new HashMap<>(message.getMessage().getMetadataMap());
+    byte[] data = message.getMessage().getData().toByteArray();
+    messageData.put(RedisUtils.REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(data));
+    messageData.put("prevMessageId", message.getId());
+    deadLetterQueue.addAll(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
+    log.warn("Pushed {} to dead letter queue as max attempts exceeded. Message data: {}", message.getId(),
+        message.getMessage().getMetadataMap());
+  }
+
   private List<PendingEntry> getPendingEntries() {
     Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal();
 
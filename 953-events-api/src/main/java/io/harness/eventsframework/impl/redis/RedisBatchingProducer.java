@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.eventsframework.producer.Message;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.resilience4j.retry.Retry;
+import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+
+/**
+ * Producer that coalesces the messages sent within a short window into one pipelined round trip of XADDs.
+ *
+ * send still returns the id of the message, it blocks until the batch the message went out with is written. A batch
+ * is written as soon as it holds maxBatchSize messages or lingerTime after its first message, whichever comes
+ * first, so a lone message waits at most lingerTime. A sender gives up after sendTimeout, which covers the retries
+ * of a failed batch, and sends after shutdown fail right away.
+ *
+ * A batch is written in a MULTI/EXEC transaction, either all of its messages are added to the stream or none is, so
+ * that retrying a failed batch does not add the messages that made it the first time again.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisBatchingProducer extends RedisProducer {
+  private static final String REDIS_PRODUCER_BATCH_SIZE_METRIC = "redis_producer_batch_size";
+  private static final String REDIS_PRODUCER_BATCH_LATENCY_METRIC = "redis_producer_batch_latency";
+
+  private final RedisEventMetricPublisher redisEventMetricPublisher;
+  private final int maxBatchSize;
+  private final Duration lingerTime;
+  private final Duration sendTimeout;
+  private final BlockingQueue<PendingMessage> pendingMessages = new LinkedBlockingQueue<>();
+  private final ExecutorService flushExecutor;
+  private volatile boolean closed;
+
+  @Value
+  @Builder
+  public static class BatchingOptions {
+    @Builder.Default int maxBatchSize = 100;
+    @Builder.Default Duration lingerTime = Duration.ofMillis(5);
+    // Longer than the retries of a failed batch, which back off for about 15 seconds in total
+    @Builder.Default Duration sendTimeout = Duration.ofSeconds(30);
+    // Compression is off unless set, consumers older than the encoding flag cannot read compressed payloads
+    @Builder.Default int compressionThresholdBytes = Integer.MAX_VALUE;
+  }
+
+  @Value
+  private static class PendingMessage {
+    Map<String, String> redisData;
+    long enqueuedAt;
+    CompletableFuture<String> messageId = new CompletableFuture<>();
+  }
+
+  public RedisBatchingProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, BatchingOptions batchingOptions,
+      RedisEventMetricPublisher redisEventMetricPublisher) {
+    super(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
+    this.redisEventMetricPublisher = redisEventMetricPublisher;
+    this.maxBatchSize = batchingOptions.getMaxBatchSize();
+    this.lingerTime = batchingOptions.getLingerTime();
+    this.sendTimeout = batchingOptions.getSendTimeout();
+    this.compressionThresholdBytes = batchingOptions.getCompressionThresholdBytes();
+    this.flushExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("redis-batching-producer-" + topicName).setDaemon(true).build());
+    flushExecutor.submit(this::flushLoop);
+  }
+
+  @Override
+  public String send(Message message) {
+    if (closed) {
+      throw new EventsFrameworkDownException("Producer for " + getTopicName() + " was shut down");
+    }
+    PendingMessage pendingMessage = new PendingMessage(prepareRedisData(message), System.currentTimeMillis());
+    pendingMessages.add(pendingMessage);
+    if (closed && pendingMessages.remove(pendingMessage)) {
+      // Shut down while enqueuing, the flush loop may already be gone
+      throw new EventsFrameworkDownException("Producer for " + getTopicName() + " was shut down");
+    }
+    try {
+      return pendingMessage.getMessageId().get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      pendingMessages.remove(pendingMessage);
+      throw new EventsFrameworkDownException(
+          "Timed out after " + sendTimeout + " waiting for the message to be sent to " + getTopicName());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EventsFrameworkDownException("Interrupted while waiting for the message to be sent");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof EventsFrameworkDownException) {
+        throw(EventsFrameworkDownException) e.getCause();
+      }
+      throw new EventsFrameworkDownException(e.getCause().getMessage());
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    closed = true;
+    flushExecutor.shutdownNow();
+    super.shutdown();
+  }
+
+  private void flushLoop() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        PendingMessage first = pendingMessages.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<PendingMessage> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerTime.toNanos();
+        while (batch.size() < maxBatchSize) {
+          PendingMessage next = pendingMessages.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("Unexpected error in the batching producer of topic {}", getTopicName(), e);
+      }
+    }
+    List<PendingMessage> unsent = new ArrayList<>();
+    pendingMessages.drainTo(unsent);
+    unsent.forEach(pendingMessage
+        -> pendingMessage.getMessageId().completeExceptionally(
+            new EventsFrameworkDownException("Producer for " + getTopicName() + " was shut down")));
+  }
+
+  private void flush(List<PendingMessage> batch) {
+    long startTime = System.currentTimeMillis();
+    Supplier<List<StreamMessageId>> retryingSend = Retry.decorateSupplier(retry, () -> sendBatch(batch));
+    Try<List<StreamMessageId>> result = Try.ofSupplier(retryingSend);
+    if (result.isFailure()) {
+      // Exhausted exponential backoff to try operating on redis
+      EventsFrameworkDownException exception = new EventsFrameworkDownException(result.getCause().getMessage());
+      batch.forEach(pendingMessage -> pendingMessage.getMessageId().completeExceptionally(exception));
+      return;
+    }
+
+    List<StreamMessageId> messageIds = result.get();
+    for (int i = 0; i < batch.size(); i++) {
+      Map<String, String> redisData = batch.get(i).getRedisData();
+      redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+      log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageIds.get(i),
+          redisData, getTopicName());
+      batch.get(i).getMessageId().complete(messageIds.get(i).toString());
+    }
+    publishMetrics(batch, startTime);
+  }
+
+  private List<StreamMessageId> sendBatch(List<PendingMessage> batch) {
+    try {
+      RBatch redisBatch =
+          redissonClient.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+      RStreamAsync<String, String> batchStream = redisBatch.getStream(stream.getName(), stream.getCodec());
+      List<RFuture<StreamMessageId>> futures = new ArrayList<>(batch.size());
+      for (PendingMessage pendingMessage : batch) {
+        futures.add(batchStream.addAllAsync(pendingMessage.getRedisData(), maxTopicSize, false));
+      }
+      redisBatch.execute();
+
+      List<StreamMessageId> messageIds = new ArrayList<>(batch.size());
+      for (RFuture<StreamMessageId> future : futures) {
+        messageIds.add(future.getNow());
+      }
+      return messageIds;
+    } catch (Exception ex) {
+      log.warn("Exception occurred while sending a batch of {} messages", batch.size(), ex);
+      throw ex;
+    }
+  }
+
+  private void publishMetrics(List<PendingMessage> batch, long flushStartTime) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      RedisEventMetricDTO redisEventMetricDTO = RedisEventMetricDTO.builder().streamName(getTopicName()).build();
+      redisEventMetricPublisher.sendDistributionMetricWithEventContext(
+          redisEventMetricDTO, REDIS_PRODUCER_BATCH_SIZE_METRIC, batch.size());
+      // Measured from the oldest message of the batch, so it includes the time spent waiting for the batch to fill
+      redisEventMetricPublisher.sendDurationMetricWithEventContext(redisEventMetricDTO,
+          REDIS_PRODUCER_BATCH_LATENCY_METRIC,
+          Duration.ofMillis(System.currentTimeMillis() - Math.min(flushStartTime, batch.get(0).getEnqueuedAt())));
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis batching producer :", ex);
+    }
+  }
+}
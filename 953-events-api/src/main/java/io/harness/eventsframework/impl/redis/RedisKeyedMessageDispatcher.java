@@ -0,0 +1,260 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.util.Timestamps;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes the batches read from a consumer in parallel while keeping the order of the messages that share an
+ * ordering key.
+ *
+ * The messages of a batch are grouped by key and each group is processed in stream id order on a bounded pool. A
+ * group stops at its first failure and the key stays blocked across batches: newer messages of that key are left
+ * unacknowledged, so they are redelivered, until the failed message is redelivered and succeeds. A message that still
+ * fails after max attempts is moved to the dead letter queue and acknowledged, and its key moves on to the newer
+ * messages. A key is released anyway once it stayed blocked for longer than the max block time, e.g. because the
+ * failed message was dropped. The processed messages of the whole batch are acknowledged together with a single XACK.
+ *
+ * Messages with different keys are processed in parallel, so the order across keys is not kept.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisKeyedMessageDispatcher {
+  public static final Function<Message, String> ACCOUNT_ORDERING_KEY = message
+      -> message.hasMessage() ? message.getMessage().getMetadataMap().getOrDefault(ACCOUNT_IDENTIFIER_METRICS_KEY, "")
+                              : "";
+  // The entity identifier is only in the payload, whose type differs per entity, so the key stops at the entity type.
+  // The events of different entity types of an account are no longer processed in the order they were sent.
+  public static final Function<Message, String> ENTITY_ORDERING_KEY = message
+      -> ACCOUNT_ORDERING_KEY.apply(message) + "/"
+      + (message.hasMessage() ? message.getMessage().getMetadataMap().getOrDefault(ENTITY_TYPE, "") : "");
+
+  private static final String REDIS_CONSUMER_PROCESSED_METRIC = "redis_consumer_processed_metric";
+  private static final String REDIS_CONSUMER_LAG_METRIC = "redis_consumer_lag_metric";
+  private static final String REDIS_CONSUMER_BATCH_TIME_METRIC = "redis_consumer_batch_time_metric";
+  private static final String REDIS_CONSUMER_DEAD_LETTER_METRIC = "redis_consumer_dead_letter_metric";
+  private static final Duration DEFAULT_MAX_BLOCK_TIME = Duration.ofMinutes(10);
+  private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  private final Consumer consumer;
+  private final String topicName;
+  private final Function<Message, String> orderingKeyFunction;
+  private final ExecutorService executorService;
+  private final RedisEventMetricPublisher redisEventMetricPublisher;
+  private final Duration maxBlockTime;
+  private final int maxAttempts;
+  // Ordering key -> the failed message that newer messages of the key have to wait for
+  private final Map<String, BlockedKey> blockedKeys = new ConcurrentHashMap<>();
+
+  private static class BlockedKey {
+    private final String messageId;
+    private final long blockedAt;
+    // Only touched by the task processing the key, a key is processed by one task at a time
+    private int attempts = 1;
+
+    BlockedKey(String messageId, long blockedAt) {
+      this.messageId = messageId;
+      this.blockedAt = blockedAt;
+    }
+  }
+
+  public RedisKeyedMessageDispatcher(Consumer consumer, String topicName, Function<Message, String> orderingKeyFunction,
+      int parallelism, RedisEventMetricPublisher redisEventMetricPublisher) {
+    this(consumer, topicName, orderingKeyFunction, parallelism, redisEventMetricPublisher, DEFAULT_MAX_BLOCK_TIME);
+  }
+
+  public RedisKeyedMessageDispatcher(Consumer consumer, String topicName, Function<Message, String> orderingKeyFunction,
+      int parallelism, RedisEventMetricPublisher redisEventMetricPublisher, Duration maxBlockTime) {
+    this(consumer, topicName, orderingKeyFunction, parallelism, redisEventMetricPublisher, maxBlockTime,
+        DEFAULT_MAX_ATTEMPTS);
+  }
+
+  public RedisKeyedMessageDispatcher(Consumer consumer, String topicName, Function<Message, String> orderingKeyFunction,
+      int parallelism, RedisEventMetricPublisher redisEventMetricPublisher, Duration maxBlockTime, int maxAttempts) {
+    this.consumer = consumer;
+    this.topicName = topicName;
+    this.orderingKeyFunction = orderingKeyFunction;
+    this.executorService = Executors.newFixedThreadPool(
+        parallelism, new ThreadFactoryBuilder().setNameFormat(topicName + "-dispatcher-%d").build());
+    this.redisEventMetricPublisher = redisEventMetricPublisher;
+    this.maxBlockTime = maxBlockTime;
+    this.maxAttempts = Math.max(1, maxAttempts);
+  }
+
+  /**
+   * Reads one batch, processes it and acknowledges the messages the handler succeeded on.
+   *
+   * @return the number of messages read
+   */
+  public int readAndProcess(Duration maxWaitTime, Predicate<Message> handler) throws InterruptedException {
+    List<Message> messages = consumer.read(maxWaitTime);
+    if (messages.isEmpty()) {
+      return 0;
+    }
+    long startTime = System.currentTimeMillis();
+
+    Map<String, List<Message>> messagesByKey = new LinkedHashMap<>();
+    for (Message message : messages) {
+      messagesByKey.computeIfAbsent(orderingKeyFunction.apply(message), key -> new ArrayList<>()).add(message);
+    }
+
+    List<Callable<List<String>>> tasks = new ArrayList<>();
+    for (Map.Entry<String, List<Message>> entry : messagesByKey.entrySet()) {
+      tasks.add(() -> processInOrder(entry.getKey(), entry.getValue(), handler));
+    }
+
+    List<String> processedIds = new ArrayList<>();
+    for (Future<List<String>> future : executorService.invokeAll(tasks)) {
+      try {
+        processedIds.addAll(future.get());
+      } catch (ExecutionException ex) {
+        log.error("Failed to process messages of topic {}", topicName, ex.getCause());
+      }
+    }
+
+    if (!processedIds.isEmpty()) {
+      consumer.acknowledge(processedIds.toArray(new String[0]));
+    }
+    publishMetrics(messages, processedIds.size(), System.currentTimeMillis() - startTime);
+    return messages.size();
+  }
+
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  private List<String> processInOrder(String key, List<Message> messages, Predicate<Message> handler) {
+    // A redelivered message comes back with its original id, sort so that it goes ahead of the newer ones
+    List<Message> orderedMessages = new ArrayList<>(messages);
+    orderedMessages.sort((first, second) -> compareIds(first.getId(), second.getId()));
+
+    BlockedKey blockedKey = blockedKeys.get(key);
+    if (blockedKey != null && System.currentTimeMillis() - blockedKey.blockedAt > maxBlockTime.toMillis()) {
+      log.warn("Releasing ordering key {} of topic {}, message {} was not redelivered in time", key, topicName,
+          blockedKey.messageId);
+      blockedKeys.remove(key, blockedKey);
+      blockedKey = null;
+    }
+
+    List<String> processedIds = new ArrayList<>();
+    for (Message message : orderedMessages) {
+      if (blockedKey != null && compareIds(message.getId(), blockedKey.messageId) > 0) {
+        // Newer than the failed message, which has not been processed yet, leave it for the redelivery
+        break;
+      }
+      if (!handler.test(message)) {
+        if (blockedKey == null || !blockedKey.messageId.equals(message.getId())) {
+          blockedKey = new BlockedKey(message.getId(), System.currentTimeMillis());
+          blockedKeys.put(key, blockedKey);
+        } else {
+          blockedKey.attempts++;
+        }
+        if (blockedKey.attempts < maxAttempts) {
+          break;
+        }
+        // A poison message, it goes out of the way of the newer messages of its key
+        deadLetter(message, blockedKey.attempts);
+        processedIds.add(message.getId());
+        blockedKeys.remove(key, blockedKey);
+        blockedKey = null;
+        continue;
+      }
+      processedIds.add(message.getId());
+      if (blockedKey != null && blockedKey.messageId.equals(message.getId())) {
+        blockedKeys.remove(key, blockedKey);
+        blockedKey = null;
+      }
+    }
+    return processedIds;
+  }
+
+  private void deadLetter(Message message, int attempts) {
+    log.error("Moving message {} of topic {} to the dead letter queue, it failed {} times", message.getId(), topicName,
+        attempts);
+    if (consumer instanceof RedisAbstractConsumer) {
+      try {
+        ((RedisAbstractConsumer) consumer).moveMessageToDeadLetterQueue(message);
+      } catch (Exception ex) {
+        log.error("Failed to move message {} of topic {} to the dead letter queue", message.getId(), topicName, ex);
+      }
+    }
+    if (redisEventMetricPublisher != null) {
+      try {
+        redisEventMetricPublisher.sendMetricWithEventContext(
+            RedisEventMetricDTO.builder().streamName(topicName).build(), REDIS_CONSUMER_DEAD_LETTER_METRIC);
+      } catch (Exception ex) {
+        log.warn("Error while sending metrics for redis consumer of topic {}", topicName, ex);
+      }
+    }
+  }
+
+  // Redis stream ids are <millis>-<sequence>
+  @VisibleForTesting
+  static int compareIds(String first, String second) {
+    int firstDash = first.indexOf('-');
+    int secondDash = second.indexOf('-');
+    if (firstDash < 0 || secondDash < 0) {
+      return first.compareTo(second);
+    }
+    long firstMillis = Long.parseLong(first.substring(0, firstDash));
+    long secondMillis = Long.parseLong(second.substring(0, secondDash));
+    if (firstMillis != secondMillis) {
+      return Long.compare(firstMillis, secondMillis);
+    }
+    return Long.compare(
+        Long.parseLong(first.substring(firstDash + 1)), Long.parseLong(second.substring(secondDash + 1)));
+  }
+
+  private void publishMetrics(List<Message> messages, int processedCount, long batchTimeMillis) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      RedisEventMetricDTO redisEventMetricDTO = RedisEventMetricDTO.builder().streamName(topicName).build();
+      long oldestTimestamp = messages.stream()
+                                 .filter(Message::hasTimestamp)
+                                 .mapToLong(message -> Timestamps.toMillis(message.getTimestamp()))
+                                 .min()
+                                 .orElse(System.currentTimeMillis());
+      redisEventMetricPublisher.sendLastValueMetricWithEventContext(
+          redisEventMetricDTO, REDIS_CONSUMER_LAG_METRIC, System.currentTimeMillis() - oldestTimestamp);
+      redisEventMetricPublisher.sendCountMetricWithEventContext(
+          redisEventMetricDTO, REDIS_CONSUMER_PROCESSED_METRIC, processedCount);
+      redisEventMetricPublisher.sendDurationMetricWithEventContext(
+          redisEventMetricDTO, REDIS_CONSUMER_BATCH_TIME_METRIC, Duration.ofMillis(batchTimeMillis));
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis consumer of topic {}", topicName, ex);
+    }
+  }
+}
@@ -8,6 +8,8 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.GZIP_ENCODING;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_ENCODING_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
@@ -40,16 +42,18 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
-  private RStream<String, String> stream;
-  private RedissonClient redissonClient;
+  protected RStream<String, String> stream;
+  protected RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
   // the messages are continuously being accumulated in Redis. To come up with this number, it is
   // very important to understand the alerting on the consumers and the scale estimations of a
   // particular use-case which is pushing to the topic
-  private int maxTopicSize;
+  protected int maxTopicSize;
+  // Payloads of at least this many bytes are sent gzipped, the consumers of the topic have to understand the encoding
+  protected int compressionThresholdBytes = Integer.MAX_VALUE;
 
-  private Retry retry;
+  protected Retry retry;
 
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher) {
@@ -82,10 +86,7 @@ public class RedisProducer extends AbstractProducer {
 
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = prepareRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
@@ -98,6 +99,19 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  protected Map<String, String> prepareRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    byte[] data = message.getData().toByteArray();
+    if (data.length >= compressionThresholdBytes) {
+      data = RedisUtils.compress(data);
+      redisData.put(REDIS_STREAM_ENCODING_KEY, GZIP_ENCODING);
+    }
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(data));
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     redisData.put(PRODUCER, this.getProducerName());
   }
@@ -23,4 +23,11 @@ public class RedisProducerFactory {
     return new RedisProducer(
         topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
   }
+
+  public RedisBatchingProducer createRedisBatchingProducer(String topicName, @NotNull RedissonClient redissonClient,
+      int maxTopicSize, String producerName, String envNamespace,
+      RedisBatchingProducer.BatchingOptions batchingOptions) {
+    return new RedisBatchingProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace,
+        batchingOptions, redisEventMetricPublisher);
+  }
 }
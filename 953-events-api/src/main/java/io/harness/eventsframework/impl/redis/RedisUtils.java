@@ -16,13 +16,20 @@ import static java.lang.Long.parseLong;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
 
+import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.experimental.UtilityClass;
 import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
@@ -35,6 +42,9 @@ public class RedisUtils {
   // Keeping this as small as possible to save on memory for redis instance
   public static final String REDIS_STREAM_INTERNAL_KEY = "o";
   public static final String REDIS_STREAM_TRACE_ID_KEY = "trace_id";
+  // Set when the payload under REDIS_STREAM_INTERNAL_KEY is compressed
+  public static final String REDIS_STREAM_ENCODING_KEY = "e";
+  public static final String GZIP_ENCODING = "gzip";
   public static final int MAX_DEAD_LETTER_QUEUE_SIZE = 50000;
   public static final int UNACKED_RETRY_COUNT = 10;
 
@@ -83,18 +93,46 @@ public class RedisUtils {
 
   public io.harness.eventsframework.producer.Message getProducedMessage(
       String messageData, Map<String, String> messageMap) {
+    return getProducedMessage(messageData, null, messageMap);
+  }
+
+  public io.harness.eventsframework.producer.Message getProducedMessage(
+      String messageData, String encoding, Map<String, String> messageMap) {
+    byte[] data = Base64.getDecoder().decode(messageData);
+    if (GZIP_ENCODING.equals(encoding)) {
+      data = decompress(data);
+    }
     return io.harness.eventsframework.producer.Message.newBuilder()
-        .setData(ByteString.copyFrom(Base64.getDecoder().decode(messageData)))
+        .setData(ByteString.copyFrom(data))
         .putAllMetadata(messageMap)
         .build();
   }
 
+  public byte[] compress(byte[] data) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length / 2);
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(data);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  public byte[] decompress(byte[] data) {
+    try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+      return ByteStreams.toByteArray(gzipInputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   public Message getConsumerMessageObject(StreamMessageId messageId, Map<String, String> messageMap) {
     String messageData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
+    String encoding = messageMap.remove(REDIS_STREAM_ENCODING_KEY);
 
     return Message.newBuilder()
         .setId(messageId.toString())
-        .setMessage(getProducedMessage(messageData, messageMap))
+        .setMessage(getProducedMessage(messageData, encoding, messageMap))
         .setTimestamp(RedisUtils.getMessageTimestamp(messageId.toString()))
         .build();
   }
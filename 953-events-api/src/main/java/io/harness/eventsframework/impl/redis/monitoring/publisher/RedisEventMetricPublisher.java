@@ -14,6 +14,7 @@ import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
+import java.time.Duration;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,4 +29,34 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  /**
+   * Adds count to a metric aggregated as a Sum in one recording.
+   */
+  public void sendCountMetricWithEventContext(RedisEventMetricDTO redisEventMetricDTO, String metricName, int count) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(metricName, count);
+    }
+  }
+
+  public void sendLastValueMetricWithEventContext(
+      RedisEventMetricDTO redisEventMetricDTO, String metricName, double value) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void sendDistributionMetricWithEventContext(
+      RedisEventMetricDTO redisEventMetricDTO, String metricName, double sample) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(metricName, sample);
+    }
+  }
+
+  public void sendDurationMetricWithEventContext(
+      RedisEventMetricDTO redisEventMetricDTO, String metricName, Duration duration) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.impl.redis.RedisUtils.GZIP_ENCODING;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_ENCODING_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.RedissonPromise;
+
+public class RedisBatchingProducerTest extends CategoryTest {
+  private RedissonClient redissonClient;
+  private RBatch batch;
+  private RStreamAsync<String, String> batchStream;
+  private final List<Map<String, String>> written = Collections.synchronizedList(new ArrayList<>());
+  private RedisBatchingProducer producer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    RStream<String, String> stream = mock(RStream.class);
+    when(redissonClient.<String, String>getStream(any(), any(Codec.class))).thenReturn(stream);
+    batch = mock(RBatch.class);
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+    batchStream = mock(RStreamAsync.class);
+    when(batch.<String, String>getStream(any(), any())).thenReturn(batchStream);
+
+    AtomicLong sequence = new AtomicLong();
+    when(batchStream.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenAnswer(invocation -> {
+      Map<String, String> redisData = invocation.getArgument(0);
+      written.add(new HashMap<>(redisData));
+      return RedissonPromise.newSucceededFuture(new StreamMessageId(1, sequence.getAndIncrement()));
+    });
+  }
+
+  @After
+  public void tearDown() {
+    if (producer != null) {
+      producer.shutdown();
+    }
+  }
+
+  private RedisBatchingProducer producer(RedisBatchingProducer.BatchingOptions batchingOptions) {
+    producer = new RedisBatchingProducer("topic", redissonClient, 1000, "producer", "", batchingOptions, null);
+    // No backoff in the tests, a failed batch fails right away
+    producer.retry = Retry.of("test", RetryConfig.custom().maxAttempts(1).build());
+    return producer;
+  }
+
+  private static Message message(String data) {
+    return Message.newBuilder().setData(ByteString.copyFromUtf8(data)).build();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConcurrentSendsAreWrittenInOneBatch() throws Exception {
+    producer(
+        RedisBatchingProducer.BatchingOptions.builder().maxBatchSize(4).lingerTime(Duration.ofSeconds(10)).build());
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    List<String> messageIds = new ArrayList<>();
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        String data = "data" + i;
+        futures.add(executorService.submit(() -> producer.send(message(data))));
+      }
+      for (Future<String> future : futures) {
+        messageIds.add(future.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    // A full batch goes out without waiting for the linger time, in one transaction
+    verify(batch, times(1)).execute();
+    ArgumentCaptor<BatchOptions> batchOptions = ArgumentCaptor.forClass(BatchOptions.class);
+    verify(redissonClient).createBatch(batchOptions.capture());
+    assertThat(batchOptions.getValue().getExecutionMode()).isEqualTo(ExecutionMode.IN_MEMORY_ATOMIC);
+    assertThat(new HashSet<>(messageIds)).containsExactlyInAnyOrder("1-0", "1-1", "1-2", "1-3");
+    assertThat(written).hasSize(4);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLoneMessageIsWrittenAfterLingerTime() {
+    producer(RedisBatchingProducer.BatchingOptions.builder().lingerTime(Duration.ofMillis(10)).build());
+
+    assertThat(producer.send(message("data"))).isEqualTo("1-0");
+    assertThat(written.get(0)).doesNotContainKey(REDIS_STREAM_ENCODING_KEY);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedBatchFailsItsSenders() {
+    producer(RedisBatchingProducer.BatchingOptions.builder().build());
+    when(batch.execute()).thenThrow(new IllegalStateException("redis is down"));
+
+    assertThatThrownBy(() -> producer.send(message("data")))
+        .isInstanceOf(EventsFrameworkDownException.class)
+        .hasMessageContaining("redis is down");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSendGivesUpAfterSendTimeout() {
+    producer(RedisBatchingProducer.BatchingOptions.builder().sendTimeout(Duration.ofMillis(100)).build());
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await(10, TimeUnit.SECONDS);
+      return null;
+    })
+        .when(batch)
+        .execute();
+
+    try {
+      assertThatThrownBy(() -> producer.send(message("data")))
+          .isInstanceOf(EventsFrameworkDownException.class)
+          .hasMessageContaining("Timed out");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSendAfterShutdownFailsFast() {
+    producer(RedisBatchingProducer.BatchingOptions.builder().build());
+    producer.shutdown();
+
+    assertThatThrownBy(() -> producer.send(message("data")))
+        .isInstanceOf(EventsFrameworkDownException.class)
+        .hasMessageContaining("shut down");
+    assertThat(written).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLargePayloadIsCompressed() {
+    producer(RedisBatchingProducer.BatchingOptions.builder().compressionThresholdBytes(16).build());
+    String data = String.join("", Collections.nCopies(100, "payload"));
+
+    producer.send(message(data));
+
+    Map<String, String> redisData = written.get(0);
+    assertThat(redisData).containsEntry(REDIS_STREAM_ENCODING_KEY, GZIP_ENCODING);
+    Message decoded = RedisUtils.getProducedMessage(
+        redisData.get(REDIS_STREAM_INTERNAL_KEY), redisData.get(REDIS_STREAM_ENCODING_KEY), new HashMap<>());
+    assertThat(decoded.getData().toStringUtf8()).isEqualTo(data);
+  }
+}
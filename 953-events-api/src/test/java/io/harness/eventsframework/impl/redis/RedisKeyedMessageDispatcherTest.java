@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class RedisKeyedMessageDispatcherTest extends CategoryTest {
+  private static final Duration WAIT_TIME = Duration.ofSeconds(1);
+
+  private Consumer consumer;
+  private RedisKeyedMessageDispatcher dispatcher;
+
+  @Before
+  public void setUp() {
+    consumer = mock(Consumer.class);
+    dispatcher = new RedisKeyedMessageDispatcher(
+        consumer, "test", RedisKeyedMessageDispatcher.ACCOUNT_ORDERING_KEY, 4, null, Duration.ofMinutes(10));
+  }
+
+  @After
+  public void tearDown() {
+    dispatcher.shutdown();
+  }
+
+  private static Message message(String id, String accountId) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, accountId)
+                        .build())
+        .build();
+  }
+
+  private List<String> acknowledged() {
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(consumer).acknowledge(captor.capture());
+    return captor.getAllValues();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMessagesOfAKeyAreProcessedInOrder() throws InterruptedException {
+    when(consumer.read(WAIT_TIME))
+        .thenReturn(Arrays.asList(message("1-0", "a"), message("2-0", "b"), message("2-1", "a"), message("3-0", "b"),
+            message("4-0", "a")));
+    List<String> processedOfA = Collections.synchronizedList(new ArrayList<>());
+    List<String> processedOfB = Collections.synchronizedList(new ArrayList<>());
+
+    int read = dispatcher.readAndProcess(WAIT_TIME, message -> {
+      String accountId = message.getMessage().getMetadataMap().get(ACCOUNT_IDENTIFIER_METRICS_KEY);
+      ("a".equals(accountId) ? processedOfA : processedOfB).add(message.getId());
+      return true;
+    });
+
+    assertThat(read).isEqualTo(5);
+    assertThat(processedOfA).containsExactly("1-0", "2-1", "4-0");
+    assertThat(processedOfB).containsExactly("2-0", "3-0");
+    // All of them in one acknowledgement
+    assertThat(acknowledged()).containsExactlyInAnyOrder("1-0", "2-0", "2-1", "3-0", "4-0");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailureBlocksTheKeyUntilRedelivered() throws InterruptedException {
+    Set<String> failing = new HashSet<>(Collections.singletonList("2-0"));
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    when(consumer.read(WAIT_TIME))
+        .thenReturn(Arrays.asList(message("1-0", "a"), message("2-0", "a"), message("3-0", "a"), message("3-1", "b")),
+            Arrays.asList(message("5-0", "a"), message("5-1", "b")),
+            Arrays.asList(message("5-0", "a"), message("3-0", "a"), message("2-0", "a")));
+
+    // The first batch fails on 2-0, 3-0 of the same key must not go ahead of it
+    dispatcher.readAndProcess(WAIT_TIME, message -> {
+      if (failing.contains(message.getId())) {
+        return false;
+      }
+      processed.add(message.getId());
+      return true;
+    });
+    assertThat(processed).containsExactlyInAnyOrder("1-0", "3-1");
+    assertThat(acknowledged()).containsExactlyInAnyOrder("1-0", "3-1");
+
+    // A newer message of the blocked key is skipped and left unacknowledged
+    clearInvocations(consumer);
+    dispatcher.readAndProcess(WAIT_TIME, message -> processed.add(message.getId()));
+    assertThat(processed).doesNotContain("5-0").contains("5-1");
+    assertThat(acknowledged()).containsExactly("5-1");
+
+    // Once the failed message is redelivered and succeeds, the key moves on, in id order
+    failing.clear();
+    processed.clear();
+    clearInvocations(consumer);
+    dispatcher.readAndProcess(WAIT_TIME, message -> processed.add(message.getId()));
+    assertThat(processed).containsExactly("2-0", "3-0", "5-0");
+    assertThat(acknowledged()).containsExactlyInAnyOrder("2-0", "3-0", "5-0");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBlockedKeyIsReleasedAfterMaxBlockTime() throws InterruptedException {
+    dispatcher.shutdown();
+    dispatcher = new RedisKeyedMessageDispatcher(
+        consumer, "test", RedisKeyedMessageDispatcher.ACCOUNT_ORDERING_KEY, 4, null, Duration.ZERO);
+
+    when(consumer.read(WAIT_TIME))
+        .thenReturn(Collections.singletonList(message("1-0", "a")), Collections.singletonList(message("2-0", "a")));
+    dispatcher.readAndProcess(WAIT_TIME, message -> false);
+
+    // The failed message never came back, the key does not stay blocked forever
+    Thread.sleep(10);
+    dispatcher.readAndProcess(WAIT_TIME, message -> true);
+    assertThat(acknowledged()).containsExactly("2-0");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMessageFailingMaxAttemptsIsDeadLetteredAndReleasesTheKey() throws InterruptedException {
+    dispatcher.shutdown();
+    RedisAbstractConsumer redisConsumer = mock(RedisAbstractConsumer.class);
+    consumer = redisConsumer;
+    dispatcher = new RedisKeyedMessageDispatcher(
+        consumer, "test", RedisKeyedMessageDispatcher.ACCOUNT_ORDERING_KEY, 4, null, Duration.ofMinutes(10), 2);
+    Message poison = message("1-0", "a");
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    when(consumer.read(WAIT_TIME))
+        .thenReturn(Arrays.asList(poison, message("2-0", "a")), Arrays.asList(poison, message("2-0", "a")));
+    Predicate<Message> handler = message -> !message.getId().equals("1-0") && processed.add(message.getId());
+
+    dispatcher.readAndProcess(WAIT_TIME, handler);
+    assertThat(processed).isEmpty();
+    verify(consumer, never()).acknowledge(any());
+
+    // The second failure is the last attempt, the newer message of the key goes ahead once it is out of the way
+    dispatcher.readAndProcess(WAIT_TIME, handler);
+    verify(redisConsumer).moveMessageToDeadLetterQueue(poison);
+    assertThat(processed).containsExactly("2-0");
+    assertThat(acknowledged()).containsExactly("1-0", "2-0");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEntityOrderingKey() {
+    Message message = Message.newBuilder()
+                          .setId("1-0")
+                          .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                                          .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, "account")
+                                          .putMetadata(ENTITY_TYPE, "connector")
+                                          .build())
+                          .build();
+    assertThat(RedisKeyedMessageDispatcher.ENTITY_ORDERING_KEY.apply(message)).isEqualTo("account/connector");
+    assertThat(RedisKeyedMessageDispatcher.ACCOUNT_ORDERING_KEY.apply(message)).isEqualTo("account");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompareIds() {
+    assertThat(RedisKeyedMessageDispatcher.compareIds("2-0", "10-0")).isNegative();
+    assertThat(RedisKeyedMessageDispatcher.compareIds("10-2", "10-10")).isNegative();
+    assertThat(RedisKeyedMessageDispatcher.compareIds("10-10", "10-10")).isZero();
+    assertThat(RedisKeyedMessageDispatcher.compareIds("11-0", "10-10")).isPositive();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.impl.redis.RedisUtils.GZIP_ENCODING;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_ENCODING_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.StreamMessageId;
+
+public class RedisUtilsTest extends CategoryTest {
+  private static final byte[] DATA = String.join("", Collections.nCopies(100, "payload")).getBytes(UTF_8);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompressAndDecompress() {
+    byte[] compressed = RedisUtils.compress(DATA);
+
+    assertThat(compressed.length).isLessThan(DATA.length);
+    assertThat(RedisUtils.decompress(compressed)).isEqualTo(DATA);
+    assertThat(RedisUtils.decompress(RedisUtils.compress(new byte[0]))).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDecompressRejectsPlainData() {
+    assertThatThrownBy(() -> RedisUtils.decompress(DATA)).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConsumerMessageOfCompressedPayload() {
+    Map<String, String> messageMap = new HashMap<>();
+    messageMap.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(RedisUtils.compress(DATA)));
+    messageMap.put(REDIS_STREAM_ENCODING_KEY, GZIP_ENCODING);
+    messageMap.put("accountId", "account");
+
+    Message message = RedisUtils.getConsumerMessageObject(new StreamMessageId(1000, 1), messageMap);
+
+    assertThat(message.getId()).isEqualTo("1000-1");
+    assertThat(message.getMessage().getData().toByteArray()).isEqualTo(DATA);
+    // The encoding flag is internal to the stream and not handed to the consumer
+    assertThat(message.getMessage().getMetadataMap()).containsOnlyKeys("accountId");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConsumerMessageOfPlainPayload() {
+    Map<String, String> messageMap = new HashMap<>();
+    messageMap.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(DATA));
+
+    Message message = RedisUtils.getConsumerMessageObject(new StreamMessageId(1000, 1), messageMap);
+
+    assertThat(message.getMessage().getData().toByteArray()).isEqualTo(DATA);
+    assertThat(message.getMessage().getMetadataMap()).isEmpty();
+  }
+}
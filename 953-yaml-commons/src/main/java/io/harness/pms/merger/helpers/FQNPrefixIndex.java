@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.merger.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.pms.merger.fqn.FQN;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tells whether any of a set of FQNs lies under a given one, as a non empty result of
+ * {@link YamlSubMapExtractor#getFQNToObjectSubMap} would, without going through the whole set on every lookup.
+ *
+ * {@link FQN#contains} compares the displayed FQNs, each node of which ends with a dot, so the set of their prefixes
+ * ending with a dot answers it exactly.
+ */
+@OwnedBy(PIPELINE)
+class FQNPrefixIndex {
+  private final Set<String> displayPrefixes = new HashSet<>();
+  private final boolean empty;
+
+  FQNPrefixIndex(Collection<FQN> fqns) {
+    for (FQN fqn : fqns) {
+      String display = fqn.display();
+      for (int i = display.indexOf('.'); i >= 0; i = display.indexOf('.', i + 1)) {
+        displayPrefixes.add(display.substring(0, i + 1));
+      }
+    }
+    empty = fqns.isEmpty();
+  }
+
+  boolean hasAnyUnder(FQN baseFQN) {
+    return hasAnyUnder(baseFQN.display());
+  }
+
+  boolean hasAnyUnder(String baseFQNDisplay) {
+    if (baseFQNDisplay.isEmpty()) {
+      return !empty;
+    }
+    return displayPrefixes.contains(baseFQNDisplay);
+  }
+}
@@ -19,7 +19,6 @@ import io.harness.data.structure.EmptyPredicate;
 import io.harness.data.structure.HarnessStringUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.YamlException;
-import io.harness.pms.merger.YamlConfig;
 import io.harness.pms.merger.fqn.FQN;
 import io.harness.pms.merger.fqn.FQNNode;
 import io.harness.pms.merger.fqn.FQNNode.NodeType;
@@ -66,10 +65,14 @@ public class MergeHelper {
 
   public String mergeRuntimeInputValuesIntoOriginalYaml(
       String originalYaml, String inputSetPipelineCompYaml, boolean appendInputSetValidator) {
-    YamlConfig mergedYamlConfig = mergeRuntimeInputValuesIntoOriginalYamlInternal(
-        originalYaml, inputSetPipelineCompYaml, appendInputSetValidator, false);
+    return writeYaml(mergeRuntimeInputValuesIntoOriginalYamlInternal(readYamlMap(originalYaml),
+        readYamlMap(inputSetPipelineCompYaml), appendInputSetValidator, false, false));
+  }
 
-    return mergedYamlConfig.getYaml();
+  public String mergeRuntimeInputValuesIntoOriginalYaml(
+      String originalYaml, JsonNode inputSetPipelineCompJsonNode, boolean appendInputSetValidator) {
+    return writeYaml(mergeRuntimeInputValuesIntoOriginalYamlInternal(
+        readYamlMap(originalYaml), inputSetPipelineCompJsonNode, appendInputSetValidator, false, false));
   }
 
   public JsonNode mergeRuntimeInputValuesIntoOriginalJsonNode(
@@ -86,11 +89,8 @@ public class MergeHelper {
 
   public String mergeRuntimeInputValuesAndCheckForRuntimeInOriginalYaml(String baseYaml, String runtimeInputYaml,
       boolean appendInputSetValidator, boolean checkIfPipelineValueIsRuntime) {
-    YamlConfig baseConfig = new YamlConfig(baseYaml);
-    YamlConfig runtimeConfig = new YamlConfig(runtimeInputYaml);
-    return mergeRuntimeInputValuesIntoOriginalYamlInternal(
-        baseConfig, runtimeConfig, appendInputSetValidator, false, checkIfPipelineValueIsRuntime)
-        .getYaml();
+    return writeYaml(mergeRuntimeInputValuesIntoOriginalYamlInternal(readYamlMap(baseYaml),
+        readYamlMap(runtimeInputYaml), appendInputSetValidator, false, checkIfPipelineValueIsRuntime));
   }
 
   // Merge the executionInput values in the originalJsonNode when called by the execution-input flow during execution.
@@ -100,18 +100,19 @@ public class MergeHelper {
         originalJsonNode, inputSetPipelineCompJsonNode, appendInputSetValidator, true, false);
   }
 
-  private YamlConfig mergeRuntimeInputValuesIntoOriginalYamlInternal(String originalYaml,
-      String inputSetPipelineCompYaml, boolean appendInputSetValidator, boolean isAtExecutionTime) {
-    YamlConfig originalYamlConfig = new YamlConfig(originalYaml);
-    YamlConfig inputSetConfig = new YamlConfig(inputSetPipelineCompYaml);
-    return mergeRuntimeInputValuesIntoOriginalYamlInternal(
-        originalYamlConfig, inputSetConfig, appendInputSetValidator, isAtExecutionTime);
+  // The yaml strings are read and written the way YamlConfig does, without the FQN maps it also builds, the merge
+  // builds its own
+  private JsonNode readYamlMap(String yaml) {
+    try {
+      return YamlUtils.readTree(yaml).getNode().getCurrJsonNode();
+    } catch (IOException e) {
+      log.error("Could not convert yaml to JsonNode. Yaml:\n" + yaml, e);
+      throw new InvalidRequestException("Could not convert yaml to JsonNode: " + e.getMessage());
+    }
   }
 
-  private YamlConfig mergeRuntimeInputValuesIntoOriginalYamlInternal(YamlConfig originalYamlConfig,
-      YamlConfig inputSetConfig, boolean appendInputSetValidator, boolean isAtExecutionTime) {
-    return mergeRuntimeInputValuesIntoOriginalYamlInternal(
-        originalYamlConfig, inputSetConfig, appendInputSetValidator, isAtExecutionTime, false);
+  private String writeYaml(JsonNode yamlMap) {
+    return yamlMap.isEmpty() ? null : YamlUtils.writeYamlString(yamlMap);
   }
 
   // checkIfPipelineValueIsRuntime is supposed to be true if the values from inputSetConfig are to be merged only if the
@@ -122,14 +123,6 @@ public class MergeHelper {
   // inputSetConfig is that of a second input set, then the values from inputSetConfig can override those from
   // originalYamlConfig, because this second input set should be allowed to override the values given by the first input
   // set. Hence, in this case checkIfPipelineValueIsRuntime is false
-  private YamlConfig mergeRuntimeInputValuesIntoOriginalYamlInternal(YamlConfig originalYamlConfig,
-      YamlConfig inputSetConfig, boolean appendInputSetValidator, boolean isAtExecutionTime,
-      boolean checkIfPipelineValueIsRuntime) {
-    JsonNode mergedYamlMap = mergeRuntimeInputValuesIntoOriginalYamlInternal(originalYamlConfig.getYamlMap(),
-        inputSetConfig.getYamlMap(), appendInputSetValidator, isAtExecutionTime, checkIfPipelineValueIsRuntime);
-    return new YamlConfig(mergedYamlMap);
-  }
-
   private JsonNode mergeRuntimeInputValuesIntoOriginalYamlInternal(JsonNode originalYamlJsonNode,
       JsonNode inputSetJsonNode, boolean appendInputSetValidator, boolean isAtExecutionTime,
       boolean checkIfPipelineValueIsRuntime) {
@@ -147,11 +140,13 @@ public class MergeHelper {
     }
     Map<FQN, Object> mergedInputSetFqnMap = new HashMap<>();
     List<Map<FQN, Object>> inputSetFqnMapList = new ArrayList<>();
+    List<FQNPrefixIndex> inputSetPrefixIndexList = new ArrayList<>();
 
     // Populating the inputSetFqnMaps for all inputSet JsonNodes.
     for (JsonNode inputSetJsonNode : inputSetJsonNodes) {
       Map<FQN, Object> inputSetFQNMap = FQNMapGenerator.generateFQNMap(inputSetJsonNode);
       inputSetFqnMapList.add(inputSetFQNMap);
+      inputSetPrefixIndexList.add(new FQNPrefixIndex(inputSetFQNMap.keySet()));
     }
     // Merging the inputSetFqnMapList into one mergedInputSetFqnMap such that fqnMap coming first in the list will
     // override the later fqnMap values for same fqn.
@@ -161,6 +156,7 @@ public class MergeHelper {
     Map<FQN, Object> pipelineYamlFQNMap = FQNMapGenerator.generateFQNMap(originalYamlJsonNode);
     Map<FQN, Object> mergedYamlFQNMap = new LinkedHashMap<>(pipelineYamlFQNMap);
     pipelineYamlFQNMap.keySet().forEach(key -> {
+      String keyDisplay = key.display();
       for (int index = 0; index < inputSetJsonNodes.size(); index++) {
         JsonNode inputSetJsonNode = inputSetJsonNodes.get(index);
         Map<FQN, Object> inputSetFQNMap = inputSetFqnMapList.get(index);
@@ -206,8 +202,7 @@ public class MergeHelper {
           mergedYamlFQNMap.put(key, valueFromRuntimeInputYaml);
           break;
         } else {
-          Map<FQN, Object> subMap = YamlSubMapExtractor.getFQNToObjectSubMap(inputSetFQNMap, key);
-          if (!subMap.isEmpty()) {
+          if (inputSetPrefixIndexList.get(index).hasAnyUnder(keyDisplay)) {
             mergedYamlFQNMap.put(key, YamlSubMapExtractor.getNodeForFQN(inputSetJsonNode, key));
             break;
           }
@@ -271,11 +266,16 @@ public class MergeHelper {
         baseFQNs.add(baseFQN);
       }
     });
+    FQNPrefixIndex pipelinePrefixIndex = new FQNPrefixIndex(pipelineYamlFQNMap.keySet());
+    Map<FQN, String> inputSetKeyDisplays = new LinkedHashMap<>();
+    inputSetFQNMap.keySet().forEach(inputSetKey -> inputSetKeyDisplays.put(inputSetKey, inputSetKey.display()));
     baseFQNs.forEach(baseFQN -> {
-      Map<FQN, Object> subMapFromInputSet = YamlSubMapExtractor.getFQNToObjectSubMap(inputSetFQNMap, baseFQN);
-      subMapFromInputSet.keySet().forEach(inputSetKey -> {
-        if (pipelineYamlFQNMap.containsKey(inputSetKey)
-            || EmptyPredicate.isNotEmpty(YamlSubMapExtractor.getFQNToObjectSubMap(pipelineYamlFQNMap, inputSetKey))) {
+      String baseFQNDisplay = baseFQN.display();
+      inputSetKeyDisplays.forEach((inputSetKey, inputSetKeyDisplay) -> {
+        if (!inputSetKeyDisplay.startsWith(baseFQNDisplay)) {
+          return;
+        }
+        if (pipelineYamlFQNMap.containsKey(inputSetKey) || pipelinePrefixIndex.hasAnyUnder(inputSetKeyDisplay)) {
           // if some key is present in pipeline yaml, either as a leaf node or otherwise, then the value from the
           // runtime input yaml needs to be ignored. The first if condition checks if the key is present as a leaf node,
           // and the second one checks if the key is present otherwise
@@ -284,7 +284,7 @@ public class MergeHelper {
         if (mergedYamlFQNMap.containsKey(inputSetKey)) {
           nonIgnorableKeys.put(inputSetKey, mergedYamlFQNMap.get(inputSetKey));
         } else {
-          nonIgnorableKeys.put(inputSetKey, subMapFromInputSet.get(inputSetKey));
+          nonIgnorableKeys.put(inputSetKey, inputSetFQNMap.get(inputSetKey));
         }
       });
     });
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.merger.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.merger.fqn.FQN;
+import io.harness.pms.yaml.YamlUtils;
+import io.harness.rule.Owner;
+
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class FQNPrefixIndexTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testHasAnyUnderMatchesSubMapExtraction() throws IOException {
+    Map<FQN, Object> pipelineFQNMap = FQNMapGenerator.generateFQNMap(YamlUtils.readAsJsonNode(
+        Resources.toString(Objects.requireNonNull(getClass().getClassLoader().getResource("pipeline-extensive.yml")),
+            StandardCharsets.UTF_8)));
+    Map<FQN, Object> inputSetFQNMap = FQNMapGenerator.generateFQNMap(YamlUtils.readAsJsonNode(
+        Resources.toString(Objects.requireNonNull(getClass().getClassLoader().getResource("runtimeInput1.yml")),
+            StandardCharsets.UTF_8)));
+    FQNPrefixIndex inputSetPrefixIndex = new FQNPrefixIndex(inputSetFQNMap.keySet());
+
+    // Every key of the pipeline along with all of its ancestors
+    Set<FQN> baseFQNs = new HashSet<>();
+    pipelineFQNMap.keySet().forEach(key -> {
+      for (int i = 0; i <= key.getFqnList().size(); i++) {
+        baseFQNs.add(FQN.builder().fqnList(key.getFqnList().subList(0, i)).build());
+      }
+    });
+    for (FQN baseFQN : baseFQNs) {
+      assertThat(inputSetPrefixIndex.hasAnyUnder(baseFQN))
+          .as(baseFQN.display())
+          .isEqualTo(!YamlSubMapExtractor.getFQNToObjectSubMap(inputSetFQNMap, baseFQN).isEmpty());
+    }
+    assertThat(baseFQNs.stream().filter(inputSetPrefixIndex::hasAnyUnder)).isNotEmpty();
+    FQN rootFQN = FQN.builder().fqnList(Collections.emptyList()).build();
+    assertThat(inputSetPrefixIndex.hasAnyUnder(rootFQN)).isTrue();
+    assertThat(new FQNPrefixIndex(Collections.emptySet()).hasAnyUnder(rootFQN)).isFalse();
+  }
+}
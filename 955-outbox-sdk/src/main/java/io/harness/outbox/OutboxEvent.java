@@ -53,6 +53,8 @@ public class OutboxEvent implements PersistentEntity {
 
   @NotNull ResourceScope resourceScope;
   @NotNull @Valid Resource resource;
+  // Spreads the events over the partitions of the partitioned poll mode, the events of a resource share one
+  Integer partitionKey;
 
   @NotNull String eventType;
   @NotNull String eventData;
@@ -63,6 +65,15 @@ public class OutboxEvent implements PersistentEntity {
 
   GlobalContext globalContext;
 
+  public static int partitionKeyOf(Resource resource) {
+    // String hash codes are the same on every JVM, the pollers of all the replicas agree on the partitions
+    return Math.floorMod(resourceKey(resource).hashCode(), Integer.MAX_VALUE);
+  }
+
+  static String resourceKey(Resource resource) {
+    return resource == null ? "" : resource.getType() + "/" + resource.getIdentifier();
+  }
+
   public static List<MongoIndex> mongoIndexes() {
     return ImmutableList.<MongoIndex>builder()
         .add(CompoundMongoIndex.builder()
@@ -71,6 +82,13 @@ public class OutboxEvent implements PersistentEntity {
                  .field(OutboxEventKeys.createdAt)
                  .field(OutboxEventKeys.nextUnblockAttemptAt)
                  .build())
+        // Serves the poll of each partition in createdAt order, the partition filter reads partitionKey from the index
+        .add(CompoundMongoIndex.builder()
+                 .name("blocked_createdAt_partitionKey_outbox_Idx")
+                 .field(OutboxEventKeys.blocked)
+                 .field(OutboxEventKeys.createdAt)
+                 .field(OutboxEventKeys.partitionKey)
+                 .build())
         .add(CompoundMongoIndex.builder()
                  .name("eventType_blocked_outbox_Idx")
                  .field(OutboxEventKeys.eventType)
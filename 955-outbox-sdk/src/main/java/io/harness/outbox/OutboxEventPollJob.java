@@ -13,6 +13,7 @@ import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_WAITING_TIME_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_HANDLER_LATENCY_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
 import static java.time.Duration.ofMillis;
@@ -26,6 +27,7 @@ import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.github.resilience4j.core.IntervalFunction;
@@ -34,7 +36,14 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
@@ -50,6 +59,8 @@ public class OutboxEventPollJob implements Runnable {
   private final String outboxLockId;
   private final OutboxMetricsServiceImpl outboxMetricsService;
   private final String serviceId;
+  // Only set in the partitioned poll mode
+  private final ExecutorService handlerExecutor;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
@@ -68,6 +79,19 @@ public class OutboxEventPollJob implements Runnable {
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
                                   .build();
     this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.handlerExecutor = getPartitionCount() > 1
+        ? Executors.newFixedThreadPool(Math.max(1, this.outboxPollConfiguration.getWorkerPoolSize()),
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-event-handler-" + this.outboxPollConfiguration.getLockId() + "-%d")
+                .build())
+        : null;
+  }
+
+  /**
+   * @return the number of partitions the outbox is polled in, 1 unless the partitioned poll mode is on
+   */
+  public int getPartitionCount() {
+    return Math.max(1, outboxPollConfiguration.getPartitionCount());
   }
 
   @Override
@@ -81,6 +105,28 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  /**
+   * Polls the events of one partition of the outbox and handles them on the handler pool, the events of a resource
+   * one after the other in the order they were saved, those of different resources in parallel. The partition is
+   * locked while polled, so that the pollers of the other replicas take the other ones.
+   */
+  public void runPartition(int partition) {
+    try {
+      if (!getMaintenanceFlag()) {
+        pollAndHandlePartition(partition);
+      }
+    } catch (Exception exception) {
+      log.error(String.format("Unexpected error occurred while polling partition %d of the outbox", partition),
+          exception);
+    }
+  }
+
+  public void shutdown() {
+    if (handlerExecutor != null) {
+      handlerExecutor.shutdownNow();
+    }
+  }
+
   private void pollAndHandleOutboxEvents() {
     try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
       if (lock == null) {
@@ -97,29 +143,12 @@ public class OutboxEventPollJob implements Runnable {
 
       for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
         OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        long outboxEventWaitingTime = startTime - outbox.getCreatedAt();
-        boolean success = handle(outbox);
-        long outboxEventProcessingTime = System.currentTimeMillis() - startTime;
-        log.info(String.format(
-            "[OutboxEventPollJob] id: %s, eventType: %s, resourceType: %s, waitingTime: %d, processingTime: %d",
-            outbox.getId(), outbox.getEventType(), outbox.getResource().getType(), outboxEventWaitingTime,
-            outboxEventProcessingTime));
-        if (outboxPollConfiguration.isEnableMetrics()) {
-          outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(),
-              outbox.getResource().getType(), ofMillis(outboxEventProcessingTime),
-              OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME);
-          outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(),
-              outbox.getResource().getType(), ofMillis(outboxEventWaitingTime), OUTBOX_EVENT_WAITING_TIME_METRIC_NAME);
-        }
+        boolean success = process(outbox);
         try {
           if (success) {
             outboxService.delete(outbox.getId());
           } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
+            block(outbox);
           }
         } catch (Exception exception) {
           log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
@@ -130,10 +159,107 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  private void pollAndHandlePartition(int partition) {
+    try (AcquiredLock<?> lock =
+             persistentLocker.tryToAcquireLock(outboxLockId + "_" + partition, Duration.ofMinutes(2))) {
+      if (lock == null) {
+        log.debug("Could not acquire lock for partition {} of outbox poll job", partition);
+        return;
+      }
+      List<OutboxEvent> outboxEvents;
+      try {
+        outboxEvents = outboxService.list(OutboxEventFilter.builder()
+                                              .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                                              .partitionCount(getPartitionCount())
+                                              .partition(partition)
+                                              .build());
+      } catch (InstantiationError error) {
+        log.error("InstantiationError occurred while fetching entries from the outbox", error);
+        return;
+      }
+
+      Map<String, List<OutboxEvent>> outboxEventsPerResource = new LinkedHashMap<>();
+      for (OutboxEvent outbox : outboxEvents) {
+        String resourceKey = OutboxEvent.resourceKey(outbox.getResource());
+        outboxEventsPerResource.computeIfAbsent(resourceKey, k -> new ArrayList<>()).add(outbox);
+      }
+      List<Future<List<String>>> handledOutboxEventIds = new ArrayList<>();
+      for (List<OutboxEvent> resourceOutboxEvents : outboxEventsPerResource.values()) {
+        handledOutboxEventIds.add(handlerExecutor.submit(() -> processInOrder(resourceOutboxEvents)));
+      }
+
+      List<String> outboxEventIdsToDelete = new ArrayList<>();
+      for (Future<List<String>> future : handledOutboxEventIds) {
+        try {
+          outboxEventIdsToDelete.addAll(future.get());
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          handledOutboxEventIds.forEach(pending -> pending.cancel(true));
+          break;
+        } catch (ExecutionException exception) {
+          log.error("Error occurred while handling outbox events", exception);
+        }
+      }
+      try {
+        outboxService.deleteAll(outboxEventIdsToDelete);
+      } catch (Exception exception) {
+        log.error(String.format("Error occurred while deleting %d handled outbox events of partition %d",
+                      outboxEventIdsToDelete.size(), partition),
+            exception);
+      }
+    }
+  }
+
+  /**
+   * @return the ids of the events handled, the failed ones are blocked
+   */
+  private List<String> processInOrder(List<OutboxEvent> outboxEvents) {
+    List<String> handledOutboxEventIds = new ArrayList<>();
+    for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+      OutboxEvent outbox = outboxEvents.get(i);
+      if (process(outbox)) {
+        handledOutboxEventIds.add(outbox.getId());
+        continue;
+      }
+      try {
+        block(outbox);
+      } catch (Exception exception) {
+        log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                      outbox.getId(), outbox.getEventType()),
+            exception);
+      }
+    }
+    return handledOutboxEventIds;
+  }
+
+  private boolean process(OutboxEvent outbox) {
+    long startTime = System.currentTimeMillis();
+    long outboxEventWaitingTime = startTime - outbox.getCreatedAt();
+    boolean success = handle(outbox);
+    long outboxEventProcessingTime = System.currentTimeMillis() - startTime;
+    log.info(String.format(
+        "[OutboxEventPollJob] id: %s, eventType: %s, resourceType: %s, waitingTime: %d, processingTime: %d",
+        outbox.getId(), outbox.getEventType(), outbox.getResource().getType(), outboxEventWaitingTime,
+        outboxEventProcessingTime));
+    if (outboxPollConfiguration.isEnableMetrics()) {
+      outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
+          ofMillis(outboxEventProcessingTime), OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME);
+      outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
+          ofMillis(outboxEventWaitingTime), OUTBOX_EVENT_WAITING_TIME_METRIC_NAME);
+    }
+    return success;
+  }
+
+  private void block(OutboxEvent outbox) {
+    outbox.setBlocked(true);
+    outbox.setNextUnblockAttemptAt(Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
+    outboxService.update(outbox);
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
     boolean success = false;
     try {
-      success = outboxEventHandler.handle(outboxEvent);
+      success = callHandler(outboxEvent);
     } catch (Exception exception) {
       log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
                     outboxEvent.getEventType()),
@@ -149,7 +275,7 @@ public class OutboxEventPollJob implements Runnable {
   private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
     try {
       return retry.executeSupplier(() -> {
-        if (!outboxEventHandler.handle(outboxEvent)) {
+        if (!callHandler(outboxEvent)) {
           throw new UnexpectedException(String.format(
               "Outbox event handling failed in another retry attempt for event with id %s", outboxEvent.getId()));
         }
@@ -162,4 +288,17 @@ public class OutboxEventPollJob implements Runnable {
       return false;
     }
   }
+
+  private boolean callHandler(OutboxEvent outboxEvent) {
+    long startTime = System.currentTimeMillis();
+    try {
+      return outboxEventHandler.handle(outboxEvent);
+    } finally {
+      if (outboxPollConfiguration.isEnableMetrics()) {
+        outboxMetricsService.recordMetricsWithDuration(serviceId, outboxEvent.getEventType(),
+            outboxEvent.getResource().getType(), ofMillis(System.currentTimeMillis() - startTime),
+            OUTBOX_HANDLER_LATENCY_METRIC_NAME);
+      }
+    }
+  }
 }
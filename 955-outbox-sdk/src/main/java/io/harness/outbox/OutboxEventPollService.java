@@ -14,17 +14,21 @@ import io.harness.annotations.dev.OwnedBy;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.dropwizard.lifecycle.Managed;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
+@Slf4j
 public class OutboxEventPollService implements Managed {
   private final OutboxEventPollJob outboxEventPollJob;
   private final OutboxPollConfiguration outboxPollConfiguration;
   private final ScheduledExecutorService executorService;
-  private Future<?> outboxPollJobFuture;
+  private final List<Future<?>> outboxPollJobFutures = new ArrayList<>();
 
   @Inject
   public OutboxEventPollService(
@@ -32,20 +36,46 @@ public class OutboxEventPollService implements Managed {
     this.outboxEventPollJob = outboxEventPollJob;
     this.outboxPollConfiguration = outboxPollConfiguration;
     String threadName = "outbox-poll-service-thread-" + outboxPollConfiguration.getLockId();
-    this.executorService =
-        Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
+    int partitionCount = outboxEventPollJob.getPartitionCount();
+    this.executorService = partitionCount > 1
+        ? Executors.newScheduledThreadPool(
+            partitionCount, new ThreadFactoryBuilder().setNameFormat(threadName + "-%d").build())
+        : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
   }
 
+  /**
+   * Schedules a single poller of the whole outbox, or one poller per partition if the partitioned poll mode is on.
+   *
+   * The single poller and the partition pollers take different locks, and do not know of each other. Switching the
+   * partition count between 1 and above 1 needs every replica stopped first, a rolling deploy would run pollers of
+   * both modes on the same events for its duration.
+   */
   @Override
   public void start() {
-    outboxPollJobFuture =
-        executorService.scheduleAtFixedRate(outboxEventPollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
-            outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS);
+    int partitionCount = outboxEventPollJob.getPartitionCount();
+    log.info("Starting the outbox poll service of {} with {} partitions, switching between the single and the "
+            + "partitioned poll mode needs every replica stopped first",
+        outboxPollConfiguration.getLockId(), partitionCount);
+    if (partitionCount == 1) {
+      outboxPollJobFutures.add(
+          executorService.scheduleAtFixedRate(outboxEventPollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
+              outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS));
+      return;
+    }
+    // One poller per partition, each one only gets to poll it while no other replica holds its lock
+    for (int i = 0; i < partitionCount; i++) {
+      int partition = i;
+      Runnable partitionPollJob = () -> outboxEventPollJob.runPartition(partition);
+      outboxPollJobFutures.add(
+          executorService.scheduleAtFixedRate(partitionPollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
+              outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS));
+    }
   }
 
   @Override
   public void stop() {
-    outboxPollJobFuture.cancel(false);
+    outboxPollJobFutures.forEach(outboxPollJobFuture -> outboxPollJobFuture.cancel(false));
     executorService.shutdownNow();
+    outboxEventPollJob.shutdown();
   }
 }
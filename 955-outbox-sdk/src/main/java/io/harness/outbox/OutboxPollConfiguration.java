@@ -28,4 +28,9 @@ public class OutboxPollConfiguration {
   int maximumRetryAttemptsForAnEvent;
   String lockId;
   boolean enableMetrics;
+  // Above 1, the outbox is split by resource into as many partitions, each one polled under its own lock. The single
+  // poller lock is not taken then, so every replica must be stopped before moving from one mode to the other.
+  int partitionCount;
+  // Threads handling the events of the polled partitions, the events of a resource are handled in order by one
+  int workerPoolSize;
 }
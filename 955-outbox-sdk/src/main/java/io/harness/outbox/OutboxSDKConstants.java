@@ -50,5 +50,9 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_EVENT_WAITING_TIME_METRIC_NAME = "outbox_event_waiting_time";
 
+  public static final String OUTBOX_HANDLER_LATENCY_METRIC_NAME = "outbox_handler_latency";
+
+  public static final String OUTBOX_OLDEST_EVENT_AGE_METRIC_NAME = "outbox_oldest_event_age";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
@@ -27,5 +27,12 @@ public interface OutboxDao {
 
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
+  /**
+   * @return the creation time of the oldest event matching the filter, null if there is none
+   */
+  Long oldestCreatedAt(OutboxMetricsFilter outboxMetricsFilter);
+
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
 }
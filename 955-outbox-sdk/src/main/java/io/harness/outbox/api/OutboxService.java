@@ -25,4 +25,9 @@ public interface OutboxService {
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
   boolean delete(String outboxEventId);
+
+  /**
+   * @return the number of events deleted
+   */
+  long deleteAll(List<String> outboxEventIds);
 }
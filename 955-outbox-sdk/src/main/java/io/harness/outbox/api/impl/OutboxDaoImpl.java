@@ -76,6 +76,21 @@ public class OutboxDaoImpl implements OutboxDao {
     return outboxRepository.count(criteria);
   }
 
+  @Override
+  public Long oldestCreatedAt(OutboxMetricsFilter outboxMetricsFilter) {
+    Criteria criteria = new Criteria();
+    if (outboxMetricsFilter != null && Boolean.TRUE.equals(outboxMetricsFilter.getBlocked())) {
+      criteria = criteria.and(OutboxEventKeys.blocked).is(Boolean.TRUE);
+    } else if (outboxMetricsFilter != null && Boolean.FALSE.equals(outboxMetricsFilter.getBlocked())) {
+      // Same predicate as the poll, which also picks up the events without the field
+      criteria = criteria.and(OutboxEventKeys.blocked).ne(Boolean.TRUE);
+    }
+    List<OutboxEvent> oldest = outboxRepository.findAll(criteria,
+        getPageRequest(
+            PageRequest.builder().pageIndex(0).pageSize(1).sortOrders(DEFAULT_CREATED_AT_ASC_SORT_ORDER).build()));
+    return oldest.isEmpty() ? null : oldest.get(0).getCreatedAt();
+  }
+
   @Override
   public Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter) {
     Criteria criteria = new Criteria();
@@ -106,7 +121,17 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
     criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
-    return criteria;
+    if (outboxEventFilter.getPartitionCount() <= 1) {
+      return criteria;
+    }
+    Criteria partitionCriteria = Criteria.where(OutboxEventKeys.partitionKey)
+                                     .mod(outboxEventFilter.getPartitionCount(), outboxEventFilter.getPartition());
+    if (outboxEventFilter.getPartition() == 0) {
+      // The events saved without a partition key are left to the first partition
+      partitionCriteria = new Criteria().orOperator(
+          partitionCriteria, Criteria.where(OutboxEventKeys.partitionKey).exists(false));
+    }
+    return new Criteria().andOperator(criteria, partitionCriteria);
   }
 
   @Override
@@ -114,4 +139,9 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxRepository.remove(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
 }
@@ -52,6 +52,7 @@ public class OutboxServiceImpl implements OutboxService {
     OutboxEvent outboxEvent = OutboxEvent.builder()
                                   .resourceScope(event.getResourceScope())
                                   .resource(event.getResource())
+                                  .partitionKey(OutboxEvent.partitionKeyOf(event.getResource()))
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
@@ -77,4 +78,12 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return 0;
+    }
+    return outboxDao.deleteAll(outboxEventIds);
+  }
 }
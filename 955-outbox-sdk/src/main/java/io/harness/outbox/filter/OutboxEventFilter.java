@@ -22,4 +22,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  // Polls only the events of one partition out of partitionCount when above 1
+  int partitionCount;
+  int partition;
 }
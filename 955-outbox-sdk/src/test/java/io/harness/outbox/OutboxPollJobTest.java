@@ -8,12 +8,15 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,9 +34,12 @@ import io.harness.maintenance.MaintenanceController;
 import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 import io.harness.rule.Owner;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -114,4 +120,71 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    OutboxEventPollJob partitionedPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder()
+            .maximumRetryAttemptsForAnEvent(1)
+            .lockId("LOCK_ID")
+            .partitionCount(4)
+            .workerPoolSize(2)
+            .build(),
+        outboxMetricsServiceImpl, "service-id");
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_2"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    OutboxEvent first = outboxEvent("first", "pipeline1");
+    OutboxEvent second = outboxEvent("second", "pipeline2");
+    OutboxEvent third = outboxEvent("third", "pipeline1");
+    OutboxEvent failed = outboxEvent("failed", "pipeline3");
+    when(outboxService.list(any())).thenReturn(asList(first, second, third, failed));
+    List<String> handledIds = new CopyOnWriteArrayList<>();
+    when(outboxEventHandler.handle(any())).thenAnswer(invocation -> {
+      OutboxEvent outboxEvent = invocation.getArgument(0);
+      handledIds.add(outboxEvent.getId());
+      return !outboxEvent.getId().equals("failed");
+    });
+
+    partitionedPollJob.runPartition(2);
+    partitionedPollJob.shutdown();
+
+    ArgumentCaptor<OutboxEventFilter> filterArgumentCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService).list(filterArgumentCaptor.capture());
+    assertThat(filterArgumentCaptor.getValue().getPartitionCount()).isEqualTo(4);
+    assertThat(filterArgumentCaptor.getValue().getPartition()).isEqualTo(2);
+    // The events of a resource are handled in the order they were polled
+    assertThat(handledIds).containsSubsequence("first", "third");
+    ArgumentCaptor<List<String>> deletedIdsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService, times(1)).deleteAll(deletedIdsArgumentCaptor.capture());
+    assertThat(deletedIdsArgumentCaptor.getValue()).containsExactlyInAnyOrder("first", "second", "third");
+    verify(outboxService, times(1)).update(failed);
+    assertTrue(failed.getBlocked());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingWithoutLock() {
+    OutboxEventPollJob partitionedPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder().lockId("LOCK_ID").partitionCount(4).workerPoolSize(2).build(),
+        outboxMetricsServiceImpl, "service-id");
+
+    partitionedPollJob.runPartition(1);
+    partitionedPollJob.shutdown();
+
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any());
+    verify(outboxService, times(0)).list(any());
+  }
+
+  private OutboxEvent outboxEvent(String id, String resourceIdentifier) {
+    return OutboxEvent.builder()
+        .eventType("emptyEvent")
+        .blocked(false)
+        .id(id)
+        .resource(Resource.builder().type("PIPELINE").identifier(resourceIdentifier).build())
+        .createdAt(123456789L)
+        .build();
+  }
 }
@@ -8,12 +8,15 @@
 package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -82,4 +85,26 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testListPartition() {
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(3).build());
+    outboxDao.list(OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(0).build());
+    verify(outboxEventRepository, times(2)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+
+    BasicDBList andList = (BasicDBList) criteriaArgumentCaptor.getAllValues().get(0).getCriteriaObject().get("$and");
+    assertEquals(2, andList.size());
+    assertNotNull(((Document) andList.get(0)).get("$or"));
+    Document partitionKey = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partitionKey);
+    assertThat(partitionKey.get("$mod")).isEqualTo(asList(4, 3));
+
+    // The first partition also takes the events saved without a partition key
+    andList = (BasicDBList) criteriaArgumentCaptor.getAllValues().get(1).getCriteriaObject().get("$and");
+    BasicDBList partitionOrList = (BasicDBList) ((Document) andList.get(1)).get("$or");
+    assertEquals(2, partitionOrList.size());
+  }
 }
@@ -126,6 +126,28 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstancesInRange(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander,
+      boolean unsorted, int limit, boolean isDelegateTaskMigrationEnabled, String lowerBound, String upperBound) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander, unsorted);
+    if (lowerBound != null || upperBound != null) {
+      Criteria idCriteria = Criteria.where("_id");
+      if (lowerBound != null) {
+        idCriteria.gte(lowerBound);
+      }
+      if (upperBound != null) {
+        idCriteria.lt(upperBound);
+      }
+      query.addCriteria(idCriteria);
+    }
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
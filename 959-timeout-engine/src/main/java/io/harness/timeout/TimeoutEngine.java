@@ -13,7 +13,10 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -45,13 +48,25 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 
+/**
+ * Timeouts are stored in Mongo and fired by a loop iterator over nextIteration.
+ *
+ * Once the iterator is started, the timeouts registered on this replica that are due within the next ten minutes are
+ * also held in an in-memory timing wheel, which fires them on time without waking up the iterator. Firing from the
+ * wheel first claims the timeout in Mongo, so a timeout is handled once even if the iterator or another replica gets
+ * to it as well. The iterator remains the fallback for timeouts whose replica went away and fires the later ones.
+ * A starting replica does not load the timeouts of the others into its wheel, all replicas would race to claim them.
+ */
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(CDC)
 @Singleton
@@ -59,6 +74,12 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance> {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
   private static final Integer MAX_BATCH_SIZE = 500;
+  private static final long WHEEL_TICK_MILLIS = 100;
+  // 64 slots per level, four levels cover 64^4 ticks, a little over 19 days
+  private static final int WHEEL_SLOT_BITS = 6;
+  private static final int WHEEL_LEVELS = 4;
+  // Only timeouts due within this horizon are held in the wheel, the later ones are left to the iterator
+  private static final Duration WHEEL_HORIZON = Duration.ofMinutes(10);
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
@@ -66,6 +87,20 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
 
+  private volatile TimeoutWheel<HeldTimeout> timeoutWheel;
+  private ScheduledExecutorService wheelTicker;
+  private ExecutorService wheelExecutor;
+
+  private static class HeldTimeout {
+    private final String uuid;
+    private final long expiryTime;
+
+    HeldTimeout(String uuid, long expiryTime) {
+      this.uuid = uuid;
+      this.expiryTime = expiryTime;
+    }
+  }
+
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
     TimeoutTrackerFactory timeoutTrackerFactory = timeoutRegistry.obtain(dimension);
@@ -87,9 +122,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
-    if (iterator != null) {
-      iterator.wakeup();
-    }
+    schedule(savedTimeoutInstance);
     return savedTimeoutInstance;
   }
 
@@ -97,6 +130,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     if (EmptyPredicate.isEmpty(timeoutInstanceIds)) {
       return;
     }
+    timeoutInstanceIds.forEach(this::cancelHeld);
     List<List<String>> partition = Lists.partition(timeoutInstanceIds, MAX_BATCH_SIZE);
     for (List<String> batchTimeInstanceIds : partition) {
       timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
@@ -104,6 +138,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   }
 
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
+    cancelHeld(timeoutInstanceId);
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
   }
@@ -117,9 +152,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
         timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        schedule(timeoutInstance);
       }
     }
   }
@@ -138,6 +171,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                            .acceptableExecutionTime(ofSeconds(10))
                            .handler(this)
                            .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate)));
+    startTimingWheel(executorOptions.getPoolSize());
   }
 
   @Override
@@ -164,6 +198,13 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                 .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate))
                 .schedulingType(REGULAR));
     executor.submit(() -> iterator.process());
+    startTimingWheel(executorOptions.getPoolSize());
+  }
+
+  @Override
+  protected void stopExecutor() {
+    stopTimingWheel();
+    super.stopExecutor();
   }
 
   @Override
@@ -204,4 +245,85 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       }
     }
   }
+
+  @VisibleForTesting
+  synchronized void startTimingWheel(int poolSize) {
+    if (timeoutWheel != null) {
+      return;
+    }
+    wheelExecutor = ThreadPool.create(
+        poolSize, poolSize, 30, TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutWheel-%d").build());
+    timeoutWheel = new TimeoutWheel<>(WHEEL_TICK_MILLIS, WHEEL_SLOT_BITS, WHEEL_LEVELS, currentTimeMillis());
+    wheelTicker = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("timeout-engine-wheel").build());
+    wheelTicker.scheduleWithFixedDelay(
+        this::advanceTimingWheel, WHEEL_TICK_MILLIS, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @VisibleForTesting
+  synchronized void stopTimingWheel() {
+    if (timeoutWheel == null) {
+      return;
+    }
+    timeoutWheel = null;
+    wheelTicker.shutdownNow();
+    wheelExecutor.shutdown();
+  }
+
+  private void schedule(TimeoutInstance timeoutInstance) {
+    TimeoutWheel<HeldTimeout> wheel = timeoutWheel;
+    long expiryTime = timeoutInstance.getNextIteration();
+    // Multi-day timeouts would pile up in memory on every replica they pass through, the iterator fires those
+    if (wheel != null && expiryTime < currentTimeMillis() + WHEEL_HORIZON.toMillis()
+        && wheel.add(timeoutInstance.getUuid(), expiryTime, new HeldTimeout(timeoutInstance.getUuid(), expiryTime))) {
+      return;
+    }
+    if (wheel != null) {
+      // Paused, beyond the horizon, or its schedule moved, whatever the wheel held for it is stale
+      wheel.cancel(timeoutInstance.getUuid());
+    }
+    if (iterator != null) {
+      iterator.wakeup();
+    }
+  }
+
+  private void cancelHeld(String timeoutInstanceId) {
+    TimeoutWheel<HeldTimeout> wheel = timeoutWheel;
+    if (wheel != null) {
+      wheel.cancel(timeoutInstanceId);
+    }
+  }
+
+  private void advanceTimingWheel() {
+    TimeoutWheel<HeldTimeout> wheel = timeoutWheel;
+    if (wheel == null) {
+      return;
+    }
+    long now = currentTimeMillis();
+    for (HeldTimeout heldTimeout : wheel.advance(now)) {
+      try {
+        wheelExecutor.submit(() -> fireClaimed(heldTimeout));
+      } catch (Exception ex) {
+        // The iterator still fires it
+        log.error("Failed to submit timeout {} from the timing wheel", heldTimeout.uuid, ex);
+      }
+    }
+  }
+
+  // Claims the timeout the same way the iterator does, so that it is only handled by whoever moves nextIteration
+  private void fireClaimed(HeldTimeout heldTimeout) {
+    try {
+      TimeoutInstance timeoutInstance = mongoTemplate.findAndModify(
+          query(where(TimeoutInstanceKeys.uuid).is(heldTimeout.uuid))
+              .addCriteria(where(TimeoutInstanceKeys.nextIteration).is(heldTimeout.expiryTime)),
+          new Update().set(
+              TimeoutInstanceKeys.nextIteration, currentTimeMillis() + MAX_CALLBACK_PROCESSING_TIME.toMillis()),
+          new FindAndModifyOptions().returnNew(true), TimeoutInstance.class);
+      if (timeoutInstance != null) {
+        handle(timeoutInstance);
+      }
+    } catch (Exception ex) {
+      log.error("Failed to claim timeout {} from the timing wheel", heldTimeout.uuid, ex);
+    }
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical hashed timing wheel.
+ *
+ * Level 0 has one slot per tick, every level above covers a whole turn of the level below in each slot. A timeout
+ * goes to the lowest level whose span covers it and moves down a level every time the slot it sits in comes due,
+ * until it fires from level 0. Adding and cancelling are O(1), advancing costs one slot per tick plus the cascades.
+ * Timeouts beyond the span of the top level sit in the top level and are re-placed every turn of it.
+ */
+@OwnedBy(CDC)
+class TimeoutWheel<T> {
+  private final long tickMillis;
+  private final int slotBits;
+  private final int slotMask;
+  private final List<Set<Entry<T>>[]> levels = new ArrayList<>();
+  private final Map<String, Entry<T>> entries = new HashMap<>();
+  private long currentTick;
+
+  private static class Entry<T> {
+    private final String id;
+    private final long expiryTick;
+    private final T payload;
+    private Set<Entry<T>> slot;
+
+    Entry(String id, long expiryTick, T payload) {
+      this.id = id;
+      this.expiryTick = expiryTick;
+      this.payload = payload;
+    }
+  }
+
+  /**
+   * @param slotBits every level has 2^slotBits slots
+   */
+  @SuppressWarnings("unchecked")
+  TimeoutWheel(long tickMillis, int slotBits, int levelCount, long startMillis) {
+    this.tickMillis = tickMillis;
+    this.slotBits = slotBits;
+    this.slotMask = (1 << slotBits) - 1;
+    for (int level = 0; level < levelCount; level++) {
+      Set<Entry<T>>[] slots = new Set[1 << slotBits];
+      for (int slot = 0; slot < slots.length; slot++) {
+        slots[slot] = new HashSet<>();
+      }
+      levels.add(slots);
+    }
+    this.currentTick = startMillis / tickMillis;
+  }
+
+  /**
+   * Schedules the payload for the given expiry, replacing what was scheduled under the same id.
+   *
+   * @return false if the expiry is already due, in which case nothing is scheduled
+   */
+  synchronized boolean add(String id, long expiryMillis, T payload) {
+    remove(id);
+    // Round up so that nothing fires ahead of its expiry
+    long expiryTick = (expiryMillis + tickMillis - 1) / tickMillis;
+    if (expiryTick <= currentTick) {
+      return false;
+    }
+    Entry<T> entry = new Entry<>(id, expiryTick, payload);
+    entries.put(id, entry);
+    place(entry);
+    return true;
+  }
+
+  /**
+   * @return the payload that was scheduled under the id, null if there was none or it already fired
+   */
+  synchronized T cancel(String id) {
+    Entry<T> entry = remove(id);
+    return entry == null ? null : entry.payload;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Moves the wheel forward to the given time.
+   *
+   * @return the payloads that came due, in expiry order
+   */
+  synchronized List<T> advance(long nowMillis) {
+    List<T> due = new ArrayList<>();
+    long targetTick = nowMillis / tickMillis;
+    while (currentTick < targetTick) {
+      currentTick++;
+      cascade(1);
+      Set<Entry<T>> slot = levels.get(0)[(int) (currentTick & slotMask)];
+      for (Entry<T> entry : slot) {
+        entries.remove(entry.id);
+        due.add(entry.payload);
+      }
+      slot.clear();
+    }
+    return due;
+  }
+
+  // When a level turns over, the next slot of the level above is due and its entries move down
+  private void cascade(int level) {
+    if (level >= levels.size() || (currentTick >> (slotBits * (level - 1)) & slotMask) != 0) {
+      return;
+    }
+    cascade(level + 1);
+    Set<Entry<T>> slot = levels.get(level)[(int) (currentTick >> (slotBits * level) & slotMask)];
+    List<Entry<T>> cascaded = new ArrayList<>(slot);
+    slot.clear();
+    for (Entry<T> entry : cascaded) {
+      place(entry);
+    }
+  }
+
+  private void place(Entry<T> entry) {
+    long delta = Math.max(entry.expiryTick - currentTick, 0);
+    int level = 0;
+    while (level < levels.size() - 1 && delta >= 1L << (slotBits * (level + 1))) {
+      level++;
+    }
+    entry.slot = levels.get(level)[(int) (entry.expiryTick >> (slotBits * level) & slotMask)];
+    entry.slot.add(entry);
+  }
+
+  private Entry<T> remove(String id) {
+    Entry<T> entry = entries.remove(id);
+    if (entry != null) {
+      entry.slot.remove(entry);
+    }
+    return entry;
+  }
+}
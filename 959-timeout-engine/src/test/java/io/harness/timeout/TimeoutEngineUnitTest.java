@@ -9,14 +9,20 @@ package io.harness.timeout;
 
 import static io.harness.rule.OwnerRule.ARCHIT;
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
 
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.annotations.dev.HarnessTeam;
@@ -25,21 +31,29 @@ import io.harness.category.element.UnitTests;
 import io.harness.persistence.HPersistence;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
+import io.harness.threading.Morpheus;
+import io.harness.threading.Poller;
+import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
 
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
   @Mock TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private TimeoutEngine timeoutEngine;
   @Inject private HPersistence hPersistence;
+  @Inject private MongoTemplate mongoTemplate;
 
   @Test
   @Owner(developers = GARVIT)
@@ -86,6 +100,87 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testTimingWheelFiresClaimedTimeout() {
+    timeoutEngine.startTimingWheel(2);
+    try {
+      TimeoutInstance instance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(300), new FiredCallback());
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+
+      Poller.pollFor(ofSeconds(5), ofMillis(50), () -> FiredCallback.FIRED.contains(instance.getUuid()));
+      Poller.pollFor(
+          ofSeconds(5), ofMillis(50), () -> hPersistence.get(TimeoutInstance.class, instance.getUuid()) == null);
+    } finally {
+      timeoutEngine.stopTimingWheel();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testTimingWheelSkipsTimeoutClaimedElsewhere() {
+    timeoutEngine.startTimingWheel(2);
+    try {
+      TimeoutInstance instance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(300), new FiredCallback());
+      // The iterator or another replica moved nextIteration, so the wheel loses the claim
+      mongoTemplate.updateFirst(query(where(TimeoutInstanceKeys.uuid).is(instance.getUuid())),
+          new Update().set(TimeoutInstanceKeys.nextIteration, System.currentTimeMillis() + ofHours(1).toMillis()),
+          TimeoutInstance.class);
+
+      Morpheus.sleep(ofSeconds(1));
+      assertThat(FiredCallback.FIRED).doesNotContain(instance.getUuid());
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+    } finally {
+      timeoutEngine.stopTimingWheel();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testTimingWheelOnlyHoldsTimeoutsWithinHorizon() {
+    timeoutEngine.startTimingWheel(2);
+    try {
+      TimeoutWheel<?> wheel = on(timeoutEngine).get("timeoutWheel");
+      int held = wheel.size();
+      timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(Duration.ofDays(2).toMillis()), new FiredCallback());
+      assertThat(wheel.size()).isEqualTo(held);
+      timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(Duration.ofMinutes(1).toMillis()), new FiredCallback());
+      assertThat(wheel.size()).isEqualTo(held + 1);
+    } finally {
+      timeoutEngine.stopTimingWheel();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testTimingWheelStartsWithoutTheTimeoutsOfOtherReplicas() {
+    // Registered before the wheel started, as by another replica
+    TimeoutInstance instance = timeoutEngine.registerTimeout(
+        new AbsoluteTimeoutTracker(Duration.ofMinutes(1).toMillis()), new FiredCallback());
+    timeoutEngine.startTimingWheel(2);
+    try {
+      TimeoutWheel<?> wheel = on(timeoutEngine).get("timeoutWheel");
+      assertThat(wheel.size()).isZero();
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+    } finally {
+      timeoutEngine.stopTimingWheel();
+    }
+  }
+
+  // Records the fired timeouts in a static set, the callback of a persisted timeout is a deserialized copy
+  public static class FiredCallback implements TimeoutCallback {
+    private static final Set<String> FIRED = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onTimeout(TimeoutInstance timeoutInstance) {
+      FIRED.add(timeoutInstance.getUuid());
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TimeoutWheelTest extends CategoryTest {
+  private static final long START = 1_000_000L;
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFireAtExpiry() {
+    TimeoutWheel<String> wheel = new TimeoutWheel<>(100, 2, 3, START);
+    assertThat(wheel.add("a", START + 250, "a")).isTrue();
+
+    assertThat(wheel.advance(START + 200)).isEmpty();
+    assertThat(wheel.advance(START + 299)).isEmpty();
+    assertThat(wheel.advance(START + 300)).containsExactly("a");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRejectDueExpiry() {
+    TimeoutWheel<String> wheel = new TimeoutWheel<>(100, 2, 3, START);
+    assertThat(wheel.add("a", START, "a")).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCancel() {
+    TimeoutWheel<String> wheel = new TimeoutWheel<>(100, 2, 3, START);
+    wheel.add("a", START + 500, "a");
+    wheel.add("b", START + 500, "b");
+
+    assertThat(wheel.cancel("a")).isEqualTo("a");
+    assertThat(wheel.cancel("a")).isNull();
+    assertThat(wheel.advance(START + 1000)).containsExactly("b");
+    assertThat(wheel.cancel("b")).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReplaceById() {
+    TimeoutWheel<String> wheel = new TimeoutWheel<>(100, 2, 3, START);
+    wheel.add("a", START + 500, "first");
+    wheel.add("a", START + 2000, "second");
+
+    assertThat(wheel.advance(START + 1000)).isEmpty();
+    assertThat(wheel.advance(START + 2000)).containsExactly("second");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFireAcrossLevelsInOrder() {
+    // 4 slots and 3 levels span 64 ticks, anything further away is re-placed on every turn of the top level
+    TimeoutWheel<Long> wheel = new TimeoutWheel<>(10, 2, 3, START);
+    Random random = new Random(7);
+    List<Long> expiries = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      long expiry = START + 1 + random.nextInt(5000);
+      expiries.add(expiry);
+      wheel.add(String.valueOf(i), expiry, expiry);
+    }
+
+    long now = START;
+    List<Long> fired = new ArrayList<>();
+    while (now < START + 6000) {
+      now += 1 + random.nextInt(50);
+      for (Long expiry : wheel.advance(now)) {
+        // Never early, and late by at most the step plus a tick
+        assertThat(expiry).isLessThanOrEqualTo(now);
+        assertThat(expiry).isGreaterThan(now - 50 - 10);
+        fired.add(expiry);
+      }
+    }
+
+    assertThat(fired).containsExactlyInAnyOrderElementsOf(expiries);
+    assertThat(wheel.size()).isZero();
+  }
+}
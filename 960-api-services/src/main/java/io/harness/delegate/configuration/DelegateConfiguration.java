@@ -81,6 +81,13 @@ public class DelegateConfiguration {
    */
   private boolean trustAllCertificates;
 
+  /*
+   * If true, the delegate gzips the batches of events it publishes to the event service.
+   *
+   * Note: The event service inflates them with the gzip handler of its http server.
+   */
+  private boolean compressEventPublishRequests;
+
   // TODO: This method will get removed once we rolled out new delegate.
   public String getDelegateToken() {
     if (StringUtils.isEmpty(delegateToken)) {
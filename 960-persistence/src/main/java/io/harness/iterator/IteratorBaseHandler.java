@@ -8,8 +8,10 @@
 package io.harness.iterator;
 
 import io.harness.mongo.iterator.MongoPersistenceIterator;
+import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
+import com.google.inject.Inject;
 import java.time.Duration;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,8 @@ public abstract class IteratorBaseHandler<T extends PersistentIterable, F extend
   @Getter protected String iteratorName;
   @Getter protected MongoPersistenceIterator<T, F> iterator;
 
+  @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
+
   /**
    * This method returns true if executor service is terminated and vice versa.
    * @return true / false
@@ -59,4 +63,47 @@ public abstract class IteratorBaseHandler<T extends PersistentIterable, F extend
       PersistenceIteratorFactory.RedisBatchExecutorOptions executorOptions, Duration targetInterval) {
     log.warn("createAndStartShardIterator should be overridden by the child class");
   }
+
+  /**
+   * This method is to create and start the iterator in lease based
+   * Partitioned mode. The iterator is built from the builder returned
+   * by partitionedIteratorBuilder, thus the child class only has to
+   * override that method to support the Partitioned mode.
+   *
+   * @param executorOptions provides the executor thread-pool options
+   *                        needed for Partitioned mode.
+   * @param targetInterval the targetInterval for iterator
+   */
+  protected void createAndStartPartitionedIterator(
+      PersistenceIteratorFactory.PartitionedExecutorOptions executorOptions, Duration targetInterval) {
+    MongoPersistenceIteratorBuilder<T, F> builder = partitionedIteratorBuilder();
+    if (builder == null) {
+      log.error("Iterator {} doesn't support the Partitioned mode", iteratorName);
+      return;
+    }
+
+    iterator = (MongoPersistenceIterator<T, F>) persistenceIteratorFactory
+                   .createPartitionedIteratorWithDedicatedThreadPool(
+                       executorOptions, getClass(), builder.targetInterval(targetInterval));
+  }
+
+  /**
+   * This method returns the iterator builder used for the Partitioned mode,
+   * without the mode, executor and targetInterval options which are set
+   * while starting the iterator. The child class should override it to
+   * support the Partitioned mode.
+   *
+   * @return the iterator builder or null if Partitioned mode is not supported
+   */
+  protected MongoPersistenceIteratorBuilder<T, F> partitionedIteratorBuilder() {
+    return null;
+  }
+
+  /**
+   * This method returns true if the iterator can be started in Partitioned mode.
+   * @return true / false
+   */
+  public boolean supportsPartitionedMode() {
+    return partitionedIteratorBuilder() != null;
+  }
 }
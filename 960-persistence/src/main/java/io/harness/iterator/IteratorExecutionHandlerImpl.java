@@ -26,7 +26,10 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
 
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_LOCK_TIMEOUT_SECONDS = 5; // The lockTimeout is the duration a lock is held
+  private static final int PARTITION_COUNT = 16; // The number of partitions the entities are split into
+  private static final int PARTITION_LEASE_TIMEOUT_SECONDS = 30; // The duration a partition lease is held
   public static final String REDIS_BATCH = "REDIS_BATCH";
+  public static final String PARTITIONED = "PARTITIONED";
 
   /**
    * Enum represents the different states that an iterator can be at -
@@ -175,6 +178,14 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
 
       if (REDIS_BATCH.equals(configOption.getIteratorMode())) {
         createAndStartRedisBatchModeIterator(configOption);
+      } else if (PARTITIONED.equals(configOption.getIteratorMode())) {
+        if (iteratorBaseHandler.supportsPartitionedMode()) {
+          createAndStartPartitionedModeIterator(configOption);
+        } else {
+          // Don't leave the iterator without an executor, fall back to the mode every handler supports
+          log.error("Iterator {} doesn't support the Partitioned mode - starting it in Pump mode", iteratorName);
+          createAndStartPumpLoopModeIterator(configOption);
+        }
       } else {
         createAndStartPumpLoopModeIterator(configOption);
       }
@@ -246,6 +257,38 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
             getNextIterationInterval(config));
   }
 
+  /**
+   * Helper method to create and start Partitioned mode iterator.
+   *
+   * @param config provides the necessary configuration for the iterator.
+   */
+  private void createAndStartPartitionedModeIterator(DynamicIteratorConfig config) {
+    int batchSize = config.getRedisBatchSize();
+    int partitionCount = config.getPartitionCount();
+    int leaseTimeout = config.getPartitionLeaseTimeoutInSeconds();
+    if (batchSize == 0) {
+      batchSize = BATCH_SIZE_MULTIPLY_FACTOR * config.getThreadPoolSize();
+    }
+
+    if (partitionCount == 0) {
+      partitionCount = PARTITION_COUNT;
+    }
+
+    if (leaseTimeout == 0) {
+      leaseTimeout = PARTITION_LEASE_TIMEOUT_SECONDS;
+    }
+    iteratorHandlerMap.get(config.getName())
+        .createAndStartPartitionedIterator(PersistenceIteratorFactory.PartitionedExecutorOptions.builder()
+                                               .name(config.getName())
+                                               .poolSize(config.getThreadPoolSize())
+                                               .batchSize(batchSize)
+                                               .partitionCount(partitionCount)
+                                               .leaseDuration(getIntervalDuration(leaseTimeout))
+                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
+                                               .build(),
+            getNextIterationInterval(config));
+  }
+
   /**
    * Helper method to create and start Pump or Loop mode iterator.
    *
@@ -47,6 +47,10 @@ public abstract class IteratorPumpAndRedisModeHandler extends IteratorBaseHandle
     if (PersistenceIterator.ProcessMode.REDIS_BATCH.equals(iterator.getMode())) {
       stopWorkerExecutor();
     }
+    if (PersistenceIterator.ProcessMode.PARTITIONED.equals(iterator.getMode())) {
+      stopWorkerExecutor();
+      iterator.getPartitionLeaseManager().releaseAll();
+    }
   }
 
   @Override protected abstract void registerIterator(IteratorExecutionHandler iteratorExecutionHandler);
@@ -9,6 +9,7 @@ package io.harness.iterator;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.PARTITIONED;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.REDIS_BATCH;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR;
@@ -18,9 +19,11 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.iterator.IteratorPartitionLeaseManager;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
+import io.harness.persistence.HPersistence;
 
 import com.codahale.metrics.InstrumentedExecutorService;
 import com.codahale.metrics.MetricRegistry;
@@ -69,6 +72,17 @@ public final class PersistenceIteratorFactory {
     private Duration interval;
   }
 
+  @Value
+  @Builder
+  public static class PartitionedExecutorOptions {
+    private String name;
+    private int poolSize;
+    private int batchSize;
+    private int partitionCount;
+    private Duration leaseDuration;
+    private Duration interval;
+  }
+
   private String getWorkerDisabledLog(String className) {
     return "Worker { " + className + " } is disabled in this setup";
   }
@@ -219,4 +233,43 @@ public final class PersistenceIteratorFactory {
 
     return iterator;
   }
+
+  public <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
+  createPartitionedIteratorWithDedicatedThreadPool(
+      PartitionedExecutorOptions options, Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
+    if (!workersConfiguration.confirmWorkerIsActive(cls)) {
+      log.info(getWorkerDisabledLog(cls.getName()));
+      return null;
+    }
+    String iteratorName = "Iterator-" + options.name;
+    // Create the worker thread pool that will process the docs.
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+        options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+
+    log.info(getWorkerEnabledLog(cls.getName()));
+
+    // Create the main executor thread that heartbeats the partition leases
+    // and fetches / updates the docs of the owned partitions with Mongo.
+    ExecutorService mainExecutor =
+        Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
+
+    IteratorPartitionLeaseManager partitionLeaseManager = new IteratorPartitionLeaseManager(
+        injector.getInstance(HPersistence.class), options.name, options.partitionCount, options.leaseDuration);
+
+    MongoPersistenceIterator<T, F> iterator = builder.mode(PARTITIONED)
+                                                  .executorService(mainExecutor)
+                                                  .workerThreadPoolExecutor(executor)
+                                                  .semaphore(new Semaphore(options.poolSize))
+                                                  .iteratorName(options.name)
+                                                  .threadPoolIntervalInSeconds(options.interval)
+                                                  .redisModeBatchSize(options.getBatchSize())
+                                                  .partitionLeaseManager(partitionLeaseManager)
+                                                  .build();
+    injector.injectMembers(iterator);
+
+    // Start the main executor
+    mainExecutor.submit(() -> iterator.partitionedProcess());
+
+    return iterator;
+  }
 }
@@ -10,6 +10,7 @@ package io.harness.metrics.impl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.beans.IteratorPartitionMetricContext;
 import io.harness.metrics.beans.RedisTopicContext;
 import io.harness.metrics.service.api.MetricService;
 
@@ -29,6 +30,8 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
   public static final String ITERATOR_REDIS_LOCK_ACQUIRE_FAIL = "iterator_redis_lock_acq_fail";
+  public static final String ITERATOR_PARTITION_LAG = "iterator_partition_lag";
+  public static final String ITERATOR_PARTITIONS_OWNED = "iterator_partitions_owned";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
 
   private final MetricService metricService;
@@ -44,6 +47,19 @@ public class PersistenceMetricsServiceImpl {
     }
   }
 
+  public void recordIteratorMetricsWithValue(String iteratorName, String metricName, double value) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void recordIteratorPartitionMetricsWithDuration(
+      String iteratorName, int partition, Duration duration, String metricName) {
+    try (IteratorPartitionMetricContext ignore = new IteratorPartitionMetricContext(iteratorName, partition)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
   public void recordRedisMetric(final String metric, final String topicName, final double value) {
     try (RedisTopicContext ignore = new RedisTopicContext(topicName)) {
       metricService.recordMetric(metric, value);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.mongo.iterator.IteratorPartitionLease.COLLECTION_NAME;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.FdIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * A lease over one hash partition of a partitioned iterator, or a replica membership record.
+ *
+ * Partition leases are keyed by iterator name and partition number and are owned by at most one replica
+ * at a time. Membership records (partition {@link #MEMBER_PARTITION}) are keyed by iterator name and replica id,
+ * and are only used to count the live replicas that the partitions are balanced across.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Data
+@Builder
+@StoreIn(DbAliases.ALL)
+@Entity(value = COLLECTION_NAME, noClassnameStored = true)
+@HarnessEntity(exportable = false)
+@FieldNameConstants(innerTypeName = "IteratorPartitionLeaseKeys")
+public class IteratorPartitionLease implements PersistentEntity {
+  public static final String COLLECTION_NAME = "iteratorPartitionLeases";
+  public static final int MEMBER_PARTITION = -1;
+
+  @Id private String uuid;
+  @FdIndex private String iteratorName;
+  private int partition;
+  private String owner;
+  private long leaseExpiresAt;
+
+  public static String partitionLeaseId(String iteratorName, int partition) {
+    return iteratorName + ":" + partition;
+  }
+
+  public static String memberLeaseId(String iteratorName, String replicaId) {
+    return iteratorName + ":member:" + replicaId;
+  }
+}
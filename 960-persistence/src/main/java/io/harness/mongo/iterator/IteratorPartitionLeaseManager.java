@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.mongo.iterator.IteratorPartitionLease.MEMBER_PARTITION;
+import static io.harness.persistence.HQuery.excludeAuthority;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.iterator.IteratorPartitionLease.IteratorPartitionLeaseKeys;
+import io.harness.persistence.HPersistence;
+
+import com.google.common.annotations.VisibleForTesting;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateOperations;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Distributes the partitions of a partitioned iterator across the live replicas through a lease table.
+ *
+ * Every heartbeat a replica renews its membership record and its partition leases, computes its fair share
+ * as ceil(partitions / live replicas), releases the leases above that share and claims expired or released
+ * leases up to it. A joining replica is thus served once the others shed their surplus on their next heartbeat,
+ * and the partitions of a replica that went away are picked up once its leases expire.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class IteratorPartitionLeaseManager {
+  private final HPersistence persistence;
+  private final String iteratorName;
+  @Getter private final String replicaId;
+  private final List<IteratorPartitionRange> ranges;
+  private final Duration leaseDuration;
+  private final Duration heartbeatInterval;
+
+  private boolean partitionLeasesCreated;
+  private long nextHeartbeat;
+  @Getter private volatile List<IteratorPartitionRange> ownedRanges = emptyList();
+
+  public IteratorPartitionLeaseManager(
+      HPersistence persistence, String iteratorName, int partitionCount, Duration leaseDuration) {
+    this.persistence = persistence;
+    this.iteratorName = iteratorName;
+    this.replicaId = generateUuid();
+    this.ranges = IteratorPartitionRange.split(partitionCount);
+    this.leaseDuration = leaseDuration;
+    // Renew well ahead of expiry so that a slow heartbeat does not hand our partitions to another replica
+    this.heartbeatInterval = leaseDuration.dividedBy(3);
+  }
+
+  public Duration getHeartbeatInterval() {
+    return heartbeatInterval;
+  }
+
+  /**
+   * Rebalances if the heartbeat interval has elapsed since the last rebalance.
+   */
+  public synchronized void heartbeatIfDue() {
+    if (currentTimeMillis() >= nextHeartbeat) {
+      rebalance();
+    }
+  }
+
+  public synchronized void rebalance() {
+    long now = currentTimeMillis();
+    nextHeartbeat = now + heartbeatInterval.toMillis();
+    long expiresAt = now + leaseDuration.toMillis();
+
+    try {
+      createPartitionLeases();
+      renewMembership(expiresAt);
+
+      long liveReplicas = Math.max(1,
+          createQuery()
+              .filter(IteratorPartitionLeaseKeys.partition, MEMBER_PARTITION)
+              .field(IteratorPartitionLeaseKeys.leaseExpiresAt)
+              .greaterThan(now)
+              .count());
+      int fairShare = (int) ((ranges.size() + liveReplicas - 1) / liveReplicas);
+
+      List<Integer> owned = renewPartitionLeases(expiresAt);
+      while (owned.size() > fairShare) {
+        releasePartitionLease(owned.remove(owned.size() - 1));
+      }
+      while (owned.size() < fairShare) {
+        IteratorPartitionLease claimed = claimPartitionLease(now, expiresAt);
+        if (claimed == null) {
+          break;
+        }
+        owned.add(claimed.getPartition());
+      }
+
+      ownedRanges = owned.stream().sorted().map(ranges::get).collect(Collectors.toList());
+      log.debug("Iterator {} replica {} owns partitions {} of {} across {} replicas", iteratorName, replicaId, owned,
+          ranges.size(), liveReplicas);
+    } catch (RuntimeException ex) {
+      // Keep working on the partitions we have, their leases outlive a few failed heartbeats
+      log.warn("Failed to rebalance partitions for iterator {}", iteratorName, ex);
+    }
+  }
+
+  /**
+   * Gives up all partitions and the membership of this replica so that the others can take over immediately.
+   */
+  public synchronized void releaseAll() {
+    try {
+      persistence.update(createQuery()
+                             .field(IteratorPartitionLeaseKeys.partition)
+                             .greaterThanOrEq(0)
+                             .filter(IteratorPartitionLeaseKeys.owner, replicaId),
+          releaseOperations());
+      persistence.delete(
+          IteratorPartitionLease.class, IteratorPartitionLease.memberLeaseId(iteratorName, replicaId));
+    } catch (RuntimeException ex) {
+      log.warn("Failed to release partitions for iterator {}", iteratorName, ex);
+    }
+    ownedRanges = emptyList();
+    nextHeartbeat = 0;
+  }
+
+  private void createPartitionLeases() {
+    if (partitionLeasesCreated) {
+      return;
+    }
+    for (IteratorPartitionRange range : ranges) {
+      persistence.upsert(persistence.createQuery(IteratorPartitionLease.class, excludeAuthority)
+                             .filter(IteratorPartitionLeaseKeys.uuid,
+                                 IteratorPartitionLease.partitionLeaseId(iteratorName, range.getPartition())),
+          persistence.createUpdateOperations(IteratorPartitionLease.class)
+              .setOnInsert(IteratorPartitionLeaseKeys.iteratorName, iteratorName)
+              .setOnInsert(IteratorPartitionLeaseKeys.partition, range.getPartition())
+              .setOnInsert(IteratorPartitionLeaseKeys.leaseExpiresAt, 0L));
+    }
+    partitionLeasesCreated = true;
+  }
+
+  private void renewMembership(long expiresAt) {
+    persistence.upsert(persistence.createQuery(IteratorPartitionLease.class, excludeAuthority)
+                           .filter(IteratorPartitionLeaseKeys.uuid,
+                               IteratorPartitionLease.memberLeaseId(iteratorName, replicaId)),
+        persistence.createUpdateOperations(IteratorPartitionLease.class)
+            .set(IteratorPartitionLeaseKeys.iteratorName, iteratorName)
+            .set(IteratorPartitionLeaseKeys.partition, MEMBER_PARTITION)
+            .set(IteratorPartitionLeaseKeys.owner, replicaId)
+            .set(IteratorPartitionLeaseKeys.leaseExpiresAt, expiresAt));
+  }
+
+  private List<Integer> renewPartitionLeases(long expiresAt) {
+    persistence.update(ownedPartitionsQuery(),
+        persistence.createUpdateOperations(IteratorPartitionLease.class)
+            .set(IteratorPartitionLeaseKeys.leaseExpiresAt, expiresAt));
+
+    List<Integer> owned = new ArrayList<>();
+    for (IteratorPartitionLease lease :
+        ownedPartitionsQuery().project(IteratorPartitionLeaseKeys.partition, true).asList()) {
+      owned.add(lease.getPartition());
+    }
+    return owned;
+  }
+
+  private void releasePartitionLease(int partition) {
+    persistence.update(createQuery()
+                           .filter(IteratorPartitionLeaseKeys.uuid,
+                               IteratorPartitionLease.partitionLeaseId(iteratorName, partition))
+                           .filter(IteratorPartitionLeaseKeys.owner, replicaId),
+        releaseOperations());
+  }
+
+  private IteratorPartitionLease claimPartitionLease(long now, long expiresAt) {
+    Query<IteratorPartitionLease> query =
+        partitionsQuery().field(IteratorPartitionLeaseKeys.leaseExpiresAt).lessThan(now);
+    UpdateOperations<IteratorPartitionLease> operations =
+        persistence.createUpdateOperations(IteratorPartitionLease.class)
+            .set(IteratorPartitionLeaseKeys.owner, replicaId)
+            .set(IteratorPartitionLeaseKeys.leaseExpiresAt, expiresAt);
+    return persistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+  }
+
+  private UpdateOperations<IteratorPartitionLease> releaseOperations() {
+    return persistence.createUpdateOperations(IteratorPartitionLease.class)
+        .unset(IteratorPartitionLeaseKeys.owner)
+        .set(IteratorPartitionLeaseKeys.leaseExpiresAt, 0L);
+  }
+
+  private Query<IteratorPartitionLease> ownedPartitionsQuery() {
+    return partitionsQuery().filter(IteratorPartitionLeaseKeys.owner, replicaId);
+  }
+
+  // Partitions beyond the configured count are left over from a previous configuration and are never claimed
+  private Query<IteratorPartitionLease> partitionsQuery() {
+    return createQuery()
+        .field(IteratorPartitionLeaseKeys.partition)
+        .greaterThanOrEq(0)
+        .field(IteratorPartitionLeaseKeys.partition)
+        .lessThan(ranges.size());
+  }
+
+  @VisibleForTesting
+  Query<IteratorPartitionLease> createQuery() {
+    return persistence.createQuery(IteratorPartitionLease.class, excludeAuthority)
+        .filter(IteratorPartitionLeaseKeys.iteratorName, iteratorName);
+  }
+}
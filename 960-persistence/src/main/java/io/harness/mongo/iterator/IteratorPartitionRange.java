@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A contiguous range of the string document id space, [lowerBound, upperBound).
+ *
+ * Entity ids are random url-safe base64 uuids, so slicing the space of two character id prefixes into equal
+ * contiguous ranges yields uniformly sized partitions that can still be served by a range predicate on _id.
+ * The first range has no lower bound and the last one has no upper bound, so every string id belongs to exactly
+ * one partition regardless of how it was generated. Documents with ObjectId ids are not covered.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Value
+public class IteratorPartitionRange {
+  // The url-safe base64 alphabet in byte order, which is the order mongo compares strings in
+  static final String ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  static final int SLOTS = ALPHABET.length() * ALPHABET.length();
+
+  int partition;
+  String lowerBound;
+  String upperBound;
+
+  public static List<IteratorPartitionRange> split(int partitionCount) {
+    if (partitionCount <= 0 || partitionCount > SLOTS) {
+      throw new IllegalArgumentException("Partition count must be between 1 and " + SLOTS);
+    }
+
+    List<IteratorPartitionRange> ranges = new ArrayList<>(partitionCount);
+    for (int partition = 0; partition < partitionCount; partition++) {
+      String lowerBound = partition == 0 ? null : prefix(slot(partition, partitionCount));
+      String upperBound = partition == partitionCount - 1 ? null : prefix(slot(partition + 1, partitionCount));
+      ranges.add(new IteratorPartitionRange(partition, lowerBound, upperBound));
+    }
+    return Collections.unmodifiableList(ranges);
+  }
+
+  public boolean contains(String id) {
+    return (lowerBound == null || lowerBound.compareTo(id) <= 0)
+        && (upperBound == null || upperBound.compareTo(id) > 0);
+  }
+
+  private static int slot(int partition, int partitionCount) {
+    return (int) ((long) partition * SLOTS / partitionCount);
+  }
+
+  private static String prefix(int slot) {
+    return new String(
+        new char[] {ALPHABET.charAt(slot / ALPHABET.length()), ALPHABET.charAt(slot % ALPHABET.length())});
+  }
+}
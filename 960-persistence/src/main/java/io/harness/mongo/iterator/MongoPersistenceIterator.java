@@ -13,6 +13,8 @@ import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PARTITIONS_OWNED;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PARTITION_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_REDIS_LOCK_ACQUIRE_FAIL;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
@@ -105,6 +107,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
   private boolean isDelegateTaskMigrationEnabled;
   private PersistentLocker persistentLocker;
+  @Getter private IteratorPartitionLeaseManager partitionLeaseManager;
 
   public interface Handler<T> {
     void handle(T entity);
@@ -118,6 +121,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         break;
       case LOOP:
       case REDIS_BATCH:
+      case PARTITIONED:
         notifyAll();
         break;
       default:
@@ -394,6 +398,102 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Process method for Partitioned mode iterator.
+   *
+   *  1. Heartbeat the partition lease table when due. This renews the leases of this replica and
+   *     rebalances the partitions when replicas join or leave.
+   *  2. Compute the batch-size limit the same way as the Redis Batch mode so the jobQ doesn't overflow.
+   *  3. For every partition owned by this replica fetch a batch of due documents whose id falls in the
+   *     partition range and submit them to the workers without waiting.
+   *  4. Update the nextIteration fields of the submitted docs in bulk. No distributed lock is needed since
+   *     no other replica works on the same partition while this replica holds its lease.
+   *  5. Record the per-partition lag, which is the delay of the oldest due document of the partition.
+   */
+  public void partitionedProcess() {
+    boolean released = false;
+
+    while (true) {
+      if (!shouldProcess()) {
+        // Hand over the partitions so that the active replicas do not wait for the leases to expire
+        if (!released) {
+          partitionLeaseManager.releaseAll();
+          released = true;
+        }
+        sleep(ofSeconds(1));
+        continue;
+      }
+      released = false;
+
+      partitionLeaseManager.heartbeatIfDue();
+      List<IteratorPartitionRange> ownedRanges = partitionLeaseManager.getOwnedRanges();
+      iteratorMetricsService.recordIteratorMetricsWithValue(
+          iteratorName, ITERATOR_PARTITIONS_OWNED, ownedRanges.size());
+
+      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+      if (limit <= 0) {
+        // The Queue is full, so try after sometime
+        log.warn("The worker Q for {} iterator is full, pausing for 5 seconds", iteratorName);
+        sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
+        continue;
+      }
+
+      int submitted = 0;
+      for (IteratorPartitionRange range : ownedRanges) {
+        if (submitted >= limit) {
+          break;
+        }
+        submitted += processPartition(range, limit - submitted);
+      }
+
+      // If there were no docs available then sleep for the configured threadPool interval duration,
+      // but wake up in time for the next lease heartbeat.
+      if (submitted == 0) {
+        long sleepMillis =
+            Math.min(threadPoolIntervalInSeconds.toMillis(), partitionLeaseManager.getHeartbeatInterval().toMillis());
+        synchronized (this) {
+          try {
+            wait(sleepMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            partitionLeaseManager.releaseAll();
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  private int processPartition(IteratorPartitionRange range, int limit) {
+    long base = currentTimeMillis();
+    long lag = 0;
+    List<String> docIds = new ArrayList<>();
+    try {
+      // Always sort by the iteration field so the first document is the oldest due one for the lag metric
+      Iterator<T> docItr = persistenceProvider.obtainNextInstancesInRange(clazz, fieldName, filterExpander, false,
+          limit, isDelegateTaskMigrationEnabled, range.getLowerBound(), range.getUpperBound());
+
+      while (docItr.hasNext()) {
+        T entity = docItr.next();
+        if (docIds.isEmpty()) {
+          Long nextIteration = entity.obtainNextIteration(fieldName);
+          lag = (nextIteration == null || nextIteration == 0) ? 0 : Math.max(0, base - nextIteration);
+        }
+        submitEntityForProcessingWithoutWait(entity);
+        docIds.add(entity.getUuid());
+      }
+
+      updateDocumentNextIteration(docIds, base);
+    } catch (Exception ex) {
+      log.error("Received an exception while processing partition {} ", range.getPartition(), ex);
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+    }
+
+    iteratorMetricsService.recordIteratorPartitionMetricsWithDuration(
+        iteratorName, range.getPartition(), ofMillis(lag), ITERATOR_PARTITION_LAG);
+    return docIds.size();
+  }
+
   /**
    * Method to submit an entity to the Worker JobQ.
    * @param entity - Mongo document that worker thread should process
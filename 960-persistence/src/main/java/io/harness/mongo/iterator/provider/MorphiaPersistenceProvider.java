@@ -136,6 +136,22 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     return query.fetch(new FindOptions().limit(limit));
   }
 
+  @Override
+  public MorphiaIterator<T, T> obtainNextInstancesInRange(Class<T> clazz, String fieldName,
+      MorphiaFilterExpander<T> filterExpander, boolean unsorted, int limit, boolean isDelegateTaskMigrationEnabled,
+      String lowerBound, String upperBound) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander, unsorted, isDelegateTaskMigrationEnabled);
+    if (lowerBound != null) {
+      query.field("_id").greaterThanOrEq(lowerBound);
+    }
+    if (upperBound != null) {
+      query.field("_id").lessThan(upperBound);
+    }
+
+    return query.fetch(new FindOptions().limit(limit));
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
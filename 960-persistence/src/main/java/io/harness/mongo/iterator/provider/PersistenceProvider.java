@@ -31,6 +31,13 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, F filterExpander, boolean unsorted, int limit,
       boolean isDelegateTaskMigrationEnabled);
 
+  /**
+   * Same as obtainNextInstances, restricted to documents with a string id in [lowerBound, upperBound).
+   * A null bound leaves that side of the range open.
+   */
+  Iterator<T> obtainNextInstancesInRange(Class<T> clazz, String fieldName, F filterExpander, boolean unsorted,
+      int limit, boolean isDelegateTaskMigrationEnabled, String lowerBound, String upperBound);
+
   BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval);
 }
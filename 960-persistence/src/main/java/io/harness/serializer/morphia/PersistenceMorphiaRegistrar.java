@@ -18,6 +18,7 @@ import io.harness.iterator.PersistentRegularIterable;
 import io.harness.migration.DelegateMigrationFlag;
 import io.harness.migration.MigrationJobInstance;
 import io.harness.mongo.MorphiaMove;
+import io.harness.mongo.iterator.IteratorPartitionLease;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.morphia.MorphiaRegistrarHelperPut;
 import io.harness.persistence.AccountAccess;
@@ -55,6 +56,7 @@ public class PersistenceMorphiaRegistrar implements MorphiaRegistrar {
     set.add(CreatedByAccess.class);
     set.add(CreatedByAware.class);
     set.add(GoogleDataStoreAware.class);
+    set.add(IteratorPartitionLease.class);
     set.add(MigrationJobInstance.class);
     set.add(MorphiaMove.class);
     set.add(NameAccess.class);
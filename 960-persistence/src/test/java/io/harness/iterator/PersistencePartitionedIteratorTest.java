@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.PARTITIONED;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.config.WorkersConfiguration;
+import io.harness.iterator.PersistenceIteratorFactory.PartitionedExecutorOptions;
+import io.harness.iterator.PersistenceIteratorFactory.PumpExecutorOptions;
+import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
+import io.harness.maintenance.MaintenanceGuard;
+import io.harness.mongo.iterator.MongoPersistenceIterator;
+import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
+import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
+import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
+import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+import io.harness.threading.Poller;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class PersistencePartitionedIteratorTest extends PersistenceTestBase {
+  @Mock WorkersConfiguration workersConfiguration;
+  @InjectMocks @Inject PersistenceIteratorFactory persistenceIteratorFactory;
+  @Inject private HPersistence persistence;
+  @Inject private MorphiaPersistenceProvider<TestRegularIterableEntity> persistenceProvider;
+
+  private TestPartitionedHandler handler;
+
+  class TestPartitionedHandler extends IteratorPumpAndRedisModeHandler implements Handler<TestRegularIterableEntity> {
+    private final Set<String> handled = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void handle(TestRegularIterableEntity entity) {
+      handled.add(entity.getUuid());
+    }
+
+    @Override
+    protected void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
+      iteratorName = "PartitionedTest";
+      iteratorExecutionHandler.registerIteratorHandler(iteratorName, this);
+    }
+
+    @Override
+    protected void createAndStartIterator(PumpExecutorOptions executorOptions, Duration targetInterval) {
+      // Only the Partitioned mode is exercised by this test
+    }
+
+    @Override
+    protected MongoPersistenceIteratorBuilder<TestRegularIterableEntity,
+        MorphiaFilterExpander<TestRegularIterableEntity>>
+    partitionedIteratorBuilder() {
+      return MongoPersistenceIterator
+          .<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>>builder()
+          .clazz(TestRegularIterableEntity.class)
+          .fieldName(RegularIterableEntityKeys.nextIteration)
+          .acceptableNoAlertDelay(ofSeconds(1))
+          .acceptableExecutionTime(ofMillis(100))
+          .handler(this)
+          .persistenceProvider(persistenceProvider);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    when(workersConfiguration.confirmWorkerIsActive(any())).thenReturn(true);
+    handler = new TestPartitionedHandler();
+    handler.iteratorName = generateUuid();
+    on(handler).set("persistenceIteratorFactory", persistenceIteratorFactory);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPartitionedIteratorProcessesEntity() {
+    assertThat(handler.supportsPartitionedMode()).isTrue();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      TestRegularIterableEntity entity =
+          TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(currentTimeMillis()).build();
+      persistence.save(entity);
+
+      handler.createAndStartPartitionedIterator(PartitionedExecutorOptions.builder()
+                                                    .name(handler.getIteratorName())
+                                                    .poolSize(2)
+                                                    .batchSize(4)
+                                                    .partitionCount(4)
+                                                    .leaseDuration(ofSeconds(30))
+                                                    .interval(ofMillis(100))
+                                                    .build(),
+          ofSeconds(60));
+      assertThat(handler.getIterator().getMode()).isEqualTo(PARTITIONED);
+
+      Poller.pollFor(ofSeconds(10), ofMillis(10), () -> handler.handled.contains(entity.getUuid()));
+
+      TestRegularIterableEntity updatedEntity = persistence.get(TestRegularIterableEntity.class, entity.getUuid());
+      assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
+    } finally {
+      handler.stopExecutor();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.time.Duration.ofMinutes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorPartitionLeaseManagerTest extends PersistenceTestBase {
+  @Inject private HPersistence persistence;
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSingleReplicaOwnsAllPartitions() {
+    IteratorPartitionLeaseManager manager =
+        new IteratorPartitionLeaseManager(persistence, generateUuid(), 8, ofMinutes(1));
+
+    manager.rebalance();
+
+    assertThat(manager.getOwnedRanges()).hasSize(8);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRebalanceWhenReplicasJoinAndLeave() {
+    String iteratorName = generateUuid();
+    IteratorPartitionLeaseManager first = new IteratorPartitionLeaseManager(persistence, iteratorName, 8, ofMinutes(1));
+    IteratorPartitionLeaseManager second =
+        new IteratorPartitionLeaseManager(persistence, iteratorName, 8, ofMinutes(1));
+
+    first.rebalance();
+    assertThat(first.getOwnedRanges()).hasSize(8);
+
+    // The joining replica only gets partitions once the first one sheds its surplus
+    second.rebalance();
+    assertThat(second.getOwnedRanges()).isEmpty();
+    first.rebalance();
+    assertThat(first.getOwnedRanges()).hasSize(4);
+    second.rebalance();
+    assertThat(second.getOwnedRanges()).hasSize(4);
+
+    Set<Integer> partitions = new HashSet<>();
+    first.getOwnedRanges().forEach(range -> partitions.add(range.getPartition()));
+    second.getOwnedRanges().forEach(range -> partitions.add(range.getPartition()));
+    assertThat(partitions).hasSize(8);
+
+    second.releaseAll();
+    assertThat(second.getOwnedRanges()).isEmpty();
+    first.rebalance();
+    assertThat(first.getOwnedRanges()).hasSize(8);
+  }
+}
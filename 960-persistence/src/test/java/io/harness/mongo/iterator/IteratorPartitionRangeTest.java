@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorPartitionRangeTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSplitCoversTheIdSpaceWithoutGaps() {
+    List<IteratorPartitionRange> ranges = IteratorPartitionRange.split(16);
+
+    assertThat(ranges).hasSize(16);
+    assertThat(ranges.get(0).getLowerBound()).isNull();
+    assertThat(ranges.get(15).getUpperBound()).isNull();
+    for (int i = 1; i < ranges.size(); i++) {
+      assertThat(ranges.get(i).getPartition()).isEqualTo(i);
+      assertThat(ranges.get(i).getLowerBound()).isEqualTo(ranges.get(i - 1).getUpperBound());
+      if (i + 1 < ranges.size()) {
+        assertThat(ranges.get(i).getUpperBound()).isGreaterThan(ranges.get(i).getLowerBound());
+      }
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEveryIdBelongsToExactlyOnePartition() {
+    List<IteratorPartitionRange> ranges = IteratorPartitionRange.split(7);
+
+    int[] counts = new int[ranges.size()];
+    for (int i = 0; i < 7000; i++) {
+      String id = generateUuid();
+      int owners = 0;
+      for (IteratorPartitionRange range : ranges) {
+        if (range.contains(id)) {
+          owners++;
+          counts[range.getPartition()]++;
+        }
+      }
+      assertThat(owners).isEqualTo(1);
+    }
+
+    // Random ids spread evenly, allow a generous margin to keep the test stable
+    for (int count : counts) {
+      assertThat(count).isBetween(700, 1300);
+    }
+    assertThat(ranges.stream().filter(range -> range.contains("")).count()).isEqualTo(1);
+    assertThat(ranges.stream().filter(range -> range.contains("~~~")).count()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSplitRejectsInvalidPartitionCount() {
+    assertThatThrownBy(() -> IteratorPartitionRange.split(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IteratorPartitionRange.split(IteratorPartitionRange.SLOTS + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(IteratorPartitionRange.split(1).get(0).contains(generateUuid())).isTrue();
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.event.client.impl.appender;
 import static java.util.Arrays.stream;
 import static net.openhft.chronicle.queue.impl.single.SingleChronicleQueue.SUFFIX;
 
+import io.harness.event.client.impl.tailer.TailerLag;
 import io.harness.logging.LoggingListener;
 
 import com.google.common.util.concurrent.AbstractScheduledService;
@@ -31,14 +32,18 @@ import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
 public class ChronicleQueueMonitor extends AbstractScheduledService {
   // Since the queue is configured with RollCycles.MINUTELY, each file correspond to one minute of data.
   private static final int THRESHOLD = 30;
+  // Messages the tailer is behind by, a few minutes of data when the delegate is busy
+  private static final long LAG_THRESHOLD = 100_000;
 
   private final RollingChronicleQueue queue;
+  private final TailerLag tailerLag;
 
   private volatile boolean healthy = true;
 
   @Inject
-  public ChronicleQueueMonitor(@Named("appender") RollingChronicleQueue queue) {
+  public ChronicleQueueMonitor(@Named("appender") RollingChronicleQueue queue, TailerLag tailerLag) {
     this.queue = queue;
+    this.tailerLag = tailerLag;
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
 
@@ -49,7 +54,11 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
                            .map(File::listFiles)
                            .map(fileList -> stream(fileList).filter(file -> file.getName().endsWith(SUFFIX)).count())
                            .orElse(0L);
-      log.debug("eventQueue fileCount: {}", fileCount);
+      long unreadCount = tailerLag.get();
+      log.debug("eventQueue fileCount: {}, tailer unreadCount: {}", fileCount, unreadCount);
+      if (unreadCount > LAG_THRESHOLD) {
+        log.warn("EventQueue tailer is {} messages behind", unreadCount);
+      }
       if (fileCount > THRESHOLD) {
         log.warn("EventQueue file count on delegate is too high. Marking unhealthy. Current count {}", fileCount);
         healthy = false;
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+/**
+ * Sizes the batches of the tailer from how long their publish takes: the batches grow while the full ones are
+ * published quickly, and shrink when a publish is slow or fails. The more batches the backlog fills, the more of them
+ * are published at once.
+ */
+class AdaptiveBatchSizer {
+  static final int MIN_BATCH_COUNT = 100;
+  static final int INITIAL_BATCH_COUNT = 500;
+  static final int MAX_BATCH_COUNT = 4000;
+  // 256KB for the initial 500 messages, as with the former fixed size batches
+  static final int BATCH_BYTES_PER_MESSAGE = 512;
+  static final long TARGET_PUBLISH_MILLIS = 2000;
+  static final int MAX_IN_FLIGHT_BATCHES = 4;
+
+  private int batchCount = INITIAL_BATCH_COUNT;
+
+  Batch newBatch() {
+    return new Batch(batchCount * BATCH_BYTES_PER_MESSAGE, batchCount);
+  }
+
+  int batchCount() {
+    return batchCount;
+  }
+
+  /**
+   * @param backlog the number of messages in the queue not read yet
+   */
+  int batchesToPublish(long backlog) {
+    return (int) Math.max(1, Math.min(MAX_IN_FLIGHT_BATCHES, backlog / batchCount));
+  }
+
+  /**
+   * Records the batches published together at once, so that the size moves by one step per iteration.
+   *
+   * @param anyFull whether any of the batches was full
+   * @param slowestPublishMillis how long the slowest of the publishes took
+   */
+  void recordSuccess(boolean anyFull, long slowestPublishMillis) {
+    if (slowestPublishMillis > TARGET_PUBLISH_MILLIS) {
+      batchCount = Math.max(MIN_BATCH_COUNT, batchCount * 3 / 4);
+    } else if (anyFull) {
+      batchCount = Math.min(MAX_BATCH_COUNT, batchCount * 2);
+    }
+  }
+
+  void recordFailure() {
+    batchCount = Math.max(MIN_BATCH_COUNT, batchCount / 2);
+  }
+}
@@ -17,14 +17,25 @@ import io.harness.eventpublisherclient.EventPublisherClient;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.LoggingListener;
 import io.harness.util.EventServiceRestUtils;
+import io.harness.util.EventServiceRestUtils.NonRetryableResponseException;
 
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
@@ -35,22 +46,29 @@ import retrofit2.Call;
  * Tails the chronicle-queue and publishes the events over rpc.
  * <p/>
  * Intentionally not thread-safe as CQ tailers are also not thread-safe. The methods in this class, and {@link
- * FileDeletionManager} are supposed to be executed by the same single thread.
+ * FileDeletionManager} are supposed to be executed by the same single thread. Only the publish calls themselves run on
+ * other threads, so that several batches are in flight when there is a backlog.
+ * <p/>
+ * A batch that fails is kept and published again on the next iteration, while the batches acknowledged after it are
+ * not. The sent index only moves past the batches acknowledged in queue order, and the read tailer goes back to it on
+ * startup, so what was in memory when the process stopped is read again.
  */
 @Slf4j
 @Singleton
 public class ChronicleEventTailer extends AbstractScheduledService {
   private static final String READ_TAILER = "read-tailer";
 
-  // Batching settings
-  private static final int MAX_BATCH_COUNT = 500;
-  private static final int MAX_BATCH_BYTES = 1024 * 256; // 256KB
-
   private final ExcerptTailer readTailer;
 
   private final FileDeletionManager fileDeletionManager;
   private final BackoffScheduler scheduler;
   private final Sampler sampler;
+  private final AdaptiveBatchSizer batchSizer;
+  private final TailerLag tailerLag;
+  private final ExecutorService publishExecutor;
+  // Batches read from the queue that the sent index has not moved past yet, in queue order
+  private final Deque<PendingPublish> pendingPublishes = new ArrayDeque<>();
+  private final AtomicLong skippedMessageCount = new AtomicLong();
 
   private final RollingChronicleQueue queue;
 
@@ -60,13 +78,18 @@ public class ChronicleEventTailer extends AbstractScheduledService {
 
   @Inject
   ChronicleEventTailer(EventPublisherClient eventPublisherClient, @Named("tailer") RollingChronicleQueue chronicleQueue,
-      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler) {
+      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler,
+      TailerLag tailerLag) {
     this.eventPublisherClient = eventPublisherClient;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
     this.sampler = new Sampler(Duration.ofMinutes(1));
+    this.batchSizer = new AdaptiveBatchSizer();
+    this.tailerLag = tailerLag;
+    this.publishExecutor = Executors.newFixedThreadPool(AdaptiveBatchSizer.MAX_IN_FLIGHT_BATCHES,
+        new ThreadFactoryBuilder().setNameFormat("event-publisher-%d").setDaemon(true).build());
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
 
@@ -74,6 +97,13 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     this.accountId = accountId;
   }
 
+  /**
+   * @return the number of messages skipped because the event service rejected them since the last call
+   */
+  public long getAndResetSkippedMessageCount() {
+    return skippedMessageCount.getAndSet(0);
+  }
+
   @Override
   protected void startUp() {
     try {
@@ -82,6 +112,10 @@ public class ChronicleEventTailer extends AbstractScheduledService {
         // Only for migration when readTailer is present, and sentTailer is not.
         log.info("Index of sent-tailer is 0. Setting it to read-tailer index");
         fileDeletionManager.setSentIndex(readTailer.index());
+      } else if (readTailer.index() > fileDeletionManager.getSentIndex()) {
+        // The batches read but not acknowledged before the last stop are published again
+        log.info("Moving read-tailer back to the sent-tailer index");
+        QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
       }
       printStats();
       fileDeletionManager.deleteOlderFiles();
@@ -99,6 +133,7 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     } catch (Exception e) {
       log.error("Exception in shutDown", e);
     } finally {
+      publishExecutor.shutdownNow();
       this.queue.close();
       log.info("Successfully closed the queue.");
     }
@@ -123,50 +158,35 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
-            break;
-          }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
-          }
+      // Any index below an end seen earlier holds a document, so the end is looked up once for all the batches
+      long endIndex = queue.createTailer().toEnd().index();
+      long backlog = countUnread(endIndex);
+      int batchesToPublish = batchSizer.batchesToPublish(backlog);
+      List<PendingPublish> publishing = new ArrayList<>();
+      // Only the batches that failed are published again, not the ones acknowledged after them
+      for (PendingPublish pendingPublish : pendingPublishes) {
+        if (!pendingPublish.acknowledged) {
+          pendingPublish.publishMillis = publishExecutor.submit(() -> publishBatch(pendingPublish.batch));
+          publishing.add(pendingPublish);
         }
       }
-      if (batchToSend.isFull()) {
-        log.info("Batch is full");
+      boolean endReached = false;
+      while (!endReached && publishing.size() < batchesToPublish) {
+        Batch batchToSend = batchSizer.newBatch();
+        endReached = readBatch(batchToSend, endIndex);
+        if (batchToSend.isEmpty()) {
+          break;
+        }
+        PendingPublish pendingPublish = new PendingPublish(batchToSend, readTailer.index());
+        pendingPublish.publishMillis = publishExecutor.submit(() -> publishBatch(batchToSend));
+        pendingPublishes.add(pendingPublish);
+        publishing.add(pendingPublish);
       }
-      if (!batchToSend.isEmpty()) {
-        PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
-        try {
-          publishMessagesOverRest(publishRequest);
+      if (!publishing.isEmpty()) {
+        awaitPublishes(publishing);
+        if (pendingPublishes.isEmpty()) {
+          // The last read may have moved past the end of the queue without anything left to publish
           fileDeletionManager.setSentIndex(readTailer.index());
-          scheduler.recordSuccess();
-          log.info("Published {} messages successfully over rest", batchToSend.size());
-        } catch (Exception err) {
-          log.warn("Exception during message publish", err);
-          QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
-          scheduler.recordFailure();
         }
       } else {
         fileDeletionManager.setSentIndex(readTailer.index());
@@ -184,16 +204,126 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  private long countUnread(long endIndex) {
+    try {
+      long unreadCount = queue.countExcerpts(readTailer.index(), endIndex);
+      tailerLag.set(unreadCount);
+      return unreadCount;
+    } catch (Exception e) {
+      log.warn("Could not count the unread messages, publishing a single batch", e);
+      tailerLag.set(TailerLag.UNKNOWN);
+      return 0;
+    }
+  }
+
+  /**
+   * @return whether the end of the queue was reached
+   */
+  private boolean readBatch(Batch batchToSend, long endIndex) {
+    while (!batchToSend.isFull()) {
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          if (readIndex < endIndex) {
+            // The sent index follows once the batches read before are published, see awaitPublishes
+            readTailer.moveToIndex(endIndex);
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          return true;
+        }
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batchToSend.add(message);
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    log.info("Batch is full");
+    return false;
+  }
+
+  /**
+   * Waits for all the publishes so that none is in flight anymore, then adjusts the batch size and the backoff once for
+   * all of them, and moves the sent index past the batches acknowledged in queue order.
+   */
+  private void awaitPublishes(List<PendingPublish> publishing) {
+    boolean failed = false;
+    boolean anyFull = false;
+    long slowestPublishMillis = 0;
+    for (PendingPublish pendingPublish : publishing) {
+      try {
+        long publishMillis = pendingPublish.publishMillis.get();
+        pendingPublish.acknowledged = true;
+        anyFull = anyFull || pendingPublish.batch.isFull();
+        slowestPublishMillis = Math.max(slowestPublishMillis, publishMillis);
+        log.info("Published {} messages successfully over rest in {} ms", pendingPublish.batch.size(), publishMillis);
+      } catch (ExecutionException err) {
+        if (err.getCause() instanceof NonRetryableResponseException) {
+          // Sending the same batch again gets the same response, so it would hold back the queue for good
+          log.error("Skipping {} messages rejected by the event service", pendingPublish.batch.size(), err.getCause());
+          pendingPublish.acknowledged = true;
+          skippedMessageCount.addAndGet(pendingPublish.batch.size());
+        } else {
+          log.warn("Exception during message publish", err);
+          failed = true;
+        }
+      } catch (InterruptedException err) {
+        Thread.currentThread().interrupt();
+        failed = true;
+      }
+    }
+    if (failed) {
+      batchSizer.recordFailure();
+      scheduler.recordFailure();
+    } else {
+      batchSizer.recordSuccess(anyFull, slowestPublishMillis);
+      scheduler.recordSuccess();
+    }
+    while (!pendingPublishes.isEmpty() && pendingPublishes.peekFirst().acknowledged) {
+      fileDeletionManager.setSentIndex(pendingPublishes.pollFirst().endIndex);
+    }
+  }
+
+  private long publishBatch(Batch batch) throws IOException {
+    long startTime = System.currentTimeMillis();
+    publishMessagesOverRest(PublishRequest.newBuilder().addAllMessages(batch.getMessages()).build());
+    return System.currentTimeMillis() - startTime;
+  }
+
   private void publishMessagesOverRest(PublishRequest publishRequest) throws IOException {
     try {
       Call<PublishResponse> call = eventPublisherClient.publish(accountId, publishRequest);
       EventServiceRestUtils.executeRestCallWithRetry(call);
+    } catch (NonRetryableResponseException e) {
+      throw e;
     } catch (Exception e) {
       log.error("Error while publishing messages over rest ", e);
       throw new IOException(e);
     }
   }
 
+  private static class PendingPublish {
+    private final Batch batch;
+    private final long endIndex;
+    private Future<Long> publishMillis;
+    private boolean acknowledged;
+
+    PendingPublish(Batch batch, long endIndex) {
+      this.batch = batch;
+      this.endIndex = endIndex;
+    }
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
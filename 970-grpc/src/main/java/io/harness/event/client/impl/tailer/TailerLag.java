@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import com.google.inject.Singleton;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The number of messages in the event queue that the tailer has not read yet, as last seen by the tailer.
+ */
+@Singleton
+public class TailerLag {
+  public static final long UNKNOWN = -1;
+
+  private final AtomicLong unreadCount = new AtomicLong(UNKNOWN);
+
+  void set(long unreadCount) {
+    this.unreadCount.set(unreadCount);
+  }
+
+  public long get() {
+    return unreadCount.get();
+  }
+}
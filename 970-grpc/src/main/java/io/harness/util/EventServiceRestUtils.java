@@ -33,11 +33,18 @@ public class EventServiceRestUtils {
         } else {
           String errorResponse = (response.errorBody() != null) ? response.errorBody().string() : "";
           final int errorCode = response.code();
+          if (!isRetryable(errorCode)) {
+            throw new NonRetryableResponseException(
+                String.format("CE Event Rest call received %d Error Response: %s", errorCode, errorResponse));
+          }
           throw new IOException(
               String.format("CE Event Rest call received %d Error Response: %s", errorCode, errorResponse));
         }
+      } catch (NonRetryableResponseException e) {
+        log.error("Error executing rest call, not retrying", e);
+        throw e;
       } catch (Exception e) {
-        if (attempt <= MAX_ATTEMPTS) {
+        if (attempt < MAX_ATTEMPTS) {
           log.warn("Error executing rest call {}, retrying..., attempt {}", e, attempt);
         } else {
           log.error("Error executing rest call", e);
@@ -47,4 +54,19 @@ public class EventServiceRestUtils {
     }
     return null;
   }
+
+  // Other client errors come back the same for the same request, expired credentials and throttling do not
+  private static boolean isRetryable(int errorCode) {
+    return errorCode < 400 || errorCode >= 500 || errorCode == 401 || errorCode == 403 || errorCode == 408
+        || errorCode == 429;
+  }
+
+  /**
+   * The event service rejected the request itself, sending it again gets the same response.
+   */
+  public static class NonRetryableResponseException extends IOException {
+    public NonRetryableResponseException(String message) {
+      super(message);
+    }
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.event.client.impl.tailer.AdaptiveBatchSizer.INITIAL_BATCH_COUNT;
+import static io.harness.event.client.impl.tailer.AdaptiveBatchSizer.MAX_BATCH_COUNT;
+import static io.harness.event.client.impl.tailer.AdaptiveBatchSizer.MAX_IN_FLIGHT_BATCHES;
+import static io.harness.event.client.impl.tailer.AdaptiveBatchSizer.MIN_BATCH_COUNT;
+import static io.harness.event.client.impl.tailer.AdaptiveBatchSizer.TARGET_PUBLISH_MILLIS;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AdaptiveBatchSizerTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldGrowOnFastFullBatchesUpToMax() {
+    AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+    for (int i = 0; i < 10; i++) {
+      batchSizer.recordSuccess(true, 10);
+    }
+    assertThat(batchSizer.batchCount()).isEqualTo(MAX_BATCH_COUNT);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotGrowOnPartialBatches() {
+    AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+    batchSizer.recordSuccess(false, 10);
+    assertThat(batchSizer.batchCount()).isEqualTo(INITIAL_BATCH_COUNT);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldShrinkOnSlowPublishesAndFailuresDownToMin() {
+    AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+    batchSizer.recordSuccess(true, TARGET_PUBLISH_MILLIS + 1);
+    assertThat(batchSizer.batchCount()).isEqualTo(INITIAL_BATCH_COUNT * 3 / 4);
+    batchSizer.recordFailure();
+    assertThat(batchSizer.batchCount()).isEqualTo(INITIAL_BATCH_COUNT * 3 / 8);
+    for (int i = 0; i < 10; i++) {
+      batchSizer.recordFailure();
+    }
+    assertThat(batchSizer.batchCount()).isEqualTo(MIN_BATCH_COUNT);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldPublishMoreBatchesWithBacklog() {
+    AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+    assertThat(batchSizer.batchesToPublish(0)).isEqualTo(1);
+    assertThat(batchSizer.batchesToPublish(INITIAL_BATCH_COUNT - 1)).isEqualTo(1);
+    assertThat(batchSizer.batchesToPublish(INITIAL_BATCH_COUNT * 2)).isEqualTo(2);
+    assertThat(batchSizer.batchesToPublish(Long.MAX_VALUE)).isEqualTo(MAX_IN_FLIGHT_BATCHES);
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+import io.harness.event.client.impl.EventPublisherConstants;
+import io.harness.eventpublisherclient.EventPublisherClient;
+import io.harness.flow.BackoffScheduler;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import net.openhft.chronicle.wire.DocumentContext;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
+
+public class ChronicleEventTailerTest extends CategoryTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<List<Integer>> publishedBatches = Collections.synchronizedList(new ArrayList<>());
+  private final Set<Integer> failingBatches = Collections.synchronizedSet(new HashSet<>());
+  private final Set<Integer> rejectedBatches = Collections.synchronizedSet(new HashSet<>());
+  private EventPublisherClient eventPublisherClient;
+  private CountDownLatch inFlight = new CountDownLatch(0);
+  private final AtomicBoolean allInFlight = new AtomicBoolean(true);
+  private ChronicleEventTailer tailer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    Call<PublishResponse> call = mock(Call.class);
+    when(call.clone()).thenReturn(call);
+    when(call.execute()).thenReturn(Response.success(PublishResponse.getDefaultInstance()));
+    Call<PublishResponse> rejectedCall = mock(Call.class);
+    when(rejectedCall.clone()).thenReturn(rejectedCall);
+    when(rejectedCall.execute())
+        .thenReturn(Response.error(400, ResponseBody.create(MediaType.parse("application/json"), "invalid")));
+
+    // A batch is named after its first message
+    eventPublisherClient = mock(EventPublisherClient.class);
+    when(eventPublisherClient.publish(any(), any())).thenAnswer(invocation -> {
+      PublishRequest publishRequest = invocation.getArgument(1);
+      List<Integer> messageIds = publishRequest.getMessagesList()
+                                     .stream()
+                                     .map(message -> Integer.valueOf(message.getMessageId()))
+                                     .collect(toList());
+      publishedBatches.add(messageIds);
+      inFlight.countDown();
+      if (!inFlight.await(10, TimeUnit.SECONDS)) {
+        allInFlight.set(false);
+      }
+      if (failingBatches.contains(messageIds.get(0))) {
+        throw new IllegalStateException("publish failed");
+      }
+      return rejectedBatches.contains(messageIds.get(0)) ? rejectedCall : call;
+    });
+  }
+
+  @After
+  public void tearDown() {
+    if (tailer != null) {
+      tailer.shutDown();
+    }
+  }
+
+  private ChronicleEventTailer tailer(RollingChronicleQueue queue, FileDeletionManager fileDeletionManager) {
+    Duration delay = Duration.ofMillis(1);
+    tailer = new ChronicleEventTailer(eventPublisherClient, queue, fileDeletionManager,
+        new BackoffScheduler(ChronicleEventTailer.class.getSimpleName(), delay, delay), new TailerLag());
+    return tailer;
+  }
+
+  private RollingChronicleQueue queue(int messageCount) {
+    RollingChronicleQueue queue = ChronicleQueue.singleBuilder(temporaryFolder.getRoot())
+                                      .rollCycle(EventPublisherConstants.QUEUE_ROLL_CYCLE)
+                                      .build();
+    ExcerptAppender appender = queue.acquireAppender();
+    for (int i = 0; i < messageCount; i++) {
+      try (DocumentContext dc = appender.writingDocument()) {
+        dc.wire().getValueOut().bytes(message(i).toByteArray());
+      }
+    }
+    return queue;
+  }
+
+  private static PublishMessage message(long messageId) {
+    return PublishMessage.newBuilder().setMessageId(String.valueOf(messageId)).build();
+  }
+
+  private List<Integer> firstMessageIds() {
+    synchronized (publishedBatches) {
+      return publishedBatches.stream().map(batch -> batch.get(0)).sorted().collect(toList());
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBacklogIsPublishedInConcurrentBatches() {
+    RollingChronicleQueue queue = queue(2000);
+    FileDeletionManager fileDeletionManager = new FileDeletionManager(queue);
+    inFlight = new CountDownLatch(AdaptiveBatchSizer.MAX_IN_FLIGHT_BATCHES);
+
+    tailer(queue, fileDeletionManager).runOneIteration();
+
+    // Each publish waited for the others, so all of them were in flight together
+    assertThat(allInFlight.get()).isTrue();
+    assertThat(firstMessageIds()).containsExactly(0, 500, 1000, 1500);
+    assertThat(publishedBatches.stream().mapToInt(List::size).sum()).isEqualTo(2000);
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(queue.createTailer().toEnd().index());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testOnlyTheFailedBatchIsPublishedAgain() {
+    RollingChronicleQueue queue = queue(2000);
+    FileDeletionManager fileDeletionManager = new FileDeletionManager(queue);
+    tailer(queue, fileDeletionManager);
+    failingBatches.add(500);
+    long endIndex = queue.createTailer().toEnd().index();
+
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(0, 500, 1000, 1500);
+    assertThat(fileDeletionManager.getSentIndex()).isLessThan(endIndex);
+
+    // The batches acknowledged after the failed one are not sent twice
+    failingBatches.clear();
+    publishedBatches.clear();
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(500);
+    assertThat(publishedBatches.get(0)).hasSize(500);
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRejectedBatchIsSkipped() {
+    RollingChronicleQueue queue = queue(2000);
+    FileDeletionManager fileDeletionManager = new FileDeletionManager(queue);
+    tailer(queue, fileDeletionManager);
+    rejectedBatches.add(500);
+
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(0, 500, 1000, 1500);
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(queue.createTailer().toEnd().index());
+    assertThat(tailer.getAndResetSkippedMessageCount()).isEqualTo(500);
+
+    publishedBatches.clear();
+    tailer.runOneIteration();
+    assertThat(publishedBatches).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchSizeGrowsOncePerIteration() {
+    RollingChronicleQueue queue = queue(6000);
+    tailer(queue, new FileDeletionManager(queue));
+
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(0, 500, 1000, 1500);
+
+    // Four full batches published quickly double the size once
+    publishedBatches.clear();
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(2000, 3000, 4000, 5000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMoveToEndIsNotSentBeforeTheEarlierBatches() {
+    // The read tailer finds no document at 503 while the end is at 1000, and moves to the end
+    RollingChronicleQueue queue = mock(RollingChronicleQueue.class);
+    ExcerptTailer endTailer = mock(ExcerptTailer.class);
+    when(queue.createTailer()).thenReturn(endTailer);
+    when(endTailer.toEnd()).thenReturn(endTailer);
+    when(endTailer.index()).thenReturn(1000L);
+    when(queue.countExcerpts(anyLong(), anyLong())).thenReturn(1000L);
+
+    ExcerptTailer readTailer = mock(ExcerptTailer.class);
+    when(queue.createTailer("read-tailer")).thenReturn(readTailer);
+    AtomicLong readIndex = new AtomicLong();
+    when(readTailer.index()).thenAnswer(invocation -> readIndex.get());
+    when(readTailer.moveToIndex(anyLong())).thenAnswer(invocation -> {
+      readIndex.set(invocation.getArgument(0));
+      return true;
+    });
+    when(readTailer.toStart()).thenAnswer(invocation -> {
+      readIndex.set(0);
+      return readTailer;
+    });
+    when(readTailer.readingDocument()).thenAnswer(invocation -> {
+      DocumentContext dc = mock(DocumentContext.class, RETURNS_DEEP_STUBS);
+      if (readIndex.get() < 503) {
+        when(dc.isPresent()).thenReturn(true);
+        when(dc.wire().read().bytes()).thenReturn(message(readIndex.getAndIncrement()).toByteArray());
+      }
+      return dc;
+    });
+
+    FileDeletionManager fileDeletionManager = mock(FileDeletionManager.class);
+    tailer(queue, fileDeletionManager);
+
+    // The batch holding the move to the end succeeds while the one before it fails
+    failingBatches.add(0);
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(0, 500);
+    verify(fileDeletionManager, never()).setSentIndex(anyLong());
+    assertThat(readIndex.get()).isEqualTo(1000);
+
+    failingBatches.clear();
+    publishedBatches.clear();
+    tailer.runOneIteration();
+    assertThat(firstMessageIds()).containsExactly(0);
+    ArgumentCaptor<Long> sentIndexes = ArgumentCaptor.forClass(Long.class);
+    verify(fileDeletionManager, atLeastOnce()).setSentIndex(sentIndexes.capture());
+    assertThat(sentIndexes.getAllValues()).containsSubsequence(500L, 1000L).allMatch(index -> index <= 1000L);
+  }
+}
@@ -16,6 +16,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -31,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,10 +57,16 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Bound once per field, a field is read and written on every recast of its class. Null if the field cannot be
+  // accessed through a method handle, it is then accessed through reflection
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    getter = unreflectGetter(f);
+    setter = unreflectSetter(f);
     recasterFieldName = getRecasterFieldNameFromField(f);
     persistedClass = clazz;
     realType = field.getType();
@@ -359,18 +369,64 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (getter == null) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
     try {
-      return field.get(instance);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      return getter.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
     }
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter == null) {
+      try {
+        field.set(instance, value);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+      return;
+    }
+    if (value != null && !field.getType().isInstance(value)) {
+      // Reported as reflection would, callers rely on it
+      throw new IllegalArgumentException(format("Can not set %s field %s to %s", field.getType().getName(),
+          getFullName(), value.getClass().getName()));
+    }
     try {
-      field.set(instance, value);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      setter.invokeExact(instance, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  private static MethodHandle unreflectGetter(Field f) {
+    try {
+      return MethodHandles.lookup().unreflectGetter(f).asType(MethodType.methodType(Object.class, Object.class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  // Primitive fields are left to reflection, which widens and unboxes the values the way the transformers expect
+  private static MethodHandle unreflectSetter(Field f) {
+    if (f.getType().isPrimitive()) {
+      return null;
+    }
+    try {
+      return MethodHandles.lookup()
+          .unreflectSetter(f)
+          .asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
     }
   }
 
@@ -11,17 +11,41 @@ import io.harness.beans.CastedField;
 import io.harness.transformers.DefaultRecastTransformer;
 import io.harness.transformers.RecastTransformer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class CustomTransformer extends Transformer {
   private final RecastTransformer passThroughTransformer = new DefaultRecastTransformer();
   private final DefaultTransformer defaultTransformer;
+  // The transformer of a class is looked up for every field of every recast, the untyped transformers being asked in
+  // turn whenever there is no typed one. Only the custom transformers can change it, they are added at startup
+  private final Map<Class<?>, RecastTransformer> transformersByClass = new ConcurrentHashMap<>();
 
   public CustomTransformer(Recaster recaster) {
     super(recaster);
     this.defaultTransformer = new DefaultTransformer(recaster);
   }
 
+  @Override
+  protected void addTransformer(RecastTransformer recastTransformer) {
+    super.addTransformer(recastTransformer);
+    transformersByClass.clear();
+  }
+
   @Override
   protected RecastTransformer getTransformer(final Class c) {
+    if (c == null) {
+      return resolveTransformer(null);
+    }
+    RecastTransformer encoder = transformersByClass.get(c);
+    if (encoder == null) {
+      encoder = resolveTransformer(c);
+      transformersByClass.put(c, encoder);
+    }
+    return encoder;
+  }
+
+  private RecastTransformer resolveTransformer(final Class<?> c) {
     RecastTransformer encoder = super.getTransformer(c);
     if (encoder == null) {
       encoder = defaultTransformer.getTransformer(c);
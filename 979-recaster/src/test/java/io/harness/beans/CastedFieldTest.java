@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recaster;
+import io.harness.core.RecasterOptions;
+import io.harness.rule.Owner;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.CustomValueTransformer;
+
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class CastedFieldTest extends RecasterTestBase {
+  private Recaster recaster;
+
+  @Before
+  public void setup() {
+    recaster = new Recaster(RecasterOptions.builder().workWithMaps(true).build());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFieldAccessors() throws NoSuchFieldException {
+    CastedField name = new CastedField(Dummy.class.getDeclaredField("name"), Dummy.class, recaster);
+    CastedField count = new CastedField(Dummy.class.getDeclaredField("count"), Dummy.class, recaster);
+    CastedField total = new CastedField(Dummy.class.getDeclaredField("total"), Dummy.class, recaster);
+    Dummy dummy = new Dummy("name", 1, 2L);
+
+    assertThat(name.getFieldValue(dummy)).isEqualTo("name");
+    assertThat(count.getFieldValue(dummy)).isEqualTo(1);
+    name.setFieldValue(dummy, "otherName");
+    name.setFieldValue(dummy, null);
+    count.setFieldValue(dummy, 3);
+    // Widened as reflection does
+    total.setFieldValue(dummy, 4);
+    assertThat(dummy.name).isNull();
+    assertThat(dummy.count).isEqualTo(3);
+    assertThat(dummy.total).isEqualTo(4L);
+    assertThatThrownBy(() -> name.setFieldValue(dummy, 5)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCustomTransformerAddedAfterLookup() {
+    assertThat(recaster.getTransformer().hasCustomTransformer(Dummy.class)).isFalse();
+    recaster.getTransformer().addCustomTransformer(new DummyTransformer());
+
+    assertThat(recaster.getTransformer().hasCustomTransformer(Dummy.class)).isTrue();
+    Map<String, Object> map = recaster.toMap(new Dummy("name", 1, 2L));
+    assertThat(map.get(Recaster.ENCODED_VALUE)).isEqualTo("name");
+  }
+
+  private static class Dummy {
+    private final String name;
+    private int count;
+    private long total;
+
+    Dummy(String name, int count, long total) {
+      this.name = name;
+      this.count = count;
+      this.total = total;
+    }
+  }
+
+  private static class DummyTransformer extends RecastTransformer implements CustomValueTransformer {
+    DummyTransformer() {
+      super(Collections.singletonList(Dummy.class));
+    }
+
+    @Override
+    public Object decode(Class<?> targetClass, Object fromObject, CastedField castedField) {
+      return new Dummy((String) fromObject, 0, 0L);
+    }
+
+    @Override
+    public Object encode(Object value, CastedField castedField) {
+      return ((Dummy) value).name;
+    }
+  }
+}
@@ -14,7 +14,6 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
-import io.harness.data.algorithm.IdentifierName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.EngineExpressionEvaluationException;
 import io.harness.exception.EngineFunctorException;
@@ -48,12 +47,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
-import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
@@ -85,7 +81,7 @@ public class EngineExpressionEvaluator {
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
+    this.engine = JexlCompiledCache.getEngine();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -656,10 +652,9 @@ public class EngineExpressionEvaluator {
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
-      return engine.createScript(expression).execute(ctx);
+      return JexlCompiledCache.getScript(expression).execute(ctx);
     }
-    JexlExpression jexlExpression = engine.createExpression(expression);
-    return jexlExpression.evaluate(ctx);
+    return JexlCompiledCache.getExpression(expression).evaluate(ctx);
   }
 
   /**
@@ -678,7 +673,7 @@ public class EngineExpressionEvaluator {
 
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
       try {
-        return engine.createScript(expression).execute(ctx);
+        return JexlCompiledCache.getScript(expression).execute(ctx);
       } catch (Exception e) {
         if (response.isOnlyRenderedExpressions()) {
           return null;
@@ -687,8 +682,7 @@ public class EngineExpressionEvaluator {
       }
     }
     try {
-      JexlExpression jexlExpression = engine.createExpression(expression);
-      return jexlExpression.evaluate(ctx);
+      return JexlCompiledCache.getExpression(expression).evaluate(ctx);
     } catch (Exception e) {
       if (response.isOnlyRenderedExpressions()) {
         return null;
@@ -698,7 +692,7 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return JexlCompiledCache.getScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -843,8 +837,10 @@ public class EngineExpressionEvaluator {
       this.engineExpressionEvaluator = engineExpressionEvaluator;
       this.ctx = ctx;
       this.depth = depth;
-      this.prefix = IdentifierName.random();
-      this.suffix = IdentifierName.random();
+      // Unique within the evaluation and the same from one evaluation of the expression to the next, which lets the
+      // rendered expression be compiled once. The VAR markers are relied upon by the migrator's secret functor.
+      this.prefix = "VAR__" + ctx.nextResolverOrdinal() + "_";
+      this.suffix = "_VAR";
       this.expressionMode = expressionMode;
     }
 
@@ -12,7 +12,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.jexl3.JexlContext;
@@ -23,6 +27,7 @@ public class EngineJexlContext implements JexlContext {
   EngineExpressionEvaluator engineExpressionEvaluator;
   Map<String, Object> originalMap;
   Map<String, Object> updatesMap;
+  @Getter(AccessLevel.NONE) @EqualsAndHashCode.Exclude AtomicInteger resolverCount = new AtomicInteger();
 
   public EngineJexlContext(
       @NotNull EngineExpressionEvaluator engineExpressionEvaluator, @NotNull Map<String, Object> originalMap) {
@@ -74,6 +79,13 @@ public class EngineJexlContext implements JexlContext {
     }
   }
 
+  /**
+   * Numbers the resolvers of one evaluation, so that the variables they put in the context do not clash.
+   */
+  public int nextResolverOrdinal() {
+    return resolverCount.incrementAndGet();
+  }
+
   public boolean isFeatureFlagEnabled(String featureName) {
     return originalMap.containsKey(EngineExpressionEvaluator.ENABLED_FEATURE_FLAGS_KEY)
         && originalMap.get(EngineExpressionEvaluator.ENABLED_FEATURE_FLAGS_KEY).toString().contains(featureName);
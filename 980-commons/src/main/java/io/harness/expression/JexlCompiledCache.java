@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.expression.EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of the JEXL expressions and scripts the {@link EngineExpressionEvaluator}s compile, keyed by
+ * their source. A compiled expression holds no evaluation state, so a cached one is simply evaluated against the
+ * context of each call.
+ *
+ * All the evaluators share the one engine the cached forms are compiled with, along with its introspection caches.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class JexlCompiledCache {
+  public static final String EXPRESSION_MODE = "expression";
+  public static final String SCRIPT_MODE = "script";
+
+  private static final int MAX_CACHED_EXPRESSIONS = 10000;
+  private static final int MAX_CACHED_SCRIPTS = 1000;
+  // A compiled source takes many times its length, so the long ones are compiled on every call instead
+  private static final int MAX_CACHED_SOURCE_LENGTH = 16 * 1024;
+
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final Cache<String, JexlExpression> expressions = newCache(MAX_CACHED_EXPRESSIONS);
+  private static final Cache<String, JexlScript> scripts = newCache(MAX_CACHED_SCRIPTS);
+
+  public static JexlEngine getEngine() {
+    return engine;
+  }
+
+  public static JexlExpression getExpression(String source) {
+    if (!isCacheable(source)) {
+      return engine.createExpression(source);
+    }
+    JexlExpression expression = expressions.getIfPresent(source);
+    if (expression == null) {
+      // Compiled outside of the cache so that parse errors surface as they are, two racing threads compile twice
+      expression = engine.createExpression(source);
+      expressions.put(source, expression);
+    }
+    return expression;
+  }
+
+  public static JexlScript getScript(String source) {
+    if (!isCacheable(source)) {
+      return engine.createScript(source);
+    }
+    JexlScript script = scripts.getIfPresent(source);
+    if (script == null) {
+      script = engine.createScript(source);
+      scripts.put(source, script);
+    }
+    return script;
+  }
+
+  /**
+   * @return the hit, miss and eviction counts by mode, {@link #EXPRESSION_MODE} or {@link #SCRIPT_MODE}
+   */
+  public static Map<String, CacheStats> getCacheStats() {
+    return ImmutableMap.of(EXPRESSION_MODE, expressions.stats(), SCRIPT_MODE, scripts.stats());
+  }
+
+  // The partial evaluation variables are random, their expressions would never be seen twice
+  private static boolean isCacheable(String source) {
+    return source.length() <= MAX_CACHED_SOURCE_LENGTH && !source.contains(HARNESS_INTERNAL_VARIABLE_PREFIX);
+  }
+
+  private static <V> Cache<String, V> newCache(int maximumSize) {
+    return CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+  }
+}
@@ -20,15 +20,19 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
 
 @Singleton
 @Slf4j
@@ -51,6 +55,16 @@ public class KryoSerializer {
     }
   }
 
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  // Every thread that ever serialized holds its buffers, so only the ones of typical payloads are kept
+  private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+  private static final int DEFLATE_CHUNK_SIZE = 8 * 1024;
+  private static final int LZ4_LENGTH_PREFIX_SIZE = 4;
+  private static final byte[] EMPTY_BUFFER = new byte[0];
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+  private static final ThreadLocal<SerializationBuffers> THREAD_BUFFERS =
+      ThreadLocal.withInitial(() -> new SerializationBuffers(true));
+
   private final KryoPool pool;
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
@@ -104,55 +118,173 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      return serialize(obj, buffers).toBytes();
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      buffers.release();
     }
   }
 
+  /**
+   * Same format as writing through a {@link java.util.zip.DeflaterOutputStream}, so the payloads stay readable by
+   * anything that inflates them with an {@link java.util.zip.InflaterInputStream}.
+   */
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      Output output = serialize(obj, buffers);
+      // Ended right away, as its native memory is otherwise only freed once the deflater is garbage collected
+      Deflater deflater = new Deflater();
+      try {
+        deflater.setInput(output.getBuffer(), 0, output.position());
+        deflater.finish();
+        int size = 0;
+        while (!deflater.finished()) {
+          buffers.ensureScratchCapacity(size + DEFLATE_CHUNK_SIZE);
+          size += deflater.deflate(buffers.scratch, size, buffers.scratch.length - size);
+        }
+        return Arrays.copyOf(buffers.scratch, size);
+      } finally {
+        deflater.end();
+      }
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
+  /**
+   * Serialized bytes prefixed with their length and compressed with LZ4. Several times faster than deflate on both
+   * ends for a lower compression ratio, the payloads are only readable with {@link #asLz4DecompressedObject}.
+   */
+  public byte[] asLz4CompressedBytes(Object obj) {
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      Output output = serialize(obj, buffers);
+      int length = output.position();
+      LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+      buffers.ensureScratchCapacity(LZ4_LENGTH_PREFIX_SIZE + compressor.maxCompressedLength(length));
+      writeLengthPrefix(buffers.scratch, length);
+      int compressedLength = compressor.compress(output.getBuffer(), 0, length, buffers.scratch,
+          LZ4_LENGTH_PREFIX_SIZE, buffers.scratch.length - LZ4_LENGTH_PREFIX_SIZE);
+      return Arrays.copyOf(buffers.scratch, LZ4_LENGTH_PREFIX_SIZE + compressedLength);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
     }
   }
 
+  /**
+   * Writes the serialized object to the stream without an intermediate copy. The stream is neither flushed nor
+   * closed.
+   */
+  public void writeTo(Object obj, OutputStream outputStream) {
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      Output output = serialize(obj, buffers);
+      outputStream.write(output.getBuffer(), 0, output.position());
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
+    }
+  }
+
+  private Output serialize(Object obj, SerializationBuffers buffers) {
+    Output output = buffers.output;
+    output.clear();
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    return output;
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
 
   public Object asObject(byte[] bytes) {
-    try (Input input = new Input(bytes)) {
-      return pool.run(kryo -> kryo.readClassAndObject(input));
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      return deserialize(bytes, 0, bytes.length, buffers);
+    } finally {
+      buffers.release();
+    }
+  }
+
+  /**
+   * Reads one object from the remaining bytes of the buffer and moves its position past them.
+   */
+  public Object readFrom(ByteBuffer byteBuffer) {
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      int position = byteBuffer.position();
+      int length = byteBuffer.remaining();
+      Object object;
+      if (byteBuffer.hasArray()) {
+        object = deserialize(byteBuffer.array(), byteBuffer.arrayOffset() + position, length, buffers);
+      } else {
+        buffers.ensureScratchCapacity(length);
+        byteBuffer.duplicate().get(buffers.scratch, 0, length);
+        object = deserialize(buffers.scratch, 0, length, buffers);
+      }
+      byteBuffer.position(position + buffers.input.position() - buffers.inputOffset);
+      return object;
+    } finally {
+      buffers.release();
     }
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
-      return pool.run(kryo -> kryo.readClassAndObject(input));
+    SerializationBuffers buffers = acquireBuffers();
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      int size = 0;
+      while (!inflater.finished()) {
+        buffers.ensureScratchCapacity(size + DEFLATE_CHUNK_SIZE);
+        int inflated = inflater.inflate(buffers.scratch, size, buffers.scratch.length - size);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Deflated payload is truncated");
+        }
+        size += inflated;
+      }
+      return deserialize(buffers.scratch, 0, size, buffers);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      inflater.end();
+      buffers.release();
     }
   }
 
+  public Object asLz4DecompressedObject(byte[] bytes) {
+    SerializationBuffers buffers = acquireBuffers();
+    try {
+      int length = readLengthPrefix(bytes);
+      buffers.ensureScratchCapacity(length);
+      LZ4_FACTORY.fastDecompressor().decompress(bytes, LZ4_LENGTH_PREFIX_SIZE, buffers.scratch, 0, length);
+      return deserialize(buffers.scratch, 0, length, buffers);
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
+    }
+  }
+
+  private Object deserialize(byte[] bytes, int offset, int length, SerializationBuffers buffers) {
+    Input input = buffers.input;
+    input.setBuffer(bytes, offset, length);
+    buffers.inputOffset = offset;
+    return pool.run(kryo -> kryo.readClassAndObject(input));
+  }
+
   public Object asObject(String base64) {
     return asObject(Base64.decodeBase64(base64));
   }
@@ -160,4 +292,62 @@ public class KryoSerializer {
   public boolean isRegistered(Class cls) {
     return pool.run(kryo -> kryo.getClassResolver().getRegistration(cls) != null);
   }
+
+  private static void writeLengthPrefix(byte[] target, int length) {
+    target[0] = (byte) (length >>> 24);
+    target[1] = (byte) (length >>> 16);
+    target[2] = (byte) (length >>> 8);
+    target[3] = (byte) length;
+  }
+
+  private static int readLengthPrefix(byte[] source) {
+    return (source[0] & 0xFF) << 24 | (source[1] & 0xFF) << 16 | (source[2] & 0xFF) << 8 | source[3] & 0xFF;
+  }
+
+  private static SerializationBuffers acquireBuffers() {
+    SerializationBuffers buffers = THREAD_BUFFERS.get();
+    if (buffers.inUse) {
+      // Reentrant call, e.g. from a custom serializer, gets buffers of its own
+      return new SerializationBuffers(false);
+    }
+    buffers.inUse = true;
+    return buffers;
+  }
+
+  /**
+   * Per-thread buffers reused across calls, so that serializing a payload only allocates the returned array. Buffers
+   * that grew past MAX_POOLED_BUFFER_SIZE are dropped on release instead of being held by the thread.
+   */
+  private static class SerializationBuffers {
+    private final boolean pooled;
+    private boolean inUse;
+    private Output output = new Output(INITIAL_BUFFER_SIZE, -1);
+    private final Input input = new Input();
+    private int inputOffset;
+    private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+
+    SerializationBuffers(boolean pooled) {
+      this.pooled = pooled;
+    }
+
+    void ensureScratchCapacity(int capacity) {
+      if (scratch.length < capacity) {
+        scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length * 2));
+      }
+    }
+
+    void release() {
+      input.setBuffer(EMPTY_BUFFER);
+      if (!pooled) {
+        return;
+      }
+      if (output.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+        output = new Output(INITIAL_BUFFER_SIZE, -1);
+      }
+      if (scratch.length > MAX_POOLED_BUFFER_SIZE) {
+        scratch = new byte[INITIAL_BUFFER_SIZE];
+      }
+      inUse = false;
+    }
+  }
 }
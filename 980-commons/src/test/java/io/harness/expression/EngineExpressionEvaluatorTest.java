@@ -10,6 +10,7 @@ package io.harness.expression;
 import static io.harness.rule.OwnerRule.ARCHIT;
 import static io.harness.rule.OwnerRule.BRIJESH;
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,6 +27,7 @@ import io.harness.expression.functors.ExpressionFunctor;
 import io.harness.expression.functors.NGJsonFunctor;
 import io.harness.rule.Owner;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
@@ -972,6 +974,38 @@ public class EngineExpressionEvaluatorTest extends CategoryTest {
         .hasMessage("Unresolved expressions: b");
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompiledExpressionsAreReused() {
+    Map<String, Object> contextMap = ImmutableMap.of("cachedA", 5, "cachedB", 7);
+    assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+cachedA> * <+cachedB>"))
+        .isEqualTo(35);
+    CacheStats before = totalCacheStats();
+
+    // A fresh evaluator renders the same expression again, down to the names of its resolver variables
+    assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+cachedA> * <+cachedB>"))
+        .isEqualTo(35);
+    CacheStats stats = totalCacheStats().minus(before);
+    assertThat(stats.hitCount()).isPositive();
+    assertThat(stats.missCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompiledExpressionsAreEvaluatedAgainstEachContext() {
+    assertThat(prepareEngineExpressionEvaluator(ImmutableMap.of("cachedC", 2)).evaluateExpression("<+cachedC> + 1"))
+        .isEqualTo(3);
+    assertThat(prepareEngineExpressionEvaluator(ImmutableMap.of("cachedC", 40)).evaluateExpression("<+cachedC> + 1"))
+        .isEqualTo(41);
+  }
+
+  private static CacheStats totalCacheStats() {
+    Map<String, CacheStats> cacheStats = JexlCompiledCache.getCacheStats();
+    return cacheStats.get(JexlCompiledCache.EXPRESSION_MODE).plus(cacheStats.get(JexlCompiledCache.SCRIPT_MODE));
+  }
+
   @Test
   @Owner(developers = BRIJESH)
   @Category(UnitTests.class)
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRoundTrip() {
+    Map<String, Object> payload = payload(100);
+
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asString(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asLz4DecompressedObject(kryoSerializer.asLz4CompressedBytes(payload))).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRoundTripPayloadsLargerThanThePooledBuffers() {
+    Map<String, Object> payload = payload(100_000);
+
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asLz4DecompressedObject(kryoSerializer.asLz4CompressedBytes(payload))).isEqualTo(payload);
+    // The buffers are still usable once the oversized ones are dropped
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes("small"))).isEqualTo("small");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldKeepTheDeflatedFormat() throws IOException {
+    Map<String, Object> payload = payload(1000);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(kryoSerializer.asBytes(payload));
+    }
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(payload);
+
+    byte[] inflated =
+        IOUtils.toByteArray(new InflaterInputStream(new ByteArrayInputStream(kryoSerializer.asDeflatedBytes(payload))));
+    assertThat(inflated).isEqualTo(kryoSerializer.asBytes(payload));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldStream() {
+    List<String> first = new ArrayList<>(payload(10).keySet());
+    Map<String, Object> second = payload(20);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeTo(first, outputStream);
+    kryoSerializer.writeTo(second, outputStream);
+    byte[] bytes = outputStream.toByteArray();
+
+    ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+    assertThat(kryoSerializer.readFrom(heapBuffer)).isEqualTo(first);
+    assertThat(kryoSerializer.readFrom(heapBuffer)).isEqualTo(second);
+    assertThat(heapBuffer.hasRemaining()).isFalse();
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip();
+    assertThat(kryoSerializer.readFrom(directBuffer)).isEqualTo(first);
+    assertThat(kryoSerializer.readFrom(directBuffer)).isEqualTo(second);
+    assertThat(directBuffer.hasRemaining()).isFalse();
+  }
+
+  private static Map<String, Object> payload(int size) {
+    Map<String, Object> payload = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      payload.put("key-" + i, i % 2 == 0 ? "value-" + i : new ArrayList<>(List.of(i, "nested-" + i)));
+    }
+    return payload;
+  }
+}
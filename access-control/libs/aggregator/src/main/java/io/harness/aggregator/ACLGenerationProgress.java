@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Singleton;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the ACL writes of the generator services, so that a long running regeneration can be followed through
+ * {@link AggregatorMetricsService}.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+public class ACLGenerationProgress {
+  private final AtomicLong aclsCreated = new AtomicLong();
+  private final AtomicLong aclsDeleted = new AtomicLong();
+  private final AtomicLong aclBatchesInFlight = new AtomicLong();
+  private final AtomicLong roleAssignmentsReconciled = new AtomicLong();
+
+  public void onBatchSubmitted() {
+    aclBatchesInFlight.incrementAndGet();
+  }
+
+  public void onBatchWritten(long numberOfACLsCreated) {
+    aclBatchesInFlight.decrementAndGet();
+    aclsCreated.addAndGet(numberOfACLsCreated);
+  }
+
+  public void onACLsDeleted(long numberOfACLsDeleted) {
+    aclsDeleted.addAndGet(numberOfACLsDeleted);
+  }
+
+  public void onRoleAssignmentReconciled() {
+    roleAssignmentsReconciled.incrementAndGet();
+  }
+
+  public ACLGenerationMetrics getMetrics() {
+    return ACLGenerationMetrics.builder()
+        .aclsCreated(aclsCreated.get())
+        .aclsDeleted(aclsDeleted.get())
+        .aclBatchesInFlight(aclBatchesInFlight.get())
+        .roleAssignmentsReconciled(roleAssignmentsReconciled.get())
+        .build();
+  }
+}
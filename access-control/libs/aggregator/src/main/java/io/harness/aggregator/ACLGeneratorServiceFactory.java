@@ -20,10 +20,14 @@ import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.ACLGeneratorServiceImpl;
 import io.harness.annotations.dev.OwnedBy;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.tuple.Pair;
@@ -31,7 +35,7 @@ import org.apache.commons.lang3.tuple.Pair;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Singleton
 @OwnedBy(PL)
-public class ACLGeneratorServiceFactory implements Provider<ACLGeneratorService> {
+public class ACLGeneratorServiceFactory implements Provider<ACLGeneratorService>, Managed {
   public static final String SECONDARY_ACL_GENERATOR_SERVICE = "secondary_acl_generator_service";
 
   private final RoleService roleService;
@@ -42,11 +46,15 @@ public class ACLGeneratorServiceFactory implements Provider<ACLGeneratorService>
   private final ACLRepository aclRepository;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
   private final int batchSizeForACLCreation;
+  private final int aclWriteParallelism;
+  private final ACLGenerationProgress aclGenerationProgress;
+  private final ExecutorService aclWriteExecutor;
 
   public ACLGeneratorServiceFactory(RoleService roleService, UserGroupService userGroupService,
       ResourceGroupService resourceGroupService, ScopeService scopeService,
       Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope, ACLRepository aclRepository,
-      InMemoryPermissionRepository inMemoryPermissionRepository, int batchSizeForACLCreation) {
+      InMemoryPermissionRepository inMemoryPermissionRepository, int batchSizeForACLCreation, int aclWriteParallelism,
+      ACLGenerationProgress aclGenerationProgress) {
     this.roleService = roleService;
     this.userGroupService = userGroupService;
     this.resourceGroupService = resourceGroupService;
@@ -55,11 +63,30 @@ public class ACLGeneratorServiceFactory implements Provider<ACLGeneratorService>
     this.aclRepository = aclRepository;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
     this.batchSizeForACLCreation = batchSizeForACLCreation;
+    this.aclWriteParallelism = aclWriteParallelism;
+    this.aclGenerationProgress = aclGenerationProgress;
+    this.aclWriteExecutor = aclWriteParallelism > 1
+        ? Executors.newFixedThreadPool(aclWriteParallelism,
+            new ThreadFactoryBuilder().setNameFormat("acl-generator-writer-%d").setDaemon(true).build())
+        : null;
   }
 
   @Override
   public ACLGeneratorService get() {
     return new ACLGeneratorServiceImpl(roleService, userGroupService, resourceGroupService, scopeService,
-        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation);
+        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation,
+        aclWriteParallelism, aclWriteExecutor, aclGenerationProgress);
+  }
+
+  @Override
+  public void start() {
+    // The writers are started with the factory
+  }
+
+  @Override
+  public void stop() {
+    if (aclWriteExecutor != null) {
+      aclWriteExecutor.shutdownNow();
+    }
   }
 }
@@ -13,4 +13,6 @@ public interface AggregatorMetricsService {
   Optional<SnapshotMetrics> getSnapshotMetrics();
 
   Optional<StreamingMetrics> getStreamingMetrics();
+
+  ACLGenerationMetrics getACLGenerationMetrics();
 }
@@ -24,10 +24,13 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class AggregatorMetricsServiceImpl implements AggregatorMetricsService {
   private final String aggregatorMongodbName;
+  private final ACLGenerationProgress aclGenerationProgress;
 
   @Inject
-  public AggregatorMetricsServiceImpl(AggregatorConfiguration aggregatorConfiguration) {
+  public AggregatorMetricsServiceImpl(
+      AggregatorConfiguration aggregatorConfiguration, ACLGenerationProgress aclGenerationProgress) {
     this.aggregatorMongodbName = aggregatorConfiguration.getDebeziumConfig().getMongodbName();
+    this.aclGenerationProgress = aclGenerationProgress;
   }
 
   private static final String STREAMING_METRICS = "debezium.mongodb:type=connector-metrics,context=streaming,server=%s";
@@ -116,4 +119,8 @@ public class AggregatorMetricsServiceImpl implements AggregatorMetricsService {
                            .currentQueueSizeInBytes(currentQueueSizeBytes)
                            .build());
   }
+
+  public ACLGenerationMetrics getACLGenerationMetrics() {
+    return aclGenerationProgress.getMetrics();
+  }
 }
@@ -97,9 +97,11 @@ public class AggregatorModule extends AbstractModule {
       Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope,
       @Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository,
       InMemoryPermissionRepository inMemoryPermissionRepository,
-      @Named("batchSizeForACLCreation") int batchSizeForACLCreation) {
+      @Named("batchSizeForACLCreation") int batchSizeForACLCreation,
+      @Named("aclWriteParallelism") int aclWriteParallelism, ACLGenerationProgress aclGenerationProgress) {
     return new ACLGeneratorServiceFactory(roleService, userGroupService, resourceGroupService, scopeService,
-        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation);
+        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation,
+        aclWriteParallelism, aclGenerationProgress);
   }
 
   @Provides
@@ -110,9 +112,11 @@ public class AggregatorModule extends AbstractModule {
       Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository aclRepository,
       InMemoryPermissionRepository inMemoryPermissionRepository,
-      @Named("batchSizeForACLCreation") int batchSizeForACLCreation) {
+      @Named("batchSizeForACLCreation") int batchSizeForACLCreation,
+      @Named("aclWriteParallelism") int aclWriteParallelism, ACLGenerationProgress aclGenerationProgress) {
     return new ACLGeneratorServiceFactory(roleService, userGroupService, resourceGroupService, scopeService,
-        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation);
+        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation,
+        aclWriteParallelism, aclGenerationProgress);
   }
 
   private void registerRequiredBindings() {
@@ -35,4 +35,10 @@ public interface ACLGeneratorService {
 
   long createACLs(RoleAssignmentDBO roleAssignmentDBO, Set<String> principals, Set<String> permissions,
       Set<ResourceSelector> resourceSelectors);
+
+  /**
+   * Brings the ACLs of the role assignment, implicit ones included, in line with what it grants now. Only the ACLs
+   * that differ are deleted and inserted, the others are left untouched.
+   */
+  Result reconcileACLsForRoleAssignment(RoleAssignmentDBO roleAssignment);
 }
@@ -32,17 +32,27 @@ import io.harness.accesscontrol.roles.RoleService;
 import io.harness.accesscontrol.scopes.core.Scope;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.ACLGenerationProgress;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.GeneralException;
 
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
@@ -52,6 +62,9 @@ import org.apache.commons.lang3.tuple.Pair;
 @Singleton
 @OwnedBy(HarnessTeam.PL)
 public class ACLGeneratorServiceImpl implements ACLGeneratorService {
+  // Above this many ACLs a role assignment is recreated rather than diffed, the diff holds a key per existing ACL
+  private static final long MAX_ACLS_TO_RECONCILE = 50000;
+
   private final RoleService roleService;
   private final UserGroupService userGroupService;
   private final ResourceGroupService resourceGroupService;
@@ -60,12 +73,26 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
   private final ACLRepository aclRepository;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
   private final int batchSizeForACLCreation;
+  private final int aclWriteParallelism;
+  private final ACLGenerationProgress aclGenerationProgress;
+  // Shared by all the callers, each of which keeps at most aclWriteParallelism of its batches in flight. Owned by
+  // the factory, which shuts it down.
+  private final ExecutorService aclWriteExecutor;
 
   public ACLGeneratorServiceImpl(RoleService roleService, UserGroupService userGroupService,
       ResourceGroupService resourceGroupService, ScopeService scopeService,
       Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope, ACLRepository aclRepository,
       InMemoryPermissionRepository inMemoryPermissionRepository,
       @Named("batchSizeForACLCreation") int batchSizeForACLCreation) {
+    this(roleService, userGroupService, resourceGroupService, scopeService, implicitPermissionsByScope, aclRepository,
+        inMemoryPermissionRepository, batchSizeForACLCreation, 1, null, new ACLGenerationProgress());
+  }
+
+  public ACLGeneratorServiceImpl(RoleService roleService, UserGroupService userGroupService,
+      ResourceGroupService resourceGroupService, ScopeService scopeService,
+      Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope, ACLRepository aclRepository,
+      InMemoryPermissionRepository inMemoryPermissionRepository, int batchSizeForACLCreation,
+      int aclWriteParallelism, ExecutorService aclWriteExecutor, ACLGenerationProgress aclGenerationProgress) {
     this.roleService = roleService;
     this.userGroupService = userGroupService;
     this.resourceGroupService = resourceGroupService;
@@ -74,6 +101,9 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
     this.aclRepository = aclRepository;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
     this.batchSizeForACLCreation = batchSizeForACLCreation;
+    this.aclWriteParallelism = aclWriteParallelism;
+    this.aclGenerationProgress = aclGenerationProgress;
+    this.aclWriteExecutor = aclWriteParallelism > 1 ? aclWriteExecutor : null;
   }
 
   @Override
@@ -137,15 +167,91 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
   }
 
   private long createImplicitACLs(List<ACL> acls) {
-    List<List<ACL>> listOfSublists = ListUtils.partition(acls, batchSizeForACLCreation);
-    return listOfSublists.stream().mapToLong(aclRepository::insertAllIgnoringDuplicates).sum();
+    ACLBatchWriter aclBatchWriter = new ACLBatchWriter();
+    acls.forEach(aclBatchWriter::add);
+    return aclBatchWriter.finish();
   }
 
   @Override
   public long createACLs(RoleAssignmentDBO roleAssignmentDBO, Set<String> principals, Set<String> permissions,
       Set<ResourceSelector> resourceSelectors) {
-    long numberOfACLsCreated = 0;
-    List<ACL> acls = new ArrayList<>();
+    ACLBatchWriter aclBatchWriter = new ACLBatchWriter();
+    forEachACL(roleAssignmentDBO, principals, permissions, resourceSelectors, aclBatchWriter::add);
+    return aclBatchWriter.finish();
+  }
+
+  @Override
+  public Result reconcileACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
+    if (aclRepository.countByRoleAssignmentId(roleAssignment.getId()) > MAX_ACLS_TO_RECONCILE) {
+      return recreateACLsForRoleAssignment(roleAssignment);
+    }
+
+    Map<List<Object>, String> existingACLIds = new HashMap<>();
+    List<String> staleACLIds = new ArrayList<>();
+    for (ACL acl : aclRepository.getByRoleAssignmentId(roleAssignment.getId())) {
+      String duplicateACLId = existingACLIds.put(getACLKey(acl), acl.getId());
+      if (duplicateACLId != null) {
+        staleACLIds.add(duplicateACLId);
+      }
+    }
+
+    // The ACLs the role assignment grants now are generated twice, to find the stale ones and then to write the
+    // missing ones, so only the existing ones are held in memory
+    Set<List<Object>> keptACLKeys = new HashSet<>();
+    Set<String> principals = getPrincipalsFromRoleAssignment(roleAssignment);
+    Set<String> permissions = getPermissionsFromRole(roleAssignment);
+    Set<ResourceSelector> resourceSelectors = getResourceSelectorsFromRoleAssignment(roleAssignment);
+    forEachACLOfRoleAssignment(roleAssignment, principals, permissions, resourceSelectors, acl -> {
+      List<Object> aclKey = getACLKey(acl);
+      if (existingACLIds.remove(aclKey) != null) {
+        keptACLKeys.add(aclKey);
+      }
+    });
+    staleACLIds.addAll(existingACLIds.values());
+
+    // Deleted first, an ACL that only got enabled or disabled would otherwise clash with its old copy
+    long numberOfACLsDeleted = 0;
+    for (List<String> ids : ListUtils.partition(staleACLIds, batchSizeForACLCreation)) {
+      numberOfACLsDeleted += aclRepository.deleteByRoleAssignmentIdAndIds(roleAssignment.getId(), ids);
+    }
+    aclGenerationProgress.onACLsDeleted(numberOfACLsDeleted);
+    ACLBatchWriter aclBatchWriter = new ACLBatchWriter();
+    forEachACLOfRoleAssignment(roleAssignment, principals, permissions, resourceSelectors, acl -> {
+      if (!keptACLKeys.contains(getACLKey(acl))) {
+        aclBatchWriter.add(acl);
+      }
+    });
+    long numberOfACLsCreated = aclBatchWriter.finish();
+    aclGenerationProgress.onRoleAssignmentReconciled();
+    return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+  }
+
+  private Result recreateACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
+    long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentId(roleAssignment.getId());
+    aclGenerationProgress.onACLsDeleted(numberOfACLsDeleted);
+    ACLBatchWriter aclBatchWriter = new ACLBatchWriter();
+    forEachACLOfRoleAssignment(roleAssignment, getPrincipalsFromRoleAssignment(roleAssignment),
+        getPermissionsFromRole(roleAssignment), getResourceSelectorsFromRoleAssignment(roleAssignment),
+        aclBatchWriter::add);
+    long numberOfACLsCreated = aclBatchWriter.finish();
+    aclGenerationProgress.onRoleAssignmentReconciled();
+    return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+  }
+
+  private void forEachACLOfRoleAssignment(RoleAssignmentDBO roleAssignment, Set<String> principals,
+      Set<String> permissions, Set<ResourceSelector> resourceSelectors, Consumer<ACL> aclConsumer) {
+    forEachACL(roleAssignment, principals, permissions, resourceSelectors, aclConsumer);
+    getImplicitACLsForRoleAssignment(roleAssignment, principals, permissions).forEach(aclConsumer);
+  }
+
+  // What tells two ACLs of the same role assignment apart, the fields of the unique index and the enabled flag
+  private static List<Object> getACLKey(ACL acl) {
+    return Arrays.asList(acl.getSourceMetadata(), acl.getResourceSelector(), acl.getAclQueryString(),
+        acl.isConditional(), acl.getCondition(), acl.isEnabled());
+  }
+
+  private void forEachACL(RoleAssignmentDBO roleAssignmentDBO, Set<String> principals, Set<String> permissions,
+      Set<ResourceSelector> resourceSelectors, Consumer<ACL> aclConsumer) {
     for (String principalIdentifier : principals) {
       for (String permission : permissions) {
         for (ResourceSelector resourceSelector : resourceSelectors) {
@@ -154,24 +260,15 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
             continue;
           }
           if (SERVICE_ACCOUNT.equals(roleAssignmentDBO.getPrincipalType())) {
-            acls.add(buildACL(permission, Principal.of(SERVICE_ACCOUNT, principalIdentifier), roleAssignmentDBO,
-                resourceSelector, false, isEnabled(roleAssignmentDBO)));
+            aclConsumer.accept(buildACL(permission, Principal.of(SERVICE_ACCOUNT, principalIdentifier),
+                roleAssignmentDBO, resourceSelector, false, isEnabled(roleAssignmentDBO)));
           } else {
-            acls.add(buildACL(permission, Principal.of(USER, principalIdentifier), roleAssignmentDBO, resourceSelector,
-                false, isEnabled(roleAssignmentDBO)));
-          }
-          if (acls.size() >= batchSizeForACLCreation) {
-            numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(acls);
-            acls.clear();
+            aclConsumer.accept(buildACL(permission, Principal.of(USER, principalIdentifier), roleAssignmentDBO,
+                resourceSelector, false, isEnabled(roleAssignmentDBO)));
           }
         }
       }
     }
-    if (acls.size() > 0) {
-      numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(acls);
-      acls.clear();
-    }
-    return numberOfACLsCreated;
   }
 
   private boolean isEnabled(RoleAssignmentDBO roleAssignmentDBO) {
@@ -180,7 +277,7 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
 
   public long createImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
     List<ACL> acls = getImplicitACLsForRoleAssignment(roleAssignment);
-    return aclRepository.insertAllIgnoringDuplicates(acls);
+    return createImplicitACLs(acls);
   }
 
   private List<ACL> getImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
@@ -276,4 +373,67 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
     Set<String> permissions = implicitPermissionsByScope.get(Pair.of(scope.getLevel(), givePermissionOnChildScopes));
     return permissions.stream().filter(permissionsFilter::contains).collect(Collectors.toSet());
   }
+
+  /**
+   * Inserts the ACLs it is given in batches of batchSizeForACLCreation, up to aclWriteParallelism batches at a time.
+   * It waits for its oldest batch before sending one more, which bounds the number of ACLs held in memory.
+   */
+  private class ACLBatchWriter {
+    private final Deque<Future<Long>> batchesInFlight = new ArrayDeque<>();
+    private List<ACL> batch = new ArrayList<>();
+    private long numberOfACLsCreated;
+
+    void add(ACL acl) {
+      batch.add(acl);
+      if (batch.size() >= batchSizeForACLCreation) {
+        flush();
+      }
+    }
+
+    long finish() {
+      flush();
+      while (!batchesInFlight.isEmpty()) {
+        awaitOldestBatch();
+      }
+      return numberOfACLsCreated;
+    }
+
+    private void flush() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      List<ACL> acls = batch;
+      batch = new ArrayList<>();
+      aclGenerationProgress.onBatchSubmitted();
+      if (aclWriteExecutor == null) {
+        numberOfACLsCreated += insert(acls);
+        return;
+      }
+      if (batchesInFlight.size() >= aclWriteParallelism) {
+        awaitOldestBatch();
+      }
+      batchesInFlight.add(aclWriteExecutor.submit(() -> insert(acls)));
+    }
+
+    private long insert(List<ACL> acls) {
+      long inserted = 0;
+      try {
+        inserted = aclRepository.insertAllIgnoringDuplicates(acls);
+        return inserted;
+      } finally {
+        aclGenerationProgress.onBatchWritten(inserted);
+      }
+    }
+
+    private void awaitOldestBatch() {
+      try {
+        numberOfACLsCreated += batchesInFlight.poll().get();
+      } catch (ExecutionException ex) {
+        throw new GeneralException("Failed to insert a batch of ACLs", ex.getCause());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new GeneralException("Interrupted while inserting ACLs", ex);
+      }
+    }
+  }
 }
@@ -10,7 +10,7 @@ package io.harness.aggregator.consumers;
 import lombok.Value;
 
 @Value
-class Result {
+public class Result {
   long numberOfACLsCreated;
   long numberOfACLsDeleted;
 }
@@ -46,14 +46,17 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
         || !StringUtils.isEmpty(updatedRoleAssignmentDBO.getResourceGroupIdentifier())
         || !StringUtils.isEmpty(updatedRoleAssignmentDBO.getPrincipalIdentifier())
         || updatedRoleAssignmentDBO.getDisabled() != null) {
-      log.info("Number of ACLs deleted: {} for roleassignment: id: {}, identifier: {}, scope: {}", deleteACLs(id), id,
-          updatedRoleAssignmentDBO.getIdentifier(), updatedRoleAssignmentDBO.getScopeIdentifier());
       Optional<RoleAssignmentDBO> roleAssignment = roleAssignmentRepository.findById(id);
-      if (roleAssignment.isPresent()) {
-        long createdCount = createACLs(roleAssignment.get());
-        log.info("Number of ACLs created: {} for roleassignment: id: {}, identifier: {}, scope: {}", createdCount, id,
-            updatedRoleAssignmentDBO.getIdentifier(), updatedRoleAssignmentDBO.getScopeIdentifier());
+      if (!roleAssignment.isPresent()) {
+        log.info("Number of ACLs deleted: {} for roleassignment: id: {}, identifier: {}, scope: {}", deleteACLs(id),
+            id, updatedRoleAssignmentDBO.getIdentifier(), updatedRoleAssignmentDBO.getScopeIdentifier());
+        return true;
       }
+      // Only the ACLs that changed are rewritten, the others keep granting access throughout
+      Result result = aclGeneratorService.reconcileACLsForRoleAssignment(roleAssignment.get());
+      log.info("Number of ACLs deleted: {}, created: {} for roleassignment: id: {}, identifier: {}, scope: {}",
+          result.getNumberOfACLsDeleted(), result.getNumberOfACLsCreated(), id,
+          updatedRoleAssignmentDBO.getIdentifier(), updatedRoleAssignmentDBO.getScopeIdentifier());
       return true;
     }
     return false;
@@ -9,18 +9,22 @@ package io.harness.aggregator;
 
 import static io.harness.accesscontrol.resources.resourcegroups.ResourceSelector.builder;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.JIMIT_GANDHI;
 
 import static java.util.Set.of;
 import static junit.framework.TestCase.assertEquals;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -41,9 +45,11 @@ import io.harness.accesscontrol.scopes.core.ScopeLevel;
 import io.harness.accesscontrol.scopes.core.ScopeService;
 import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.ACLGeneratorServiceImpl;
+import io.harness.aggregator.consumers.Result;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.exception.GeneralException;
 import io.harness.rule.Owner;
 
 import com.google.inject.Inject;
@@ -57,6 +63,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
@@ -291,6 +301,131 @@ public class ACLGeneratorServiceImplTest extends AggregatorTestBase {
     assertEquals(1L, aclsCreated);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void createACLs_WithParallelWriters_WritesAllBatches() {
+    ExecutorService aclWriteExecutor = Executors.newFixedThreadPool(4);
+    aclGeneratorService = new ACLGeneratorServiceImpl(roleService, userGroupService, resourceGroupService, scopeService,
+        new HashMap<>(), aclRepository, inMemoryPermissionRepository, 10, 4, aclWriteExecutor,
+        new ACLGenerationProgress());
+    Set<String> principals = getRandomStrings(100);
+    Set<ResourceSelector> resourceSelectors = Set.of(builder().selector(ALL_RESOURCE_SELECTOR).build());
+    Set<String> permissions = Set.of(CORE_USERGROUP_MANAGE_PERMISSION, CORE_RESOURCEGROUP_MANAGE_PERMISSION);
+    RoleAssignmentDBO roleAssignmentDBO = getRoleAssignment(PrincipalType.USER_GROUP);
+
+    AtomicInteger batchesInFlight = new AtomicInteger();
+    AtomicInteger maxBatchesInFlight = new AtomicInteger();
+    AtomicLong aclsWritten = new AtomicLong();
+    when(aclRepository.insertAllIgnoringDuplicates(any())).thenAnswer(invocation -> {
+      maxBatchesInFlight.accumulateAndGet(batchesInFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+        long size = ((Collection<ACL>) invocation.getArgument(0)).size();
+        aclsWritten.addAndGet(size);
+        return size;
+      } finally {
+        batchesInFlight.decrementAndGet();
+      }
+    });
+
+    try {
+      long aclCount = aclGeneratorService.createACLs(roleAssignmentDBO, principals, permissions, resourceSelectors);
+
+      assertThat(aclCount).isEqualTo(200);
+      assertThat(aclsWritten.get()).isEqualTo(200);
+      verify(aclRepository, times(20)).insertAllIgnoringDuplicates(any());
+      assertThat(maxBatchesInFlight.get()).isBetween(2, 4);
+    } finally {
+      aclWriteExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void createACLs_WithParallelWriters_FailsOnFailedBatch() {
+    ExecutorService aclWriteExecutor = Executors.newFixedThreadPool(4);
+    aclGeneratorService = new ACLGeneratorServiceImpl(roleService, userGroupService, resourceGroupService, scopeService,
+        new HashMap<>(), aclRepository, inMemoryPermissionRepository, 10, 4, aclWriteExecutor,
+        new ACLGenerationProgress());
+    Set<ResourceSelector> resourceSelectors = Set.of(builder().selector(ALL_RESOURCE_SELECTOR).build());
+    Set<String> permissions = Set.of(CORE_USERGROUP_MANAGE_PERMISSION, CORE_RESOURCEGROUP_MANAGE_PERMISSION);
+    RoleAssignmentDBO roleAssignmentDBO = getRoleAssignment(PrincipalType.USER_GROUP);
+    when(aclRepository.insertAllIgnoringDuplicates(any())).thenThrow(new IllegalStateException("write failed"));
+
+    try {
+      assertThatThrownBy(()
+                             -> aclGeneratorService.createACLs(
+                                 roleAssignmentDBO, getRandomStrings(100), permissions, resourceSelectors))
+          .isInstanceOf(GeneralException.class)
+          .hasCauseInstanceOf(IllegalStateException.class);
+    } finally {
+      aclWriteExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void reconcileACLs_OnlyDeletesStaleAndInsertsMissingACLs() {
+    RoleAssignmentDBO roleAssignmentDBO = getRoleAssignment(PrincipalType.USER);
+    mockRoleAndResourceGroup(roleAssignmentDBO);
+    ResourceSelector allResources = builder().selector(ALL_RESOURCE_SELECTOR).build();
+    Principal principal = Principal.of(PrincipalType.USER, roleAssignmentDBO.getPrincipalIdentifier());
+    ACL keptACL =
+        ACLUtils.buildACL(CORE_USERGROUP_MANAGE_PERMISSION, principal, roleAssignmentDBO, allResources, false, true);
+    keptACL.setId("kept");
+    ACL staleACL = ACLUtils.buildACL("core_user_view", principal, roleAssignmentDBO, allResources, false, true);
+    staleACL.setId("stale");
+    when(aclRepository.countByRoleAssignmentId(roleAssignmentDBO.getId())).thenReturn(2L);
+    when(aclRepository.getByRoleAssignmentId(roleAssignmentDBO.getId())).thenReturn(List.of(keptACL, staleACL));
+    when(aclRepository.deleteByRoleAssignmentIdAndIds(roleAssignmentDBO.getId(), List.of("stale"))).thenReturn(1L);
+    List<ACL> inserted = new ArrayList<>();
+    when(aclRepository.insertAllIgnoringDuplicates(any())).thenAnswer(invocation -> {
+      inserted.addAll(invocation.getArgument(0));
+      return (long) inserted.size();
+    });
+
+    Result result = aclGeneratorService.reconcileACLsForRoleAssignment(roleAssignmentDBO);
+
+    assertThat(result.getNumberOfACLsDeleted()).isEqualTo(1);
+    assertThat(result.getNumberOfACLsCreated()).isEqualTo(1);
+    assertThat(inserted).extracting(ACL::getPermissionIdentifier).containsExactly(CORE_RESOURCEGROUP_MANAGE_PERMISSION);
+    verify(aclRepository, never()).deleteByRoleAssignmentId(any());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void reconcileACLs_AboveThreshold_RecreatesACLs() {
+    RoleAssignmentDBO roleAssignmentDBO = getRoleAssignment(PrincipalType.USER);
+    mockRoleAndResourceGroup(roleAssignmentDBO);
+    when(aclRepository.countByRoleAssignmentId(roleAssignmentDBO.getId())).thenReturn(Long.MAX_VALUE);
+    when(aclRepository.deleteByRoleAssignmentId(roleAssignmentDBO.getId())).thenReturn(3L);
+    when(aclRepository.insertAllIgnoringDuplicates(any()))
+        .thenAnswer(invocation -> (long) ((Collection<ACL>) invocation.getArgument(0)).size());
+
+    Result result = aclGeneratorService.reconcileACLsForRoleAssignment(roleAssignmentDBO);
+
+    assertThat(result.getNumberOfACLsDeleted()).isEqualTo(3);
+    assertThat(result.getNumberOfACLsCreated()).isEqualTo(2);
+    // The existing ACLs are never loaded into memory
+    verify(aclRepository, never()).getByRoleAssignmentId(any());
+  }
+
+  private void mockRoleAndResourceGroup(RoleAssignmentDBO roleAssignmentDBO) {
+    when(roleService.get(
+             roleAssignmentDBO.getRoleIdentifier(), roleAssignmentDBO.getScopeIdentifier(), ManagedFilter.NO_FILTER))
+        .thenReturn(Optional.of(
+            Role.builder()
+                .permissions(Set.of(CORE_USERGROUP_MANAGE_PERMISSION, CORE_RESOURCEGROUP_MANAGE_PERMISSION))
+                .build()));
+    when(resourceGroupService.get(roleAssignmentDBO.getResourceGroupIdentifier(),
+             roleAssignmentDBO.getScopeIdentifier(), ManagedFilter.NO_FILTER))
+        .thenReturn(Optional.of(ResourceGroup.builder().resourceSelectors(Set.of(ALL_RESOURCE_SELECTOR)).build()));
+  }
+
   private Set<String> getRandomStrings(int count) {
     Set<String> randomStrings = new HashSet<>();
     for (int i = 0; i < count; i++) {
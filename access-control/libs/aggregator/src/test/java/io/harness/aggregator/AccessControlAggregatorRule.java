@@ -184,9 +184,10 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
       Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope,
       @Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository,
       InMemoryPermissionRepository inMemoryPermissionRepository,
-      @Named("batchSizeForACLCreation") int batchSizeForACLCreation) {
+      @Named("batchSizeForACLCreation") int batchSizeForACLCreation, ACLGenerationProgress aclGenerationProgress) {
     return new ACLGeneratorServiceFactory(roleService, userGroupService, resourceGroupService, scopeService,
-        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation);
+        implicitPermissionsByScope, aclRepository, inMemoryPermissionRepository, batchSizeForACLCreation, 1,
+        aclGenerationProgress);
   }
 
   @Override
@@ -11,6 +11,7 @@ import static io.harness.accesscontrol.common.AccessControlTestUtils.getRandomSt
 import static io.harness.accesscontrol.principals.PrincipalType.USER;
 import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.UTKARSH;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,12 +47,15 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
@@ -186,6 +190,40 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     verify(roleAssignmentCRUDEventHandler, times(1)).handleRoleAssignmentDelete(roleAssignmentDBO.getId());
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentUpdate_rewritesOnlyChangedACLs() {
+    RoleAssignmentDBO roleAssignmentDBO =
+        createACLsForRoleAssignment(Principal.builder().principalIdentifier(user).principalType(USER).build());
+    List<ACL> aclsBefore = aclRepository.getByRoleAssignmentId(roleAssignmentDBO.getId());
+    String keptPermission = role.getPermissions().iterator().next();
+    String addedPermission = getRandomString(20);
+    role = Role.builder()
+               .identifier(role.getIdentifier())
+               .scopeIdentifier(role.getScopeIdentifier())
+               .permissions(Sets.newHashSet(keptPermission, addedPermission))
+               .build();
+    when(roleService.get(role.getIdentifier(), role.getScopeIdentifier(), ManagedFilter.NO_FILTER))
+        .thenReturn(Optional.of(role));
+    when(roleAssignmentRepository.findById(roleAssignmentDBO.getId())).thenReturn(Optional.of(roleAssignmentDBO));
+
+    roleAssignmentChangeConsumer.consumeUpdateEvent(roleAssignmentDBO.getId(), roleAssignmentDBO);
+
+    verifyACLs(roleAssignmentDBO);
+    Set<String> keptACLIds = aclsBefore.stream()
+                                 .filter(acl -> acl.getAclQueryString().contains("$" + keptPermission + "$"))
+                                 .map(ACL::getId)
+                                 .collect(Collectors.toSet());
+    Set<String> aclIdsAfter = aclRepository.getByRoleAssignmentId(roleAssignmentDBO.getId())
+                                  .stream()
+                                  .map(ACL::getId)
+                                  .collect(Collectors.toSet());
+    assertThat(keptACLIds).isNotEmpty();
+    assertThat(aclIdsAfter).containsAll(keptACLIds);
+    assertThat(aclIdsAfter).hasSize(aclsBefore.size() / 3 * 2);
+  }
+
   private void verifyACLs(RoleAssignmentDBO assignment) {
     assertThat(new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(assignment.getId())))
         .isEqualTo(role.getPermissions());
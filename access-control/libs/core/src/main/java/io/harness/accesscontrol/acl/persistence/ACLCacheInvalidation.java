@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What to drop from the ACL decision caches after a change to the ACLs: the entries of some ACL query strings, the
+ * entries holding ACLs of some role assignments, or everything.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ACLCacheInvalidation implements Serializable {
+  private Set<String> aclQueryStrings;
+  private Set<String> roleAssignmentIds;
+  private boolean all;
+
+  public static ACLCacheInvalidation ofAclQueryStrings(Collection<String> aclQueryStrings) {
+    return ACLCacheInvalidation.builder().aclQueryStrings(new HashSet<>(aclQueryStrings)).build();
+  }
+
+  public static ACLCacheInvalidation ofRoleAssignmentId(String roleAssignmentId) {
+    return ACLCacheInvalidation.builder().roleAssignmentIds(Set.of(roleAssignmentId)).build();
+  }
+
+  public static ACLCacheInvalidation ofAll() {
+    return ACLCacheInvalidation.builder().all(true).build();
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * Propagates ACL changes to the ACL decision caches. The default only reaches the cache of this instance, the
+ * service binds one that reaches every instance.
+ */
+@OwnedBy(PL)
+@ImplementedBy(LocalACLCacheInvalidator.class)
+public interface ACLCacheInvalidator {
+  void invalidate(ACLCacheInvalidation invalidation);
+}
@@ -43,10 +43,13 @@ public class ACLDAOImpl implements ACLDAO {
   public static final String ALL_AUTHENTICATED_USERS = "ALL_AUTHENTICATED_USERS";
   private final ACLRepository aclRepository;
   private final Set<String> scopeResourceTypes;
+  private final ACLDecisionCache aclDecisionCache;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels,
+      ACLDecisionCache aclDecisionCache) {
     this.aclRepository = aclRepository;
+    this.aclDecisionCache = aclDecisionCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -164,7 +167,7 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    List<ACL> aclsPresentInDB = getEnabledACLs(aclQueryStrings);
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
             -> aclsPresentInDB.stream()
@@ -172,4 +175,22 @@ public class ACLDAOImpl implements ACLDAO {
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private List<ACL> getEnabledACLs(Set<String> aclQueryStrings) {
+    if (!aclDecisionCache.isEnabled()) {
+      return aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    }
+    Map<String, List<ACL>> cachedACLs = aclDecisionCache.getAllPresent(aclQueryStrings);
+    List<ACL> acls = new ArrayList<>();
+    cachedACLs.values().forEach(acls::addAll);
+    Set<String> missingQueryStrings = new HashSet<>(aclQueryStrings);
+    missingQueryStrings.removeAll(cachedACLs.keySet());
+    if (!missingQueryStrings.isEmpty()) {
+      long generation = aclDecisionCache.getGeneration();
+      List<ACL> aclsRead = aclRepository.getByAclQueryStringInAndEnabled(missingQueryStrings, true);
+      aclDecisionCache.putAll(missingQueryStrings, aclsRead, generation);
+      acls.addAll(aclsRead);
+    }
+    return acls;
+  }
 }
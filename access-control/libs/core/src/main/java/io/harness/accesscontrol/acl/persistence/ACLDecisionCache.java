@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.accesscontrol.acl.ACLDecisionCacheConfig;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The enabled ACLs of each ACL query string, as last read from the database. A query string ends with the principal
+ * it is for, so the entries are per principal and per query string. Query strings without any ACL are cached too,
+ * they are the bulk of the lookups of a permission check.
+ *
+ * Entries are dropped as soon as the aggregator changes the ACLs behind them, see {@link ACLCacheInvalidator}, and
+ * expire regardless after a while in case an invalidation gets lost. The query strings holding ACLs of each role
+ * assignment are indexed, so that the changes to a role assignment drop its entries without a scan of the cache.
+ */
+@OwnedBy(PL)
+@Singleton
+public class ACLDecisionCache {
+  private final boolean enabled;
+  private final Cache<String, List<ACL>> aclsByQueryString;
+  // Guarded by this, like the generation, and trimmed as the entries leave the cache
+  private final Map<String, Set<String>> queryStringsByRoleAssignmentId = new HashMap<>();
+  // Bumped by every invalidation, so that reads that raced with one do not put stale ACLs back
+  private long generation;
+
+  @Inject
+  public ACLDecisionCache(ACLDecisionCacheConfig config) {
+    this.enabled = config.isEnabled();
+    this.aclsByQueryString = CacheBuilder.newBuilder()
+                                 .maximumSize(config.getMaximumSize())
+                                 .expireAfterWrite(config.getExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+                                 .recordStats()
+                                 .removalListener((RemovalListener<String, List<ACL>>) this::onRemoval)
+                                 .build();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return the generation to hand to {@link #putAll} once the ACLs missing from the cache are read
+   */
+  public synchronized long getGeneration() {
+    return generation;
+  }
+
+  public Map<String, List<ACL>> getAllPresent(Collection<String> aclQueryStrings) {
+    return aclsByQueryString.getAllPresent(aclQueryStrings);
+  }
+
+  /**
+   * Caches the ACLs read for the given query strings, an empty list for the ones that have none. Nothing is cached if
+   * an invalidation came in since the generation was taken, as the ACLs read may predate it.
+   */
+  public synchronized void putAll(Collection<String> aclQueryStrings, List<ACL> acls, long generationBeforeRead) {
+    if (generation != generationBeforeRead) {
+      return;
+    }
+    Map<String, List<ACL>> aclsRead = new HashMap<>();
+    aclQueryStrings.forEach(aclQueryString -> aclsRead.put(aclQueryString, new ArrayList<>()));
+    acls.forEach(acl -> aclsRead.computeIfAbsent(acl.getAclQueryString(), key -> new ArrayList<>()).add(acl));
+    aclsByQueryString.putAll(aclsRead);
+    acls.forEach(acl
+        -> queryStringsByRoleAssignmentId.computeIfAbsent(acl.getRoleAssignmentId(), key -> new HashSet<>())
+               .add(acl.getAclQueryString()));
+  }
+
+  public void invalidate(ACLCacheInvalidation invalidation) {
+    Set<String> aclQueryStrings = new HashSet<>();
+    synchronized (this) {
+      generation++;
+      if (invalidation.isAll()) {
+        queryStringsByRoleAssignmentId.clear();
+      } else if (isNotEmpty(invalidation.getRoleAssignmentIds())) {
+        invalidation.getRoleAssignmentIds().forEach(roleAssignmentId -> {
+          Set<String> queryStrings = queryStringsByRoleAssignmentId.remove(roleAssignmentId);
+          if (queryStrings != null) {
+            aclQueryStrings.addAll(queryStrings);
+          }
+        });
+      }
+    }
+    if (invalidation.isAll()) {
+      aclsByQueryString.invalidateAll();
+      return;
+    }
+    if (isNotEmpty(invalidation.getAclQueryStrings())) {
+      aclQueryStrings.addAll(invalidation.getAclQueryStrings());
+    }
+    if (!aclQueryStrings.isEmpty()) {
+      aclsByQueryString.invalidateAll(aclQueryStrings);
+    }
+  }
+
+  /**
+   * Unindexes an entry that left the cache, unless the entry now in its place holds ACLs of the same role assignment.
+   * Guava may call this late and from any thread, hence the check against the cache as it is now.
+   */
+  private synchronized void onRemoval(RemovalNotification<String, List<ACL>> notification) {
+    String aclQueryString = notification.getKey();
+    List<ACL> removedACLs = notification.getValue();
+    if (aclQueryString == null || removedACLs == null) {
+      return;
+    }
+    List<ACL> currentACLs = aclsByQueryString.asMap().get(aclQueryString);
+    for (ACL acl : removedACLs) {
+      String roleAssignmentId = acl.getRoleAssignmentId();
+      if (currentACLs != null
+          && currentACLs.stream().anyMatch(
+              current -> Objects.equals(roleAssignmentId, current.getRoleAssignmentId()))) {
+        continue;
+      }
+      Set<String> queryStrings = queryStringsByRoleAssignmentId.get(roleAssignmentId);
+      if (queryStrings != null) {
+        queryStrings.remove(aclQueryString);
+        if (queryStrings.isEmpty()) {
+          queryStringsByRoleAssignmentId.remove(roleAssignmentId);
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int indexedRoleAssignmentCount() {
+    return queryStringsByRoleAssignmentId.size();
+  }
+
+  public CacheStats stats() {
+    return aclsByQueryString.stats();
+  }
+
+  public long size() {
+    return aclsByQueryString.size();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Only reaches the cache of this instance. The service falls back to it when the events framework is off, and then the
+ * other instances keep serving the old ACLs until their entries expire, see
+ * {@link io.harness.accesscontrol.acl.ACLDecisionCacheConfig#getExpireAfterWriteSeconds()}. Without the events
+ * framework, the cache is meant for a single instance, or for deployments that accept that staleness.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class LocalACLCacheInvalidator implements ACLCacheInvalidator {
+  private final ACLDecisionCache aclDecisionCache;
+
+  @Inject
+  public LocalACLCacheInvalidator(ACLDecisionCache aclDecisionCache) {
+    this.aclDecisionCache = aclDecisionCache;
+    if (aclDecisionCache.isEnabled()) {
+      log.warn("ACL decision cache is on without a broadcast of its invalidations, "
+          + "other instances see ACL changes only once their cached entries expire");
+    }
+  }
+
+  @Override
+  public void invalidate(ACLCacheInvalidation invalidation) {
+    aclDecisionCache.invalidate(invalidation);
+  }
+}
@@ -33,6 +33,15 @@ public interface ACLRepository {
 
   long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId);
 
+  long deleteByRoleAssignmentIdAndIds(String roleAssignmentId, Collection<String> ids);
+
+  /**
+   * @return the ACLs of the role assignment with only the fields that tell one ACL apart from another
+   */
+  List<ACL> getByRoleAssignmentId(String roleAssignmentId);
+
+  long countByRoleAssignmentId(String roleAssignmentId);
+
   long deleteByScopeIdentifierAndRoleAssignmentIdentifier(String scopeIdentifier, String roleAssignmentIdentifier);
 
   List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId);
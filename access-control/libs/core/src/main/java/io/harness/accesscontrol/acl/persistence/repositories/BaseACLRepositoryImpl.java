@@ -196,6 +196,36 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .getDeletedCount();
   }
 
+  @Override
+  public long deleteByRoleAssignmentIdAndIds(String roleAssignmentId, Collection<String> ids) {
+    if (isEmpty(ids)) {
+      return 0;
+    }
+    return mongoTemplate
+        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId).and(ACLKeys.id).in(ids)),
+            ACL.class, getCollectionName())
+        .getDeletedCount();
+  }
+
+  @Override
+  public List<ACL> getByRoleAssignmentId(String roleAssignmentId) {
+    Query query = new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId));
+    query.fields()
+        .include(ACLKeys.sourceMetadata)
+        .include(ACLKeys.resourceSelector)
+        .include(ACLKeys.aclQueryString)
+        .include(ACLKeys.condition)
+        .include(ACLKeys.conditional)
+        .include(ACLKeys.enabled);
+    return mongoTemplate.find(query, ACL.class, getCollectionName());
+  }
+
+  @Override
+  public long countByRoleAssignmentId(String roleAssignmentId) {
+    return mongoTemplate.count(
+        new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId)), ACL.class, getCollectionName());
+  }
+
   @Override
   public List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId) {
     Criteria criteria = Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId);
@@ -216,7 +246,12 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
   @Override
   public List<ACL> getByAclQueryStringInAndEnabled(Collection<String> aclQueries, boolean enabled) {
     Query query = new Query(Criteria.where(ACLKeys.aclQueryString).in(aclQueries).and(ACLKeys.enabled).is(enabled));
-    query.fields().include(ACLKeys.aclQueryString).include(ACLKeys.condition).include(ACLKeys.conditional);
+    // The role assignment lets the ACL decision cache drop the ACLs of a role assignment once they are deleted
+    query.fields()
+        .include(ACLKeys.aclQueryString)
+        .include(ACLKeys.condition)
+        .include(ACLKeys.conditional)
+        .include(ACLKeys.roleAssignmentId);
     return mongoTemplate.find(query, ACL.class);
   }
 
@@ -8,23 +8,109 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+/**
+ * Every change the aggregator makes to the ACLs served to permission checks goes through here, which makes it the
+ * one place to invalidate the ACL decision caches from.
+ */
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLCacheInvalidator aclCacheInvalidator;
+
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLCacheInvalidator aclCacheInvalidator) {
     super(mongoTemplate);
+    this.aclCacheInvalidator = aclCacheInvalidator;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.PRIMARY_COLLECTION;
   }
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    try {
+      return super.insertAllIgnoringDuplicates(acls);
+    } finally {
+      // Also on failure, part of the batch may have been inserted
+      if (acls != null && !acls.isEmpty()) {
+        aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofAclQueryStrings(
+            acls.stream().map(ACL::getAclQueryString).collect(Collectors.toSet())));
+      }
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    long deletedCount = super.deleteByRoleAssignmentId(id);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(id));
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByScopeIdentifierAndRoleAssignmentIdentifier(
+      String scopeIdentifier, String roleAssignmentIdentifier) {
+    long deletedCount =
+        super.deleteByScopeIdentifierAndRoleAssignmentIdentifier(scopeIdentifier, roleAssignmentIdentifier);
+    // The cached ACLs do not carry the identifier of their role assignment
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofAll());
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<ResourceSelector> resourceSelectors) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectors);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(roleAssignmentId));
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(roleAssignmentId));
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(roleAssignmentId));
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndImplicitForScope(roleAssignmentId);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(roleAssignmentId));
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndIds(String roleAssignmentId, Collection<String> ids) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndIds(roleAssignmentId, ids);
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofRoleAssignmentId(roleAssignmentId));
+    return deletedCount;
+  }
+
+  @Override
+  public void cleanCollection() {
+    super.cleanCollection();
+    aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofAll());
+  }
 }
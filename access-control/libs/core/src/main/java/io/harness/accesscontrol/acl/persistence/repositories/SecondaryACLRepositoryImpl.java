@@ -8,6 +8,8 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
@@ -18,13 +20,25 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class SecondaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLCacheInvalidator aclCacheInvalidator;
+
   @Inject
-  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLCacheInvalidator aclCacheInvalidator) {
     super(mongoTemplate);
+    this.aclCacheInvalidator = aclCacheInvalidator;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.SECONDARY_COLLECTION;
   }
+
+  @Override
+  public void renameCollection(String newCollectionName) {
+    super.renameCollection(newCollectionName);
+    // Switching the secondary sync to primary replaces every ACL served to permission checks
+    if (ACL.PRIMARY_COLLECTION.equals(newCollectionName)) {
+      aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofAll());
+    }
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.ACLDecisionCacheConfig;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ACLDecisionCacheTest extends AccessControlCoreTestBase {
+  private final ACLDecisionCache aclDecisionCache =
+      new ACLDecisionCache(ACLDecisionCacheConfig.builder().enabled(true).build());
+
+  private static ACL acl(String aclQueryString, String roleAssignmentId) {
+    return ACL.builder().aclQueryString(aclQueryString).roleAssignmentId(roleAssignmentId).build();
+  }
+
+  private void put(List<String> aclQueryStrings, List<ACL> acls) {
+    aclDecisionCache.putAll(aclQueryStrings, acls, aclDecisionCache.getGeneration());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentInvalidationDropsOnlyItsEntries() {
+    put(List.of("q1", "q2", "q3", "q4"),
+        List.of(acl("q1", "ra1"), acl("q2", "ra1"), acl("q2", "ra2"), acl("q3", "ra2")));
+
+    aclDecisionCache.invalidate(ACLCacheInvalidation.builder().roleAssignmentIds(Set.of("ra1")).build());
+
+    assertThat(aclDecisionCache.getAllPresent(List.of("q1", "q2", "q3", "q4"))).containsOnlyKeys("q3", "q4");
+    // q2 left the cache, so ra2 is only indexed under q3 now
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofRoleAssignmentId("ra2"));
+    assertThat(aclDecisionCache.getAllPresent(List.of("q3", "q4"))).containsOnlyKeys("q4");
+    assertThat(aclDecisionCache.indexedRoleAssignmentCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testIndexFollowsReplacedAndRemovedEntries() {
+    put(List.of("q1"), List.of(acl("q1", "ra1")));
+    // q1 is read again after its ACL moved to another role assignment
+    put(List.of("q1"), List.of(acl("q1", "ra2")));
+
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofRoleAssignmentId("ra1"));
+    assertThat(aclDecisionCache.getAllPresent(List.of("q1"))).containsOnlyKeys("q1");
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofRoleAssignmentId("ra2"));
+    assertThat(aclDecisionCache.getAllPresent(List.of("q1"))).isEmpty();
+
+    put(List.of("q1", "q2"), List.of(acl("q1", "ra1"), acl("q2", "ra2")));
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofAclQueryStrings(List.of("q1")));
+    assertThat(aclDecisionCache.indexedRoleAssignmentCount()).isEqualTo(1);
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofAll());
+    assertThat(aclDecisionCache.size()).isZero();
+    assertThat(aclDecisionCache.indexedRoleAssignmentCount()).isZero();
+  }
+}
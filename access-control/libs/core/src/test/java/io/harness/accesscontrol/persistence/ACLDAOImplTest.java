@@ -8,18 +8,25 @@
 package io.harness.accesscontrol.persistence;
 
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.ACLDecisionCacheConfig;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
+import io.harness.accesscontrol.acl.persistence.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -27,9 +34,11 @@ import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -49,7 +58,7 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
   @Owner(developers = ASHISHSANODIA)
   @Category(UnitTests.class)
   public void testOnlyEnabledACLMatch() {
-    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, createACLDecisionCache(false));
     Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
     List<PermissionCheck> permissionChecks = new ArrayList<>();
     permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
@@ -57,4 +66,56 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
 
     verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCachedACLsAreNotReadAgain() {
+    ACLDecisionCache aclDecisionCache = createACLDecisionCache(true);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, aclDecisionCache);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    PermissionCheck permissionCheck =
+        PermissionCheck.builder().resourceType("user").permission("core_user_view").build();
+    String matchingQueryString = aclDaoImpl.getQueryStrings(permissionCheck, principal).iterator().next();
+    ACL acl = ACL.builder().aclQueryString(matchingQueryString).roleAssignmentId("roleAssignmentId").build();
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(List.of(acl));
+
+    assertThat(aclDaoImpl.getMatchingACLs(principal, List.of(permissionCheck))).containsExactly(List.of(acl));
+    assertThat(aclDaoImpl.getMatchingACLs(principal, List.of(permissionCheck))).containsExactly(List.of(acl));
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+
+    aclDecisionCache.invalidate(ACLCacheInvalidation.ofRoleAssignmentId("roleAssignmentId"));
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(List.of());
+    assertThat(aclDaoImpl.getMatchingACLs(principal, List.of(permissionCheck))).containsExactly(List.of());
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(Set.of(matchingQueryString), true);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testACLsReadBeforeInvalidationAreNotCached() {
+    ACLDecisionCache aclDecisionCache = createACLDecisionCache(true);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, aclDecisionCache);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    PermissionCheck permissionCheck =
+        PermissionCheck.builder().resourceType("user").permission("core_user_view").build();
+    Collection<String> queryStrings = aclDaoImpl.getQueryStrings(permissionCheck, principal);
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenAnswer(invocation -> {
+      // The ACLs change while they are being read
+      aclDecisionCache.invalidate(ACLCacheInvalidation.ofAclQueryStrings(queryStrings));
+      return List.of();
+    });
+
+    aclDaoImpl.getMatchingACLs(principal, List.of(permissionCheck));
+    assertThat(aclDecisionCache.getAllPresent(queryStrings)).isEmpty();
+
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(List.of());
+    aclDaoImpl.getMatchingACLs(principal, List.of(permissionCheck));
+    assertThat(aclDecisionCache.getAllPresent(queryStrings)).hasSize(queryStrings.size());
+    assertThat(aclDecisionCache.stats().missCount()).isEqualTo(2L * queryStrings.size());
+  }
+
+  private ACLDecisionCache createACLDecisionCache(boolean enabled) {
+    return new ACLDecisionCache(ACLDecisionCacheConfig.builder().enabled(enabled).build());
+  }
 }
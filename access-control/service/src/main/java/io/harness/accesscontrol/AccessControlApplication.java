@@ -8,6 +8,7 @@
 package io.harness.accesscontrol;
 
 import static io.harness.accesscontrol.AccessControlConfiguration.ALL_ACCESS_CONTROL_RESOURCES;
+import static io.harness.aggregator.ACLGeneratorServiceFactory.SECONDARY_ACL_GENERATOR_SERVICE;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
 import static io.harness.authorization.AuthorizationServiceHeader.BEARER;
@@ -28,6 +29,7 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.persistence.ACLDecisionCache;
 import io.harness.accesscontrol.acl.worker.RemoveRedundantACLService;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
@@ -43,6 +45,7 @@ import io.harness.accesscontrol.roleassignments.worker.UserRoleAssignmentRemoval
 import io.harness.accesscontrol.scopes.harness.iterators.ScopeReconciliationIterator;
 import io.harness.accesscontrol.support.reconciliation.SupportPreferenceReconciliationIterator;
 import io.harness.accesscontrol.support.reconciliation.SupportRoleAssignmentsReconciliationService;
+import io.harness.aggregator.ACLGeneratorServiceFactory;
 import io.harness.aggregator.AggregatorService;
 import io.harness.aggregator.MongoOffsetCleanupJob;
 import io.harness.annotations.dev.OwnedBy;
@@ -87,6 +90,7 @@ import io.harness.telemetry.filter.APIAuthTelemetryResponseFilter;
 import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.token.remote.TokenClient;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
@@ -210,6 +214,7 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     registerAuthFilters(appConfig, environment, injector);
     registerAPIAuthTelemetryFilters(appConfig, environment, injector);
     registerHealthCheck(environment, injector);
+    registerACLDecisionCacheMetrics(injector);
     registerManagedBeans(appConfig, environment, injector);
     registerMigrations(injector);
     registerIterators(injector);
@@ -222,6 +227,10 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     initializeEnforcementFramework(injector);
 
     if (appConfig.getAggregatorConfiguration().isEnabled()) {
+      // Registered first so that the ACL writers are stopped after the aggregator that uses them
+      environment.lifecycle().manage(injector.getInstance(ACLGeneratorServiceFactory.class));
+      environment.lifecycle().manage(injector.getInstance(
+          Key.get(ACLGeneratorServiceFactory.class, Names.named(SECONDARY_ACL_GENERATOR_SERVICE))));
       environment.lifecycle().manage(injector.getInstance(AggregatorService.class));
       environment.lifecycle().manage(injector.getInstance(MongoOffsetCleanupJob.class));
     }
@@ -233,6 +242,19 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     MaintenanceController.forceMaintenance(false);
   }
 
+  private void registerACLDecisionCacheMetrics(Injector injector) {
+    ACLDecisionCache aclDecisionCache = injector.getInstance(ACLDecisionCache.class);
+    if (!aclDecisionCache.isEnabled()) {
+      return;
+    }
+    metricRegistry.register("acl_decision_cache_hit_count", (Gauge<Long>) () -> aclDecisionCache.stats().hitCount());
+    metricRegistry.register("acl_decision_cache_miss_count", (Gauge<Long>) () -> aclDecisionCache.stats().missCount());
+    metricRegistry.register("acl_decision_cache_hit_rate", (Gauge<Double>) () -> aclDecisionCache.stats().hitRate());
+    metricRegistry.register(
+        "acl_decision_cache_eviction_count", (Gauge<Long>) () -> aclDecisionCache.stats().evictionCount());
+    metricRegistry.register("acl_decision_cache_size", (Gauge<Long>) aclDecisionCache::size);
+  }
+
   private void initializeMonitoring(Injector injector) {
     injector.getInstance(MetricService.class).initializeMetrics();
     injector.getInstance(RecordMetricsJob.class).scheduleMetricsTasks();
@@ -27,10 +27,13 @@ import static io.harness.eventsframework.EventsFrameworkConstants.USERMEMBERSHIP
 import static io.harness.lock.DistributedLockImplementation.REDIS;
 
 import io.harness.AccessControlClientModule;
+import io.harness.accesscontrol.acl.ACLDecisionCacheConfig;
+import io.harness.accesscontrol.acl.RedisACLCacheInvalidator;
 import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -431,5 +434,13 @@ public class AccessControlModule extends AbstractModule {
     bind(Integer.class)
         .annotatedWith(Names.named("batchSizeForACLCreation"))
         .toInstance(config.getBatchSizeForACLCreation());
+    bind(Integer.class)
+        .annotatedWith(Names.named("aclWriteParallelism"))
+        .toInstance(config.getAclWriteParallelism());
+
+    bind(ACLDecisionCacheConfig.class).toInstance(config.getAclDecisionCacheConfig());
+    if (config.getEventsConfig().isEnabled()) {
+      bind(ACLCacheInvalidator.class).to(RedisACLCacheInvalidator.class);
+    }
   }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
+import io.harness.accesscontrol.acl.persistence.ACLDecisionCache;
+import io.harness.accesscontrol.commons.events.EventsConfig;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Broadcasts the ACL changes made by the aggregator, which runs on a single instance, to the ACL decision caches of
+ * every instance.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class RedisACLCacheInvalidator implements ACLCacheInvalidator {
+  private static final String TOPIC_NAME = "access_control_acl_cache_invalidation";
+
+  private final ACLDecisionCache aclDecisionCache;
+  private final RTopic topic;
+
+  @Inject
+  public RedisACLCacheInvalidator(@Named("eventsFrameworkRedissonClient") RedissonClient redissonClient,
+      @Named("eventsConfig") EventsConfig eventsConfig, ACLDecisionCache aclDecisionCache) {
+    this.aclDecisionCache = aclDecisionCache;
+    String envNamespace = eventsConfig.getRedisConfig().getEnvNamespace();
+    String topicName = isEmpty(envNamespace) ? TOPIC_NAME : envNamespace.concat(":").concat(TOPIC_NAME);
+    this.topic = redissonClient.getTopic(topicName, redissonClient.getConfig().getCodec());
+    if (aclDecisionCache.isEnabled()) {
+      topic.addListener(
+          ACLCacheInvalidation.class, (channel, invalidation) -> aclDecisionCache.invalidate(invalidation));
+    }
+  }
+
+  @Override
+  public void invalidate(ACLCacheInvalidation invalidation) {
+    if (!aclDecisionCache.isEnabled()) {
+      return;
+    }
+    // Applied locally first, this instance must not keep serving the old ACLs should the publish fail
+    aclDecisionCache.invalidate(invalidation);
+    try {
+      topic.publish(invalidation);
+    } catch (Exception e) {
+      log.error("Failed to publish ACL cache invalidation, other instances will catch up when their entries expire", e);
+    }
+  }
+}
@@ -20,6 +20,8 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset.ACLOptimizationMigrationOffsetKey;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState;
@@ -35,6 +37,8 @@ import io.harness.security.dto.ServicePrincipal;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.BulkOperations;
@@ -53,14 +57,16 @@ public class RemoveRedundantACLJob implements Runnable {
   private final MongoTemplate mongoTemplate;
   private final PersistentLocker persistentLocker;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final ACLCacheInvalidator aclCacheInvalidator;
   private static final String LOCK_NAME = "RemoveRedundantACLJob";
 
   @Inject
   public RemoveRedundantACLJob(MongoTemplate mongoTemplate, PersistentLocker persistentLocker,
-      InMemoryPermissionRepository inMemoryPermissionRepository) {
+      InMemoryPermissionRepository inMemoryPermissionRepository, ACLCacheInvalidator aclCacheInvalidator) {
     this.mongoTemplate = mongoTemplate;
     this.persistentLocker = persistentLocker;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.aclCacheInvalidator = aclCacheInvalidator;
   }
 
   @Override
@@ -95,7 +101,7 @@ public class RemoveRedundantACLJob implements Runnable {
         return;
       }
 
-      // First remove all disabled ACLs
+      // First remove all disabled ACLs, the ACL decision caches only hold enabled ones
       try (CloseableIterator<ACL> iterator = runQueryWithBatchForDisabledAcls()) {
         String offset = null;
         int totalRemoved = 0;
@@ -146,6 +152,7 @@ public class RemoveRedundantACLJob implements Runnable {
         String offset = null;
         int totalRemoved = 0;
         BulkOperations bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+        Set<String> removedAclQueryStrings = new HashSet<>();
 
         while (iterator.hasNext()) {
           ACL acl = iterator.next();
@@ -156,12 +163,16 @@ public class RemoveRedundantACLJob implements Runnable {
           if (!inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(
                   acl.getPermissionIdentifier(), acl.getResourceSelector())) {
             bulkOperations.remove(query);
+            if (acl.getAclQueryString() != null) {
+              removedAclQueryStrings.add(acl.getAclQueryString());
+            }
             totalRemoved++;
           }
 
           if (totalRemoved != 0 && totalRemoved % BATCH_SIZE == 0) {
             log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}", bulkOperations.execute(),
                 totalRemoved);
+            invalidateCachedACLs(removedAclQueryStrings);
             bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
 
             updateOffset(offset);
@@ -172,6 +183,7 @@ public class RemoveRedundantACLJob implements Runnable {
         if (totalRemoved % BATCH_SIZE != 0) {
           log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}", bulkOperations.execute(),
               totalRemoved);
+          invalidateCachedACLs(removedAclQueryStrings);
         }
 
         if (offset != null) {
@@ -185,6 +197,14 @@ public class RemoveRedundantACLJob implements Runnable {
     }
   }
 
+  // The bulk removals bypass the ACL repository, which invalidates the caches for the aggregator's own changes
+  private void invalidateCachedACLs(Set<String> removedAclQueryStrings) {
+    if (!removedAclQueryStrings.isEmpty()) {
+      aclCacheInvalidator.invalidate(ACLCacheInvalidation.ofAclQueryStrings(removedAclQueryStrings));
+      removedAclQueryStrings.clear();
+    }
+  }
+
   private void updateOffset(String lastProcessedAclId) {
     Update update = new Update().set(RemoveRedundantACLJobStateKey.offset, lastProcessedAclId);
     mongoTemplate.findAndModify(new Query(), update, RemoveRedundantACLJobState.class);
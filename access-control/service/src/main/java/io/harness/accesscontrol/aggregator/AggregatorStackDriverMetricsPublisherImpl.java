@@ -8,6 +8,7 @@
 package io.harness.accesscontrol.aggregator;
 
 import io.harness.accesscontrol.commons.metrics.AccessControlMetricsContext;
+import io.harness.aggregator.ACLGenerationMetrics;
 import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.SnapshotMetrics;
 import io.harness.aggregator.StreamingMetrics;
@@ -79,5 +80,15 @@ public class AggregatorStackDriverMetricsPublisherImpl implements MetricsPublish
             "aggregator_snapshot_snapshotDurationInSeconds", snapshotMetrics.getSnapshotDurationInSeconds());
       }
     }
+
+    try (AccessControlMetricsContext ignored = new AccessControlMetricsContext(namespace, containerName, serviceName)) {
+      ACLGenerationMetrics aclGenerationMetrics = aggregatorMetricsService.getACLGenerationMetrics();
+      metricService.recordMetric("aggregator_acl_generation_aclsCreated", aclGenerationMetrics.getAclsCreated());
+      metricService.recordMetric("aggregator_acl_generation_aclsDeleted", aclGenerationMetrics.getAclsDeleted());
+      metricService.recordMetric(
+          "aggregator_acl_generation_aclBatchesInFlight", aclGenerationMetrics.getAclBatchesInFlight());
+      metricService.recordMetric(
+          "aggregator_acl_generation_roleAssignmentsReconciled", aclGenerationMetrics.getRoleAssignmentsReconciled());
+    }
   }
 }
@@ -10,13 +10,18 @@ package io.harness.accesscontrol.acl.worker;
 import static io.harness.accesscontrol.acl.worker.RemoveRedundantACLJob.REFERENCE_TIMESTAMP;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static java.util.Map.of;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import io.harness.accesscontrol.AccessControlTestBase;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidator;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
@@ -63,6 +68,7 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
   @Inject private MongoTemplate mongoTemplate;
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
   @Mock private PersistentLocker persistentLocker;
+  @Mock private ACLCacheInvalidator aclCacheInvalidator;
   private InMemoryPermissionRepository inMemoryPermissionRepository;
   private RemoveRedundantACLJob removeRedundantACLJob;
 
@@ -88,7 +94,8 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
         ResourceTypeDBO.builder().identifier(SERVICE_RESOURCE_IDENTIFIER).permissionKey(SERVICE_RESOURCE_NAME).build());
     inMemoryPermissionRepository =
         new InMemoryPermissionRepository(mongoTemplate, of("ccm_perspective_view", Set.of("CCM_FOLDER")));
-    removeRedundantACLJob = new RemoveRedundantACLJob(mongoTemplate, persistentLocker, inMemoryPermissionRepository);
+    removeRedundantACLJob = new RemoveRedundantACLJob(
+        mongoTemplate, persistentLocker, inMemoryPermissionRepository, aclCacheInvalidator);
   }
 
   @Test
@@ -240,6 +247,38 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
     assertThat(state.getOffset()).isEqualTo("some-offset");
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRemovedEnabledACLsAreInvalidatedInCaches() {
+    createEntities();
+    List<ACL> acls = new ArrayList<>();
+    acls.add(ACL.builder()
+                 .id("000000080000000000000000")
+                 .permissionIdentifier(CORE_SERVICE_VIEW_PERMISSION)
+                 .resourceSelector("/ACCOUNT/account-id$/RESOURCEGROUP/*")
+                 .aclQueryString("redundantQueryString")
+                 .enabled(true)
+                 .build());
+    aclRepository.insertAllIgnoringDuplicates(acls);
+
+    removeRedundantACLJob.execute();
+
+    assertThat(getCurrentACLs().size()).isEqualTo(4);
+    verify(aclCacheInvalidator).invalidate(ACLCacheInvalidation.ofAclQueryStrings(List.of("redundantQueryString")));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRemovedDisabledACLsAreNotInvalidatedInCaches() {
+    createEntities();
+
+    removeRedundantACLJob.execute();
+
+    verifyNoInteractions(aclCacheInvalidator);
+  }
+
   private void createEntities() {
     List<ACL> acls = new ArrayList<>();
     // These are valid ACLs
@@ -121,6 +121,17 @@ public class NodeProjectionUtils {
   public static final Set<String> fieldsForRollbackTransformer =
       Sets.newHashSet(NodeExecutionKeys.ambiance, NodeExecutionKeys.stageFqn);
 
+  // Everything the graph vertices and the execution summary are built from when a node event is applied to the graph
+  public static final Set<String> fieldsForGraphUpdate = Sets.newHashSet(NodeExecutionKeys.uuid,
+      NodeExecutionKeys.ambiance, NodeExecutionKeys.mode, NodeExecutionKeys.startTs, NodeExecutionKeys.endTs,
+      NodeExecutionKeys.initialWaitDuration, NodeExecutionKeys.resolvedParams, NodeExecutionKeys.parentId,
+      NodeExecutionKeys.nextId, NodeExecutionKeys.previousId, NodeExecutionKeys.lastUpdatedAt, NodeExecutionKeys.status,
+      NodeExecutionKeys.executableResponses, NodeExecutionKeys.interruptHistories, NodeExecutionKeys.failureInfo,
+      NodeExecutionKeys.nodeRunInfo, NodeExecutionKeys.executionInputConfigured, NodeExecutionKeys.retryIds,
+      NodeExecutionKeys.oldRetry, NodeExecutionKeys.unitProgresses, NodeExecutionKeys.progressData,
+      NodeExecutionKeys.skipGraphType, NodeExecutionKeys.name, NodeExecutionKeys.stepType, NodeExecutionKeys.nodeId,
+      NodeExecutionKeys.identifier, NodeExecutionKeys.nodeType);
+
   public static final Set<String> withGroupAndIdentifier =
       Sets.newHashSet(NodeExecutionKeys.group, NodeExecutionKeys.identifier);
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+import io.harness.pms.contracts.execution.Status;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Setter;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import lombok.experimental.NonFinal;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The vertices and edges of an {@link OrchestrationGraph} that changed while applying one batch of orchestration
+ * events, stored instead of the whole graph. The cached graph is the last snapshot with the deltas written after it
+ * applied in order, until the deltas get compacted into a new snapshot.
+ *
+ * Vertices and edges are kryo serialized, the same way the snapshot is.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "orchestrationGraphDelta", noClassnameStored = true)
+@Document("orchestrationGraphDelta")
+@TypeAlias("orchestrationGraphDelta")
+public class OrchestrationGraphDelta implements PersistentEntity, UuidAware {
+  public static final long TTL_MONTHS = 6;
+
+  @Setter @NonFinal @Id @dev.morphia.annotations.Id String uuid;
+  String planExecutionId;
+  // lastUpdatedAt of the graph once this delta is applied
+  long lastUpdatedAt;
+
+  Long endTs;
+  Status status;
+  List<String> rootNodeIds;
+
+  Map<String, byte[]> vertices;
+  Map<String, byte[]> edges;
+  List<String> removedVertexIds;
+
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plusMonths(TTL_MONTHS).toInstant());
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt")
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+}
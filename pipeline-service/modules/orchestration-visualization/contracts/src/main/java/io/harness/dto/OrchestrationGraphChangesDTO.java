@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.dto;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * What changed in an orchestration graph since a given lastUpdatedAt: the graph holds only the vertices and edges that
+ * were added or updated, as they are now. When the changes cannot be told apart from the rest of the graph anymore,
+ * fullGraphRequired is set and the graph is the whole one instead. Either way lastUpdatedAt is the one to ask the next
+ * changes from.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrchestrationGraphChangesDTO {
+  long lastUpdatedAt;
+  boolean fullGraphRequired;
+
+  OrchestrationGraphDTO graph;
+  List<String> removedVertexIds;
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.repositories.executions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.OrchestrationGraphDelta;
+
+import java.util.List;
+
+@OwnedBy(PIPELINE)
+public interface OrchestrationGraphDeltaRepositoryCustom {
+  /**
+   * Uses - planExecutionId_lastUpdatedAt idx
+   * @return the deltas of the plan execution written after lastUpdatedAt, oldest first
+   */
+  List<OrchestrationGraphDelta> findDeltasAfter(String planExecutionId, long lastUpdatedAt, boolean fromSecondary);
+
+  /**
+   * Deletes the deltas a snapshot written at lastUpdatedAt already contains
+   * Uses - planExecutionId_lastUpdatedAt idx
+   */
+  void deleteDeltasUpTo(String planExecutionId, long lastUpdatedAt);
+}
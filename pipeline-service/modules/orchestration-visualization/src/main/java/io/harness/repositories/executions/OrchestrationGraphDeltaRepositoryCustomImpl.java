@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.repositories.executions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDelta.OrchestrationGraphDeltaKeys;
+import io.harness.mongo.helper.SecondaryMongoTemplateHolder;
+import io.harness.springdata.PersistenceUtils;
+
+import com.google.inject.Inject;
+import java.util.List;
+import net.jodah.failsafe.Failsafe;
+import net.jodah.failsafe.RetryPolicy;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@OwnedBy(PIPELINE)
+public class OrchestrationGraphDeltaRepositoryCustomImpl implements OrchestrationGraphDeltaRepositoryCustom {
+  private final MongoTemplate mongoTemplate;
+  private final MongoTemplate secondaryMongoTemplate;
+
+  @Inject
+  public OrchestrationGraphDeltaRepositoryCustomImpl(
+      MongoTemplate mongoTemplate, SecondaryMongoTemplateHolder secondaryMongoTemplateHolder) {
+    this.mongoTemplate = mongoTemplate;
+    this.secondaryMongoTemplate = secondaryMongoTemplateHolder.getSecondaryMongoTemplate();
+  }
+
+  @Override
+  public List<OrchestrationGraphDelta> findDeltasAfter(
+      String planExecutionId, long lastUpdatedAt, boolean fromSecondary) {
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .gt(lastUpdatedAt))
+                      .with(Sort.by(Sort.Order.asc(OrchestrationGraphDeltaKeys.lastUpdatedAt)));
+    return (fromSecondary ? secondaryMongoTemplate : mongoTemplate).find(query, OrchestrationGraphDelta.class);
+  }
+
+  @Override
+  public void deleteDeltasUpTo(String planExecutionId, long lastUpdatedAt) {
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .lte(lastUpdatedAt));
+    RetryPolicy<Object> retryPolicy =
+        PersistenceUtils.getRetryPolicy("[Retrying]: Failed deleting OrchestrationGraphDelta; attempt: {}",
+            "[Failed]: Failed deleting OrchestrationGraphDelta; attempt: {}");
+    Failsafe.with(retryPolicy).get(() -> mongoTemplate.remove(query, OrchestrationGraphDelta.class));
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.service;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
@@ -27,6 +28,12 @@ public interface GraphGenerationService {
 
   OrchestrationGraphDTO generateOrchestrationGraphV2(String planExecutionId);
 
+  /**
+   * The vertices and edges of the graph that changed after lastUpdatedAt, or the whole graph with fullGraphRequired
+   * set when the changes cannot be told on their own
+   */
+  OrchestrationGraphChangesDTO getOrchestrationGraphChangesSince(String planExecutionId, long lastUpdatedAt);
+
   OrchestrationGraphDTO generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
       String startingSetupNodeId, String planExecutionId, String startingExecutionId);
   void sendUpdateEventIfAny(PipelineExecutionSummaryEntity executionSummaryEntity);
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrchestrationGraphPersistenceConfig {
+  // Persist the vertices and edges changed by each graph update rather than the whole graph
+  private boolean deltaPersistenceEnabled;
+  // Number of deltas after which the graph is written whole again and the deltas dropped
+  @Builder.Default private int compactionThreshold = 20;
+}
@@ -18,11 +18,13 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
 import io.harness.data.structure.EmptyPredicate;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.dto.converter.OrchestrationGraphDTOConverter;
 import io.harness.engine.executions.node.NodeExecutionService;
@@ -42,12 +44,14 @@ import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity.PlanExecutionSummaryKeys;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
 import io.harness.service.GraphGenerationService;
+import io.harness.service.OrchestrationGraphPersistenceConfig;
 import io.harness.skip.service.VertexSkipperService;
 import io.harness.utils.PmsFeatureFlagService;
 
@@ -55,10 +59,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +84,12 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
   private static final int MAX_EXPECTED_GRAPH_UPDATE_TIME = 1000;
+  // NodeExecutionService refuses to load more node executions by id than this in one call
+  private static final int NODE_EXECUTION_BATCH_SIZE = 500;
+  private static final Set<OrchestrationEventType> EVENTS_WITHOUT_NODE_EXECUTION =
+      EnumSet.of(OrchestrationEventType.PLAN_EXECUTION_STATUS_UPDATE, OrchestrationEventType.STEP_DETAILS_UPDATE,
+          OrchestrationEventType.STEP_INPUTS_UPDATE, OrchestrationEventType.PIPELINE_INFO_UPDATE,
+          OrchestrationEventType.STAGE_INFO_UPDATE);
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -92,6 +105,11 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
   @Inject private PlanExecutionModuleInfoUpdateEventHandler planExecutionModuleInfoUpdateEventHandler;
+  @Inject private OrchestrationGraphDeltaStore orchestrationGraphDeltaStore;
+  @Inject(optional = true)
+  @Named("orchestrationGraphPersistenceConfig")
+  private OrchestrationGraphPersistenceConfig orchestrationGraphPersistenceConfig =
+      OrchestrationGraphPersistenceConfig.builder().build();
 
   @Override
   public boolean updateGraph(String planExecutionId) {
@@ -167,9 +185,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       // Re-emit if there are too many logs
       shouldAck = false;
     }
+    OrchestrationGraphChangeTracker changeTracker = orchestrationGraphPersistenceConfig.isDeltaPersistenceEnabled()
+        ? new OrchestrationGraphChangeTracker(orchestrationGraph)
+        : null;
     boolean updateRequired = false;
     Update executionSummaryUpdate = new Update();
     Set<String> nodeExecutionIds = new HashSet<>();
+    Map<String, NodeExecution> nodeExecutions = fetchNodeExecutionsForGraphUpdate(unprocessedEventLogs);
     PlanExecution planExecution = null;
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
@@ -192,11 +214,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          touchVertex(changeTracker, nodeExecutionId);
           updateRequired = true;
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          touchVertex(changeTracker, nodeExecutionId);
           updateRequired = true;
           break;
         case PIPELINE_INFO_UPDATE:
@@ -213,7 +237,10 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
             continue;
           }
           nodeExecutionIds.add(nodeExecutionId);
-          NodeExecution nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          NodeExecution nodeExecution = nodeExecutions.get(nodeExecutionId);
+          if (nodeExecution == null) {
+            throw new InvalidRequestException("Node Execution is null for id: " + nodeExecutionId);
+          }
 
           updateRequired = pmsExecutionSummaryService.handleNodeExecutionUpdateFromGraphUpdate(
                                planExecutionId, nodeExecution, executionSummaryUpdate)
@@ -223,7 +250,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       }
     }
 
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    persistOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), changeTracker);
     if (updateRequired) {
       executionSummaryUpdate.set(PlanExecutionSummaryKeys.lastUpdatedAt, lastUpdatedAt);
       pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
@@ -236,20 +263,111 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     return shouldAck;
   }
 
+  // The step details are set on the vertex in place, which the change tracker cannot see by itself
+  private void touchVertex(OrchestrationGraphChangeTracker changeTracker, String nodeExecutionId) {
+    if (changeTracker != null) {
+      changeTracker.touch(nodeExecutionId);
+    }
+  }
+
+  /**
+   * Writes the changes of one graph update as a delta, or the whole graph as the new snapshot when the graph was
+   * rebuilt or enough deltas piled up since the last snapshot. The deltas are dropped only after the snapshot that
+   * contains them is written.
+   */
+  private void persistOrchestrationGraph(
+      OrchestrationGraph orchestrationGraph, OrchestrationGraphChangeTracker changeTracker) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    long lastUpdatedAt = orchestrationGraph.getLastUpdatedAt();
+    if (changeTracker == null) {
+      cachePartialOrchestrationGraph(orchestrationGraph, lastUpdatedAt);
+      return;
+    }
+    if (changeTracker.isReplaced(orchestrationGraph)
+        || orchestrationGraphDeltaStore.count(planExecutionId)
+            >= orchestrationGraphPersistenceConfig.getCompactionThreshold()) {
+      cachePartialOrchestrationGraph(orchestrationGraph, lastUpdatedAt);
+      orchestrationGraphDeltaStore.deleteUpTo(planExecutionId, lastUpdatedAt);
+      return;
+    }
+    orchestrationGraphDeltaStore.append(orchestrationGraph, changeTracker);
+  }
+
+  /**
+   * Loads the node executions of all the node events in a handful of queries rather than one query per event. A node
+   * event is applied with the latest state of its node execution whenever it is read, so reading them all upfront
+   * leaves the resulting graph unchanged.
+   */
+  private Map<String, NodeExecution> fetchNodeExecutionsForGraphUpdate(List<OrchestrationEventLog> eventLogs) {
+    Set<String> nodeExecutionIds = new LinkedHashSet<>();
+    for (OrchestrationEventLog eventLog : eventLogs) {
+      if (!EVENTS_WITHOUT_NODE_EXECUTION.contains(eventLog.getOrchestrationEventType())
+          && EmptyPredicate.isNotEmpty(eventLog.getNodeExecutionId())) {
+        nodeExecutionIds.add(eventLog.getNodeExecutionId());
+      }
+    }
+    Map<String, NodeExecution> nodeExecutions = new HashMap<>();
+    for (List<String> batch : Lists.partition(new ArrayList<>(nodeExecutionIds), NODE_EXECUTION_BATCH_SIZE)) {
+      List<NodeExecution> fetched =
+          nodeExecutionService.getAllWithFieldIncluded(new HashSet<>(batch), NodeProjectionUtils.fieldsForGraphUpdate);
+      fetched.forEach(nodeExecution -> nodeExecutions.put(nodeExecution.getUuid(), nodeExecution));
+    }
+    return nodeExecutions;
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    // The deltas are read before the snapshot, a compaction in between then leaves them all in the snapshot read
+    List<OrchestrationGraphDelta> deltas = fetchDeltas(planExecutionId, 0, false);
+    OrchestrationGraph snapshot =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    return orchestrationGraphDeltaStore.apply(snapshot, deltas);
   }
 
   @Override
   public OrchestrationGraph getCachedOrchestrationGraphFromSecondary(String planExecutionId) {
-    return mongoStore.getFromSecondary(
+    List<OrchestrationGraphDelta> deltas = fetchDeltas(planExecutionId, 0, true);
+    OrchestrationGraph snapshot = mongoStore.getFromSecondary(
         OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    return orchestrationGraphDeltaStore.apply(snapshot, deltas);
+  }
+
+  @Override
+  public OrchestrationGraphChangesDTO getOrchestrationGraphChangesSince(String planExecutionId, long lastUpdatedAt) {
+    List<OrchestrationGraphDelta> deltas = fetchDeltas(planExecutionId, lastUpdatedAt, true);
+    Long snapshotUpdatedAt = mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (snapshotUpdatedAt != null && snapshotUpdatedAt <= lastUpdatedAt) {
+      OrchestrationGraphChangesDTO changes =
+          orchestrationGraphDeltaStore.changesSince(planExecutionId, lastUpdatedAt, deltas);
+      if (!changes.isFullGraphRequired()) {
+        return changes;
+      }
+    }
+    // The snapshot was rewritten since, or the changes cannot be sent on their own: the whole graph goes instead
+    OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraphFromSecondary(planExecutionId);
+    if (orchestrationGraph == null) {
+      orchestrationGraph = buildOrchestrationGraph(planExecutionId);
+    }
+    return OrchestrationGraphChangesDTO.builder()
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+        .fullGraphRequired(true)
+        .graph(toOrchestrationGraphDTO(orchestrationGraph))
+        .build();
+  }
+
+  // The deltas are only ever written with the delta persistence enabled, there is nothing to look up otherwise
+  private List<OrchestrationGraphDelta> fetchDeltas(String planExecutionId, long lastUpdatedAt, boolean fromSecondary) {
+    if (!orchestrationGraphPersistenceConfig.isDeltaPersistenceEnabled()) {
+      return new ArrayList<>();
+    }
+    return orchestrationGraphDeltaStore.fetch(planExecutionId, lastUpdatedAt, fromSecondary);
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    // Stamped with the graph's own lastUpdatedAt, which the changes since a lastUpdatedAt are checked against
+    cachePartialOrchestrationGraph(orchestrationGraph, orchestrationGraph.getLastUpdatedAt());
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
@@ -264,8 +382,12 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     } else {
       sendUpdateEventIfAny(cachedOrchestrationGraph);
     }
+    return toOrchestrationGraphDTO(cachedOrchestrationGraph);
+  }
+
+  private OrchestrationGraphDTO toOrchestrationGraphDTO(OrchestrationGraph orchestrationGraph) {
     EphemeralOrchestrationGraph ephemeralOrchestrationGraph =
-        EphemeralOrchestrationGraphConverter.convertFrom(cachedOrchestrationGraph);
+        EphemeralOrchestrationGraphConverter.convertFrom(orchestrationGraph);
     vertexSkipperService.removeSkippedVertices(ephemeralOrchestrationGraph);
     return OrchestrationGraphDTOConverter.convertFrom(ephemeralOrchestrationGraph);
   }
@@ -308,6 +430,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         cacheEntities.add(graph);
       }
       mongoStore.delete(cacheEntities);
+      orchestrationGraphDeltaStore.deleteAll(planExecutionIds);
     }
   }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tells which vertices and edges of a graph changed while a batch of events was applied to it.
+ *
+ * The graph updates replace a vertex whenever they rebuild it from its node execution, so a vertex is taken as changed
+ * when it is not the same instance anymore, or when it was updated in place and {@link #touch} was called for it.
+ * Edges are updated in place, they are compared against copies taken when the tracking started.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+class OrchestrationGraphChangeTracker {
+  private final OrchestrationAdjacencyListInternal trackedAdjacencyList;
+  private final Map<String, GraphVertex> vertices;
+  private final Map<String, EdgeListInternal> edges = new HashMap<>();
+  private final Set<String> touchedVertexIds = new HashSet<>();
+
+  OrchestrationGraphChangeTracker(OrchestrationGraph orchestrationGraph) {
+    trackedAdjacencyList = orchestrationGraph.getAdjacencyList();
+    vertices = new HashMap<>(trackedAdjacencyList.getGraphVertexMap());
+    trackedAdjacencyList.getAdjacencyMap().forEach((vertexId, edgeList) -> edges.put(vertexId, copy(edgeList)));
+  }
+
+  void touch(String vertexId) {
+    touchedVertexIds.add(vertexId);
+  }
+
+  /**
+   * @return true if the graph was rebuilt from scratch rather than updated, in which case it has to be written whole
+   */
+  boolean isReplaced(OrchestrationGraph orchestrationGraph) {
+    return orchestrationGraph.getAdjacencyList() != trackedAdjacencyList;
+  }
+
+  Map<String, GraphVertex> changedVertices() {
+    Map<String, GraphVertex> changed = new HashMap<>();
+    trackedAdjacencyList.getGraphVertexMap().forEach((vertexId, vertex) -> {
+      if (vertices.get(vertexId) != vertex || touchedVertexIds.contains(vertexId)) {
+        changed.put(vertexId, vertex);
+      }
+    });
+    return changed;
+  }
+
+  Map<String, EdgeListInternal> changedEdges() {
+    Map<String, EdgeListInternal> changed = new HashMap<>();
+    trackedAdjacencyList.getAdjacencyMap().forEach((vertexId, edgeList) -> {
+      if (!edgeList.equals(edges.get(vertexId))) {
+        changed.put(vertexId, edgeList);
+      }
+    });
+    return changed;
+  }
+
+  List<String> removedVertexIds() {
+    Set<String> removed = new HashSet<>(vertices.keySet());
+    removed.addAll(edges.keySet());
+    removed.removeAll(trackedAdjacencyList.getGraphVertexMap().keySet());
+    removed.removeAll(trackedAdjacencyList.getAdjacencyMap().keySet());
+    return new ArrayList<>(removed);
+  }
+
+  private static EdgeListInternal copy(EdgeListInternal edgeList) {
+    return EdgeListInternal.builder()
+        .parentId(edgeList.getParentId())
+        .prevIds(copy(edgeList.getPrevIds()))
+        .nextIds(copy(edgeList.getNextIds()))
+        .edges(copy(edgeList.getEdges()))
+        .build();
+  }
+
+  private static List<String> copy(List<String> ids) {
+    return ids == null ? null : new ArrayList<>(ids);
+  }
+}
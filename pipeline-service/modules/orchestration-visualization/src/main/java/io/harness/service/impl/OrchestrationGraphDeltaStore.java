@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.dto.OrchestrationGraphChangesDTO;
+import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.converter.OrchestrationAdjacencyListDTOConverter;
+import io.harness.pms.contracts.steps.SkipType;
+import io.harness.repositories.executions.OrchestrationGraphDeltaRepository;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes the deltas of the orchestration graphs, each one holding the vertices and edges a graph update
+ * added, changed or removed. A graph is its cached snapshot with the deltas written after it applied in order.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class OrchestrationGraphDeltaStore {
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
+  @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer kryoSerializer;
+
+  void append(OrchestrationGraph orchestrationGraph, OrchestrationGraphChangeTracker changeTracker) {
+    Map<String, byte[]> vertices = new HashMap<>();
+    changeTracker.changedVertices().forEach(
+        (vertexId, vertex) -> vertices.put(vertexId, kryoSerializer.asDeflatedBytes(vertex)));
+    Map<String, byte[]> edges = new HashMap<>();
+    changeTracker.changedEdges().forEach(
+        (vertexId, edgeList) -> edges.put(vertexId, kryoSerializer.asDeflatedBytes(edgeList)));
+    orchestrationGraphDeltaRepository.save(OrchestrationGraphDelta.builder()
+                                               .planExecutionId(orchestrationGraph.getPlanExecutionId())
+                                               .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+                                               .endTs(orchestrationGraph.getEndTs())
+                                               .status(orchestrationGraph.getStatus())
+                                               .rootNodeIds(orchestrationGraph.getRootNodeIds())
+                                               .vertices(vertices)
+                                               .edges(edges)
+                                               .removedVertexIds(changeTracker.removedVertexIds())
+                                               .build());
+  }
+
+  long count(String planExecutionId) {
+    return orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId);
+  }
+
+  List<OrchestrationGraphDelta> fetch(String planExecutionId, long lastUpdatedAt, boolean fromSecondary) {
+    return orchestrationGraphDeltaRepository.findDeltasAfter(planExecutionId, lastUpdatedAt, fromSecondary);
+  }
+
+  void deleteUpTo(String planExecutionId, long lastUpdatedAt) {
+    orchestrationGraphDeltaRepository.deleteDeltasUpTo(planExecutionId, lastUpdatedAt);
+  }
+
+  void deleteAll(Set<String> planExecutionIds) {
+    orchestrationGraphDeltaRepository.deleteAllByPlanExecutionIdIn(planExecutionIds);
+  }
+
+  /**
+   * Applies to the snapshot, in place, the deltas that were written after it. The deltas a compaction folded into the
+   * snapshot are skipped, so they may be read before the snapshot is.
+   */
+  OrchestrationGraph apply(OrchestrationGraph snapshot, List<OrchestrationGraphDelta> deltas) {
+    if (snapshot == null) {
+      return null;
+    }
+    OrchestrationGraph orchestrationGraph = snapshot;
+    for (OrchestrationGraphDelta delta : deltas) {
+      if (delta.getLastUpdatedAt() <= orchestrationGraph.getLastUpdatedAt()) {
+        continue;
+      }
+      OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+      delta.getRemovedVertexIds().forEach(vertexId -> {
+        adjacencyList.getGraphVertexMap().remove(vertexId);
+        adjacencyList.getAdjacencyMap().remove(vertexId);
+      });
+      adjacencyList.getGraphVertexMap().putAll(inflateVertices(delta));
+      adjacencyList.getAdjacencyMap().putAll(inflateEdges(delta));
+      if (orchestrationGraph.getRootNodeIds() != null && delta.getRootNodeIds() != null) {
+        orchestrationGraph.getRootNodeIds().clear();
+        orchestrationGraph.getRootNodeIds().addAll(delta.getRootNodeIds());
+      }
+      orchestrationGraph = orchestrationGraph.withStatus(delta.getStatus())
+                               .withEndTs(delta.getEndTs())
+                               .withLastUpdatedAt(delta.getLastUpdatedAt());
+    }
+    return orchestrationGraph;
+  }
+
+  /**
+   * Merges the deltas written after lastUpdatedAt into a graph holding only the vertices and edges they carry, as of
+   * the last one. Skipped vertices rewire the edges around them, so their changes cannot be sent on their own.
+   */
+  OrchestrationGraphChangesDTO changesSince(
+      String planExecutionId, long lastUpdatedAt, List<OrchestrationGraphDelta> deltas) {
+    Map<String, GraphVertex> vertices = new HashMap<>();
+    Map<String, EdgeListInternal> edges = new HashMap<>();
+    Set<String> removedVertexIds = new HashSet<>();
+    OrchestrationGraphDelta last = null;
+    for (OrchestrationGraphDelta delta : deltas) {
+      if (delta.getLastUpdatedAt() <= lastUpdatedAt) {
+        continue;
+      }
+      delta.getRemovedVertexIds().forEach(vertexId -> {
+        vertices.remove(vertexId);
+        edges.remove(vertexId);
+      });
+      removedVertexIds.addAll(delta.getRemovedVertexIds());
+      Map<String, GraphVertex> deltaVertices = inflateVertices(delta);
+      Map<String, EdgeListInternal> deltaEdges = inflateEdges(delta);
+      removedVertexIds.removeAll(deltaVertices.keySet());
+      removedVertexIds.removeAll(deltaEdges.keySet());
+      vertices.putAll(deltaVertices);
+      edges.putAll(deltaEdges);
+      last = delta;
+    }
+    if (last == null) {
+      return OrchestrationGraphChangesDTO.builder()
+          .lastUpdatedAt(lastUpdatedAt)
+          .removedVertexIds(new ArrayList<>())
+          .build();
+    }
+    boolean anySkipped = vertices.values().stream().anyMatch(
+        vertex -> vertex.getSkipType() != null && vertex.getSkipType() != SkipType.NOOP);
+    OrchestrationGraphDTO graph =
+        OrchestrationGraphDTO.builder()
+            .planExecutionId(planExecutionId)
+            .endTs(last.getEndTs())
+            .status(last.getStatus())
+            .rootNodeIds(last.getRootNodeIds() == null ? new ArrayList<>() : last.getRootNodeIds())
+            .adjacencyList(OrchestrationAdjacencyListDTOConverter.convertFrom(
+                OrchestrationAdjacencyListInternal.builder().graphVertexMap(vertices).adjacencyMap(edges).build()))
+            .build();
+    return OrchestrationGraphChangesDTO.builder()
+        .lastUpdatedAt(last.getLastUpdatedAt())
+        .fullGraphRequired(anySkipped)
+        .graph(graph)
+        .removedVertexIds(new ArrayList<>(removedVertexIds))
+        .build();
+  }
+
+  private Map<String, GraphVertex> inflateVertices(OrchestrationGraphDelta delta) {
+    Map<String, GraphVertex> vertices = new HashMap<>();
+    delta.getVertices().forEach(
+        (vertexId, bytes) -> vertices.put(vertexId, (GraphVertex) kryoSerializer.asInflatedObject(bytes)));
+    return vertices;
+  }
+
+  private Map<String, EdgeListInternal> inflateEdges(OrchestrationGraphDelta delta) {
+    Map<String, EdgeListInternal> edges = new HashMap<>();
+    delta.getEdges().forEach(
+        (vertexId, bytes) -> edges.put(vertexId, (EdgeListInternal) kryoSerializer.asInflatedObject(bytes)));
+    return edges;
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.service.impl;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ARCHIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.SHALINI;
 import static io.harness.rule.OwnerRule.SHIVAM;
 import static io.harness.rule.OwnerRule.YUVRAJ;
@@ -32,6 +33,7 @@ import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
 import io.harness.category.element.UnitTests;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.engine.events.OrchestrationEventEmitter;
 import io.harness.engine.executions.node.NodeExecutionService;
@@ -52,14 +54,17 @@ import io.harness.pms.contracts.steps.SkipType;
 import io.harness.pms.contracts.steps.StepCategory;
 import io.harness.pms.contracts.steps.StepType;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
+import io.harness.repositories.executions.OrchestrationGraphDeltaRepository;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
 import io.harness.rule.Owner;
 import io.harness.service.GraphGenerationService;
+import io.harness.service.OrchestrationGraphPersistenceConfig;
 
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +72,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -89,6 +96,7 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Mock private PlanExecutionModuleInfoUpdateEventHandler planExecutionModuleInfoUpdateEventHandler;
   @Mock private PmsExecutionSummaryService pmsExecutionSummaryService;
   @Inject @InjectMocks GraphGenerationServiceImpl graphGenerationServiceImpl;
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
 
   @Before
   public void setup() {
@@ -97,6 +105,11 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
         .thenReturn(Optional.of(PlanExecutionMetadata.builder().build()));
   }
 
+  @After
+  public void tearDown() throws IllegalAccessException {
+    setPersistenceConfig(OrchestrationGraphPersistenceConfig.builder().build());
+  }
+
   @Test
   @Owner(developers = ALEXEI)
   @Category(UnitTests.class)
@@ -436,4 +449,204 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
     verify(planExecutionModuleInfoUpdateEventHandler, times(1)).handleStageInfoUpdate(any(), any(), any());
     verify(pmsExecutionSummaryService, times(1)).update(any(), any());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockReplaysLargeEventLogInOrder() {
+    String planExecutionId = generateUuid();
+    int nodeCount = 1000;
+    List<NodeExecution> nodeExecutions = new ArrayList<>();
+    List<OrchestrationEventLog> logs = new ArrayList<>();
+    String previousId = null;
+    for (int i = 0; i < nodeCount; i++) {
+      NodeExecution nodeExecution =
+          NodeExecution.builder()
+              .uuid(generateUuid())
+              .previousId(previousId)
+              .stepType(StepType.newBuilder().setType("DUMMY").setStepCategory(StepCategory.STEP).build())
+              .status(Status.RUNNING)
+              .mode(ExecutionMode.SYNC)
+              .ambiance(Ambiance.newBuilder()
+                            .setPlanExecutionId(planExecutionId)
+                            .addLevels(Level.newBuilder().setNodeType(NodeType.PLAN_NODE.toString()).build())
+                            .setMetadata(ExecutionMetadata.newBuilder()
+                                             .putFeatureFlagToValueMap(PIE_SIMPLIFY_LOG_BASE_KEY, false)
+                                             .build())
+                            .build())
+              .module("cd")
+              .build();
+      nodeExecutions.add(nodeExecution);
+      previousId = nodeExecution.getUuid();
+      logs.add(OrchestrationEventLog.builder()
+                   .nodeExecutionId(nodeExecution.getUuid())
+                   .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_START)
+                   .createdAt(1223L + i)
+                   .build());
+    }
+    // A status update for every node after all the starts, applied from the same read of its node execution
+    for (int i = 0; i < nodeCount; i++) {
+      logs.add(OrchestrationEventLog.builder()
+                   .nodeExecutionId(nodeExecutions.get(i).getUuid())
+                   .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE)
+                   .createdAt(1223L + nodeCount + i)
+                   .build());
+    }
+    nodeExecutionService.saveAll(nodeExecutions);
+    doReturn(logs).when(orchestrationEventLogRepository).findUnprocessedEvents(planExecutionId, 1222L, 1000);
+
+    OrchestrationGraph orchestrationGraph = OrchestrationGraph.builder()
+                                                .planExecutionId(planExecutionId)
+                                                .rootNodeIds(new ArrayList<>())
+                                                .lastUpdatedAt(1222L)
+                                                .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                                                                   .adjacencyMap(new HashMap<>())
+                                                                   .graphVertexMap(new HashMap<>())
+                                                                   .build())
+                                                .build();
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(orchestrationGraph));
+
+    OrchestrationGraph updatedGraph = graphGenerationService.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(updatedGraph.getLastUpdatedAt()).isEqualTo(1222L + 2 * nodeCount);
+    assertThat(updatedGraph.getRootNodeIds()).containsExactly(nodeExecutions.get(0).getUuid());
+    Map<String, EdgeListInternal> adjacencyMap = updatedGraph.getAdjacencyList().getAdjacencyMap();
+    assertThat(updatedGraph.getAdjacencyList().getGraphVertexMap()).hasSize(nodeCount);
+    for (int i = 0; i < nodeCount - 1; i++) {
+      assertThat(adjacencyMap.get(nodeExecutions.get(i).getUuid()).getNextIds())
+          .containsExactly(nodeExecutions.get(i + 1).getUuid());
+    }
+    assertThat(updatedGraph.getAdjacencyList().getGraphVertexMap().values())
+        .allMatch(vertex -> vertex.getStatus() == Status.RUNNING);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockPersistsDeltas() throws IllegalAccessException {
+    setPersistenceConfig(OrchestrationGraphPersistenceConfig.builder().deltaPersistenceEnabled(true).build());
+    String planExecutionId = generateUuid();
+    NodeExecution first = runningNodeExecution(planExecutionId, null);
+    NodeExecution second = runningNodeExecution(planExecutionId, first.getUuid());
+    nodeExecutionService.saveAll(Lists.newArrayList(first, second));
+    graphGenerationService.cacheOrchestrationGraph(emptyGraph(planExecutionId, 1222L));
+
+    doReturn(Lists.newArrayList(startEvent(first, 1223L), startEvent(second, 1224L)))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+
+    // The snapshot is left as it was, the update is written as a delta on top of it
+    OrchestrationGraph snapshot =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(snapshot.getAdjacencyList().getGraphVertexMap()).isEmpty();
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isEqualTo(1);
+
+    OrchestrationGraph graph = graphGenerationService.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(graph.getLastUpdatedAt()).isEqualTo(1224L);
+    assertThat(graph.getRootNodeIds()).containsExactly(first.getUuid());
+    assertThat(graph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(first.getUuid(), second.getUuid());
+    assertThat(graph.getAdjacencyList().getAdjacencyMap().get(first.getUuid()).getNextIds())
+        .containsExactly(second.getUuid());
+
+    nodeExecutionService.updateStatusWithOps(first.getUuid(), Status.SUCCEEDED, null, EnumSet.noneOf(Status.class));
+    doReturn(Lists.newArrayList(OrchestrationEventLog.builder()
+                                    .nodeExecutionId(first.getUuid())
+                                    .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE)
+                                    .createdAt(1225L)
+                                    .build()))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1224L, 1000);
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isEqualTo(2);
+
+    OrchestrationGraphChangesDTO changes =
+        graphGenerationService.getOrchestrationGraphChangesSince(planExecutionId, 1224L);
+    assertThat(changes.isFullGraphRequired()).isFalse();
+    assertThat(changes.getLastUpdatedAt()).isEqualTo(1225L);
+    assertThat(changes.getGraph().getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(first.getUuid());
+    assertThat(changes.getGraph().getAdjacencyList().getGraphVertexMap().get(first.getUuid()).getStatus())
+        .isEqualTo(Status.SUCCEEDED);
+
+    assertThat(graphGenerationService.getOrchestrationGraphChangesSince(planExecutionId, 1225L).getGraph()).isNull();
+    // Older than the snapshot, the deltas do not cover it anymore
+    OrchestrationGraphChangesDTO fullGraph =
+        graphGenerationService.getOrchestrationGraphChangesSince(planExecutionId, 1000L);
+    assertThat(fullGraph.isFullGraphRequired()).isTrue();
+    assertThat(fullGraph.getLastUpdatedAt()).isEqualTo(1225L);
+    assertThat(fullGraph.getGraph().getAdjacencyList().getGraphVertexMap()).hasSize(2);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockCompactsDeltas() throws IllegalAccessException {
+    setPersistenceConfig(
+        OrchestrationGraphPersistenceConfig.builder().deltaPersistenceEnabled(true).compactionThreshold(1).build());
+    String planExecutionId = generateUuid();
+    NodeExecution first = runningNodeExecution(planExecutionId, null);
+    NodeExecution second = runningNodeExecution(planExecutionId, first.getUuid());
+    nodeExecutionService.saveAll(Lists.newArrayList(first, second));
+    graphGenerationService.cacheOrchestrationGraph(emptyGraph(planExecutionId, 1222L));
+
+    doReturn(Lists.newArrayList(startEvent(first, 1223L)))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId);
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isEqualTo(1);
+
+    doReturn(Lists.newArrayList(startEvent(second, 1224L)))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1223L, 1000);
+    graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId);
+
+    // The threshold is reached, the whole graph is written and the deltas it holds dropped
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isZero();
+    OrchestrationGraph snapshot =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(snapshot.getLastUpdatedAt()).isEqualTo(1224L);
+    assertThat(snapshot.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(first.getUuid(), second.getUuid());
+  }
+
+  private void setPersistenceConfig(OrchestrationGraphPersistenceConfig config) throws IllegalAccessException {
+    FieldUtils.writeField(graphGenerationServiceImpl, "orchestrationGraphPersistenceConfig", config, true);
+  }
+
+  private NodeExecution runningNodeExecution(String planExecutionId, String previousId) {
+    return NodeExecution.builder()
+        .uuid(generateUuid())
+        .previousId(previousId)
+        .stepType(StepType.newBuilder().setType("DUMMY").setStepCategory(StepCategory.STEP).build())
+        .status(Status.RUNNING)
+        .mode(ExecutionMode.SYNC)
+        .ambiance(Ambiance.newBuilder()
+                      .setPlanExecutionId(planExecutionId)
+                      .addLevels(Level.newBuilder().setNodeType(NodeType.PLAN_NODE.toString()).build())
+                      .setMetadata(ExecutionMetadata.newBuilder()
+                                       .putFeatureFlagToValueMap(PIE_SIMPLIFY_LOG_BASE_KEY, false)
+                                       .build())
+                      .build())
+        .module("cd")
+        .build();
+  }
+
+  private OrchestrationEventLog startEvent(NodeExecution nodeExecution, long createdAt) {
+    return OrchestrationEventLog.builder()
+        .nodeExecutionId(nodeExecution.getUuid())
+        .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_START)
+        .createdAt(createdAt)
+        .build();
+  }
+
+  private OrchestrationGraph emptyGraph(String planExecutionId, long lastUpdatedAt) {
+    return OrchestrationGraph.builder()
+        .cacheKey(planExecutionId)
+        .planExecutionId(planExecutionId)
+        .rootNodeIds(new ArrayList<>())
+        .lastUpdatedAt(lastUpdatedAt)
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .adjacencyMap(new HashMap<>())
+                           .graphVertexMap(new HashMap<>())
+                           .build())
+        .build();
+  }
 }
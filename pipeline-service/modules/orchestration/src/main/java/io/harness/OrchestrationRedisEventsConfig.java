@@ -50,4 +50,8 @@ public class OrchestrationRedisEventsConfig {
   @Builder.Default
   RedisEventConfig pipelineStartPartialPlanCreator =
       RedisEventConfig.builder().maxTopicSize(START_PARTIAL_PLAN_CREATOR_MAX_TOPIC_SIZE).build();
+  // Coalesces the events sent concurrently to a topic into pipelined writes
+  boolean useBatchingProducer;
+  @Builder.Default int producerMaxBatchSize = 100;
+  @Builder.Default long producerLingerTimeMillis = 5;
 }
@@ -25,6 +25,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.impl.noop.NoOpProducer;
+import io.harness.eventsframework.impl.redis.RedisBatchingProducer.BatchingOptions;
 import io.harness.eventsframework.impl.redis.RedisProducerFactory;
 import io.harness.eventsframework.producer.Message;
 import io.harness.exception.InvalidRequestException;
@@ -184,10 +185,20 @@ public class PmsEventSender {
 
   private Producer buildRedisProducer(String topicName, String serviceId, int topicSize) {
     RedisConfig redisConfig = moduleConfig.getEventsFrameworkConfiguration().getRedisConfig();
-    return redisConfig.getRedisUrl().equals(DUMMY_REDIS_URL)
-        ? NoOpProducer.of(topicName)
-        : redisProducerFactory.createRedisProducer(topicName, RedissonClientFactory.getClient(redisConfig), topicSize,
-            serviceId, redisConfig.getEnvNamespace());
+    if (redisConfig.getRedisUrl().equals(DUMMY_REDIS_URL)) {
+      return NoOpProducer.of(topicName);
+    }
+    OrchestrationRedisEventsConfig redisEventsConfig = moduleConfig.getOrchestrationRedisEventsConfig();
+    if (redisEventsConfig.isUseBatchingProducer()) {
+      return redisProducerFactory.createRedisBatchingProducer(topicName, RedissonClientFactory.getClient(redisConfig),
+          topicSize, serviceId, redisConfig.getEnvNamespace(),
+          BatchingOptions.builder()
+              .maxBatchSize(redisEventsConfig.getProducerMaxBatchSize())
+              .lingerTime(Duration.ofMillis(redisEventsConfig.getProducerLingerTimeMillis()))
+              .build());
+    }
+    return redisProducerFactory.createRedisProducer(
+        topicName, RedissonClientFactory.getClient(redisConfig), topicSize, serviceId, redisConfig.getEnvNamespace());
   }
 
   PmsSdkInstance getPmsSdkInstance(String serviceName) {
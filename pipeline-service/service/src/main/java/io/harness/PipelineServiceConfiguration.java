@@ -41,6 +41,7 @@ import io.harness.reflection.HarnessReflections;
 import io.harness.remote.client.ServiceHttpClientConfig;
 import io.harness.repositories.planExecutionJson.ExpandedJsonLockConfig;
 import io.harness.secret.ConfigSecret;
+import io.harness.service.OrchestrationGraphPersistenceConfig;
 import io.harness.ssca.beans.entities.SSCAServiceConfig;
 import io.harness.steps.container.execution.ContainerExecutionConfig;
 import io.harness.telemetry.segment.SegmentConfiguration;
@@ -191,6 +192,8 @@ public class PipelineServiceConfiguration extends Configuration {
   @JsonProperty(value = "disableCustomStageInPipelineService") private Boolean disableCustomStageInPipelineService;
   @JsonProperty("pipelineExecutionDetailsDeleteMaxBatchSize")
   private Integer pipelineExecutionDetailsDeleteMaxBatchSize;
+  @JsonProperty("orchestrationGraphPersistenceConfig")
+  private OrchestrationGraphPersistenceConfig orchestrationGraphPersistenceConfig;
   private boolean useQueueServiceForWebhookTriggers;
 
   private String managerServiceSecret;
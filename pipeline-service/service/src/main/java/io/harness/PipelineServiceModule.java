@@ -202,6 +202,7 @@ import io.harness.serializer.NGTriggerRegistrars;
 import io.harness.serializer.OrchestrationStepsModuleRegistrars;
 import io.harness.serializer.PipelineServiceModuleRegistrars;
 import io.harness.service.DelegateServiceDriverModule;
+import io.harness.service.OrchestrationGraphPersistenceConfig;
 import io.harness.spec.server.pipeline.v1.ApprovalsApi;
 import io.harness.spec.server.pipeline.v1.InputSetsApi;
 import io.harness.spec.server.pipeline.v1.InputsApi;
@@ -939,4 +940,14 @@ public class PipelineServiceModule extends AbstractModule {
   public Integer getPipelineExecutionDetailsDeleteMaxBatchSize() {
     return configuration.getPipelineExecutionDetailsDeleteMaxBatchSize();
   }
+
+  @Provides
+  @Singleton
+  @Named("orchestrationGraphPersistenceConfig")
+  public OrchestrationGraphPersistenceConfig getOrchestrationGraphPersistenceConfig() {
+    OrchestrationGraphPersistenceConfig orchestrationGraphPersistenceConfig =
+        configuration.getOrchestrationGraphPersistenceConfig();
+    return orchestrationGraphPersistenceConfig == null ? OrchestrationGraphPersistenceConfig.builder().build()
+                                                       : orchestrationGraphPersistenceConfig;
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.metrics;
+
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.ProductModule;
+import io.harness.expression.JexlCompiledCache;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+@CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_PIPELINE})
+@Slf4j
+public class JexlCompiledCacheMetricsPublisher implements MetricsPublisher {
+  private static final String HIT_COUNT = "jexl_compiled_cache_hit";
+  private static final String MISS_COUNT = "jexl_compiled_cache_miss";
+  private static final String EVICTION_COUNT = "jexl_compiled_cache_eviction";
+  private static final CacheStats NO_CACHE_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  private final Map<String, CacheStats> publishedCacheStats = new HashMap<>();
+  @Inject private MetricService metricService;
+
+  @Override
+  public void recordMetrics() {
+    JexlCompiledCache.getCacheStats().forEach(this::recordCacheStats);
+  }
+
+  private void recordCacheStats(String mode, CacheStats cacheStats) {
+    try {
+      // The cache stats are cumulative, only the counts since the last run are recorded
+      CacheStats interval = cacheStats.minus(publishedCacheStats.getOrDefault(mode, NO_CACHE_STATS));
+      publishedCacheStats.put(mode, cacheStats);
+      try (JexlCompiledCacheMetricContext ignore = new JexlCompiledCacheMetricContext(mode)) {
+        metricService.recordMetric(HIT_COUNT, interval.hitCount());
+        metricService.recordMetric(MISS_COUNT, interval.missCount());
+        metricService.recordMetric(EVICTION_COUNT, interval.evictionCount());
+      }
+    } catch (Exception e) {
+      log.warn("Failed to record the compiled jexl cache metrics for {}", mode, e);
+    }
+  }
+}
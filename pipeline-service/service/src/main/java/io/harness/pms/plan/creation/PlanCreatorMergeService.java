@@ -28,6 +28,7 @@ import io.harness.exception.UnexpectedException;
 import io.harness.exception.YamlException;
 import io.harness.execution.PlanExecutionMetadata;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.ng.core.dto.ResponseDTO;
 import io.harness.ngsettings.SettingCategory;
 import io.harness.ngsettings.client.remote.NGSettingsClient;
@@ -47,6 +48,7 @@ import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
 import io.harness.pms.contracts.plan.PlanCreationResponse;
 import io.harness.pms.events.base.PmsEventCategory;
+import io.harness.pms.events.base.PmsMetricContextGuard;
 import io.harness.pms.exception.PmsExceptionUtils;
 import io.harness.pms.plan.creation.validator.PlanCreationValidator;
 import io.harness.pms.plan.utils.PlanExecutionContextMapper;
@@ -64,6 +66,7 @@ import io.harness.utils.PmsFeatureFlagHelper;
 import io.harness.waiter.WaitNotifyEngine;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -75,6 +78,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -87,6 +91,8 @@ import retrofit2.Call;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  private static final String SDK_FAN_OUT_TIME_METRIC = "plan_creation_sdk_fan_out_time";
+  private static final String SDK_SERVICE = "sdkService";
 
   private final Executor executor;
 
@@ -98,13 +104,15 @@ public class PlanCreatorMergeService {
   private final KryoSerializer kryoSerializer;
   private final NGSettingsClient ngSettingsClient;
   private PmsFeatureFlagHelper pmsFeatureFlagHelper;
+  private final MetricService metricService;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
       WaitNotifyEngine waitNotifyEngine, PlanCreationValidator planCreationValidator,
       @Named("PlanCreatorMergeExecutorService") Executor executor,
       @Named("planCreatorMergeServiceDependencyBatch") Integer planCreatorMergeServiceDependencyBatch,
-      KryoSerializer kryoSerializer, NGSettingsClient ngSettingsClient, PmsFeatureFlagHelper pmsFeatureFlagHelper) {
+      KryoSerializer kryoSerializer, NGSettingsClient ngSettingsClient, PmsFeatureFlagHelper pmsFeatureFlagHelper,
+      MetricService metricService) {
     this.pmsSdkHelper = pmsSdkHelper;
     this.pmsEventSender = pmsEventSender;
     this.waitNotifyEngine = waitNotifyEngine;
@@ -114,6 +122,7 @@ public class PlanCreatorMergeService {
     this.kryoSerializer = kryoSerializer;
     this.ngSettingsClient = ngSettingsClient;
     this.pmsFeatureFlagHelper = pmsFeatureFlagHelper;
+    this.metricService = metricService;
   }
 
   public String getPublisher() {
@@ -267,10 +276,16 @@ public class PlanCreatorMergeService {
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, planExecutionMetadata));
 
     try {
+      // The yaml only changes between levels when a plan creator sends yaml updates, it is parsed again only then
+      String fullYaml = null;
+      YamlField fullYamlField = null;
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
         String version = metadata.getHarnessVersion();
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+        if (fullYamlField == null || !fullYaml.equals(finalResponseBuilder.getDeps().getYaml())) {
+          fullYaml = finalResponseBuilder.getDeps().getYaml();
+          fullYamlField = YamlUtils.readTree(fullYaml);
+        }
         PlanCreationBlobResponse currIterationResponse =
             createPlanForDependencies(services, finalResponseBuilder, fullYamlField, version);
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
@@ -297,6 +312,7 @@ public class PlanCreatorMergeService {
       PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField, String harnessVersion) {
     PlanCreationBlobResponse.Builder currIterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
+    Map<String, Long> maxTimeTakenByService = new ConcurrentHashMap<>();
 
     PlanCreationContext ctx = PlanCreationContext.builder().globalContext(responseBuilder.getContextMap()).build();
     try (AutoLogContext ignore = PlanCreatorServiceHelper.autoLogContext(ctx)) {
@@ -306,7 +322,8 @@ public class PlanCreatorMergeService {
       getServiceToDependenciesMap(services, responseBuilder, fullYamlField, serviceToDependencyMap, harnessVersion);
 
       // Sending batch dependency requests for a single service in a async fashion.
-      executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap);
+      executeCreatePlanInBatchDependency(
+          responseBuilder, completableFutures, serviceToDependencyMap, maxTimeTakenByService);
 
       // Collecting results for all completable futures at one go, thus it will wait till all dependencies are resolved.
       List<ErrorResponse> errorResponses;
@@ -325,6 +342,7 @@ public class PlanCreatorMergeService {
       } finally {
         log.info("[PMS_PlanCreatorMergeService_Time] Sdk plan creators done took {}ms for initial dependencies size {}",
             System.currentTimeMillis() - start, responseBuilder.getDeps().getDependenciesMap().size());
+        log.info("[PMS_PlanCreatorMergeService_Time] Slowest batch by sdk service in ms: {}", maxTimeTakenByService);
       }
       PmsExceptionUtils.checkAndThrowPlanCreatorException(errorResponses);
       return currIterationResponseBuilder.build();
@@ -334,7 +352,8 @@ public class PlanCreatorMergeService {
   // Sending all dependencies in batch manner in async fashion
   private void executeCreatePlanInBatchDependency(PlanCreationBlobResponse.Builder responseBuilder,
       CompletableFutures<PlanCreationResponse> completableFutures,
-      Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap) {
+      Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
+      Map<String, Long> maxTimeTakenByService) {
     for (Map.Entry<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceDependencyEntry :
         serviceToDependencyMap.entrySet()) {
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo = serviceDependencyEntry.getKey();
@@ -347,7 +366,7 @@ public class PlanCreatorMergeService {
           Map<String, String> batchServiceAffinityMap = PmsSdkHelper.createBatchServiceAffinityMap(
               dependencyBatch.keySet(), responseBuilder.getServiceAffinityMap());
           executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, batchServiceAffinityMap,
-              responseBuilder.getContextMap());
+              responseBuilder.getContextMap(), maxTimeTakenByService);
           dependencyBatch = new HashMap<>();
         }
       }
@@ -357,8 +376,8 @@ public class PlanCreatorMergeService {
         Dependencies batchDependency = PmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
         Map<String, String> batchServiceAffinityMap = PmsSdkHelper.createBatchServiceAffinityMap(
             dependencyBatch.keySet(), responseBuilder.getServiceAffinityMap());
-        executeDependenciesAsync(
-            completableFutures, serviceInfo, batchDependency, batchServiceAffinityMap, responseBuilder.getContextMap());
+        executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, batchServiceAffinityMap,
+            responseBuilder.getContextMap(), maxTimeTakenByService);
       }
     }
   }
@@ -426,10 +445,12 @@ public class PlanCreatorMergeService {
   // Sending batch dependency requests for a single service in a async fashion.
   private void executeDependenciesAsync(CompletableFutures<PlanCreationResponse> completableFutures,
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo, Dependencies batchDependency,
-      Map<String, String> batchServiceAffinityMap, Map<String, PlanCreationContextValue> contextMap) {
+      Map<String, String> batchServiceAffinityMap, Map<String, PlanCreationContextValue> contextMap,
+      Map<String, Long> maxTimeTakenByService) {
     PlanCreationContext ctx = PlanCreationContext.builder().globalContext(contextMap).build();
     completableFutures.supplyAsync(() -> {
       try (AutoLogContext ignore = PlanCreatorServiceHelper.autoLogContext(ctx)) {
+        long start = System.currentTimeMillis();
         try {
           return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
               PlanCreationBlobRequest.newBuilder()
@@ -446,11 +467,23 @@ public class PlanCreatorMergeService {
                       .addMessages(String.format("Error connecting with service: [%s]", serviceInfo.getKey()))
                       .build())
               .build();
+        } finally {
+          recordSdkFanOutTime(serviceInfo.getKey(), System.currentTimeMillis() - start, maxTimeTakenByService);
         }
       }
     });
   }
 
+  @VisibleForTesting
+  void recordSdkFanOutTime(String serviceName, long timeTaken, Map<String, Long> maxTimeTakenByService) {
+    maxTimeTakenByService.merge(serviceName, timeTaken, Math::max);
+    try (PmsMetricContextGuard ignore = new PmsMetricContextGuard(ImmutableMap.of(SDK_SERVICE, serviceName))) {
+      metricService.recordMetric(SDK_FAN_OUT_TIME_METRIC, timeTaken);
+    } catch (Exception ex) {
+      log.error("Exception Occurred while recording metrics", ex);
+    }
+  }
+
   private String getYamlVersionForDependencyEntry(String harnessVersion, Map.Entry<String, String> dependencyEntry,
       PlanCreationBlobResponse.Builder responseBuilder) {
     if (responseBuilder.getDeps().getDependencyMetadataMap().get(dependencyEntry.getKey()) != null
@@ -24,6 +24,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.apiexamples.PipelineAPIConstants;
 import io.harness.data.structure.EmptyPredicate;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
 import io.harness.exception.InvalidRequestException;
 import io.harness.filter.dto.FilterPropertiesDTO;
@@ -53,6 +54,7 @@ import io.harness.pms.plan.execution.beans.dto.ExpressionEvaluationDetailDTO;
 import io.harness.pms.plan.execution.beans.dto.NodeExecutionSubGraphResponse;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionDetailDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionFilterPropertiesDTO;
+import io.harness.pms.plan.execution.beans.dto.PipelineExecutionGraphChangesDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionIdentifierSummaryDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionSummaryDTO;
 import io.harness.pms.plan.execution.service.ExecutionGraphService;
@@ -379,6 +381,50 @@ public class ExecutionDetailsResource {
     return ResponseDTO.newResponse(executionDetailDTO);
   }
 
+  @GET
+  @Path("/v2/{planExecutionId}/graphChanges")
+  @ApiOperation(value = "Gets the Execution Graph changes", nickname = "getExecutionGraphChanges")
+  @Operation(operationId = "getExecutionGraphChanges",
+      description = "Returns the nodes of the Pipeline Execution Graph that changed since the given lastUpdatedAt",
+      summary = "Fetch Execution Graph changes",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.
+        ApiResponse(responseCode = "default", description = "Return the changed nodes of the Pipeline Execution Graph")
+      })
+  @Hidden
+  @Timed
+  @ResponseMetered
+  public ResponseDTO<PipelineExecutionGraphChangesDTO>
+  getExecutionGraphChanges(
+      @NotNull @Parameter(description = PipelineResourceConstants.ACCOUNT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.ACCOUNT_KEY) @AccountIdentifier String accountId,
+      @Parameter(description = PipelineResourceConstants.ORG_PARAM_MESSAGE, required = true) @NotNull @QueryParam(
+          NGCommonEntityConstants.ORG_KEY) @OrgIdentifier String orgId,
+      @NotNull @Parameter(description = PipelineResourceConstants.PROJECT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.PROJECT_KEY) @ProjectIdentifier String projectId,
+      @NotNull @Parameter(description = "lastUpdatedAt of the graph the changes are asked from, 0 for the whole graph")
+      @QueryParam("lastUpdatedAt") Long lastUpdatedAt,
+      @Parameter(description = "Plan Execution Id for which we want to get the Execution Graph changes",
+          required = true) @PathParam(NGCommonEntityConstants.PLAN_KEY) String planExecutionId) {
+    PipelineExecutionSummaryEntity executionSummaryEntity =
+        pmsExecutionService.getPipelineExecutionSummaryEntity(accountId, orgId, projectId, planExecutionId, false);
+    accessControlClient.checkForAccessOrThrow(ResourceScope.of(accountId, orgId, projectId),
+        Resource.of(PIPELINE_RESOURCE_TYPE, executionSummaryEntity.getPipelineIdentifier()),
+        PipelineRbacPermissions.PIPELINE_VIEW);
+    OrchestrationGraphChangesDTO changes =
+        pmsExecutionService.getOrchestrationGraphChanges(planExecutionId, lastUpdatedAt);
+    return ResponseDTO.newResponse(
+        PipelineExecutionGraphChangesDTO.builder()
+            .executionGraph(changes.getGraph() == null
+                    ? null
+                    : ExecutionGraphMapper.toExecutionGraph(changes.getGraph(), executionSummaryEntity))
+            .removedNodeIds(changes.getRemovedVertexIds())
+            .lastUpdatedAt(changes.getLastUpdatedAt())
+            .fullGraphRequired(changes.isFullGraphRequired())
+            .build());
+  }
+
   @GET
   @Path("/subGraph/{planExecutionId}/{nodeExecutionId}")
   @ApiOperation(
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.execution.beans.dto;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.ExecutionGraph;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.FieldDefaults;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("PipelineExecutionGraphChanges")
+@Schema(name = "PipelineExecutionGraphChanges",
+    description = "This contains the nodes of the Pipeline Execution graph that changed since a given time.")
+public class PipelineExecutionGraphChangesDTO {
+  @Schema(description = "The changed nodes only, or the whole graph if fullGraphRequired is set")
+  ExecutionGraph executionGraph;
+  List<String> removedNodeIds;
+  @Schema(description = "The lastUpdatedAt to ask the next changes from") long lastUpdatedAt;
+  boolean fullGraphRequired;
+}
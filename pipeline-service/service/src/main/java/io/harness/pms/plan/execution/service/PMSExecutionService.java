@@ -13,6 +13,7 @@ import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.pms.contracts.interrupts.InterruptConfig;
 import io.harness.pms.execution.ExecutionStatus;
@@ -58,6 +59,8 @@ public interface PMSExecutionService {
 
   OrchestrationGraphDTO getOrchestrationGraph(String stageNodeId, String planExecutionId, String stageNodeExecutionId);
 
+  OrchestrationGraphChangesDTO getOrchestrationGraphChanges(String planExecutionId, long lastUpdatedAt);
+
   InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId);
 
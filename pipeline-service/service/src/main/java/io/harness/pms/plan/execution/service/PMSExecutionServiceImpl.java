@@ -28,6 +28,7 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.data.structure.EmptyPredicate;
+import io.harness.dto.OrchestrationGraphChangesDTO;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.engine.OrchestrationService;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
@@ -619,6 +620,11 @@ public class PMSExecutionServiceImpl implements PMSExecutionService {
         stageNodeId, planExecutionId, stageNodeExecutionId);
   }
 
+  @Override
+  public OrchestrationGraphChangesDTO getOrchestrationGraphChanges(String planExecutionId, long lastUpdatedAt) {
+    return graphGenerationService.getOrchestrationGraphChangesSince(planExecutionId, lastUpdatedAt);
+  }
+
   @Override
   public InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId) {
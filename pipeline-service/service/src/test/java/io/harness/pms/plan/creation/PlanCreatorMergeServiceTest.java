@@ -8,6 +8,7 @@
 package io.harness.pms.plan.creation;
 
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.NAMAN;
 import static io.harness.rule.OwnerRule.RAGHAV_GUPTA;
 import static io.harness.rule.OwnerRule.VIVEK_DIXIT;
@@ -16,6 +17,8 @@ import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -28,6 +31,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.engine.pms.commons.events.PmsEventSender;
 import io.harness.exception.InvalidRequestException;
 import io.harness.execution.PlanExecutionMetadata;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.ngsettings.client.remote.NGSettingsClient;
 import io.harness.pms.contracts.plan.Dependency;
 import io.harness.pms.contracts.plan.ExecutionMetadata;
@@ -65,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import org.junit.Before;
 import org.junit.Test;
@@ -86,6 +91,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
   @Spy @InjectMocks PlanCreatorMergeService planCreatorMergeServiceMock;
   @Mock NGSettingsClient ngSettingsClient;
   @Mock private PmsFeatureFlagHelper pmsFeatureFlagHelper;
+  @Mock private MetricService metricService;
   private final String accountId = "acc";
   private final String orgId = "org";
   private final String projId = "proj";
@@ -132,8 +138,8 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
   @Owner(developers = NAMAN)
   @Category(UnitTests.class)
   public void testCreateInitialPlanCreationContext() {
-    PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, null, ngSettingsClient, pmsFeatureFlagHelper);
+    PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(null, null, null, null,
+        Executors.newSingleThreadExecutor(), 20, null, ngSettingsClient, pmsFeatureFlagHelper, null);
     Mockito.when(pmsFeatureFlagHelper.isEnabled(accountId, FeatureName.CDS_DISABLE_MAX_TIMEOUT_CONFIG))
         .thenReturn(true);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
@@ -182,7 +188,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         executionMetadata.toBuilder().setHarnessVersion(HarnessYamlVersion.V1).build();
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYamlV1).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(null, null, null, null,
-        Executors.newSingleThreadExecutor(), 20, kryoSerializer, ngSettingsClient, pmsFeatureFlagHelper);
+        Executors.newSingleThreadExecutor(), 20, kryoSerializer, ngSettingsClient, pmsFeatureFlagHelper, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -240,7 +246,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
     String pipelineYaml = readFile("pipeline-v1-with-static-reference.yaml");
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYaml).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(null, null, null, null,
-        Executors.newSingleThreadExecutor(), 20, kryoSerializer, ngSettingsClient, pmsFeatureFlagHelper);
+        Executors.newSingleThreadExecutor(), 20, kryoSerializer, ngSettingsClient, pmsFeatureFlagHelper, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -348,4 +354,21 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         .isInstanceOf(InvalidRequestException.class)
         .hasMessageContaining("Following yaml paths could not be parsed: ");
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRecordSdkFanOutTime() {
+    PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(null, null, null, null,
+        Executors.newSingleThreadExecutor(), 20, null, ngSettingsClient, pmsFeatureFlagHelper, metricService);
+    Map<String, Long> maxTimeTakenByService = new ConcurrentHashMap<>();
+    planCreatorMergeService.recordSdkFanOutTime("cd", 20L, maxTimeTakenByService);
+    planCreatorMergeService.recordSdkFanOutTime("cd", 10L, maxTimeTakenByService);
+    planCreatorMergeService.recordSdkFanOutTime("pms", 5L, maxTimeTakenByService);
+
+    assertThat(maxTimeTakenByService).containsEntry("cd", 20L).containsEntry("pms", 5L);
+    verify(metricService).recordMetric("plan_creation_sdk_fan_out_time", 20L);
+    verify(metricService).recordMetric("plan_creation_sdk_fan_out_time", 10L);
+    verify(metricService, times(3)).recordMetric(eq("plan_creation_sdk_fan_out_time"), anyDouble());
+  }
 }
@@ -48,6 +48,9 @@ import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.services.api.demo.CVNGDemoDataIndexService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.metrics.CVNGMetricsUtils;
+import io.harness.metrics.beans.AccountMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.JsonUtils;
 
@@ -57,13 +60,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
 import com.mongodb.ReadPreference;
-import dev.morphia.UpdateOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.UpdateOpsImpl;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -98,6 +104,7 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
   @Inject private CVNGDemoDataIndexService cvngDemoDataIndexService;
+  @Inject private MetricService metricService;
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
@@ -105,21 +112,21 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
     if (CollectionUtils.isEmpty(validDataRecords)) {
       return true;
     }
+    Instant startTime = Instant.now();
     log.info("Saving {} data records", validDataRecords.size());
-    log.info("Records being saved: {}", StringUtils.join(validDataRecords, ","));
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(validDataRecords);
+    if (log.isDebugEnabled()) {
+      log.debug("Records being saved: {}", StringUtils.join(validDataRecords, ","));
+    }
+    Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTaskId = new HashMap<>();
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(validDataRecords, metricTypesByVerificationTaskId);
+    // The buckets are distinct documents, so one unordered bulk write upserts all of them in a single round trip
+    final DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
     timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
       TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+          getMetricTypes(metricTypesByVerificationTaskId, timeSeriesRecord.getVerificationTaskId())
+              .get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -144,12 +151,32 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
     });
+    bulkWriteOperation.execute();
     saveHosts(validDataRecords);
+    try (AccountMetricContext accountMetricContext = new AccountMetricContext(validDataRecords.get(0).getAccountId())) {
+      metricService.recordMetric(CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_COUNT, validDataRecords.size());
+      metricService.recordMetric(CVNGMetricsUtils.TIME_SERIES_RECORD_BUCKET_UPSERT_COUNT, timeSeriesRecordMap.size());
+      metricService.recordDuration(
+          CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_TIME, Duration.between(startTime, Instant.now()));
+    }
     return true;
   }
 
+  private Map<String, TimeSeriesMetricType> getMetricTypes(
+      Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTaskId, String verificationTaskId) {
+    return metricTypesByVerificationTaskId.computeIfAbsent(verificationTaskId, taskId -> {
+      Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+      timeSeriesAnalysisService.getMetricTemplate(taskId).forEach(timeSeriesMetricDefinition
+          -> metricTypeMap.putIfAbsent(
+              timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      return metricTypeMap;
+    });
+  }
+
   private List<TimeSeriesDataCollectionRecord> filterValidDataRecords(
       List<TimeSeriesDataCollectionRecord> dataRecords) {
     return CollectionUtils.emptyIfNull(dataRecords)
@@ -216,12 +243,10 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords,
+      Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTaskId) {
+    Map<String, TimeSeriesMetricType> metricTypeMap =
+        getMetricTypes(metricTypesByVerificationTaskId, dataRecords.get(0).getVerificationTaskId());
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
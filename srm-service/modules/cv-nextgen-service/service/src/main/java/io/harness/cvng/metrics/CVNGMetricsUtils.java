@@ -36,6 +36,10 @@ public interface CVNGMetricsUtils {
 
   String STATE_MACHINE_EXECUTION_TIME = "state_machine_execution_time";
 
+  String TIME_SERIES_RECORD_SAVE_COUNT = "time_series_record_save_count";
+  String TIME_SERIES_RECORD_BUCKET_UPSERT_COUNT = "time_series_record_bucket_upsert_count";
+  String TIME_SERIES_RECORD_SAVE_TIME = "time_series_record_save_time";
+
   static String getApiCallLogResponseCodeMetricName(String responseCode) {
     return String.format("api_call_response_code_%sxx", responseCode.charAt(0));
   }
@@ -24,6 +24,7 @@ import com.google.inject.Inject;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -48,15 +49,18 @@ public class SLIRecordMigration implements CVNGMigration {
       }
       List<String> sliIds = getSLIIdsFromSchemaObject();
       while (!sliIds.isEmpty()) {
-        Query<SLIRecord> queryToAddToBucket = hPersistence.createQuery(SLIRecord.class)
-                                                  .filter(SLIRecordKeys.sliId, sliIds.get(0))
-                                                  .order(Sort.ascending(SLIRecordKeys.timestamp));
         List<SLIRecord> currentBucket = new ArrayList<>();
         sliRecordBucketsToSave = new ArrayList<>();
-        int offset = 0;
+        Instant lastTimestamp = null;
         while (true) {
-          Query<SLIRecord> query = queryToAddToBucket.offset(offset).limit(BATCH_SIZE);
-          List<SLIRecord> records = query.find().toList();
+          // Paged on the timestamp rather than with an offset, so that every page is a seek on the sli_timestamp index
+          // instead of skipping over all the records read before it
+          Query<SLIRecord> query = hPersistence.createQuery(SLIRecord.class).filter(SLIRecordKeys.sliId, sliIds.get(0));
+          if (lastTimestamp != null) {
+            query = query.field(SLIRecordKeys.timestamp).greaterThan(lastTimestamp);
+          }
+          List<SLIRecord> records =
+              query.order(Sort.ascending(SLIRecordKeys.timestamp)).limit(BATCH_SIZE).find().toList();
           if (records.isEmpty()) {
             break;
           }
@@ -64,7 +68,7 @@ public class SLIRecordMigration implements CVNGMigration {
             currentBucket = processRecord(currentBucket, sliRecord);
             currentBucket = processBucket(currentBucket);
           }
-          offset += BATCH_SIZE;
+          lastTimestamp = records.get(records.size() - 1).getTimestamp();
         }
         saveBuckets();
         sliIds.remove(0);
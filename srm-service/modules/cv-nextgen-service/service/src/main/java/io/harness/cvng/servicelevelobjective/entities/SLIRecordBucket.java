@@ -78,6 +78,7 @@ public class SLIRecordBucket extends VerificationTaskBase implements PersistentE
     bsonDocument.append(SLIRecordBucketKeys.sliId, new BsonString(sliId));
     bsonDocument.append(SLIRecordBucketKeys.runningBadCount, new BsonInt64(runningBadCount));
     bsonDocument.append(SLIRecordBucketKeys.runningGoodCount, new BsonInt64(runningGoodCount));
+    bsonDocument.append(SLIRecordBucketKeys.runningSkipDataCount, new BsonInt64(runningSkipDataCount));
     bsonDocument.append(SLIRecordBucketKeys.sliVersion, new BsonInt32(sliVersion));
     List<BsonString> sliStatesAsbsonStrings =
         sliStates.stream().map(sliState -> new BsonString(sliState.toString())).collect(Collectors.toList());
@@ -112,6 +113,7 @@ public class SLIRecordBucket extends VerificationTaskBase implements PersistentE
         .sliVersion(sliRecords.get(0).getSliVersion())
         .runningBadCount(sliRecords.get(4).getRunningBadCount())
         .runningGoodCount(sliRecords.get(4).getRunningGoodCount())
+        .runningSkipDataCount(sliRecords.get(4).getRunningSkipDataCount())
         .sliStates(sliStates)
         .build();
   }
@@ -130,6 +132,7 @@ public class SLIRecordBucket extends VerificationTaskBase implements PersistentE
                                .sliVersion(sliRecords.get(idx).getSliVersion())
                                .runningBadCount(sliRecords.get(idx + 4).getRunningBadCount())
                                .runningGoodCount(sliRecords.get(idx + 4).getRunningGoodCount())
+                               .runningSkipDataCount(sliRecords.get(idx + 4).getRunningSkipDataCount())
                                .sliStates(sliStates)
                                .build());
     }
@@ -14,6 +14,7 @@ import static io.harness.cvng.core.services.CVNextGenConstants.PERFORMANCE_PACK_
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.rule.OwnerRule.DHRUVX;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.KAMAL;
 import static io.harness.rule.OwnerRule.PRAVEEN;
 import static io.harness.rule.OwnerRule.RAGHU;
@@ -23,6 +24,8 @@ import static io.harness.rule.TestUserProvider.testUserProvider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CvNextGenTestBase;
@@ -437,6 +440,55 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
     assertThat(hostRecordService.get(verificationTaskId, timestamp, timestamp)).isEmpty();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSave_prometheusSizedPayload() {
+    // 15 minutes of 4 metrics with 25 transactions each, from 10 hosts
+    int numOfMetrics = 4;
+    int numOfTxnx = 25;
+    int numOfHosts = 10;
+    long numOfMins = 3 * CV_ANALYSIS_WINDOW_MINUTES;
+    List<TimeSeriesDataCollectionRecord> collectionRecords = new ArrayList<>();
+    for (int i = 0; i < numOfMins; i++) {
+      for (int h = 0; h < numOfHosts; h++) {
+        TimeSeriesDataCollectionRecord collectionRecord = TimeSeriesDataCollectionRecord.builder()
+                                                              .accountId(accountId)
+                                                              .verificationTaskId(verificationTaskId)
+                                                              .host("host-" + h)
+                                                              .timeStamp(TimeUnit.MINUTES.toMillis(i))
+                                                              .metricValues(new HashSet<>())
+                                                              .build();
+        for (int j = 0; j < numOfMetrics; j++) {
+          TimeSeriesDataRecordMetricValue metricValue = TimeSeriesDataRecordMetricValue.builder()
+                                                            .metricName("metric-" + j)
+                                                            .metricIdentifier("metricIdentifier-" + j)
+                                                            .timeSeriesValues(new HashSet<>())
+                                                            .build();
+          for (int k = 0; k < numOfTxnx; k++) {
+            metricValue.getTimeSeriesValues().add(
+                TimeSeriesDataRecordGroupValue.builder().value(random.nextDouble()).groupName("group-" + k).build());
+          }
+          collectionRecord.getMetricValues().add(metricValue);
+        }
+        collectionRecords.add(collectionRecord);
+      }
+    }
+    timeSeriesRecordService.save(collectionRecords);
+    timeSeriesRecordService.save(collectionRecords);
+
+    // The metric template is looked up once per save, not once per bucket
+    verify(timeSeriesAnalysisService, times(2)).getMetricTemplate(verificationTaskId);
+    List<TimeSeriesRecord> timeSeriesRecords =
+        hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority).asList();
+    assertThat(timeSeriesRecords).hasSize(3 * numOfHosts * numOfMetrics);
+    timeSeriesRecords.forEach(timeSeriesRecord -> {
+      assertThat(timeSeriesRecord.getMetricType()).isNotNull();
+      assertThat(timeSeriesRecord.getMetricIdentifier()).isNotNull();
+      assertThat(timeSeriesRecord.getTimeSeriesGroupValues()).hasSize((int) CV_ANALYSIS_WINDOW_MINUTES * numOfTxnx);
+    });
+  }
+
   private void validateSavedRecords(
       int numOfMetrics, int numOfTxnx, long numOfMins, List<TimeSeriesRecord> timeSeriesRecords) {
     for (int i = 0; i < numOfMetrics; i++) {
@@ -90,6 +90,7 @@ public class SLIBucketCleanupAndSLIRecordMigrationTestMigration extends CvNextGe
     assertEquals(sliRecordBuckets.size(), 3);
     assertEquals(sliRecordBuckets.get(2).getRunningGoodCount(), 6);
     assertEquals(sliRecordBuckets.get(2).getRunningBadCount(), 3);
+    assertEquals(sliRecordBuckets.get(2).getRunningSkipDataCount(), 3);
 
     sliRecordBuckets =
         hPersistence.createQuery(SLIRecordBucket.class).filter(SLIRecordBucketKeys.sliId, "sliId5").asList();
@@ -106,7 +107,7 @@ public class SLIBucketCleanupAndSLIRecordMigrationTestMigration extends CvNextGe
 
   private List<SLIRecord> createSLIRecords(String sliId, List<SLIState> states, Instant startTime, Instant endTime) {
     int index = 0;
-    int runningGoodCount = 0, runningBadCount = 0;
+    int runningGoodCount = 0, runningBadCount = 0, runningSkipDataCount = 0;
     List<SLIRecord> sliRecords = new ArrayList<>();
     for (Instant instant = startTime; instant.isBefore(endTime); instant = instant.plus(1, ChronoUnit.MINUTES)) {
       if (states.get(index) == SLIState.GOOD) {
@@ -115,6 +116,9 @@ public class SLIBucketCleanupAndSLIRecordMigrationTestMigration extends CvNextGe
       if (states.get(index) == SLIState.BAD) {
         runningBadCount += 1;
       }
+      if (states.get(index) == SLIState.SKIP_DATA) {
+        runningSkipDataCount += 1;
+      }
       SLIRecord sliRecord = SLIRecord.builder()
                                 .verificationTaskId(sliId)
                                 .sliId(sliId)
@@ -122,6 +126,7 @@ public class SLIBucketCleanupAndSLIRecordMigrationTestMigration extends CvNextGe
                                 .sliState(states.get(index))
                                 .runningBadCount(runningBadCount)
                                 .runningGoodCount(runningGoodCount)
+                                .runningSkipDataCount(runningSkipDataCount)
                                 .sliVersion(0)
                                 .timestamp(instant)
                                 .build();